@@ -0,0 +1,52 @@
+#!/usr/bin/env bash
+# Teste de carga ponta a ponta: sobe um Postgres descartavel, a aplicação com o perfil
+# "carga" e executa o harness (src/test/java/com/edutech/api/carga) via HTTP + JWT.
+#
+# Uso:  scripts/carga.sh [--duracao=60] [--usuarios=50] [--semente=42] [--base=target/carga/<commit>/relatorio.json]
+# Relatório: target/carga/<commit>/relatorio.{json,md}
+# JAVA_OPTS é repassado para a JVM da aplicação.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+COMMIT=$(git rev-parse --short HEAD 2>/dev/null || echo local)
+if [ -n "$(git status --porcelain -- . 2>/dev/null)" ]; then
+  COMMIT="$COMMIT-dirty"
+fi
+
+COMPOSE=(docker compose -f docker/docker-compose-carga.yml -p edutech-carga)
+APP_PID=""
+
+finalizar() {
+  if [ -n "$APP_PID" ]; then
+    kill "$APP_PID" 2>/dev/null || true
+    wait "$APP_PID" 2>/dev/null || true
+  fi
+  "${COMPOSE[@]}" down -v >/dev/null 2>&1 || true
+}
+trap finalizar EXIT
+
+echo ">> Banco de carga"
+"${COMPOSE[@]}" up -d --wait
+
+echo ">> Build ($COMMIT)"
+sh ./mvnw -B -q -DskipTests package
+
+echo ">> Subindo aplicação"
+mkdir -p target/carga
+java ${JAVA_OPTS:-} -jar target/edutech-api-*.jar --spring.profiles.active=carga > target/carga/aplicacao.log 2>&1 &
+APP_PID=$!
+
+for _ in $(seq 1 120); do
+  if [ "$(curl -s -o /dev/null -w '%{http_code}' -X POST http://localhost:8080/login)" != "000" ]; then
+    break
+  fi
+  if ! kill -0 "$APP_PID" 2>/dev/null; then
+    echo "A aplicação encerrou durante a inicialização, veja target/carga/aplicacao.log" >&2
+    exit 1
+  fi
+  sleep 1
+done
+
+echo ">> Executando carga"
+sh ./mvnw -B -q -Pcarga exec:exec@carga -Dcarga.args="--commit=$COMMIT $*"
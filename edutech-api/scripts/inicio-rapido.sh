@@ -0,0 +1,116 @@
+#!/usr/bin/env bash
+# Inicialização rápida: empacota com o processamento AOT do Spring (-Paot), extrai o jar,
+# faz uma execução de treino que grava em um arquivo CDS as classes carregadas até a
+# primeira requisição e compara o tempo até a primeira requisição (POST /login com
+# sucesso) do jar comum com o do modo rápido (AOT + CDS + perfil inicio-rapido).
+#
+# Uso:  scripts/inicio-rapido.sh [--execucoes=3] [--alvo-percentual=50]
+# Por padrão usa o Postgres descartavel do teste de carga; APP_ARGS troca o banco
+# (ex.: APP_ARGS="--spring.datasource.url=...") e dispensa o Docker.
+# Resultado: target/inicio-rapido/resultado.md. Sai com erro se a mediana do modo rápido
+# passar de --alvo-percentual da mediana do jar comum.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+EXECUCOES=3
+ALVO_PERCENTUAL=50
+for argumento in "$@"; do
+  case "$argumento" in
+    --execucoes=*) EXECUCOES=${argumento#*=} ;;
+    --alvo-percentual=*) ALVO_PERCENTUAL=${argumento#*=} ;;
+    *) echo "Argumento desconhecido: $argumento" >&2; exit 2 ;;
+  esac
+done
+
+DIRETORIO=target/inicio-rapido
+ARQUIVO_CDS=$DIRETORIO/aplicacao.jsa
+COMPOSE=(docker compose -f docker/docker-compose-carga.yml -p edutech-carga)
+APP_PID=""
+
+finalizar() {
+  if [ -n "$APP_PID" ]; then
+    kill "$APP_PID" 2>/dev/null || true
+    wait "$APP_PID" 2>/dev/null || true
+  fi
+  if [ -z "${APP_ARGS:-}" ]; then
+    "${COMPOSE[@]}" down -v >/dev/null 2>&1 || true
+  fi
+}
+trap finalizar EXIT
+
+if [ -z "${APP_ARGS:-}" ]; then
+  echo ">> Banco descartavel"
+  "${COMPOSE[@]}" up -d --wait
+  APP_ARGS="--spring.datasource.url=jdbc:postgresql://localhost:5433/edutechdb"
+fi
+
+# Sobe a aplicação com os argumentos recebidos, espera o primeiro login com sucesso e
+# guarda em TEMPO_MS os milissegundos desde o lançamento da JVM. Encerra a aplicação com
+# SIGTERM, o que também grava o arquivo CDS na execução de treino.
+primeira_requisicao() {
+  local inicio fim
+  inicio=$(date +%s%N)
+  # shellcheck disable=SC2086
+  java "$@" $APP_ARGS > "$DIRETORIO/aplicacao.log" 2>&1 &
+  APP_PID=$!
+  until [ "$(curl -s -o /dev/null -w '%{http_code}' -X POST -H 'Content-Type: application/json' \
+      -d '{"login":"user","senha":"user123"}' http://localhost:8080/login)" = "200" ]; do
+    if ! kill -0 "$APP_PID" 2>/dev/null; then
+      echo "A aplicação encerrou durante a inicialização, veja $DIRETORIO/aplicacao.log" >&2
+      exit 1
+    fi
+    sleep 0.05
+  done
+  fim=$(date +%s%N)
+  kill "$APP_PID"
+  wait "$APP_PID" 2>/dev/null || true
+  APP_PID=""
+  TEMPO_MS=$(( (fim - inicio) / 1000000 ))
+}
+
+# Executa EXECUCOES vezes; TEMPOS recebe os tempos e MEDIANA a mediana.
+medir() {
+  TEMPOS=()
+  for _ in $(seq 1 "$EXECUCOES"); do
+    primeira_requisicao "$@"
+    TEMPOS+=("$TEMPO_MS")
+  done
+  MEDIANA=$(printf '%s\n' "${TEMPOS[@]}" | sort -n | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }')
+}
+
+echo ">> Build com AOT"
+sh ./mvnw -B -q -Paot -DskipTests package
+JAR=$(ls target/edutech-api-*.jar)
+rm -rf "$DIRETORIO"
+mkdir -p "$DIRETORIO"
+java -Djarmode=tools -jar "$JAR" extract --destination "$DIRETORIO/aplicacao"
+JAR_EXTRAIDO=$(ls "$DIRETORIO"/aplicacao/edutech-api-*.jar)
+MODO_RAPIDO=(-Dspring.aot.enabled=true -jar "$JAR_EXTRAIDO" --spring.profiles.active=inicio-rapido)
+
+echo ">> Jar comum"
+medir -jar "$JAR"
+PADRAO=$MEDIANA
+PADRAO_EXECUCOES="${TEMPOS[*]}"
+
+echo ">> Execução de treino (CDS)"
+primeira_requisicao -XX:ArchiveClassesAtExit="$ARQUIVO_CDS" "${MODO_RAPIDO[@]}"
+
+echo ">> Modo rápido"
+medir -XX:SharedArchiveFile="$ARQUIVO_CDS" "${MODO_RAPIDO[@]}"
+RAPIDO=$MEDIANA
+
+{
+  echo "| Modo | Mediana até a primeira requisição (ms) | Execuções (ms) |"
+  echo "|------|---------------------------------------:|----------------|"
+  echo "| Jar comum | $PADRAO | $PADRAO_EXECUCOES |"
+  echo "| AOT + CDS + inicio-rapido | $RAPIDO | ${TEMPOS[*]} |"
+} > "$DIRETORIO/resultado.md"
+cat "$DIRETORIO/resultado.md"
+
+ALVO_MS=$(( PADRAO * ALVO_PERCENTUAL / 100 ))
+if [ "$RAPIDO" -gt "$ALVO_MS" ]; then
+  echo "Modo rápido acima do alvo: ${RAPIDO} ms > ${ALVO_MS} ms (${ALVO_PERCENTUAL}% do jar comum)" >&2
+  exit 1
+fi
+echo "Modo rápido dentro do alvo: ${RAPIDO} ms <= ${ALVO_MS} ms (${ALVO_PERCENTUAL}% do jar comum)"
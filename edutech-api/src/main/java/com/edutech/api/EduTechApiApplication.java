@@ -2,14 +2,22 @@ package com.edutech.api;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableScheduling
 public class EduTechApiApplication {
 
+	/** Passos da inicialização guardados para a linha do tempo (infra/inicializacao). */
+	private static final int PASSOS_LINHA_DO_TEMPO = 8192;
+
 	public static void main(String[] args) {
-		SpringApplication.run(EduTechApiApplication.class, args);
+		var aplicacao = new SpringApplication(EduTechApiApplication.class);
+		aplicacao.setApplicationStartup(new BufferingApplicationStartup(PASSOS_LINHA_DO_TEMPO));
+		aplicacao.run(args);
 	}
 
 }
@@ -2,11 +2,19 @@ package com.edutech.api.controller;
 
 import com.edutech.api.domain.aluno.dto.AlunoCreateDTO;
 import com.edutech.api.domain.aluno.dto.AlunoDetalhesDTO;
+import com.edutech.api.domain.aluno.dto.AlunoPerfilDTO;
 import com.edutech.api.domain.aluno.dto.AlunoResumoDTO;
 import com.edutech.api.domain.aluno.dto.AlunoUpdateDTO;
 import com.edutech.api.domain.aluno.enums.StatusAluno;
 import com.edutech.api.domain.aluno.mapper.AlunoMapper;
+import com.edutech.api.domain.aluno.service.ImportacaoAlunoService;
+import com.edutech.api.domain.aluno.service.PerfilAlunoService;
 import com.edutech.api.domain.aluno.service.AlunoService;
+import com.edutech.api.infra.concorrencia.ClasseCarga;
+import com.edutech.api.infra.concorrencia.ClassificarCarga;
+import com.edutech.api.infra.http.RespostaCondicional;
+import com.edutech.api.infra.importacao.ResultadoImportacaoDTO;
+import com.edutech.api.infra.paginacao.FatiaDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -14,10 +22,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
 
@@ -27,6 +38,8 @@ import java.util.List;
 public class AlunoController {
 
     private final AlunoService alunoService;
+    private final PerfilAlunoService perfilAlunoService;
+    private final ImportacaoAlunoService importacaoAlunoService;
 
     @Operation(
             summary = "Cadastrar um novo aluno",
@@ -46,12 +59,17 @@ public class AlunoController {
 
     @Operation(
             summary = "Atualizar um aluno existente",
-            description = "Atualiza os dados de um aluno existente com base no ID informado. Campos como nome, email, endereço, status e data de nascimento podem ser alterados."
+            description = "Atualiza os dados de um aluno existente com base no ID informado. Campos como nome, email, endereço, status e data de nascimento podem ser alterados. Aceita If-Match com o ETag obtido nos detalhes; retorna 412 se o aluno foi alterado nesse meio tempo. A resposta traz o resumo, sem ETag; o ETag atual vem dos detalhes."
     )
     @PatchMapping("/{id}")
     public ResponseEntity<AlunoResumoDTO> atualizar(@PathVariable Long id,
-                                                    @RequestBody @Valid AlunoUpdateDTO dto) {
-        AlunoResumoDTO atualizado = alunoService.atualizarAluno(id, dto);
+                                                    @RequestBody @Valid AlunoUpdateDTO dto,
+                                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long versaoEsperada = ifMatch != null
+                ? RespostaCondicional.versaoEsperada(id, alunoService.buscarVersao(id), ifMatch)
+                : null;
+
+        AlunoResumoDTO atualizado = alunoService.atualizarAluno(id, dto, versaoEsperada);
         return ResponseEntity.ok(atualizado);
     }
 
@@ -97,14 +115,38 @@ public class AlunoController {
         return ResponseEntity.ok(alunos);
     }
 
+    @Operation(
+            summary = "Listar alunos sem contagem",
+            description = "Retorna uma página de alunos, opcionalmente filtrados por status, sem contar o total da tabela, com temProxima indicando se há mais páginas. Com total=true inclui totalAproximado do filtro, recalculado periodicamente, e o instante do cálculo."
+    )
+    @GetMapping("/fatia")
+    public ResponseEntity<FatiaDTO<AlunoResumoDTO>> listarAlunos(
+            @RequestParam(required = false) StatusAluno status,
+            @RequestParam(defaultValue = "false") boolean total,
+            @PageableDefault(size = 11, sort = "nome") Pageable pageable) {
+        var alunos = alunoService.listarAlunos(status, pageable, total);
+        return ResponseEntity.ok(alunos);
+    }
+
     @Operation(
             summary = "Detalhar aluno por ID",
-            description = "Retorna informações detalhadas de um aluno, incluindo dados adicionais que não estão presentes no resumo."
+            description = "Retorna informações detalhadas de um aluno, incluindo dados adicionais que não estão presentes no resumo. Responde 304 quando o If-None-Match corresponde ao ETag atual."
     )
     @GetMapping("/{id}/detalhes")
-    public ResponseEntity<AlunoDetalhesDTO> detalharAluno(@PathVariable Long id) {
-        AlunoDetalhesDTO aluno = alunoService.detalharAluno(id);
-        return ResponseEntity.ok(aluno);
+    public ResponseEntity<AlunoDetalhesDTO> detalharAluno(@PathVariable Long id,
+                                                          @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        var versao = alunoService.buscarVersao(id);
+        return RespostaCondicional.ok(id, versao, ifNoneMatch, () -> alunoService.detalharAluno(id));
+    }
+
+    @Operation(
+            summary = "Perfil do aluno",
+            description = "Retorna em uma chamada os detalhes do aluno, suas matriculas (inclusive arquivadas) e o resumo das turmas e cursos em que está matriculado. As consultas rodam em paralelo; se não terminarem dentro do prazo, responde 503."
+    )
+    @ClassificarCarga(ClasseCarga.PESADA)
+    @GetMapping("/{id}/perfil")
+    public ResponseEntity<AlunoPerfilDTO> perfil(@PathVariable Long id) {
+        return ResponseEntity.ok(perfilAlunoService.montarPerfil(id));
     }
 
     @Operation(
@@ -116,4 +158,14 @@ public class AlunoController {
         alunoService.excluir(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    @Operation(
+            summary = "Importar alunos de um CSV",
+            description = "Recebe um CSV com cabeçalho, separado por ';' ou ',', e cadastra os alunos em lotes. Linhas inválidas ou com CPF já cadastrado ou repetido no arquivo são recusadas e listadas no relatório com o número da linha; as demais são importadas."
+    )
+    @ClassificarCarga(ClasseCarga.PESADA)
+    @PostMapping(value = "/importacao", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<ResultadoImportacaoDTO> importar(InputStream csv) {
+        return ResponseEntity.ok(importacaoAlunoService.importar(csv));
+    }
+}
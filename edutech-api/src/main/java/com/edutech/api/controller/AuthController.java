@@ -2,13 +2,18 @@ package com.edutech.api.controller;
 
 import com.edutech.api.domain.usuario.Usuario;
 import com.edutech.api.domain.usuario.dto.LoginDTO;
+import com.edutech.api.infra.concorrencia.ClasseCarga;
+import com.edutech.api.infra.concorrencia.ClassificarCarga;
 import com.edutech.api.infra.dto.TokenDTO;
+import com.edutech.api.infra.jfr.EventoLogin;
+import com.edutech.api.infra.jfr.RegistroEventos;
 import com.edutech.api.infra.security.TokenService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -22,13 +27,25 @@ public class AuthController {
     private final AuthenticationManager manager;
     private final TokenService tokenService;
 
+    @ClassificarCarga(ClasseCarga.CRITICA)
     @PostMapping
     public ResponseEntity login(@RequestBody @Valid LoginDTO dto) {
         var authenticationToken = new UsernamePasswordAuthenticationToken(dto.login(), dto.senha());
-        var authentication = manager.authenticate(authenticationToken);
+        var authentication = autenticar(authenticationToken);
         var usuario = (Usuario) authentication.getPrincipal();
         var tokenJWT = tokenService.gerarToken(usuario.getLogin());
 
         return ResponseEntity.ok(new TokenDTO(tokenJWT));
     }
+
+    /**
+     * Auxiliares
+     */
+    private Authentication autenticar(UsernamePasswordAuthenticationToken credenciais) {
+        return RegistroEventos.registrar(new EventoLogin(), () -> manager.authenticate(credenciais),
+                (evento, retorno, resultado) -> {
+                    evento.login = credenciais.getName();
+                    evento.resultado = resultado;
+                });
+    }
 }
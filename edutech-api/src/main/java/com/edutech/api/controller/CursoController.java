@@ -6,12 +6,15 @@ import com.edutech.api.domain.curso.dto.CursoResumoDTO;
 import com.edutech.api.domain.curso.dto.CursoUpdateDTO;
 import com.edutech.api.domain.curso.enums.NivelCurso;
 import com.edutech.api.domain.curso.service.CursoService;
+import com.edutech.api.infra.http.RespostaCondicional;
+import com.edutech.api.infra.paginacao.FatiaDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -67,6 +70,18 @@ public class CursoController {
         return ResponseEntity.ok(cursos);
     }
 
+    @Operation(
+            summary = "Listar cursos sem contagem",
+            description = "Retorna uma página de cursos sem contar o total da tabela, com temProxima indicando se há mais páginas. Com total=true inclui totalAproximado, recalculado periodicamente, e o instante do cálculo."
+    )
+    @GetMapping("/fatia")
+    public ResponseEntity<FatiaDTO<CursoResumoDTO>> listarCursos(
+            @RequestParam(defaultValue = "false") boolean total,
+            @PageableDefault(size = 10, sort = "nome") Pageable pageable) {
+        var cursos = cursoService.listarCursos(pageable, total);
+        return ResponseEntity.ok(cursos);
+    }
+
     @Operation(
             summary = "Buscar curso por ID",
             description = "Retorna os dados resumidos de um curso especifico com base no ID"
@@ -79,12 +94,13 @@ public class CursoController {
 
     @Operation(
             summary = "Detalhar curso por ID",
-            description = "Retorna os dados completos de um curso especifico com base no ID"
+            description = "Retorna os dados completos de um curso especifico com base no ID. Responde 304 quando o If-None-Match corresponde ao ETag atual."
     )
     @GetMapping("/{id}/detalhes")
-    public ResponseEntity<CursoDetalhesDTO> detalharPorId(@PathVariable Long id) {
-        var cursoDetalhesDTO = cursoService.detalharPorId(id);
-        return ResponseEntity.ok().body(cursoDetalhesDTO);
+    public ResponseEntity<CursoDetalhesDTO> detalharPorId(@PathVariable Long id,
+                                                          @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        var versao = cursoService.buscarVersao(id);
+        return RespostaCondicional.ok(id, versao, ifNoneMatch, () -> cursoService.detalharPorId(id, versao));
     }
 
     @Operation(
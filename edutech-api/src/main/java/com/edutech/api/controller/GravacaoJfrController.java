@@ -0,0 +1,68 @@
+package com.edutech.api.controller;
+
+import com.edutech.api.infra.jfr.GravacaoJfrDTO;
+import com.edutech.api.infra.jfr.GravacaoJfrService;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+@RestController
+@RequestMapping("/admin/jfr")
+@RequiredArgsConstructor
+public class GravacaoJfrController {
+
+    private static final DateTimeFormatter FORMATO_ARQUIVO = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final GravacaoJfrService gravacaoJfrService;
+
+    @Operation(
+            summary = "Situação da gravação JFR",
+            description = "Retorna o estado da última gravação JFR (NENHUMA, GRAVANDO, CONCLUIDA), início, duração máxima e tamanho do arquivo. Requer escopo admin."
+    )
+    @GetMapping
+    public ResponseEntity<GravacaoJfrDTO> situacao() {
+        return ResponseEntity.ok(gravacaoJfrService.situacao());
+    }
+
+    @Operation(
+            summary = "Iniciar gravação JFR",
+            description = "Inicia uma gravação Java Flight Recorder com os eventos da aplicação, limitada em duração (jfr.duracao-maxima-s) e tamanho (jfr.tamanho-maximo-mb). Requer escopo admin."
+    )
+    @PostMapping("/iniciar")
+    public ResponseEntity<GravacaoJfrDTO> iniciar(@RequestParam(required = false) Long duracaoS) {
+        return ResponseEntity.ok(gravacaoJfrService.iniciar(duracaoS));
+    }
+
+    @Operation(
+            summary = "Parar gravação JFR",
+            description = "Para a gravação em andamento e grava o arquivo para download. Requer escopo admin."
+    )
+    @PostMapping("/parar")
+    public ResponseEntity<GravacaoJfrDTO> parar() {
+        return ResponseEntity.ok(gravacaoJfrService.parar());
+    }
+
+    @Operation(
+            summary = "Baixar gravação JFR",
+            description = "Retorna o arquivo .jfr da última gravação concluída, para abrir no JDK Mission Control ou com 'jfr print'. Requer escopo admin."
+    )
+    @GetMapping("/arquivo")
+    public ResponseEntity<Resource> baixar() {
+        var arquivo = gravacaoJfrService.arquivo();
+        var nome = "edutech-" + LocalDateTime.now().format(FORMATO_ARQUIVO) + ".jfr";
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(nome).build().toString())
+                .body(new FileSystemResource(arquivo));
+    }
+}
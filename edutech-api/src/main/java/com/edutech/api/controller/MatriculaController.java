@@ -2,7 +2,11 @@ package com.edutech.api.controller;
 
 import com.edutech.api.domain.matricula.dto.*;
 import com.edutech.api.domain.matricula.enums.MotivoCancelamento;
+import com.edutech.api.domain.matricula.service.AdmissaoMatriculaService;
 import com.edutech.api.domain.matricula.service.MatriculaService;
+import com.edutech.api.infra.concorrencia.ClasseCarga;
+import com.edutech.api.infra.concorrencia.ClassificarCarga;
+import com.edutech.api.infra.paginacao.FatiaDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -23,16 +27,18 @@ import java.util.List;
 public class MatriculaController {
 
     private final MatriculaService matriculaService;
+    private final AdmissaoMatriculaService admissaoMatriculaService;
 
     @Operation(
             summary = "Cadastrar nova matricula",
             description = "Cria uma nova matricula de aluno em uma turma e retorna os dados resumidos da matricula"
     )
+    @ClassificarCarga(ClasseCarga.CRITICA)
     @PostMapping
     public ResponseEntity<MatriculaResumoDTO> cadastrar(@RequestBody @Valid MatriculaCreateDTO dto,
                                                         UriComponentsBuilder uriBuilder) {
 
-        var matriculaResumo = matriculaService.cadastrarMatricula(dto);
+        var matriculaResumo = admissaoMatriculaService.admitir(dto);
 
         URI uri = uriBuilder.path("/matriculas/{id}")
                 .buildAndExpand(matriculaResumo.id())
@@ -61,6 +67,16 @@ public class MatriculaController {
         return ResponseEntity.ok().body(matriculaResumoDTO);
     }
 
+    @Operation(
+            summary = "Historico de matriculas do aluno",
+            description = "Retorna todas as matriculas do aluno, incluindo as arquivadas, da mais recente para a mais antiga"
+    )
+    @GetMapping("/aluno/{alunoId}")
+    public ResponseEntity<List<MatriculaResumoDTO>> historicoDoAluno(@PathVariable Long alunoId) {
+        var historico = matriculaService.historicoDoAluno(alunoId);
+        return ResponseEntity.ok().body(historico);
+    }
+
     @Operation(
             summary = "Listar todas as matriculas",
             description = "Retorna uma lista paginada de todas as matriculas, ordenadas por data de matricula"
@@ -71,6 +87,17 @@ public class MatriculaController {
         return matriculaService.buscarTodasMatriculas(pageable);
     }
 
+    @Operation(
+            summary = "Listar matriculas sem contagem",
+            description = "Retorna uma página de matriculas sem contar o total da tabela, com temProxima indicando se há mais páginas. Com total=true inclui totalAproximado, recalculado periodicamente, e o instante do cálculo."
+    )
+    @GetMapping("/fatia")
+    public FatiaDTO<MatriculaResumoDTO> listarMatriculas(
+            @RequestParam(defaultValue = "false") boolean total,
+            @PageableDefault(size = 10, sort = "dataMatricula", direction = Sort.Direction.ASC) Pageable pageable){
+        return matriculaService.listarMatriculas(pageable, total);
+    }
+
     @Operation(
             summary = "Concluir matricula",
             description = "Conclui matricula ativa do aluno se a nota dele for maior de 7 e retorna um resumo de seus dados"
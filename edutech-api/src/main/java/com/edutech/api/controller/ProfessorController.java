@@ -5,7 +5,13 @@ import com.edutech.api.domain.professor.dto.ProfessorCreateDTO;
 import com.edutech.api.domain.professor.dto.ProfessorDetalhesDTO;
 import com.edutech.api.domain.professor.dto.ProfessorResumoDTO;
 import com.edutech.api.domain.professor.dto.ProfessorUpdateDTO;
+import com.edutech.api.domain.professor.service.ImportacaoProfessorService;
 import com.edutech.api.domain.professor.service.ProfessorService;
+import com.edutech.api.infra.concorrencia.ClasseCarga;
+import com.edutech.api.infra.concorrencia.ClassificarCarga;
+import com.edutech.api.infra.http.RespostaCondicional;
+import com.edutech.api.infra.importacao.ResultadoImportacaoDTO;
+import com.edutech.api.infra.paginacao.FatiaDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -13,19 +19,26 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/professores")
 @RequiredArgsConstructor
 public class ProfessorController {
 
+    static final String CABECALHO_TURMAS_SEM_PROFESSOR = "X-Turmas-Sem-Professor";
+
     private final ProfessorService professorService;
+    private final ImportacaoProfessorService importacaoProfessorService;
 
     @Operation(
             summary = "Cadastrar novo professor",
@@ -95,23 +108,53 @@ public class ProfessorController {
         return professorService.buscarTodosProfessores(pageable);
     }
 
+    @Operation(
+            summary = "Listar professores sem contagem",
+            description = "Retorna uma página de professores sem contar o total da tabela, com temProxima indicando se há mais páginas. Com total=true inclui totalAproximado, recalculado periodicamente, e o instante do cálculo."
+    )
+    @GetMapping("/fatia")
+    public FatiaDTO<ProfessorResumoDTO> listarProfessores(
+            @RequestParam(defaultValue = "false") boolean total,
+            @PageableDefault(size = 11, sort = "nome", direction = Sort.Direction.ASC) Pageable pageable) {
+        return professorService.listarProfessores(pageable, total);
+    }
+
     @Operation(
             summary = "Detalhar professor",
-            description = "Obtém todos os dados detalhados de um professor especifico, incluindo informações completas"
+            description = "Obtém todos os dados detalhados de um professor especifico, incluindo informações completas. Responde 304 quando o If-None-Match corresponde ao ETag atual."
     )
     @GetMapping("/{id}/detalhes")
-    public ResponseEntity<ProfessorDetalhesDTO> detalharProfessor(@PathVariable Long id) {
-        var professor = professorService.detalharProfessor(id);
-        return ResponseEntity.ok(professor);
+    public ResponseEntity<ProfessorDetalhesDTO> detalharProfessor(@PathVariable Long id,
+                                                                  @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        var versao = professorService.buscarVersao(id);
+        return RespostaCondicional.ok(id, versao, ifNoneMatch, () -> professorService.detalharProfessor(id));
     }
 
     @Operation(
             summary = "Excluir professor",
-            description = "Inativa um professor do sistema pelo seu ID"
+            description = "Inativa um professor do sistema pelo seu ID, desvinculando-o das turmas abertas " +
+                    "e dos cursos. Os IDs das turmas que ficaram sem professor vão no cabeçalho " +
+                    CABECALHO_TURMAS_SEM_PROFESSOR + ", separados por vírgula (ausente se nenhuma)"
     )
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> excluir(@PathVariable Long id) {
-        professorService.excluirProfessor(id);
-        return ResponseEntity.noContent().build();
+        var exclusao = professorService.excluirProfessor(id);
+        var resposta = ResponseEntity.noContent();
+        if (!exclusao.turmasSemProfessor().isEmpty()) {
+            resposta.header(CABECALHO_TURMAS_SEM_PROFESSOR, exclusao.turmasSemProfessor().stream()
+                    .map(turma -> turma.id().toString())
+                    .collect(Collectors.joining(",")));
+        }
+        return resposta.build();
+    }
+
+    @Operation(
+            summary = "Importar professores de um CSV",
+            description = "Recebe um CSV com cabeçalho, separado por ';' ou ',', e cadastra os professores em lotes. Linhas inválidas ou com CPF já cadastrado ou repetido no arquivo são recusadas e listadas no relatório com o número da linha; as demais são importadas."
+    )
+    @ClassificarCarga(ClasseCarga.PESADA)
+    @PostMapping(value = "/importacao", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<ResultadoImportacaoDTO> importar(InputStream csv) {
+        return ResponseEntity.ok(importacaoProfessorService.importar(csv));
     }
 }
@@ -1,7 +1,15 @@
 package com.edutech.api.controller;
 
+import com.edutech.api.domain.matricula.enums.StatusMatricula;
 import com.edutech.api.domain.turma.dto.*;
+import com.edutech.api.domain.turma.service.MatriculasDaTurmaService;
+import com.edutech.api.domain.turma.service.PainelTurmaService;
 import com.edutech.api.domain.turma.service.TurmaService;
+import com.edutech.api.infra.concorrencia.ClasseCarga;
+import com.edutech.api.infra.concorrencia.ClassificarCarga;
+import com.edutech.api.infra.http.RespostaCondicional;
+import com.edutech.api.infra.paginacao.FatiaDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -9,8 +17,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
@@ -21,6 +32,9 @@ import java.net.URI;
 public class TurmaController {
 
     private final TurmaService turmaService;
+    private final PainelTurmaService painelTurmaService;
+    private final MatriculasDaTurmaService matriculasDaTurmaService;
+    private final ObjectMapper objectMapper;
 
     @Operation(
             summary = "Cadastrar nova turma",
@@ -41,23 +55,39 @@ public class TurmaController {
 
     @Operation(
             summary = "Atualizar turma",
-            description = "Atualiza os dados de uma turma existente com base no ID fornecido"
+            description = "Atualiza os dados de uma turma existente com base no ID fornecido. Aceita If-Match com o ETag obtido no detalhamento; retorna 412 se a turma foi alterada nesse meio tempo. A resposta traz o resumo, sem ETag; o ETag atual vem do detalhamento."
     )
     @PatchMapping("/{id}")
     public ResponseEntity<TurmaResumoDTO> atualizar(@PathVariable Long id,
-                                                    @RequestBody @Valid TurmaUpdateDTO dto) {
-        var turmaAtualizada = turmaService.atualizarTurma(id, dto);
+                                                    @RequestBody @Valid TurmaUpdateDTO dto,
+                                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long versaoEsperada = ifMatch != null
+                ? RespostaCondicional.versaoEsperada(id, turmaService.buscarVersao(id), ifMatch)
+                : null;
+
+        var turmaAtualizada = turmaService.atualizarTurma(id, dto, versaoEsperada);
         return ResponseEntity.ok(turmaAtualizada);
     }
 
     @Operation(
             summary = "Detalhar turma por ID",
-            description = "Retorna todos os dados detalhados de uma turma especifica"
+            description = "Retorna todos os dados detalhados de uma turma especifica. Responde 304 quando o If-None-Match corresponde ao ETag atual."
     )
     @GetMapping("/{id}")
-    public ResponseEntity<TurmaDetalhesDTO> detalharPorId(@PathVariable Long id) {
-        var detalhesDTO = turmaService.detalharPorId(id);
-        return ResponseEntity.ok(detalhesDTO);
+    public ResponseEntity<TurmaDetalhesDTO> detalharPorId(@PathVariable Long id,
+                                                          @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        var versao = turmaService.buscarVersao(id);
+        return RespostaCondicional.ok(id, versao, ifNoneMatch, () -> turmaService.detalharPorId(id, versao));
+    }
+
+    @Operation(
+            summary = "Painel da turma",
+            description = "Retorna em uma chamada a turma, seu professor, seu curso, as vagas e a quantidade de matriculas por status. As consultas rodam em paralelo; se não terminarem dentro do prazo, responde 503."
+    )
+    @ClassificarCarga(ClasseCarga.PESADA)
+    @GetMapping("/{id}/painel")
+    public ResponseEntity<TurmaPainelDTO> painel(@PathVariable Long id) {
+        return ResponseEntity.ok(painelTurmaService.montarPainel(id));
     }
 
     @Operation(
@@ -80,12 +110,61 @@ public class TurmaController {
         return turmaService.buscarTodasTurmas(pageable);
     }
 
+    @Operation(
+            summary = "Listar turmas sem contagem",
+            description = "Retorna uma página de turmas sem contar o total da tabela, com temProxima indicando se há mais páginas. Com total=true inclui totalAproximado, recalculado periodicamente, e o instante do cálculo."
+    )
+    @GetMapping("/fatia")
+    public FatiaDTO<TurmaResumoDTO> listarTurmas(
+            @RequestParam(defaultValue = "false") boolean total,
+            @PageableDefault(size = 10, sort = "dataInicio", direction = Sort.Direction.ASC) Pageable pageable){
+        return turmaService.listarTurmas(pageable, total);
+    }
+
+    @ClassificarCarga(ClasseCarga.PESADA)
     @GetMapping("/{id}/matriculas")
     public ResponseEntity<TurmaComMatriculasDTO> buscarTurmaComMatriculas(@PathVariable Long id) {
         var dto = turmaService.buscarTurmaComMatriculas(id);
         return ResponseEntity.ok(dto);
     }
 
+    @Operation(
+            summary = "Listar matriculas da turma",
+            description = "Retorna uma página das matriculas da turma, ordenadas por ID, com o aluno e o status, opcionalmente filtradas por status. Para a próxima página, envie em 'apos' o valor de 'proximo' da resposta; 'proximo' nulo indica o fim da lista."
+    )
+    @ClassificarCarga(ClasseCarga.PESADA)
+    @GetMapping("/{id}/lista-matriculas")
+    public ResponseEntity<MatriculasDaTurmaDTO> listarMatriculas(@PathVariable Long id,
+                                                                 @RequestParam(required = false) StatusMatricula status,
+                                                                 @RequestParam(required = false) Long apos,
+                                                                 @RequestParam(defaultValue = "50") int tamanho) {
+        return ResponseEntity.ok(matriculasDaTurmaService.listar(id, status, apos, tamanho));
+    }
+
+    @Operation(
+            summary = "Transmitir matriculas da turma",
+            description = "Com Accept: application/x-ndjson, transmite todas as matriculas da turma, uma por linha, à medida que são lidas do banco, sem montar a lista inteira em memória."
+    )
+    @ClassificarCarga(ClasseCarga.PESADA)
+    @GetMapping(value = "/{id}/lista-matriculas", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> transmitirMatriculas(@PathVariable Long id,
+                                                                      @RequestParam(required = false) StatusMatricula status) {
+        var matriculas = matriculasDaTurmaService.transmitir(id, status);
+
+        StreamingResponseBody corpo = saida -> {
+            try (matriculas) {
+                var iterador = matriculas.iterator();
+                while (iterador.hasNext()) {
+                    saida.write(objectMapper.writeValueAsBytes(iterador.next()));
+                    saida.write('\n');
+                }
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(corpo);
+    }
+
     @Operation(
             summary = "Iniciar turma",
             description = "Altera o status de uma turma de ABERTA para EM_ANDAMENTO. Só é possível iniciar turmas que estão com status ABERTA e cuja data de início seja hoje ou anterior a data atual."
@@ -6,6 +6,7 @@ import com.edutech.api.domain.exception.ValidacaoException;
 import jakarta.persistence.*;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -13,7 +14,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
-@Table(name = "tb_aluno")
+@Table(name = "tb_aluno", indexes = @Index(name = "idx_aluno_cpf", columnList = "cpf"))
 @Getter
 @EqualsAndHashCode(of = "id")
 @EntityListeners(AuditingEntityListener.class)
@@ -21,7 +22,8 @@ import java.time.LocalDateTime;
 public class Aluno {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_aluno_seq")
+    @SequenceGenerator(name = "tb_aluno_seq", sequenceName = "tb_aluno_seq", allocationSize = 50)
     private Long id;
 
     private String nome;
@@ -36,6 +38,10 @@ public class Aluno {
     @Enumerated(EnumType.STRING)
     private StatusAluno status = StatusAluno.ATIVO;
 
+    @Version
+    @ColumnDefault("0")
+    private Long versao;
+
     @CreatedDate
     private LocalDateTime createdAt;
 
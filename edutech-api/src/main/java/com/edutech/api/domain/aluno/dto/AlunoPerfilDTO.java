@@ -0,0 +1,16 @@
+package com.edutech.api.domain.aluno.dto;
+
+import com.edutech.api.domain.curso.dto.CursoResumoDTO;
+import com.edutech.api.domain.matricula.dto.MatriculaResumoDTO;
+import com.edutech.api.domain.matricula.dto.ResumoMatriculasDTO;
+import com.edutech.api.domain.turma.dto.TurmaResumoDTO;
+
+import java.util.List;
+
+public record AlunoPerfilDTO(
+        AlunoDetalhesDTO aluno,
+        ResumoMatriculasDTO resumoMatriculas,
+        List<MatriculaResumoDTO> matriculas,
+        List<TurmaResumoDTO> turmas,
+        List<CursoResumoDTO> cursos
+) {}
@@ -4,12 +4,16 @@ import com.edutech.api.domain.aluno.Aluno;
 import com.edutech.api.domain.aluno.enums.StatusAluno;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface AlunoRepository extends JpaRepository<Aluno, Long> {
@@ -23,5 +27,17 @@ public interface AlunoRepository extends JpaRepository<Aluno, Long> {
 
     boolean existsByCpf(String cpf);
 
+    @Query("SELECT a.cpf FROM Aluno a WHERE a.cpf IN :cpfs")
+    Set<String> findCpfsCadastrados(@Param("cpfs") Collection<String> cpfs);
+
     Page<Aluno> findByStatus(StatusAluno status, Pageable pageable);
+
+    Slice<Aluno> findFatiaBy(Pageable pageable);
+
+    Slice<Aluno> findFatiaByStatus(StatusAluno status, Pageable pageable);
+
+    long countByStatus(StatusAluno status);
+
+    @Query("SELECT a.versao FROM Aluno a WHERE a.id = :id")
+    Optional<Long> findVersaoById(@Param("id") Long id);
 }
@@ -11,10 +11,21 @@ import com.edutech.api.domain.aluno.repository.AlunoRepository;
 import com.edutech.api.domain.aluno.validacoes.ValidadorCadastroAluno;
 import com.edutech.api.domain.endereco.mapper.EnderecoMapper;
 import com.edutech.api.domain.exception.ValidacaoException;
+import com.edutech.api.domain.exception.VersaoDesatualizadaException;
+import com.edutech.api.domain.matricula.service.CancelamentoEmMassaMatriculaService;
+import com.edutech.api.infra.cascata.PropriedadesCascata;
+import com.edutech.api.infra.concorrencia.RetentarEmConflito;
+import com.edutech.api.infra.conexoes.PoolConexoes;
+import com.edutech.api.infra.conexoes.UsarPool;
+import com.edutech.api.infra.paginacao.ContagemAproximada;
+import com.edutech.api.infra.paginacao.FatiaDTO;
+import com.edutech.api.infra.paginacao.TotalAproximado;
+import com.edutech.api.infra.validacao.ExecutorValidacoes;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -28,10 +39,14 @@ public class AlunoService {
     private final EnderecoMapper enderecoMapper;
     private final AlunoRepository alunoRepository;
     private final List<ValidadorCadastroAluno> validadores;
+    private final CancelamentoEmMassaMatriculaService cancelamentoEmMassaMatriculaService;
+    private final PropriedadesCascata propriedadesCascata;
+    private final ContagemAproximada contagemAproximada;
+    private final ExecutorValidacoes executorValidacoes;
 
     @Transactional
     public AlunoResumoDTO cadastrarAluno(AlunoCreateDTO dto){
-        validadores.forEach(validador -> validador.validar(dto));
+        executorValidacoes.validar(validadores, validador -> validador.validar(dto));
 
         var endereco = enderecoMapper.toEndereco(dto.endereco());
 
@@ -48,10 +63,25 @@ public class AlunoService {
         return alunoMapper.toResumoDTO(aluno);
     }
 
+    @RetentarEmConflito(agregado = "Aluno")
     @Transactional
     public AlunoResumoDTO atualizarAluno(Long id, AlunoUpdateDTO dto){
+        return atualizarAluno(id, dto, null);
+    }
+
+    /**
+     * Atualiza o aluno apenas se ele ainda estiver na versão esperada (If-Match).
+     * Versão nula ignora a verificação.
+     */
+    @RetentarEmConflito(agregado = "Aluno")
+    @Transactional
+    public AlunoResumoDTO atualizarAluno(Long id, AlunoUpdateDTO dto, Long versaoEsperada){
         var aluno = buscarAluno(id);
 
+        if (versaoEsperada != null && !versaoEsperada.equals(aluno.getVersao())) {
+            throw new VersaoDesatualizadaException("Aluno com ID " + id + " foi alterado por outra requisição");
+        }
+
         var enderecoAtualizado = enderecoMapper.toEndereco(dto.endereco());
 
         aluno.atualizar(
@@ -67,11 +97,13 @@ public class AlunoService {
         return alunoMapper.toResumoDTO(aluno);
     }
 
+    @UsarPool(PoolConexoes.LEITURA)
     public AlunoResumoDTO buscarAlunoPorId(Long id){
         var aluno = buscarAluno(id);
         return alunoMapper.toResumoDTO(aluno);
     }
 
+    @UsarPool(PoolConexoes.RELATORIO)
     public List<AlunoResumoDTO> buscarAlunoPorNome(String nome){
         List<Aluno> alunos = alunoRepository.findByNome(nome);
 
@@ -84,26 +116,61 @@ public class AlunoService {
                 .collect(Collectors.toList());
     }
 
+    @UsarPool(PoolConexoes.RELATORIO)
     public Page<AlunoResumoDTO> buscarAlunosPorStatus(StatusAluno statusAluno, Pageable pageable) {
         Page<Aluno> alunos = alunoRepository.findByStatus(statusAluno, pageable);
         return alunos.map(alunoMapper::toResumoDTO);
     }
 
+    @UsarPool(PoolConexoes.RELATORIO)
     public Page<AlunoResumoDTO> buscarTodosAlunos(Pageable pageable){
         Page<Aluno> alunos = alunoRepository.findAll(pageable);
         return alunos.map(alunoMapper::toResumoDTO);
     }
 
+    /**
+     * Listagem sem COUNT(*), com filtro opcional de status: informa apenas se há próxima
+     * página e, se pedido, o total aproximado daquele status.
+     */
+    @UsarPool(PoolConexoes.LEITURA)
+    public FatiaDTO<AlunoResumoDTO> listarAlunos(StatusAluno status, Pageable pageable, boolean incluirTotal) {
+        Slice<Aluno> alunos = status != null
+                ? alunoRepository.findFatiaByStatus(status, pageable)
+                : alunoRepository.findFatiaBy(pageable);
+
+        TotalAproximado total = null;
+        if (incluirTotal) {
+            total = status != null
+                    ? contagemAproximada.total("tb_aluno", status, () -> alunoRepository.countByStatus(status))
+                    : contagemAproximada.total("tb_aluno", alunoRepository::count);
+        }
+        return FatiaDTO.de(alunos.map(alunoMapper::toResumoDTO), total);
+    }
+
+    @UsarPool(PoolConexoes.LEITURA)
     public AlunoDetalhesDTO detalharAluno(Long id){
         var aluno = buscarAluno(id);
         return alunoMapper.toDetalhesDTO(aluno);
     }
 
+    @UsarPool(PoolConexoes.LEITURA)
+    public Long buscarVersao(Long id){
+        return alunoRepository.findVersaoById(id)
+                .orElseThrow(() -> new ValidacaoException("Aluno não encontrado com o ID: " + id));
+    }
+
+    /**
+     * Inativa o aluno e cancela, em um único UPDATE, suas matriculas ativas ou trancadas,
+     * liberando as vagas nas turmas.
+     */
+    @RetentarEmConflito(agregado = "Aluno")
     @Transactional
     public void excluir(Long id) {
         var aluno = buscarAluno(id);
         aluno.excluir();
         alunoRepository.save(aluno);
+
+        cancelamentoEmMassaMatriculaService.cancelarDoAluno(id, propriedadesCascata.motivoInativacaoAluno());
     }
 
     private Aluno buscarAluno(Long id){
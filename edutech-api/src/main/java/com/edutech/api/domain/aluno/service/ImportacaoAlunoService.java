@@ -0,0 +1,128 @@
+package com.edutech.api.domain.aluno.service;
+
+import com.edutech.api.domain.aluno.Aluno;
+import com.edutech.api.domain.aluno.dto.AlunoCreateDTO;
+import com.edutech.api.domain.aluno.repository.AlunoRepository;
+import com.edutech.api.domain.aluno.validacoes.ValidadorCadastroAluno;
+import com.edutech.api.domain.endereco.dto.DadosEnderecoDTO;
+import com.edutech.api.domain.endereco.mapper.EnderecoMapper;
+import com.edutech.api.infra.conexoes.PoolConexoes;
+import com.edutech.api.infra.conexoes.UsarPool;
+import com.edutech.api.infra.importacao.DefinicaoImportacao;
+import com.edutech.api.infra.importacao.ImportadorCsv;
+import com.edutech.api.infra.importacao.ResultadoImportacaoDTO;
+import com.edutech.api.infra.validacao.ExecutorValidacoes;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Importação de alunos em CSV. Colunas: nome, email, telefone, cpf, dataDeNascimento
+ * (dd/MM/yyyy), logradouro, bairro, cep, cidade, uf, complemento e numero.
+ */
+@Service
+public class ImportacaoAlunoService implements DefinicaoImportacao<AlunoCreateDTO> {
+
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("dd/MM/uuuu")
+            .withResolverStyle(ResolverStyle.STRICT);
+    private static final List<String> COLUNAS = List.of(
+            "nome", "email", "telefone", "cpf", "dataDeNascimento",
+            "logradouro", "bairro", "cep", "cidade", "uf", "complemento", "numero"
+    );
+
+    private final ImportadorCsv importadorCsv;
+    private final AlunoRepository alunoRepository;
+    private final EnderecoMapper enderecoMapper;
+    private final List<ValidadorCadastroAluno> validadores;
+    private final ExecutorValidacoes executorValidacoes;
+
+    public ImportacaoAlunoService(ImportadorCsv importadorCsv,
+                                  AlunoRepository alunoRepository,
+                                  EnderecoMapper enderecoMapper,
+                                  List<ValidadorCadastroAluno> validadores,
+                                  ExecutorValidacoes executorValidacoes) {
+        this.importadorCsv = importadorCsv;
+        this.alunoRepository = alunoRepository;
+        this.enderecoMapper = enderecoMapper;
+        this.validadores = validadores.stream()
+                .filter(validador -> !validador.verificaCpfDuplicado())
+                .toList();
+        this.executorValidacoes = executorValidacoes;
+    }
+
+    @UsarPool(PoolConexoes.RELATORIO)
+    public ResultadoImportacaoDTO importar(InputStream csv) {
+        return importadorCsv.importar(csv, this);
+    }
+
+    @Override
+    public List<String> colunas() {
+        return COLUNAS;
+    }
+
+    @Override
+    public AlunoCreateDTO converter(Map<String, String> campos) {
+        var endereco = new DadosEnderecoDTO(
+                campos.get("logradouro"),
+                campos.get("bairro"),
+                campos.get("cep"),
+                campos.get("cidade"),
+                campos.get("uf"),
+                campos.get("complemento"),
+                campos.get("numero")
+        );
+
+        var dataDeNascimento = campos.get("dataDeNascimento");
+        return new AlunoCreateDTO(
+                campos.get("nome"),
+                campos.get("email"),
+                campos.get("telefone"),
+                campos.get("cpf"),
+                dataDeNascimento != null ? LocalDate.parse(dataDeNascimento, FORMATO_DATA) : null,
+                endereco
+        );
+    }
+
+    @Override
+    public String cpf(AlunoCreateDTO dto) {
+        return dto.cpf();
+    }
+
+    @Override
+    public void validar(AlunoCreateDTO dto) {
+        executorValidacoes.validar(validadores, validador -> validador.validar(dto));
+    }
+
+    @Override
+    public Set<String> cpfsJaCadastrados(Collection<String> cpfs) {
+        return alunoRepository.findCpfsCadastrados(cpfs);
+    }
+
+    @Override
+    public String mensagemCpfJaCadastrado() {
+        return "Já existe um aluno com este CPF cadastrado.";
+    }
+
+    @Override
+    public void gravar(List<AlunoCreateDTO> lote) {
+        var alunos = lote.stream()
+                .map(dto -> new Aluno(
+                        dto.nome(),
+                        dto.email(),
+                        dto.telefone(),
+                        dto.cpf(),
+                        dto.dataDeNascimento(),
+                        enderecoMapper.toEndereco(dto.endereco())
+                ))
+                .toList();
+
+        alunoRepository.saveAll(alunos);
+    }
+}
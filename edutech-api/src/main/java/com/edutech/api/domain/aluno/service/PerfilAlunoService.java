@@ -0,0 +1,51 @@
+package com.edutech.api.domain.aluno.service;
+
+import com.edutech.api.domain.aluno.dto.AlunoPerfilDTO;
+import com.edutech.api.domain.curso.mapper.CursoMapper;
+import com.edutech.api.domain.curso.repository.CursoRepository;
+import com.edutech.api.domain.matricula.service.MatriculaService;
+import com.edutech.api.domain.matricula.service.ResumoMatriculasService;
+import com.edutech.api.domain.turma.mapper.TurmaMapper;
+import com.edutech.api.domain.turma.repository.TurmaRepository;
+import com.edutech.api.infra.concorrencia.ConsultasParalelas;
+import com.edutech.api.infra.conexoes.PoolConexoes;
+import com.edutech.api.infra.conexoes.UsarPool;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Perfil do aluno em uma chamada: dados do aluno, resumo das matriculas, matriculas
+ * (inclusive arquivadas) e as turmas e cursos em que está matriculado. As consultas são
+ * independentes e rodam em paralelo, então o tempo da resposta é o da mais lenta.
+ */
+@Service
+@RequiredArgsConstructor
+@UsarPool(PoolConexoes.LEITURA)
+public class PerfilAlunoService {
+
+    private final ConsultasParalelas consultasParalelas;
+    private final AlunoService alunoService;
+    private final MatriculaService matriculaService;
+    private final ResumoMatriculasService resumoMatriculasService;
+    private final TurmaRepository turmaRepository;
+    private final TurmaMapper turmaMapper;
+    private final CursoRepository cursoRepository;
+    private final CursoMapper cursoMapper;
+
+    public AlunoPerfilDTO montarPerfil(Long alunoId) {
+        try (var escopo = consultasParalelas.abrir("perfil-aluno")) {
+            var aluno = escopo.fork(() -> alunoService.detalharAluno(alunoId));
+            var resumo = escopo.fork(() -> resumoMatriculasService.detalhar(alunoId));
+            var matriculas = escopo.fork(() -> matriculaService.historicoDoAluno(alunoId));
+            var turmas = escopo.fork(() -> turmaRepository.findByAlunoId(alunoId).stream()
+                    .map(turmaMapper::toResumoDTO)
+                    .toList());
+            var cursos = escopo.fork(() -> cursoRepository.findByAlunoId(alunoId).stream()
+                    .map(cursoMapper::toResumoDTO)
+                    .toList());
+
+            escopo.join();
+            return new AlunoPerfilDTO(aluno.get(), resumo.get(), matriculas.get(), turmas.get(), cursos.get());
+        }
+    }
+}
@@ -3,11 +3,14 @@ package com.edutech.api.domain.aluno.validacoes;
 import com.edutech.api.domain.aluno.dto.AlunoCreateDTO;
 import com.edutech.api.domain.aluno.repository.AlunoRepository;
 import com.edutech.api.domain.exception.ValidacaoException;
+import com.edutech.api.infra.validacao.Custo;
+import com.edutech.api.infra.validacao.Validacao;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 @Component("cpfDuplicadoAluno")
 @RequiredArgsConstructor
+@Validacao(custo = Custo.BANCO, paralela = true)
 public class CpfDuplicado implements ValidadorCadastroAluno {
 
     private final AlunoRepository alunoRepository;
@@ -20,4 +23,9 @@ public class CpfDuplicado implements ValidadorCadastroAluno {
             );
         }
     }
+
+    @Override
+    public boolean verificaCpfDuplicado() {
+        return true;
+    }
 }
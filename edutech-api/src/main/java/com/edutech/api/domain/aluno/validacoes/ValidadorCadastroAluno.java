@@ -4,4 +4,12 @@ import com.edutech.api.domain.aluno.dto.AlunoCreateDTO;
 
 public interface ValidadorCadastroAluno {
     void validar(AlunoCreateDTO dto);
+
+    /**
+     * Na importação em CSV o CPF duplicado é verificado para o lote inteiro
+     * em uma única consulta, no lugar deste validador.
+     */
+    default boolean verificaCpfDuplicado() {
+        return false;
+    }
 }
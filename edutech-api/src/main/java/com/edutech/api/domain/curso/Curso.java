@@ -10,6 +10,7 @@ import com.edutech.api.domain.turma.Turma;
 import jakarta.persistence.*;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -21,7 +22,8 @@ import java.util.List;
 public class Curso {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_curso_seq")
+    @SequenceGenerator(name = "tb_curso_seq", sequenceName = "tb_curso_seq", allocationSize = 50)
     private Long id;
 
     private String nome;
@@ -38,6 +40,10 @@ public class Curso {
     @Enumerated(EnumType.STRING)
     private CategoriaCurso categoria;
 
+    @Version
+    @ColumnDefault("0")
+    private Long versao;
+
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             name = "tb_curso_professor",
@@ -2,7 +2,10 @@ package com.edutech.api.domain.curso.repository;
 
 import com.edutech.api.domain.curso.Curso;
 import com.edutech.api.domain.curso.enums.NivelCurso;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -13,6 +16,8 @@ import java.util.Optional;
 @Repository
 public interface CursoRepository extends JpaRepository<Curso, Long> {
 
+    Slice<Curso> findFatiaBy(Pageable pageable);
+
     List<Curso> findByNivel(NivelCurso nivel);
 
     Optional<Curso> findByNome(String nome);
@@ -26,4 +31,30 @@ public interface CursoRepository extends JpaRepository<Curso, Long> {
                                                @Param("cargaHorariaMax") Integer cargaHorariaMax);
 
     List<Curso> findByProfessoresId(Long professorId);
+
+    @Query("SELECT DISTINCT m.turma.curso FROM Matricula m WHERE m.aluno.id = :alunoId")
+    List<Curso> findByAlunoId(@Param("alunoId") Long alunoId);
+
+    @Query("SELECT t.curso FROM Turma t WHERE t.id = :turmaId")
+    Optional<Curso> findByTurmaId(@Param("turmaId") Long turmaId);
+
+    @Query("SELECT c.versao FROM Curso c WHERE c.id = :id")
+    Optional<Long> findVersaoById(@Param("id") Long id);
+
+    /**
+     * Incrementa a versão dos cursos do professor, cuja lista de professores vai mudar. Filtra
+     * pela tabela de vínculo, e não por uma subconsulta em tb_curso, que o MySQL recusa em um
+     * UPDATE da própria tabela (erro 1093).
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE tb_curso
+            SET versao = versao + 1
+            WHERE id IN (SELECT cp.curso_id FROM tb_curso_professor cp WHERE cp.professor_id = :professorId)
+            """, nativeQuery = true)
+    int incrementarVersaoDosCursosDoProfessor(@Param("professorId") Long professorId);
+
+    @Modifying
+    @Query(value = "DELETE FROM tb_curso_professor WHERE professor_id = :professorId", nativeQuery = true)
+    int removerProfessorDosCursos(@Param("professorId") Long professorId);
 }
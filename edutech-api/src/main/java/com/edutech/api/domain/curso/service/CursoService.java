@@ -14,10 +14,17 @@ import com.edutech.api.domain.exception.ValidacaoException;
 import com.edutech.api.domain.professor.Professor;
 import com.edutech.api.domain.professor.enums.StatusProfessor;
 import com.edutech.api.domain.professor.repository.ProfessorRepository;
+import com.edutech.api.infra.concorrencia.AgruparChamadas;
+import com.edutech.api.infra.concorrencia.RetentarEmConflito;
+import com.edutech.api.infra.conexoes.PoolConexoes;
+import com.edutech.api.infra.conexoes.UsarPool;
+import com.edutech.api.infra.paginacao.ContagemAproximada;
+import com.edutech.api.infra.paginacao.FatiaDTO;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -31,6 +38,7 @@ public class CursoService {
     private final CursoRepository cursoRepository;
     private final ProfessorRepository professorRepository;
     private final CursoMapper cursoMapper;
+    private final ContagemAproximada contagemAproximada;
 
     @Transactional
     public CursoResumoDTO cadastrarCurso(CursoCreateDTO dto){
@@ -48,6 +56,8 @@ public class CursoService {
         return cursoMapper.toResumoDTO(curso);
     }
 
+    @RetentarEmConflito(agregado = "Curso")
+    @Transactional
     public CursoResumoDTO atualizarCurso(Long id, CursoUpdateDTO dto){
         var curso = buscarCursoPorId(id);
 
@@ -63,21 +73,57 @@ public class CursoService {
         return cursoMapper.toResumoDTO(curso);
     }
 
+    @UsarPool(PoolConexoes.LEITURA)
     public CursoResumoDTO buscarPorId(Long id){
         var curso = buscarCursoPorId(id);
         return cursoMapper.toResumoDTO(curso);
     }
 
+    @Transactional
+    @UsarPool(PoolConexoes.LEITURA)
     public CursoDetalhesDTO detalharPorId(Long id){
         var curso = buscarCursoPorId(id);
         return cursoMapper.toDetalhesDTO(curso);
     }
 
+    /**
+     * Detalha o curso agrupando só as chamadas de quem leu a mesma {@code versaoLida}: quem
+     * acabou de gravar lê a versão nova e não recebe um detalhamento carregado antes disso.
+     */
+    @Transactional
+    @AgruparChamadas("curso-detalhes")
+    @UsarPool(PoolConexoes.LEITURA)
+    public CursoDetalhesDTO detalharPorId(Long id, Long versaoLida){
+        return detalharPorId(id);
+    }
+
+    /**
+     * Não é agrupada: a versão vira o ETag, e uma leitura começada antes do último PUT de
+     * quem chama devolveria um ETag antigo.
+     */
+    @UsarPool(PoolConexoes.LEITURA)
+    public Long buscarVersao(Long id){
+        return cursoRepository.findVersaoById(id)
+                .orElseThrow(() -> new ValidacaoException("Curso com ID " + id + " não encontrado"));
+    }
+
+    @UsarPool(PoolConexoes.RELATORIO)
     public Page<CursoResumoDTO> buscarTodosCursos(Pageable pageable){
         Page<Curso> Cursos = cursoRepository.findAll(pageable);
         return Cursos.map(cursoMapper::toResumoDTO);
     }
 
+    /**
+     * Listagem sem COUNT(*): informa apenas se há próxima página e, se pedido, o total aproximado.
+     */
+    @UsarPool(PoolConexoes.LEITURA)
+    public FatiaDTO<CursoResumoDTO> listarCursos(Pageable pageable, boolean incluirTotal) {
+        Slice<Curso> cursos = cursoRepository.findFatiaBy(pageable);
+        var total = incluirTotal ? contagemAproximada.total("tb_curso", cursoRepository::count) : null;
+        return FatiaDTO.de(cursos.map(cursoMapper::toResumoDTO), total);
+    }
+
+    @UsarPool(PoolConexoes.LEITURA)
     public List<CursoResumoDTO> buscarPorCargaHorariaIntervalo(Integer cargaHorariaMin, Integer cargaHorariaMax) {
         validaCargaHoraria(cargaHorariaMin, cargaHorariaMax);
 
@@ -88,6 +134,7 @@ public class CursoService {
                 .collect(Collectors.toList());
     }
 
+    @UsarPool(PoolConexoes.LEITURA)
     public List<CursoResumoDTO> buscarPorNivel(NivelCurso nivel) {
         if(nivel == null) {
             throw new ValidacaoException("Nivel do curso deve ser informado");
@@ -100,6 +147,7 @@ public class CursoService {
                 .collect(Collectors.toList());
     }
 
+    @UsarPool(PoolConexoes.LEITURA)
     public CursoResumoDTO buscarPorNome(String nome) {
         if(nome == null || nome.trim().isEmpty()) {
             throw new ValidacaoException("Nome do curso deve ser informado");
@@ -111,6 +159,7 @@ public class CursoService {
                 .orElseThrow(() -> new ValidacaoException("Curso com nome '" + nome + "' não encontrado"));
     }
 
+    @RetentarEmConflito(agregado = "Curso")
     @Transactional
     public void ativarCurso(Long id) {
         var curso = buscarCursoPorId(id);
@@ -118,6 +167,7 @@ public class CursoService {
         cursoRepository.save(curso);
     }
 
+    @RetentarEmConflito(agregado = "Curso")
     @Transactional
     public void inativarCurso(Long id) {
         var curso = buscarCursoPorId(id);
@@ -128,6 +178,7 @@ public class CursoService {
     /**
      * Vincular/Desvincular e listar professor de curso
      */
+    @RetentarEmConflito(agregado = "Curso")
     @Transactional
     public void vincularProfessor(Long cursoId, Long professorId) {
         var curso = buscarCursoPorId(cursoId);
@@ -145,6 +196,7 @@ public class CursoService {
         cursoRepository.save(curso);
     }
 
+    @RetentarEmConflito(agregado = "Curso")
     @Transactional
     public void desvincularProfessor(Long cursoId, Long professorId) {
         var curso = buscarCursoPorId(cursoId);
@@ -158,6 +210,7 @@ public class CursoService {
         cursoRepository.save(curso);
     }
 
+    @UsarPool(PoolConexoes.LEITURA)
     public List<CursoResumoDTO> listarCursosDoProfessor(Long professorId) {
         buscarProfessorPorId(professorId);
 
@@ -0,0 +1,40 @@
+package com.edutech.api.domain.exception;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Acumula as {@link ValidacaoException} de várias regras em vez de parar na primeira, para
+ * que a resposta traga todos os problemas da requisição de uma vez. Como a exceção não
+ * captura a pilha, lançar e capturar cada uma custa pouco.
+ */
+public final class ErrosDeValidacao {
+
+    // criada no primeiro erro, para não alocar nada quando todas as regras passam
+    private List<String> erros;
+
+    public void verificar(Runnable regra) {
+        try {
+            regra.run();
+        } catch (ValidacaoException e) {
+            adicionar(e);
+        }
+    }
+
+    public void adicionar(ValidacaoException erro) {
+        if (erros == null) {
+            erros = new ArrayList<>(2);
+        }
+        erros.addAll(erro.getErros());
+    }
+
+    public boolean isVazio() {
+        return erros == null;
+    }
+
+    public void lancarSeHouver() {
+        if (erros != null) {
+            throw new ValidacaoException(erros);
+        }
+    }
+}
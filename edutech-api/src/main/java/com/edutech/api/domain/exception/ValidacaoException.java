@@ -1,7 +1,30 @@
 package com.edutech.api.domain.exception;
 
+import java.util.List;
+
+/**
+ * Regra de negócio violada. Não captura a pilha: a exceção vira um 400 em
+ * {@code TratarErros} e a pilha nunca é lida, mas preenchê-la custava mais que a própria
+ * validação nas requisições recusadas.
+ * <p>
+ * Quando as validações acumulam os erros ({@link ErrosDeValidacao}), {@link #getErros()}
+ * traz todas as mensagens e {@link #getMessage()} as junta.
+ */
 public class ValidacaoException extends RuntimeException {
+
+    private final List<String> erros;
+
     public ValidacaoException(String message) {
-        super(message);
+        super(message, null, false, false);
+        this.erros = List.of(message);
+    }
+
+    public ValidacaoException(List<String> erros) {
+        super(String.join("; ", erros), null, false, false);
+        this.erros = List.copyOf(erros);
+    }
+
+    public List<String> getErros() {
+        return erros;
     }
 }
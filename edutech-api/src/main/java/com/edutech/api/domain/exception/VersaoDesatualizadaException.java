@@ -0,0 +1,10 @@
+package com.edutech.api.domain.exception;
+
+/**
+ * Sem pilha, como a {@link ValidacaoException}: vira um 412 e a pilha nunca é lida.
+ */
+public class VersaoDesatualizadaException extends RuntimeException {
+    public VersaoDesatualizadaException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,66 @@
+package com.edutech.api.domain.matricula;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Horários do dia em um {@code long}: o bit {@code i} representa a faixa de 30 minutos que
+ * começa em {@code i * 30} minutos (48 faixas).
+ */
+public final class HorariosOcupados {
+
+    static final int MINUTOS_POR_FAIXA = 30;
+    static final int FAIXAS = 24 * 60 / MINUTOS_POR_FAIXA;
+
+    private HorariosOcupados() {
+    }
+
+    /**
+     * Faixas que se sobrepõem ao intervalo {@code [inicio, fim)}. Sem horário, nenhuma.
+     */
+    public static long daTurma(LocalTime inicio, LocalTime fim) {
+        if (inicio == null || fim == null || !fim.isAfter(inicio)) {
+            return 0;
+        }
+        int primeira = minutos(inicio) / MINUTOS_POR_FAIXA;
+        int ultima = (minutos(fim) + MINUTOS_POR_FAIXA - 1) / MINUTOS_POR_FAIXA;
+        long faixas = 0;
+        for (int i = primeira; i < ultima; i++) {
+            faixas |= 1L << i;
+        }
+        return faixas;
+    }
+
+    /**
+     * Faixas ocupadas como intervalos contíguos, ex.: {@code ["08:00-10:00", "19:00-22:30"]}.
+     */
+    public static List<String> intervalos(long faixas) {
+        var intervalos = new ArrayList<String>();
+        int i = 0;
+        while (i < FAIXAS) {
+            if ((faixas & (1L << i)) == 0) {
+                i++;
+                continue;
+            }
+            int inicio = i;
+            while (i < FAIXAS && (faixas & (1L << i)) != 0) {
+                i++;
+            }
+            intervalos.add(horario(inicio) + "-" + horario(i));
+        }
+        return intervalos;
+    }
+
+    /**
+     * Auxiliares
+     */
+    private static int minutos(LocalTime horario) {
+        return horario.getHour() * 60 + horario.getMinute();
+    }
+
+    private static String horario(int faixa) {
+        int minutos = faixa * MINUTOS_POR_FAIXA;
+        return String.format("%02d:%02d", minutos / 60, minutos % 60);
+    }
+}
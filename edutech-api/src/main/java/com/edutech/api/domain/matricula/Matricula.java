@@ -9,11 +9,15 @@ import com.edutech.api.domain.turma.Turma;
 import jakarta.persistence.*;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
-@Table(name = "tb_matricula")
+@Table(name = "tb_matricula", indexes = {
+        @Index(name = "idx_matricula_aluno_status", columnList = "aluno_id, status"),
+        @Index(name = "idx_matricula_turma_id", columnList = "turma_id, id")
+})
 @Getter
 @EqualsAndHashCode(of = "id")
 @Entity
@@ -22,7 +26,8 @@ public class Matricula {
     private static final BigDecimal NOTA_MINIMA_PARA_CONCLUSAO = new BigDecimal("7.0");
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_matricula_seq")
+    @SequenceGenerator(name = "tb_matricula_seq", sequenceName = "tb_matricula_seq", allocationSize = 50)
     private Long id;
 
     private LocalDate dataMatricula;
@@ -43,6 +48,10 @@ public class Matricula {
     @JoinColumn(name = "turma_id")
     private Turma turma;
 
+    @Version
+    @ColumnDefault("0")
+    private Long versao;
+
     public Matricula() {
     }
 
@@ -0,0 +1,52 @@
+package com.edutech.api.domain.matricula;
+
+import com.edutech.api.domain.aluno.Aluno;
+import com.edutech.api.domain.matricula.enums.MotivoCancelamento;
+import com.edutech.api.domain.matricula.enums.StatusMatricula;
+import com.edutech.api.domain.turma.Turma;
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Matricula finalizada de turma encerrada, movida de tb_matricula pelo arquivamento.
+ * Mantem o mesmo id da matricula original e é somente leitura.
+ */
+@Table(name = "tb_matricula_arquivada", indexes = @Index(name = "idx_matricula_arquivada_aluno", columnList = "aluno_id"))
+@Getter
+@EqualsAndHashCode(of = "id")
+@Immutable
+@Entity
+public class MatriculaArquivada {
+
+    @Id
+    private Long id;
+
+    private LocalDate dataMatricula;
+    private LocalDate dataConclusao;
+    private BigDecimal notaFinal;
+
+    @Enumerated(EnumType.STRING)
+    private StatusMatricula status;
+
+    @Enumerated(EnumType.STRING)
+    private MotivoCancelamento motivoCancelamento;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "aluno_id")
+    private Aluno aluno;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "turma_id")
+    private Turma turma;
+
+    private LocalDateTime dataArquivamento;
+
+    protected MatriculaArquivada() {
+    }
+}
@@ -0,0 +1,44 @@
+package com.edutech.api.domain.matricula;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+/**
+ * Resumo das matriculas de um aluno, mantido a cada transição de matricula para que a
+ * admissão consulte uma linha pela chave em vez de contar as matriculas do aluno.
+ * <p>
+ * As alterações são feitas só por UPDATEs condicionais de {@code ResumoMatriculasAlunoRepository};
+ * a entidade não tem setters, então nunca é gravada pelo dirty checking.
+ * {@code concluidas} inclui as matriculas já arquivadas.
+ */
+@Table(name = "tb_resumo_matriculas_aluno")
+@Getter
+@Entity
+public class ResumoMatriculasAluno {
+
+    @Id
+    private Long alunoId;
+
+    private int ativas;
+    private int trancadas;
+    private int concluidas;
+
+    /**
+     * Faixas de 30 minutos do dia ocupadas pelas turmas das matriculas ativas ou trancadas
+     * (ver {@link HorariosOcupados}).
+     */
+    private long horariosOcupados;
+
+    protected ResumoMatriculasAluno() {
+    }
+
+    public ResumoMatriculasAluno(Long alunoId, int ativas, int trancadas, int concluidas, long horariosOcupados) {
+        this.alunoId = alunoId;
+        this.ativas = ativas;
+        this.trancadas = trancadas;
+        this.concluidas = concluidas;
+        this.horariosOcupados = horariosOcupados;
+    }
+}
@@ -0,0 +1,15 @@
+package com.edutech.api.domain.matricula.dto;
+
+import com.edutech.api.domain.matricula.enums.StatusMatricula;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDate;
+
+public record MatriculaDaTurmaDTO(
+        Long id,
+        Long alunoId,
+        String nomeAluno,
+        StatusMatricula status,
+        @JsonFormat(pattern = "dd/MM/yyyy")
+        LocalDate dataMatricula
+) {}
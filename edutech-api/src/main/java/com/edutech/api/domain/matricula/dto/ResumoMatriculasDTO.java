@@ -0,0 +1,10 @@
+package com.edutech.api.domain.matricula.dto;
+
+import java.util.List;
+
+public record ResumoMatriculasDTO(
+        int ativas,
+        int trancadas,
+        int concluidas,
+        List<String> horariosOcupados
+) {}
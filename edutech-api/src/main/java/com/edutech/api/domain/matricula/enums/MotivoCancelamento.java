@@ -7,6 +7,8 @@ public enum MotivoCancelamento {
     DESISTENCIA("Desistencia"),
     INADIMPLENCIA("Inadimplencia"),
     TRANSFERENCIA("Transferencia"),
+    TURMA_CANCELADA("Turma cancelada"),
+    ALUNO_INATIVADO("Aluno inativado"),
     OUTROS("Outros");
 
     private final String descricao;
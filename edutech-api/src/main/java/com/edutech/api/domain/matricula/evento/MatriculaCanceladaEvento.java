@@ -0,0 +1,16 @@
+package com.edutech.api.domain.matricula.evento;
+
+import com.edutech.api.domain.matricula.enums.MotivoCancelamento;
+
+/**
+ * Publicado para cada matricula cancelada em cascata. É emitido dentro da
+ * transação do cancelamento; consumidores que dependem do commit devem usar
+ * {@code @TransactionalEventListener}.
+ */
+public record MatriculaCanceladaEvento(
+        Long matriculaId,
+        Long alunoId,
+        Long turmaId,
+        MotivoCancelamento motivo
+) {
+}
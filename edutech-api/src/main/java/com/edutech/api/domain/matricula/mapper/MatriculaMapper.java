@@ -1,6 +1,7 @@
 package com.edutech.api.domain.matricula.mapper;
 
 import com.edutech.api.domain.matricula.Matricula;
+import com.edutech.api.domain.matricula.MatriculaArquivada;
 import com.edutech.api.domain.matricula.dto.*;
 import org.mapstruct.*;
 
@@ -24,4 +25,19 @@ public interface MatriculaMapper {
     @Mapping(target = "turmaId", source = "turma.id")
     @Mapping(target = "codigoTurma", source = "turma.codigo")
     MatriculaDetalhesDTO toDetalhesDTO(Matricula matricula);
+
+    /**
+     * Mesmas conversões para matriculas arquivadas (historico do aluno)
+     */
+    @Mapping(target = "alunoId", source = "aluno.id")
+    @Mapping(target = "nomeAluno", source = "aluno.nome")
+    @Mapping(target = "turmaId", source = "turma.id")
+    @Mapping(target = "codigoTurma", source = "turma.codigo")
+    MatriculaResumoDTO toResumoDTO(MatriculaArquivada matricula);
+
+    @Mapping(target = "alunoId", source = "aluno.id")
+    @Mapping(target = "nomeAluno", source = "aluno.nome")
+    @Mapping(target = "turmaId", source = "turma.id")
+    @Mapping(target = "codigoTurma", source = "turma.codigo")
+    MatriculaDetalhesDTO toDetalhesDTO(MatriculaArquivada matricula);
 }
@@ -0,0 +1,41 @@
+package com.edutech.api.domain.matricula.repository;
+
+import com.edutech.api.domain.matricula.MatriculaArquivada;
+import com.edutech.api.domain.matricula.enums.StatusMatricula;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MatriculaArquivadaRepository extends JpaRepository<MatriculaArquivada, Long> {
+
+    long countByAlunoIdAndStatus(Long alunoId, StatusMatricula status);
+
+    @Query("SELECT m FROM MatriculaArquivada m JOIN FETCH m.aluno JOIN FETCH m.turma WHERE m.id = :id")
+    Optional<MatriculaArquivada> findComAlunoETurmaById(@Param("id") Long id);
+
+    @Query("SELECT m FROM MatriculaArquivada m JOIN FETCH m.aluno a JOIN FETCH m.turma WHERE a.nome = :nome")
+    List<MatriculaArquivada> findByAlunoNome(@Param("nome") String nome);
+
+    @Query("SELECT m FROM MatriculaArquivada m JOIN FETCH m.aluno a JOIN FETCH m.turma WHERE a.id = :alunoId")
+    List<MatriculaArquivada> findByAlunoId(@Param("alunoId") Long alunoId);
+
+    /**
+     * Copia as matriculas informadas de tb_matricula, em uma única instrução.
+     */
+    @Modifying
+    @Query("""
+            INSERT INTO MatriculaArquivada (id, dataMatricula, dataConclusao, notaFinal, status,
+                motivoCancelamento, aluno, turma, dataArquivamento)
+            SELECT m.id, m.dataMatricula, m.dataConclusao, m.notaFinal, m.status,
+                m.motivoCancelamento, m.aluno, m.turma, :agora
+            FROM Matricula m WHERE m.id IN :ids
+            """)
+    int copiarDeMatriculas(@Param("ids") List<Long> ids, @Param("agora") LocalDateTime agora);
+}
@@ -1,21 +1,156 @@
 package com.edutech.api.domain.matricula.repository;
 
 import com.edutech.api.domain.matricula.Matricula;
+import com.edutech.api.domain.matricula.dto.MatriculaDaTurmaDTO;
+import com.edutech.api.domain.matricula.enums.MotivoCancelamento;
 import com.edutech.api.domain.matricula.enums.StatusMatricula;
+import com.edutech.api.domain.turma.enums.StatusTurma;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface MatriculaRepository extends JpaRepository<Matricula, Long> {
 
-    long countByTurmaId(Long turmaId);
+    Slice<Matricula> findFatiaBy(Pageable pageable);
 
-    long countByAlunoIdAndStatus(Long alunoId, StatusMatricula status);
+    /**
+     * Matriculas que ocupam vaga na turma: toda matricula não cancelada.
+     */
+    long countByTurmaIdAndStatusNot(Long turmaId, StatusMatricula status);
+
+    @Query("""
+            SELECT new com.edutech.api.domain.matricula.repository.MatriculaRepository$ContagemPorStatus(m.status, COUNT(m))
+            FROM Matricula m
+            WHERE m.aluno.id = :alunoId
+            GROUP BY m.status
+            """)
+    List<ContagemPorStatus> contarPorStatusDoAluno(@Param("alunoId") Long alunoId);
+
+    /**
+     * Horários das turmas das matriculas do aluno nos status informados.
+     */
+    @Query("""
+            SELECT new com.edutech.api.domain.matricula.repository.MatriculaRepository$HorarioTurma(t.horarioInicio, t.horarioFim)
+            FROM Matricula m
+            JOIN m.turma t
+            WHERE m.aluno.id = :alunoId
+            AND m.status IN :status
+            """)
+    List<HorarioTurma> findHorariosDoAluno(@Param("alunoId") Long alunoId,
+                                           @Param("status") Collection<StatusMatricula> status);
+
+    @Query("""
+            SELECT new com.edutech.api.domain.matricula.repository.MatriculaRepository$ContagemPorStatus(m.status, COUNT(m))
+            FROM Matricula m
+            WHERE m.turma.id = :turmaId
+            GROUP BY m.status
+            """)
+    List<ContagemPorStatus> contarPorStatusDaTurma(@Param("turmaId") Long turmaId);
+
+    /**
+     * Página da lista de matriculas da turma pelo id (keyset), lendo só as colunas exibidas.
+     * Status nulo traz todos.
+     */
+    @Query("""
+            SELECT new com.edutech.api.domain.matricula.dto.MatriculaDaTurmaDTO(m.id, a.id, a.nome, m.status, m.dataMatricula)
+            FROM Matricula m
+            JOIN m.aluno a
+            WHERE m.turma.id = :turmaId
+            AND (:status IS NULL OR m.status = :status)
+            AND m.id > :apos
+            ORDER BY m.id
+            """)
+    List<MatriculaDaTurmaDTO> findPaginaDaTurma(@Param("turmaId") Long turmaId,
+                                               @Param("status") StatusMatricula status,
+                                               @Param("apos") Long apos,
+                                               Limit limite);
 
     @Query("SELECT m FROM Matricula m WHERE m.aluno.nome = :nome")
     List<Matricula> findByAlunoNome(@Param("nome") String nome);
+
+    List<Matricula> findByAlunoId(Long alunoId);
+
+    @Query("""
+            SELECT m.id FROM Matricula m
+            WHERE m.status IN :status
+            AND m.turma.status IN :statusTurma
+            AND m.turma.dataFim < :encerradasAntesDe
+            ORDER BY m.id
+            """)
+    List<Long> findIdsArquivaveis(@Param("status") Collection<StatusMatricula> status,
+                                  @Param("statusTurma") Collection<StatusTurma> statusTurma,
+                                  @Param("encerradasAntesDe") LocalDate encerradasAntesDe,
+                                  Pageable pageable);
+
+    @Query("SELECT DISTINCT m.turma.id FROM Matricula m WHERE m.id IN :ids ORDER BY m.turma.id")
+    List<Long> findTurmaIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Ids das matriculas da turma nos status informados, sem carregar as entidades.
+     */
+    @Query("""
+            SELECT new com.edutech.api.domain.matricula.repository.MatriculaRepository$MatriculaAberta(m.id, m.aluno.id, m.turma.id, m.status)
+            FROM Matricula m
+            WHERE m.turma.id = :turmaId
+            AND m.status IN :status
+            """)
+    List<MatriculaAberta> findAbertasByTurmaId(@Param("turmaId") Long turmaId,
+                                              @Param("status") Collection<StatusMatricula> status);
+
+    @Query("""
+            SELECT new com.edutech.api.domain.matricula.repository.MatriculaRepository$MatriculaAberta(m.id, m.aluno.id, m.turma.id, m.status)
+            FROM Matricula m
+            WHERE m.aluno.id = :alunoId
+            AND m.status IN :status
+            """)
+    List<MatriculaAberta> findAbertasByAlunoId(@Param("alunoId") Long alunoId,
+                                              @Param("status") Collection<StatusMatricula> status);
+
+    /**
+     * Cancela em um único UPDATE as matriculas da turma nos status informados,
+     * incrementando a versão de cada uma.
+     */
+    @Modifying
+    @Query("""
+            UPDATE VERSIONED Matricula m
+            SET m.status = com.edutech.api.domain.matricula.enums.StatusMatricula.CANCELADA,
+                m.motivoCancelamento = :motivo
+            WHERE m.turma.id = :turmaId
+            AND m.status IN :status
+            """)
+    int cancelarPorTurmaId(@Param("turmaId") Long turmaId,
+                           @Param("status") Collection<StatusMatricula> status,
+                           @Param("motivo") MotivoCancelamento motivo);
+
+    @Modifying
+    @Query("""
+            UPDATE VERSIONED Matricula m
+            SET m.status = com.edutech.api.domain.matricula.enums.StatusMatricula.CANCELADA,
+                m.motivoCancelamento = :motivo
+            WHERE m.aluno.id = :alunoId
+            AND m.status IN :status
+            """)
+    int cancelarPorAlunoId(@Param("alunoId") Long alunoId,
+                           @Param("status") Collection<StatusMatricula> status,
+                           @Param("motivo") MotivoCancelamento motivo);
+
+    record MatriculaAberta(Long id, Long alunoId, Long turmaId, StatusMatricula status) {
+    }
+
+    record ContagemPorStatus(StatusMatricula status, long quantidade) {
+    }
+
+    record HorarioTurma(LocalTime inicio, LocalTime fim) {
+    }
 }
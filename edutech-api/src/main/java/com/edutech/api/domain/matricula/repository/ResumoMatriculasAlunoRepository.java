@@ -0,0 +1,74 @@
+package com.edutech.api.domain.matricula.repository;
+
+import com.edutech.api.domain.matricula.ResumoMatriculasAluno;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * As alterações do resumo são UPDATEs atômicos com a condição no WHERE: zero linhas
+ * alteradas indica que a condição não vale mais e quem chamou decide o que fazer.
+ */
+@Repository
+public interface ResumoMatriculasAlunoRepository extends JpaRepository<ResumoMatriculasAluno, Long> {
+
+    /**
+     * Soma uma matricula ativa se o aluno ainda estiver abaixo do limite e os horários não
+     * tiverem mudado desde a leitura ({@code horariosLidos}).
+     */
+    @Modifying
+    @Query("""
+            UPDATE ResumoMatriculasAluno r
+            SET r.ativas = r.ativas + 1,
+                r.horariosOcupados = :horarios
+            WHERE r.alunoId = :alunoId
+            AND r.ativas < :limite
+            AND r.horariosOcupados = :horariosLidos
+            """)
+    int admitir(@Param("alunoId") Long alunoId,
+                @Param("limite") int limite,
+                @Param("horariosLidos") long horariosLidos,
+                @Param("horarios") long horarios);
+
+    /**
+     * Aplica as variações de uma ou mais transições, desde que nenhum total fique negativo.
+     */
+    @Modifying
+    @Query("""
+            UPDATE ResumoMatriculasAluno r
+            SET r.ativas = r.ativas + :ativas,
+                r.trancadas = r.trancadas + :trancadas,
+                r.concluidas = r.concluidas + :concluidas
+            WHERE r.alunoId = :alunoId
+            AND r.ativas + :ativas >= 0
+            AND r.trancadas + :trancadas >= 0
+            """)
+    int registrar(@Param("alunoId") Long alunoId,
+                  @Param("ativas") int ativas,
+                  @Param("trancadas") int trancadas,
+                  @Param("concluidas") int concluidas);
+
+    @Modifying
+    @Query("UPDATE ResumoMatriculasAluno r SET r.horariosOcupados = :horarios WHERE r.alunoId = :alunoId")
+    int atualizarHorarios(@Param("alunoId") Long alunoId, @Param("horarios") long horarios);
+
+    /**
+     * Substitui o resumo pelos totais recontados, quando ele ficou inconsistente.
+     */
+    @Modifying
+    @Query("""
+            UPDATE ResumoMatriculasAluno r
+            SET r.ativas = :ativas,
+                r.trancadas = :trancadas,
+                r.concluidas = :concluidas,
+                r.horariosOcupados = :horarios
+            WHERE r.alunoId = :alunoId
+            """)
+    int substituir(@Param("alunoId") Long alunoId,
+                   @Param("ativas") int ativas,
+                   @Param("trancadas") int trancadas,
+                   @Param("concluidas") int concluidas,
+                   @Param("horarios") long horarios);
+}
@@ -0,0 +1,151 @@
+package com.edutech.api.domain.matricula.service;
+
+import com.edutech.api.domain.aluno.Aluno;
+import com.edutech.api.domain.aluno.repository.AlunoRepository;
+import com.edutech.api.domain.exception.ValidacaoException;
+import com.edutech.api.domain.matricula.Matricula;
+import com.edutech.api.domain.matricula.dto.MatriculaCreateDTO;
+import com.edutech.api.domain.matricula.dto.MatriculaResumoDTO;
+import com.edutech.api.domain.matricula.enums.StatusMatricula;
+import com.edutech.api.domain.matricula.mapper.MatriculaMapper;
+import com.edutech.api.domain.matricula.repository.MatriculaRepository;
+import com.edutech.api.domain.matricula.validadores.ValidadorCadastroMatricula;
+import com.edutech.api.domain.turma.repository.TurmaRepository;
+import com.edutech.api.infra.concorrencia.RetentarEmConflito;
+import com.edutech.api.infra.validacao.ExecutorValidacoes;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Admite, em uma única transação, um lote de pedidos de matricula da mesma turma:
+ * a turma é lida (e sua versão incrementada) uma vez, as vagas são contadas uma vez,
+ * os resumos de matriculas dos alunos são lidos em uma consulta e as matriculas aceitas
+ * são inseridas juntas.
+ */
+@Service
+@RequiredArgsConstructor
+public class AdmissaoLoteMatriculaService {
+
+    private final MatriculaRepository matriculaRepository;
+    private final MatriculaMapper matriculaMapper;
+    private final AlunoRepository alunoRepository;
+    private final TurmaRepository turmaRepository;
+    private final List<ValidadorCadastroMatricula> validadoresCadastroMatricula;
+    private final ResumoMatriculasService resumoMatriculasService;
+    private final ExecutorValidacoes executorValidacoes;
+
+    /**
+     * Resultado individual de um pedido: a matricula criada ou o motivo da recusa.
+     */
+    public record Resultado(MatriculaResumoDTO matricula, RuntimeException erro) {
+
+        static Resultado aceito(MatriculaResumoDTO matricula) {
+            return new Resultado(matricula, null);
+        }
+
+        static Resultado recusado(RuntimeException erro) {
+            return new Resultado(null, erro);
+        }
+    }
+
+    /**
+     * As regras são as mesmas de {@link MatriculaService#cadastrarMatricula}; os pedidos são
+     * atendidos na ordem recebida até acabarem as vagas. Retorna um resultado por pedido,
+     * na mesma ordem.
+     */
+    @RetentarEmConflito(agregado = "Turma")
+    @Transactional
+    public List<Resultado> admitir(Long turmaId, List<MatriculaCreateDTO> pedidos) {
+        var resultados = new Resultado[pedidos.size()];
+
+        var turma = turmaRepository.findComIncrementoDeVersaoById(turmaId).orElse(null);
+        if (turma == null || turma.getCurso() == null) {
+            var erro = new ValidacaoException(turma == null
+                    ? "Turma com ID " + turmaId + " não encontrada"
+                    : "A turma com ID '" + turmaId + "' não tem um curso associado. Não é possível realizar a matrícula.");
+            Arrays.fill(resultados, Resultado.recusado(erro));
+            return Arrays.asList(resultados);
+        }
+
+        long vagasLivres = turma.getVagasTotais() - matriculaRepository.countByTurmaIdAndStatusNot(turmaId, StatusMatricula.CANCELADA);
+        var alunos = buscarAlunos(pedidos);
+        resumoMatriculasService.carregar(alunos.keySet());
+        var alunosNoLote = new HashSet<Long>();
+        var validadores = validadoresCadastroMatricula.stream()
+                .filter(validador -> !validador.verificaVagasDaTurma())
+                .toList();
+
+        List<Aceito> validados = new ArrayList<>();
+        for (int i = 0; i < pedidos.size(); i++) {
+            var dto = pedidos.get(i);
+            try {
+                var aluno = alunos.get(dto.alunoId());
+                if (aluno == null) {
+                    throw new ValidacaoException("Aluno com ID " + dto.alunoId() + " não encontrado");
+                }
+                if (!alunosNoLote.add(dto.alunoId())) {
+                    throw new ValidacaoException("Aluno com ID " + dto.alunoId() + " já possui pedido de matricula em andamento nesta turma");
+                }
+
+                executorValidacoes.validar(validadores, v -> v.validar(dto));
+                validados.add(new Aceito(i, new Matricula(aluno, turma, dto.dataMatricula())));
+            } catch (ValidacaoException e) {
+                resultados[i] = Resultado.recusado(e);
+            }
+        }
+
+        // as vagas vão aos validados na ordem de chegada. Cada rodada admite nos resumos os
+        // que cabem nas vagas livres, em ordem de aluno, para que lotes concorrentes de turmas
+        // diferentes travem os resumos na mesma ordem; a vaga de um aluno recusado no resumo
+        // (chegou ao limite depois da validação) passa ao próximo da fila na rodada seguinte
+        List<Aceito> aceitos = new ArrayList<>();
+        int proximo = 0;
+        while (vagasLivres > 0 && proximo < validados.size()) {
+            int ate = (int) Math.min(validados.size(), proximo + vagasLivres);
+            var rodada = new ArrayList<>(validados.subList(proximo, ate));
+            proximo = ate;
+            rodada.sort(Comparator.comparing(aceito -> aceito.matricula().getAluno().getId()));
+            for (var aceito : rodada) {
+                try {
+                    resumoMatriculasService.admitir(aceito.matricula().getAluno().getId(), turma);
+                    aceitos.add(aceito);
+                    vagasLivres--;
+                } catch (ValidacaoException e) {
+                    resultados[aceito.posicao()] = Resultado.recusado(e);
+                }
+            }
+        }
+        for (var semVaga : validados.subList(proximo, validados.size())) {
+            resultados[semVaga.posicao()] = Resultado.recusado(
+                    new ValidacaoException("A turma esta com todas as vagas preenchidas"));
+        }
+
+        matriculaRepository.saveAll(aceitos.stream().map(Aceito::matricula).toList());
+        for (var aceito : aceitos) {
+            resultados[aceito.posicao()] = Resultado.aceito(matriculaMapper.toResumoDTO(aceito.matricula()));
+        }
+        return Arrays.asList(resultados);
+    }
+
+    /**
+     * Auxiliares
+     */
+    private record Aceito(int posicao, Matricula matricula) {
+    }
+
+    private Map<Long, Aluno> buscarAlunos(List<MatriculaCreateDTO> pedidos) {
+        var ids = pedidos.stream().map(MatriculaCreateDTO::alunoId).collect(Collectors.toSet());
+        return alunoRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Aluno::getId, Function.identity()));
+    }
+}
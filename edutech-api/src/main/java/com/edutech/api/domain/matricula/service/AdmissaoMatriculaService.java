@@ -0,0 +1,217 @@
+package com.edutech.api.domain.matricula.service;
+
+import com.edutech.api.domain.matricula.dto.MatriculaCreateDTO;
+import com.edutech.api.domain.matricula.dto.MatriculaResumoDTO;
+import com.edutech.api.infra.concorrencia.PropriedadesAdmissao;
+import com.edutech.api.infra.concorrencia.ResultadoIndefinidoException;
+import com.edutech.api.infra.concorrencia.ServicoSobrecarregadoException;
+import com.edutech.api.infra.jfr.EventoAdmissaoMatricula;
+import com.edutech.api.infra.jfr.EventoLoteAdmissao;
+import com.edutech.api.infra.jfr.RegistroEventos;
+import com.edutech.api.infra.log.ContextoLog;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Fila de admissão de matriculas (group commit).
+ * <p>
+ * Os pedidos são distribuidos por turma em {@code faixas} filas, cada uma com um único
+ * consumidor. O consumidor junta os pedidos que chegam dentro da janela e os admite por
+ * turma em uma transação ({@link AdmissaoLoteMatriculaService}), em vez de uma transação
+ * concorrente por pedido disputando a mesma linha de tb_turma. Cada chamador continua
+ * recebendo o seu resultado (ou a sua exceção).
+ * <p>
+ * Com {@code admissao.habilitada=false} as matriculas seguem direto para
+ * {@link MatriculaService#cadastrarMatricula}.
+ */
+@Service
+@EnableConfigurationProperties(PropriedadesAdmissao.class)
+public class AdmissaoMatriculaService {
+
+    private static final Logger log = LoggerFactory.getLogger(AdmissaoMatriculaService.class);
+
+    private final AdmissaoLoteMatriculaService admissaoLoteMatriculaService;
+    private final MatriculaService matriculaService;
+    private final PropriedadesAdmissao props;
+    private final DistributionSummary tamanhoDosLotes;
+    private final List<BlockingQueue<Pedido>> filas = new ArrayList<>();
+    private final List<Thread> consumidores = new ArrayList<>();
+
+    /**
+     * {@code requisicao} é o id de correlação de quem fez o pedido, para os logs do lote.
+     * {@code assumido} é marcado por quem ficar com o pedido primeiro: o lote, que o admite,
+     * ou o chamador que desistiu de esperar, e então ele não entra em nenhum lote.
+     */
+    private record Pedido(MatriculaCreateDTO dto, CompletableFuture<MatriculaResumoDTO> resultado, String requisicao,
+                          AtomicBoolean assumido) {
+    }
+
+    public AdmissaoMatriculaService(AdmissaoLoteMatriculaService admissaoLoteMatriculaService,
+                                    MatriculaService matriculaService,
+                                    PropriedadesAdmissao props,
+                                    MeterRegistry meterRegistry) {
+        this.admissaoLoteMatriculaService = admissaoLoteMatriculaService;
+        this.matriculaService = matriculaService;
+        this.props = props;
+        this.tamanhoDosLotes = DistributionSummary.builder("edutech.admissao.lote")
+                .description("Pedidos de matricula admitidos por transação")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void iniciar() {
+        if (!props.habilitada()) {
+            return;
+        }
+        var fabrica = Thread.ofPlatform().daemon().name("admissao-matricula-", 0);
+        for (int i = 0; i < props.faixas(); i++) {
+            var fila = new ArrayBlockingQueue<Pedido>(props.capacidadeFila());
+            filas.add(fila);
+            consumidores.add(fabrica.start(() -> consumir(fila)));
+        }
+    }
+
+    @PreDestroy
+    void parar() {
+        consumidores.forEach(Thread::interrupt);
+    }
+
+    public MatriculaResumoDTO admitir(MatriculaCreateDTO dto) {
+        return RegistroEventos.registrar(new EventoAdmissaoMatricula(),
+                () -> filas.isEmpty() ? matriculaService.cadastrarMatricula(dto) : admitirPelaFila(dto),
+                (evento, matricula, resultado) -> {
+                    evento.turmaId = dto.turmaId();
+                    evento.alunoId = dto.alunoId();
+                    evento.pelaFila = !filas.isEmpty();
+                    evento.resultado = resultado;
+                });
+    }
+
+    /**
+     * Auxiliares
+     */
+    private MatriculaResumoDTO admitirPelaFila(MatriculaCreateDTO dto) {
+        var pedido = new Pedido(dto, new CompletableFuture<>(), MDC.get(ContextoLog.REQUISICAO), new AtomicBoolean());
+        var fila = filas.get(Math.floorMod(dto.turmaId().hashCode(), filas.size()));
+        if (!fila.offer(pedido)) {
+            throw new ServicoSobrecarregadoException("Fila de matriculas cheia. Tente novamente em instantes.");
+        }
+
+        try {
+            return pedido.resultado().get(props.tempoMaximoEsperaMs(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw desistir(pedido, "Tempo de espera da matricula esgotado.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw desistir(pedido, "Matricula interrompida.");
+        }
+    }
+
+    /**
+     * Só um pedido que nenhum lote assumiu pode ser dado como não feito; depois disso o lote
+     * pode gravar a matricula, e repetir o pedido criaria outra.
+     */
+    private RuntimeException desistir(Pedido pedido, String motivo) {
+        if (pedido.assumido().compareAndSet(false, true)) {
+            pedido.resultado().cancel(false);
+            return new ServicoSobrecarregadoException(motivo + " A matricula não foi feita, tente novamente em instantes.");
+        }
+        return new ResultadoIndefinidoException(motivo + " A matricula já estava sendo processada e pode ter sido"
+                + " concluída; consulte as matriculas do aluno antes de repetir o pedido.");
+    }
+
+    private void consumir(BlockingQueue<Pedido> fila) {
+        List<Pedido> lote = new ArrayList<>();
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                lote.add(fila.take());
+                long prazo = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(props.janelaMs());
+                while (lote.size() < props.tamanhoMaximoLote()) {
+                    var proximo = fila.poll(prazo - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (proximo == null) {
+                        break;
+                    }
+                    lote.add(proximo);
+                }
+                processar(lote);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                lote.clear();
+            }
+        }
+
+        List<Pedido> pendentes = new ArrayList<>();
+        fila.drainTo(pendentes);
+        pendentes.forEach(p -> p.resultado().completeExceptionally(
+                new ServicoSobrecarregadoException("Aplicação em desligamento")));
+    }
+
+    private void processar(List<Pedido> lote) {
+        var porTurma = new LinkedHashMap<Long, List<Pedido>>();
+        for (var pedido : lote) {
+            if (pedido.assumido().compareAndSet(false, true)) {
+                porTurma.computeIfAbsent(pedido.dto().turmaId(), id -> new ArrayList<>()).add(pedido);
+            }
+        }
+
+        porTurma.forEach((turmaId, pedidos) -> {
+            MDC.put(ContextoLog.REQUISICAO, pedidos.stream()
+                    .map(Pedido::requisicao)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.joining(",")));
+            try {
+                var resultados = RegistroEventos.registrar(new EventoLoteAdmissao(),
+                        () -> admissaoLoteMatriculaService.admitir(turmaId, pedidos.stream().map(Pedido::dto).toList()),
+                        (evento, admitidos, resultado) -> {
+                            evento.turmaId = turmaId;
+                            evento.pedidos = pedidos.size();
+                            evento.aceitos = admitidos == null ? 0
+                                    : (int) admitidos.stream().filter(admitido -> admitido.erro() == null).count();
+                            evento.resultado = resultado;
+                        });
+                tamanhoDosLotes.record(pedidos.size());
+
+                for (int i = 0; i < pedidos.size(); i++) {
+                    var resultado = resultados.get(i);
+                    if (resultado.erro() != null) {
+                        pedidos.get(i).resultado().completeExceptionally(resultado.erro());
+                    } else {
+                        pedidos.get(i).resultado().complete(resultado.matricula());
+                    }
+                }
+            } catch (RuntimeException e) {
+                log.warn("Falha ao admitir lote de {} matriculas na turma {}: {}", pedidos.size(), turmaId, e.toString());
+                pedidos.forEach(p -> p.resultado().completeExceptionally(e));
+            } finally {
+                MDC.remove(ContextoLog.REQUISICAO);
+            }
+        });
+    }
+}
@@ -0,0 +1,57 @@
+package com.edutech.api.domain.matricula.service;
+
+import com.edutech.api.domain.matricula.enums.StatusMatricula;
+import com.edutech.api.domain.matricula.repository.MatriculaArquivadaRepository;
+import com.edutech.api.domain.matricula.repository.MatriculaRepository;
+import com.edutech.api.domain.turma.enums.StatusTurma;
+import com.edutech.api.domain.turma.repository.TurmaRepository;
+import com.edutech.api.infra.conexoes.PoolConexoes;
+import com.edutech.api.infra.conexoes.UsarPool;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Move para tb_matricula_arquivada as matriculas concluidas ou canceladas de turmas
+ * concluidas ou canceladas, mantendo tb_matricula (e seus indices) restrita ao que ainda
+ * está em uso. As turmas afetadas têm a versão (ETag) incrementada no mesmo lote, porque
+ * as matriculas arquivadas saem das vagas ocupadas e da lista de matriculas delas.
+ */
+@Service
+@RequiredArgsConstructor
+@UsarPool(PoolConexoes.RELATORIO)
+public class ArquivamentoMatriculaService {
+
+    private static final List<StatusMatricula> MATRICULAS_FINALIZADAS =
+            List.of(StatusMatricula.CONCLUIDA, StatusMatricula.CANCELADA);
+    private static final List<StatusTurma> TURMAS_ENCERRADAS =
+            List.of(StatusTurma.CONCLUIDA, StatusTurma.CANCELADA);
+
+    private final MatriculaRepository matriculaRepository;
+    private final MatriculaArquivadaRepository matriculaArquivadaRepository;
+    private final TurmaRepository turmaRepository;
+
+    /**
+     * Arquiva até {@code tamanhoLote} matriculas de turmas encerradas antes da data informada,
+     * em uma transação. Retorna quantas foram arquivadas; menos que o lote indica que acabou.
+     */
+    @Transactional
+    public int arquivarLote(LocalDate turmasEncerradasAntesDe, int tamanhoLote) {
+        var ids = matriculaRepository.findIdsArquivaveis(
+                MATRICULAS_FINALIZADAS, TURMAS_ENCERRADAS, turmasEncerradasAntesDe, PageRequest.of(0, tamanhoLote));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        var turmas = matriculaRepository.findTurmaIdsByIdIn(ids);
+        matriculaArquivadaRepository.copiarDeMatriculas(ids, LocalDateTime.now());
+        matriculaRepository.deleteAllByIdInBatch(ids);
+        turmaRepository.incrementarVersao(turmas);
+        return ids.size();
+    }
+}
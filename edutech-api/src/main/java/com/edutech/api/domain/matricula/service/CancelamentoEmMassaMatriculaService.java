@@ -0,0 +1,72 @@
+package com.edutech.api.domain.matricula.service;
+
+import com.edutech.api.domain.matricula.enums.MotivoCancelamento;
+import com.edutech.api.domain.matricula.enums.StatusMatricula;
+import com.edutech.api.domain.matricula.evento.MatriculaCanceladaEvento;
+import com.edutech.api.domain.matricula.repository.MatriculaRepository;
+import com.edutech.api.domain.matricula.repository.MatriculaRepository.MatriculaAberta;
+import com.edutech.api.domain.turma.repository.TurmaRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Cancelamento em cascata das matriculas ativas ou trancadas de uma turma ou de um aluno.
+ * Cada cascata é uma leitura dos ids por projeção e um único UPDATE versionado, sem
+ * carregar as matriculas no contexto de persistência. Um {@link MatriculaCanceladaEvento}
+ * é publicado por matricula afetada e o resumo de matriculas de cada aluno é atualizado.
+ * As turmas que ganharam vagas têm a versão (ETag) incrementada na mesma transação.
+ */
+@Service
+@RequiredArgsConstructor
+public class CancelamentoEmMassaMatriculaService {
+
+    private static final List<StatusMatricula> STATUS_ABERTOS = List.of(StatusMatricula.ATIVA, StatusMatricula.TRANCADA);
+
+    private final MatriculaRepository matriculaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ResumoMatriculasService resumoMatriculasService;
+    private final TurmaRepository turmaRepository;
+
+    @Transactional
+    public int cancelarDaTurma(Long turmaId, MotivoCancelamento motivo) {
+        var abertas = matriculaRepository.findAbertasByTurmaId(turmaId, STATUS_ABERTOS);
+        int canceladas = matriculaRepository.cancelarPorTurmaId(turmaId, STATUS_ABERTOS, motivo);
+
+        // a versão da turma sobe com o cancelamento dela, que dispara esta cascata
+        return publicar(abertas, canceladas, motivo, "Matriculas da turma com ID " + turmaId);
+    }
+
+    @Transactional
+    public int cancelarDoAluno(Long alunoId, MotivoCancelamento motivo) {
+        var abertas = matriculaRepository.findAbertasByAlunoId(alunoId, STATUS_ABERTOS);
+        int canceladas = matriculaRepository.cancelarPorAlunoId(alunoId, STATUS_ABERTOS, motivo);
+
+        publicar(abertas, canceladas, motivo, "Matriculas do aluno com ID " + alunoId);
+        // em ordem de id, para que cascatas concorrentes travem as turmas na mesma ordem
+        var turmas = abertas.stream().map(MatriculaAberta::turmaId).distinct().sorted().toList();
+        if (!turmas.isEmpty()) {
+            turmaRepository.incrementarVersao(turmas);
+        }
+        return canceladas;
+    }
+
+    /**
+     * Se o UPDATE não atingiu exatamente as matriculas lidas, alguma mudou no intervalo;
+     * o conflito faz a operação inteira ser retentada.
+     */
+    private int publicar(List<MatriculaAberta> abertas, int canceladas, MotivoCancelamento motivo, String descricao) {
+        if (canceladas != abertas.size()) {
+            throw new OptimisticLockingFailureException(descricao + " foram alteradas durante o cancelamento");
+        }
+
+        resumoMatriculasService.registrarCancelamentos(abertas);
+        abertas.forEach(matricula -> eventPublisher.publishEvent(
+                new MatriculaCanceladaEvento(matricula.id(), matricula.alunoId(), matricula.turmaId(), motivo)));
+        return canceladas;
+    }
+}
@@ -4,35 +4,55 @@ import com.edutech.api.domain.aluno.Aluno;
 import com.edutech.api.domain.aluno.repository.AlunoRepository;
 import com.edutech.api.domain.exception.ValidacaoException;
 import com.edutech.api.domain.matricula.Matricula;
+import com.edutech.api.domain.matricula.MatriculaArquivada;
 import com.edutech.api.domain.matricula.dto.MatriculaCreateDTO;
 import com.edutech.api.domain.matricula.dto.MatriculaDetalhesDTO;
 import com.edutech.api.domain.matricula.dto.MatriculaResumoDTO;
 import com.edutech.api.domain.matricula.enums.MotivoCancelamento;
 import com.edutech.api.domain.matricula.mapper.MatriculaMapper;
+import com.edutech.api.domain.matricula.repository.MatriculaArquivadaRepository;
 import com.edutech.api.domain.matricula.repository.MatriculaRepository;
 import com.edutech.api.domain.matricula.validadores.ValidadorCadastroMatricula;
 import com.edutech.api.domain.turma.Turma;
 import com.edutech.api.domain.turma.repository.TurmaRepository;
+import com.edutech.api.infra.concorrencia.RetentarEmConflito;
+import com.edutech.api.infra.conexoes.PoolConexoes;
+import com.edutech.api.infra.conexoes.UsarPool;
+import com.edutech.api.infra.paginacao.ContagemAproximada;
+import com.edutech.api.infra.paginacao.FatiaDTO;
+import com.edutech.api.infra.validacao.ExecutorValidacoes;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class MatriculaService {
 
     private final MatriculaRepository matriculaRepository;
+    private final MatriculaArquivadaRepository matriculaArquivadaRepository;
     private final MatriculaMapper matriculaMapper;
     private final AlunoRepository alunoRepository;
     private final TurmaRepository turmaRepository;
     private final List<ValidadorCadastroMatricula> validadoresCadastroMatricula;
+    private final ContagemAproximada contagemAproximada;
+    private final ResumoMatriculasService resumoMatriculasService;
+    private final ExecutorValidacoes executorValidacoes;
 
+    /**
+     * O conflito aqui é na versão da turma (incrementada a cada matricula): a nova tentativa
+     * reconta as vagas e refaz as validações.
+     */
+    @RetentarEmConflito(agregado = "Turma")
     @Transactional
     public MatriculaResumoDTO cadastrarMatricula(MatriculaCreateDTO dto){
         var turma = buscarTurmaPorId(dto.turmaId());
@@ -42,7 +62,8 @@ public class MatriculaService {
             throw new ValidacaoException("A turma com ID '" + dto.turmaId() + "' não tem um curso associado. Não é possível realizar a matrícula.");
         }
 
-        validadoresCadastroMatricula.forEach(v -> v.validar(dto));
+        executorValidacoes.validar(validadoresCadastroMatricula, v -> v.validar(dto));
+        resumoMatriculasService.admitir(dto.alunoId(), turma);
 
         var matricula = new Matricula(aluno, turma, dto.dataMatricula());
 
@@ -50,62 +71,108 @@ public class MatriculaService {
         return matriculaMapper.toResumoDTO(matricula);
     }
 
+    @UsarPool(PoolConexoes.LEITURA)
     public MatriculaDetalhesDTO detalharPorId(Long id){
-        var matricula = buscarMatriculaPorId(id);
+        var matricula = matriculaRepository.findById(id);
+        if (matricula.isPresent()) {
+            return matriculaMapper.toDetalhesDTO(matricula.get());
+        }
 
-        return matriculaMapper.toDetalhesDTO(matricula);
+        return matriculaArquivadaRepository.findComAlunoETurmaById(id)
+                .map(matriculaMapper::toDetalhesDTO)
+                .orElseThrow(() -> new ValidacaoException("Matricula com ID " + id + " não encontrado"));
     }
 
+    @UsarPool(PoolConexoes.RELATORIO)
     public List<MatriculaResumoDTO> buscarPorNomeDoAluno(String nome){
         if (nome == null || nome.trim().isEmpty()) {
             throw new ValidacaoException("Nome do aluno é obrigatório.");
         }
 
-        var matriculas = matriculaRepository.findByAlunoNome(nome);
+        var matriculas = juntarComArquivadas(
+                matriculaRepository.findByAlunoNome(nome),
+                matriculaArquivadaRepository.findByAlunoNome(nome));
 
         if (matriculas.isEmpty()) {
             throw new ValidacaoException("Aluno não possui matricula cadastrada: " + nome);
         }
 
-        return matriculas.stream()
-                .map(matriculaMapper::toResumoDTO)
-                .collect(Collectors.toList());
+        return matriculas;
     }
 
+    /**
+     * Historico completo do aluno: matriculas em uso e arquivadas, da mais recente para a mais antiga.
+     */
+    @UsarPool(PoolConexoes.LEITURA)
+    public List<MatriculaResumoDTO> historicoDoAluno(Long alunoId){
+        if (!alunoRepository.existsById(alunoId)) {
+            throw new ValidacaoException("Aluno com ID " + alunoId + " não encontrado");
+        }
+
+        return juntarComArquivadas(
+                matriculaRepository.findByAlunoId(alunoId),
+                matriculaArquivadaRepository.findByAlunoId(alunoId));
+    }
+
+    @UsarPool(PoolConexoes.RELATORIO)
     public Page<MatriculaResumoDTO> buscarTodasMatriculas(Pageable pageable){
         Page<Matricula> matriculas = matriculaRepository.findAll(pageable);
         return matriculas.map(matriculaMapper::toResumoDTO);
     }
 
+    /**
+     * Listagem sem COUNT(*): informa apenas se há próxima página e, se pedido, o total aproximado.
+     */
+    @UsarPool(PoolConexoes.LEITURA)
+    public FatiaDTO<MatriculaResumoDTO> listarMatriculas(Pageable pageable, boolean incluirTotal) {
+        Slice<Matricula> matriculas = matriculaRepository.findFatiaBy(pageable);
+        var total = incluirTotal ? contagemAproximada.total("tb_matricula", matriculaRepository::count) : null;
+        return FatiaDTO.de(matriculas.map(matriculaMapper::toResumoDTO), total);
+    }
+
+    @RetentarEmConflito(agregado = "Matricula")
     @Transactional
     public MatriculaResumoDTO concluirMatricula(Long matriculaId, BigDecimal nota) {
         var matricula = buscarMatriculaPorId(matriculaId);
+        var anterior = matricula.getStatus();
         matricula.concluir(nota);
         matriculaRepository.save(matricula);
+        resumoMatriculasService.registrar(matricula.getAluno().getId(), anterior, matricula.getStatus());
         return matriculaMapper.toResumoDTO(matricula);
     }
 
+    @RetentarEmConflito(agregado = "Matricula")
     @Transactional
     public MatriculaResumoDTO trancarMatricula(Long matriculaId) {
         var matricula = buscarMatriculaPorId(matriculaId);
+        var anterior = matricula.getStatus();
         matricula.trancar();
         matriculaRepository.save(matricula);
+        resumoMatriculasService.registrar(matricula.getAluno().getId(), anterior, matricula.getStatus());
         return matriculaMapper.toResumoDTO(matricula);
     }
 
+    @RetentarEmConflito(agregado = "Matricula")
     @Transactional
     public MatriculaResumoDTO reativarMatricula(Long matriculaId) {
         var matricula = buscarMatriculaPorId(matriculaId);
+        var anterior = matricula.getStatus();
         matricula.reativar();
         matriculaRepository.save(matricula);
+        resumoMatriculasService.registrar(matricula.getAluno().getId(), anterior, matricula.getStatus());
         return matriculaMapper.toResumoDTO(matricula);
     }
 
+    @RetentarEmConflito(agregado = "Matricula")
     @Transactional
     public MatriculaResumoDTO cancelarMatricula(Long id, MotivoCancelamento motivo) {
         var matricula = buscarMatriculaPorId(id);
+        var anterior = matricula.getStatus();
         matricula.cancelar(motivo);
         matriculaRepository.save(matricula);
+        // a vaga liberada muda o detalhamento da turma, então a versão (ETag) dela também
+        turmaRepository.incrementarVersao(List.of(matricula.getTurma().getId()));
+        resumoMatriculasService.registrar(matricula.getAluno().getId(), anterior, matricula.getStatus());
 
         return matriculaMapper.toResumoDTO(matricula);
     }
@@ -113,19 +180,35 @@ public class MatriculaService {
     /**
      * Auxiliares
      */
-    private Turma buscarTurmaPorId(Long id) {
-        return turmaRepository.findById(id)
-                .orElseThrow(() -> new ValidacaoException("Turma com ID " + id + " não encontrada"));
-    }
-
     private Aluno buscarAlunoPorId(Long id) {
         return alunoRepository.findById(id)
                 .orElseThrow(() -> new ValidacaoException("Aluno com ID " + id + " não encontrado"));
     }
 
+    /**
+     * Nova matricula altera as vagas disponiveis da turma, entao a versão (ETag) da turma
+     * é incrementada no commit. Matriculas concorrentes na mesma turma passam a conflitar.
+     */
+    private Turma buscarTurmaPorId(Long id) {
+        return turmaRepository.findComIncrementoDeVersaoById(id)
+                .orElseThrow(() -> new ValidacaoException("Turma com ID " + id + " não encontrada"));
+    }
+
     private Matricula buscarMatriculaPorId(Long id){
         return matriculaRepository.findById(id)
-                .orElseThrow(() -> new ValidacaoException("Matricula com ID " + id + " não encontrado"));
+                .orElseThrow(() -> matriculaArquivadaRepository.existsById(id)
+                        ? new ValidacaoException("Matricula com ID " + id + " está arquivada e não pode ser alterada")
+                        : new ValidacaoException("Matricula com ID " + id + " não encontrado"));
+    }
+
+    private List<MatriculaResumoDTO> juntarComArquivadas(List<Matricula> matriculas,
+                                                         List<MatriculaArquivada> arquivadas) {
+        return Stream.concat(
+                        matriculas.stream().map(matriculaMapper::toResumoDTO),
+                        arquivadas.stream().map(matriculaMapper::toResumoDTO))
+                .sorted(Comparator.comparing(MatriculaResumoDTO::dataMatricula,
+                        Comparator.nullsLast(Comparator.reverseOrder())))
+                .collect(Collectors.toList());
     }
 
 }
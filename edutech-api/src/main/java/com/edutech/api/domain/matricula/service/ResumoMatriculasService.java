@@ -0,0 +1,197 @@
+package com.edutech.api.domain.matricula.service;
+
+import com.edutech.api.domain.exception.ValidacaoException;
+import com.edutech.api.domain.matricula.HorariosOcupados;
+import com.edutech.api.domain.matricula.ResumoMatriculasAluno;
+import com.edutech.api.domain.matricula.dto.ResumoMatriculasDTO;
+import com.edutech.api.domain.matricula.enums.StatusMatricula;
+import com.edutech.api.domain.matricula.repository.MatriculaArquivadaRepository;
+import com.edutech.api.domain.matricula.repository.MatriculaRepository;
+import com.edutech.api.domain.matricula.repository.MatriculaRepository.ContagemPorStatus;
+import com.edutech.api.domain.matricula.repository.MatriculaRepository.MatriculaAberta;
+import com.edutech.api.domain.matricula.repository.ResumoMatriculasAlunoRepository;
+import com.edutech.api.domain.turma.Turma;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Mantém o {@link ResumoMatriculasAluno}: cada transição de matricula é aplicada com um
+ * UPDATE condicional na linha do aluno, na transação da própria transição. A admissão só
+ * soma a matricula se o aluno ainda estiver abaixo do limite, então duas admissões
+ * simultâneas do mesmo aluno não passam juntas do limite.
+ * <p>
+ * O resumo de um aluno é gravado na primeira transição, contando as matriculas existentes na
+ * transação da própria transição; as consultas de um aluno ainda sem resumo contam sem gravar.
+ * Se uma transição encontrar o resumo inconsistente (um total ficaria negativo), ele é
+ * recontado.
+ */
+@Service
+@RequiredArgsConstructor
+public class ResumoMatriculasService {
+
+    public static final int LIMITE_TURMAS_ATIVAS = 3;
+    public static final String MENSAGEM_LIMITE =
+            "O aluno ja esta matriculado em 3 turmas ativas e não pode se matricular em mais uma";
+
+    private static final List<StatusMatricula> STATUS_ABERTOS = List.of(StatusMatricula.ATIVA, StatusMatricula.TRANCADA);
+    private static final int TENTATIVAS_ADMISSAO = 5;
+
+    private static final Logger log = LoggerFactory.getLogger(ResumoMatriculasService.class);
+
+    private final ResumoMatriculasAlunoRepository resumoRepository;
+    private final MatriculaRepository matriculaRepository;
+    private final MatriculaArquivadaRepository matriculaArquivadaRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * Não grava nada: sem resumo, devolve a contagem das matriculas do aluno.
+     */
+    public ResumoMatriculasAluno buscar(Long alunoId) {
+        return resumoRepository.findById(alunoId).orElseGet(() -> contar(alunoId));
+    }
+
+    public ResumoMatriculasDTO detalhar(Long alunoId) {
+        var resumo = buscar(alunoId);
+        return new ResumoMatriculasDTO(resumo.getAtivas(), resumo.getTrancadas(), resumo.getConcluidas(),
+                HorariosOcupados.intervalos(resumo.getHorariosOcupados()));
+    }
+
+    /**
+     * Lê em uma consulta os resumos dos alunos, que passam a ser servidos pelo contexto de
+     * persistência da transação (admissão em lote).
+     */
+    public void carregar(Collection<Long> alunoIds) {
+        resumoRepository.findAllById(alunoIds);
+    }
+
+    /**
+     * Soma uma matricula ativa do aluno na turma. Recusa se o aluno já tiver
+     * {@link #LIMITE_TURMAS_ATIVAS} matriculas ativas, inclusive quando a última foi admitida
+     * por outra transação depois da validação.
+     */
+    public void admitir(Long alunoId, Turma turma) {
+        var horariosTurma = HorariosOcupados.daTurma(turma.getHorarioInicio(), turma.getHorarioFim());
+        // a matricula admitida ainda não foi inserida, então não entra na contagem
+        var resumo = resumoRepository.findById(alunoId).orElseGet(() -> criar(alunoId));
+        for (int tentativa = 1; tentativa <= TENTATIVAS_ADMISSAO; tentativa++) {
+            if (resumo.getAtivas() >= LIMITE_TURMAS_ATIVAS) {
+                throw new ValidacaoException(MENSAGEM_LIMITE);
+            }
+            long horarios = resumo.getHorariosOcupados();
+            if (resumoRepository.admitir(alunoId, LIMITE_TURMAS_ATIVAS, horarios, horarios | horariosTurma) == 1) {
+                return;
+            }
+            // outra transição do aluno foi confirmada entre a leitura e o UPDATE
+            entityManager.refresh(resumo);
+        }
+        throw new OptimisticLockingFailureException("Resumo de matriculas do aluno " + alunoId + " alterado durante a admissão");
+    }
+
+    public void registrar(Long alunoId, StatusMatricula anterior, StatusMatricula atual) {
+        var variacao = new Variacao();
+        variacao.sair(anterior);
+        variacao.entrar(atual);
+        aplicar(alunoId, variacao, STATUS_ABERTOS.contains(anterior) && !STATUS_ABERTOS.contains(atual));
+    }
+
+    /**
+     * Matriculas abertas canceladas em massa. Os alunos são atualizados em ordem de id, para
+     * que cascatas concorrentes travem as linhas na mesma ordem.
+     */
+    public void registrarCancelamentos(List<MatriculaAberta> canceladas) {
+        var porAluno = new TreeMap<Long, Variacao>();
+        canceladas.forEach(matricula -> porAluno.computeIfAbsent(matricula.alunoId(), id -> new Variacao())
+                .sair(matricula.status()));
+        porAluno.forEach((alunoId, variacao) -> aplicar(alunoId, variacao, true));
+    }
+
+    /**
+     * Auxiliares
+     */
+    private void aplicar(Long alunoId, Variacao variacao, boolean liberaHorario) {
+        if (resumoRepository.findById(alunoId).isEmpty()) {
+            // a transição já foi aplicada às matriculas, então a contagem já a inclui
+            criar(alunoId);
+            return;
+        }
+        if (resumoRepository.registrar(alunoId, variacao.ativas, variacao.trancadas, variacao.concluidas) == 0) {
+            log.warn("Resumo de matriculas do aluno {} inconsistente, recontando", alunoId);
+            var recontado = contar(alunoId);
+            resumoRepository.substituir(alunoId, recontado.getAtivas(), recontado.getTrancadas(),
+                    recontado.getConcluidas(), recontado.getHorariosOcupados());
+        } else if (liberaHorario) {
+            resumoRepository.atualizarHorarios(alunoId, horariosAbertos(alunoId));
+        }
+    }
+
+    /**
+     * Grava o resumo na transação atual, com as matriculas que ela enxerga. Se outra transação
+     * gravar o do mesmo aluno ao mesmo tempo, a chave duplicada vira um conflito de versão, e
+     * a operação retentada encontra o resumo gravado.
+     */
+    private ResumoMatriculasAluno criar(Long alunoId) {
+        entityManager.flush();
+        try {
+            return resumoRepository.saveAndFlush(contar(alunoId));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Resumo de matriculas do aluno {} criado por outra transação", alunoId);
+            throw new ObjectOptimisticLockingFailureException(ResumoMatriculasAluno.class, alunoId, e);
+        }
+    }
+
+    private ResumoMatriculasAluno contar(Long alunoId) {
+        Map<StatusMatricula, Long> porStatus = matriculaRepository.contarPorStatusDoAluno(alunoId).stream()
+                .collect(Collectors.toMap(ContagemPorStatus::status, ContagemPorStatus::quantidade));
+        long concluidas = porStatus.getOrDefault(StatusMatricula.CONCLUIDA, 0L)
+                + matriculaArquivadaRepository.countByAlunoIdAndStatus(alunoId, StatusMatricula.CONCLUIDA);
+        return new ResumoMatriculasAluno(alunoId,
+                porStatus.getOrDefault(StatusMatricula.ATIVA, 0L).intValue(),
+                porStatus.getOrDefault(StatusMatricula.TRANCADA, 0L).intValue(),
+                (int) concluidas,
+                horariosAbertos(alunoId));
+    }
+
+    private long horariosAbertos(Long alunoId) {
+        long horarios = 0;
+        for (var horario : matriculaRepository.findHorariosDoAluno(alunoId, STATUS_ABERTOS)) {
+            horarios |= HorariosOcupados.daTurma(horario.inicio(), horario.fim());
+        }
+        return horarios;
+    }
+
+    private static class Variacao {
+        private int ativas;
+        private int trancadas;
+        private int concluidas;
+
+        void entrar(StatusMatricula status) {
+            somar(status, 1);
+        }
+
+        void sair(StatusMatricula status) {
+            somar(status, -1);
+        }
+
+        private void somar(StatusMatricula status, int quantidade) {
+            switch (status) {
+                case ATIVA -> ativas += quantidade;
+                case TRANCADA -> trancadas += quantidade;
+                case CONCLUIDA -> concluidas += quantidade;
+                case CANCELADA -> {
+                }
+            }
+        }
+    }
+}
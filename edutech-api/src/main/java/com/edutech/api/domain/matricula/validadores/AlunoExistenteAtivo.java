@@ -4,11 +4,14 @@ import com.edutech.api.domain.aluno.repository.AlunoRepository;
 import com.edutech.api.domain.aluno.enums.StatusAluno;
 import com.edutech.api.domain.exception.ValidacaoException;
 import com.edutech.api.domain.matricula.dto.MatriculaCreateDTO;
+import com.edutech.api.infra.validacao.Custo;
+import com.edutech.api.infra.validacao.Validacao;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
+@Validacao(custo = Custo.BANCO)
 public class AlunoExistenteAtivo implements ValidadorCadastroMatricula {
 
     private final AlunoRepository alunoRepository;
@@ -2,26 +2,29 @@ package com.edutech.api.domain.matricula.validadores;
 
 import com.edutech.api.domain.exception.ValidacaoException;
 import com.edutech.api.domain.matricula.dto.MatriculaCreateDTO;
-import com.edutech.api.domain.matricula.enums.StatusMatricula;
-import com.edutech.api.domain.matricula.repository.MatriculaRepository;
+import com.edutech.api.domain.matricula.service.ResumoMatriculasService;
+import com.edutech.api.infra.validacao.Custo;
+import com.edutech.api.infra.validacao.Validacao;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+/**
+ * Lê o total de matriculas ativas do resumo do aluno, pela chave. A garantia contra duas
+ * admissões simultâneas é o UPDATE condicional de {@link ResumoMatriculasService#admitir}.
+ */
 @Component
 @RequiredArgsConstructor
+@Validacao(custo = Custo.BANCO, paralela = true, dependeDe = AlunoExistenteAtivo.class)
 public class LimiteDeTurmasPorAluno implements ValidadorCadastroMatricula{
 
-    private final MatriculaRepository matriculaRepository;
+    private final ResumoMatriculasService resumoMatriculasService;
 
     @Override
     public void validar(MatriculaCreateDTO dto) {
-        long quantidadeAtiva = matriculaRepository
-                .countByAlunoIdAndStatus(dto.alunoId(), StatusMatricula.ATIVA);
+        var resumo = resumoMatriculasService.buscar(dto.alunoId());
 
-        if (quantidadeAtiva >= 3) {
-            throw new ValidacaoException(
-                    "O aluno ja esta matriculado em 3 turmas ativas e não pode se matricular em mais uma"
-            );
+        if (resumo.getAtivas() >= ResumoMatriculasService.LIMITE_TURMAS_ATIVAS) {
+            throw new ValidacaoException(ResumoMatriculasService.MENSAGEM_LIMITE);
         }
     }
 }
@@ -2,13 +2,17 @@ package com.edutech.api.domain.matricula.validadores;
 
 import com.edutech.api.domain.exception.ValidacaoException;
 import com.edutech.api.domain.matricula.dto.MatriculaCreateDTO;
+import com.edutech.api.domain.matricula.enums.StatusMatricula;
 import com.edutech.api.domain.matricula.repository.MatriculaRepository;
 import com.edutech.api.domain.turma.repository.TurmaRepository;
+import com.edutech.api.infra.validacao.Custo;
+import com.edutech.api.infra.validacao.Validacao;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
+@Validacao(custo = Custo.BANCO, paralela = true)
 public class TurmaComVagasDisponiveis implements ValidadorCadastroMatricula {
 
     private final TurmaRepository turmaRepository;
@@ -25,7 +29,7 @@ public class TurmaComVagasDisponiveis implements ValidadorCadastroMatricula {
                         "Turma informada não existe"
                 ));
 
-        long matriculados = matriculaRepository.countByTurmaId(dto.turmaId());
+        long matriculados = matriculaRepository.countByTurmaIdAndStatusNot(dto.turmaId(), StatusMatricula.CANCELADA);
         int vagas = turma.getVagasTotais();
 
         if (matriculados >= vagas) {
@@ -34,4 +38,9 @@ public class TurmaComVagasDisponiveis implements ValidadorCadastroMatricula {
             );
         }
     }
+
+    @Override
+    public boolean verificaVagasDaTurma() {
+        return true;
+    }
 }
@@ -4,4 +4,12 @@ import com.edutech.api.domain.matricula.dto.MatriculaCreateDTO;
 
 public interface ValidadorCadastroMatricula {
     void validar(MatriculaCreateDTO dto);
+
+    /**
+     * Validadores de capacidade da turma são substituidos, na admissão em lote,
+     * por uma única verificação de vagas para o lote inteiro.
+     */
+    default boolean verificaVagasDaTurma() {
+        return false;
+    }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import com.edutech.api.domain.professor.enums.StatusProfessor;
 import jakarta.persistence.*;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -14,7 +15,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
-@Table(name = "tb_professor")
+@Table(name = "tb_professor", indexes = @Index(name = "idx_professor_cpf", columnList = "cpf"))
 @Getter
 @EqualsAndHashCode(of = "id")
 @EntityListeners(AuditingEntityListener.class)
@@ -22,7 +23,8 @@ import java.time.LocalDateTime;
 public class Professor {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_professor_seq")
+    @SequenceGenerator(name = "tb_professor_seq", sequenceName = "tb_professor_seq", allocationSize = 50)
     private Long id;
 
     private String nome;
@@ -40,6 +42,10 @@ public class Professor {
     @Embedded
     private Endereco endereco;
 
+    @Version
+    @ColumnDefault("0")
+    private Long versao;
+
     @CreatedDate
     private LocalDateTime createdAt;
 
@@ -0,0 +1,10 @@
+package com.edutech.api.domain.professor.dto;
+
+import com.edutech.api.domain.turma.dto.TurmaSemProfessorDTO;
+
+import java.util.List;
+
+public record ProfessorExclusaoDTO(
+        Long id,
+        List<TurmaSemProfessorDTO> turmasSemProfessor
+) {}
@@ -2,19 +2,28 @@ package com.edutech.api.domain.professor.repository;
 
 import com.edutech.api.domain.enums.Modalidade;
 import com.edutech.api.domain.professor.Professor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface ProfessorRepository extends JpaRepository<Professor, Long> {
 
+    Slice<Professor> findFatiaBy(Pageable pageable);
+
     boolean existsByCpf(String cpf);
 
+    @Query("SELECT p.cpf FROM Professor p WHERE p.cpf IN :cpfs")
+    Set<String> findCpfsCadastrados(@Param("cpfs") Collection<String> cpfs);
+
     @Query("""
             SELECT p FROM Professor p 
             WHERE LOWER(p.nome) 
@@ -23,4 +32,10 @@ public interface ProfessorRepository extends JpaRepository<Professor, Long> {
     List<Professor> findByNome(@Param("nome") String nome);
 
     List<Professor> findByModalidade(Modalidade modalidade);
+
+    @Query("SELECT t.professor FROM Turma t WHERE t.id = :turmaId")
+    Optional<Professor> findByTurmaId(@Param("turmaId") Long turmaId);
+
+    @Query("SELECT p.versao FROM Professor p WHERE p.id = :id")
+    Optional<Long> findVersaoById(@Param("id") Long id);
 }
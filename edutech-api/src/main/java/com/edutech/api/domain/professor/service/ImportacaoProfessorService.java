@@ -0,0 +1,132 @@
+package com.edutech.api.domain.professor.service;
+
+import com.edutech.api.domain.endereco.dto.DadosEnderecoDTO;
+import com.edutech.api.domain.endereco.mapper.EnderecoMapper;
+import com.edutech.api.domain.enums.Modalidade;
+import com.edutech.api.domain.professor.Professor;
+import com.edutech.api.domain.professor.dto.ProfessorCreateDTO;
+import com.edutech.api.domain.professor.repository.ProfessorRepository;
+import com.edutech.api.domain.professor.validacoes.ValidadorCadastroProfessor;
+import com.edutech.api.infra.conexoes.PoolConexoes;
+import com.edutech.api.infra.conexoes.UsarPool;
+import com.edutech.api.infra.importacao.DefinicaoImportacao;
+import com.edutech.api.infra.importacao.ImportadorCsv;
+import com.edutech.api.infra.importacao.ResultadoImportacaoDTO;
+import com.edutech.api.infra.validacao.ExecutorValidacoes;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Importação de professores em CSV. Colunas: nome, email, dataNascimento (dd/MM/yyyy),
+ * telefone, cpf, modalidade, logradouro, bairro, cep, cidade, uf, complemento e numero.
+ */
+@Service
+public class ImportacaoProfessorService implements DefinicaoImportacao<ProfessorCreateDTO> {
+
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("dd/MM/uuuu")
+            .withResolverStyle(ResolverStyle.STRICT);
+    private static final List<String> COLUNAS = List.of(
+            "nome", "email", "dataNascimento", "telefone", "cpf", "modalidade",
+            "logradouro", "bairro", "cep", "cidade", "uf", "complemento", "numero"
+    );
+
+    private final ImportadorCsv importadorCsv;
+    private final ProfessorRepository professorRepository;
+    private final EnderecoMapper enderecoMapper;
+    private final List<ValidadorCadastroProfessor> validadores;
+    private final ExecutorValidacoes executorValidacoes;
+
+    public ImportacaoProfessorService(ImportadorCsv importadorCsv,
+                                      ProfessorRepository professorRepository,
+                                      EnderecoMapper enderecoMapper,
+                                      List<ValidadorCadastroProfessor> validadores,
+                                      ExecutorValidacoes executorValidacoes) {
+        this.importadorCsv = importadorCsv;
+        this.professorRepository = professorRepository;
+        this.enderecoMapper = enderecoMapper;
+        this.validadores = validadores.stream()
+                .filter(validador -> !validador.verificaCpfDuplicado())
+                .toList();
+        this.executorValidacoes = executorValidacoes;
+    }
+
+    @UsarPool(PoolConexoes.RELATORIO)
+    public ResultadoImportacaoDTO importar(InputStream csv) {
+        return importadorCsv.importar(csv, this);
+    }
+
+    @Override
+    public List<String> colunas() {
+        return COLUNAS;
+    }
+
+    @Override
+    public ProfessorCreateDTO converter(Map<String, String> campos) {
+        var endereco = new DadosEnderecoDTO(
+                campos.get("logradouro"),
+                campos.get("bairro"),
+                campos.get("cep"),
+                campos.get("cidade"),
+                campos.get("uf"),
+                campos.get("complemento"),
+                campos.get("numero")
+        );
+
+        var dataNascimento = campos.get("dataNascimento");
+        var modalidade = campos.get("modalidade");
+        return new ProfessorCreateDTO(
+                campos.get("nome"),
+                campos.get("email"),
+                dataNascimento != null ? LocalDate.parse(dataNascimento, FORMATO_DATA) : null,
+                campos.get("telefone"),
+                campos.get("cpf"),
+                modalidade != null ? Modalidade.fromJson(modalidade) : null,
+                endereco
+        );
+    }
+
+    @Override
+    public String cpf(ProfessorCreateDTO dto) {
+        return dto.cpf();
+    }
+
+    @Override
+    public void validar(ProfessorCreateDTO dto) {
+        executorValidacoes.validar(validadores, validador -> validador.validar(dto));
+    }
+
+    @Override
+    public Set<String> cpfsJaCadastrados(Collection<String> cpfs) {
+        return professorRepository.findCpfsCadastrados(cpfs);
+    }
+
+    @Override
+    public String mensagemCpfJaCadastrado() {
+        return "Já existe um professor com este CPF cadastrado.";
+    }
+
+    @Override
+    public void gravar(List<ProfessorCreateDTO> lote) {
+        var professores = lote.stream()
+                .map(dto -> new Professor(
+                        dto.nome(),
+                        dto.email(),
+                        dto.dataNascimento(),
+                        dto.telefone(),
+                        dto.cpf(),
+                        dto.modalidade(),
+                        enderecoMapper.toEndereco(dto.endereco())
+                ))
+                .toList();
+
+        professorRepository.saveAll(professores);
+    }
+}
@@ -1,20 +1,32 @@
 package com.edutech.api.domain.professor.service;
 
+import com.edutech.api.domain.curso.repository.CursoRepository;
 import com.edutech.api.domain.endereco.mapper.EnderecoMapper;
 import com.edutech.api.domain.enums.Modalidade;
 import com.edutech.api.domain.exception.ValidacaoException;
 import com.edutech.api.domain.professor.Professor;
 import com.edutech.api.domain.professor.dto.ProfessorCreateDTO;
 import com.edutech.api.domain.professor.dto.ProfessorDetalhesDTO;
+import com.edutech.api.domain.professor.dto.ProfessorExclusaoDTO;
 import com.edutech.api.domain.professor.dto.ProfessorResumoDTO;
 import com.edutech.api.domain.professor.dto.ProfessorUpdateDTO;
 import com.edutech.api.domain.professor.mapper.ProfessorMapper;
 import com.edutech.api.domain.professor.repository.ProfessorRepository;
 import com.edutech.api.domain.professor.validacoes.ValidadorCadastroProfessor;
+import com.edutech.api.domain.turma.enums.StatusTurma;
+import com.edutech.api.domain.turma.repository.TurmaRepository;
+import com.edutech.api.infra.concorrencia.RetentarEmConflito;
+import com.edutech.api.infra.conexoes.PoolConexoes;
+import com.edutech.api.infra.conexoes.UsarPool;
+import com.edutech.api.infra.paginacao.ContagemAproximada;
+import com.edutech.api.infra.paginacao.FatiaDTO;
+import com.edutech.api.infra.validacao.ExecutorValidacoes;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -28,10 +40,14 @@ public class ProfessorService {
     private final EnderecoMapper enderecoMapper;
     private final ProfessorRepository professorRepository;
     private final List<ValidadorCadastroProfessor> validadores;
+    private final TurmaRepository turmaRepository;
+    private final CursoRepository cursoRepository;
+    private final ContagemAproximada contagemAproximada;
+    private final ExecutorValidacoes executorValidacoes;
 
     @Transactional
     public ProfessorResumoDTO cadastrarProfessor(ProfessorCreateDTO dto){
-        validadores.forEach(validador -> validador.validar(dto));
+        executorValidacoes.validar(validadores, validador -> validador.validar(dto));
 
         var endereco = enderecoMapper.toEndereco(dto.endereco());
 
@@ -49,9 +65,15 @@ public class ProfessorService {
         return professorMapper.toResumoDTO(professor);
     }
 
+    /**
+     * O nome do professor aparece no detalhamento dos seus cursos, então renomeá-lo incrementa
+     * a versão (ETag) desses cursos na mesma transação.
+     */
+    @RetentarEmConflito(agregado = "Professor")
     @Transactional
     public ProfessorResumoDTO atualizarProfessor(Long id, ProfessorUpdateDTO dto) {
         var professor = buscarProfessorPorId(id);
+        var nomeAnterior = professor.getNome();
 
         var endereco = enderecoMapper.toEndereco(dto.endereco());
 
@@ -66,14 +88,19 @@ public class ProfessorService {
         );
 
         professorRepository.save(professor);
+        if (!professor.getNome().equals(nomeAnterior)) {
+            cursoRepository.incrementarVersaoDosCursosDoProfessor(id);
+        }
         return professorMapper.toResumoDTO(professor);
     }
 
+    @UsarPool(PoolConexoes.LEITURA)
     public ProfessorResumoDTO buscarPorId(Long id) {
         var professor = buscarProfessorPorId(id);
         return professorMapper.toResumoDTO(professor);
     }
 
+    @UsarPool(PoolConexoes.RELATORIO)
     public List<ProfessorResumoDTO> buscarProfessoresPorNome(String nome) {
         List<Professor> professores = professorRepository.findByNome(nome);
 
@@ -86,6 +113,7 @@ public class ProfessorService {
                 .collect(Collectors.toList());
     }
 
+    @UsarPool(PoolConexoes.LEITURA)
     public List<ProfessorResumoDTO> buscarProfessoresPorModalidade(Modalidade modalidade) {
         List<Professor> professores = professorRepository.findByModalidade(modalidade);
 
@@ -94,21 +122,57 @@ public class ProfessorService {
                 .toList();
     }
 
+    @UsarPool(PoolConexoes.RELATORIO)
     public Page<ProfessorResumoDTO> buscarTodosProfessores(Pageable pageable) {
         Page<Professor> professores = professorRepository.findAll(pageable);
         return professores.map(professorMapper::toResumoDTO);
     }
 
+    /**
+     * Listagem sem COUNT(*): informa apenas se há próxima página e, se pedido, o total aproximado.
+     */
+    @UsarPool(PoolConexoes.LEITURA)
+    public FatiaDTO<ProfessorResumoDTO> listarProfessores(Pageable pageable, boolean incluirTotal) {
+        Slice<Professor> professores = professorRepository.findFatiaBy(pageable);
+        var total = incluirTotal ? contagemAproximada.total("tb_professor", professorRepository::count) : null;
+        return FatiaDTO.de(professores.map(professorMapper::toResumoDTO), total);
+    }
+
+    @UsarPool(PoolConexoes.LEITURA)
     public ProfessorDetalhesDTO detalharProfessor(Long id){
         var professor = buscarProfessorPorId(id);
         return professorMapper.toDetalhesDTO(professor);
     }
 
-    public void excluirProfessor(Long id){
+    @UsarPool(PoolConexoes.LEITURA)
+    public Long buscarVersao(Long id){
+        return professorRepository.findVersaoById(id)
+                .orElseThrow(() -> new ValidacaoException("Professor com ID " + id + " não encontrado"));
+    }
+
+    /**
+     * Inativa o professor e, com operações em massa, o desvincula das turmas abertas e dos cursos.
+     * Retorna as turmas que ficaram sem professor.
+     */
+    @RetentarEmConflito(agregado = "Professor")
+    @Transactional
+    public ProfessorExclusaoDTO excluirProfessor(Long id){
         var professor = buscarProfessorPorId(id);
 
         professor.excluir();
         professorRepository.save(professor);
+
+        var turmasSemProfessor = turmaRepository.findIdECodigoByProfessorIdAndStatus(id, StatusTurma.ABERTA);
+        int desvinculadas = turmaRepository.desvincularProfessor(id, StatusTurma.ABERTA);
+        if (desvinculadas != turmasSemProfessor.size()) {
+            throw new OptimisticLockingFailureException(
+                    "Turmas do professor com ID " + id + " foram alteradas durante a exclusão");
+        }
+
+        cursoRepository.incrementarVersaoDosCursosDoProfessor(id);
+        cursoRepository.removerProfessorDosCursos(id);
+
+        return new ProfessorExclusaoDTO(id, turmasSemProfessor);
     }
 
     /**
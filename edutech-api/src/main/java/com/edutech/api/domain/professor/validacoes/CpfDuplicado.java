@@ -3,11 +3,14 @@ package com.edutech.api.domain.professor.validacoes;
 import com.edutech.api.domain.exception.ValidacaoException;
 import com.edutech.api.domain.professor.dto.ProfessorCreateDTO;
 import com.edutech.api.domain.professor.repository.ProfessorRepository;
+import com.edutech.api.infra.validacao.Custo;
+import com.edutech.api.infra.validacao.Validacao;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 @Component("cpfDuplicadoProfessor")
 @RequiredArgsConstructor
+@Validacao(custo = Custo.BANCO, paralela = true)
 public class CpfDuplicado implements ValidadorCadastroProfessor {
 
     private final ProfessorRepository professorRepository;
@@ -20,4 +23,9 @@ public class CpfDuplicado implements ValidadorCadastroProfessor {
             );
         }
     }
+
+    @Override
+    public boolean verificaCpfDuplicado() {
+        return true;
+    }
 }
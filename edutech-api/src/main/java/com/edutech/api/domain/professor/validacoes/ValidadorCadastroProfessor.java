@@ -4,4 +4,12 @@ import com.edutech.api.domain.professor.dto.ProfessorCreateDTO;
 
 public interface ValidadorCadastroProfessor {
     void validar(ProfessorCreateDTO dto);
+
+    /**
+     * Na importação em CSV o CPF duplicado é verificado para o lote inteiro
+     * em uma única consulta, no lugar deste validador.
+     */
+    default boolean verificaCpfDuplicado() {
+        return false;
+    }
 }
\ No newline at end of file
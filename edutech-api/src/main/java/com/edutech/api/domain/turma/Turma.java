@@ -4,11 +4,13 @@ import com.edutech.api.domain.curso.Curso;
 import com.edutech.api.domain.enums.Modalidade;
 import com.edutech.api.domain.exception.ValidacaoException;
 import com.edutech.api.domain.matricula.Matricula;
+import com.edutech.api.domain.matricula.enums.StatusMatricula;
 import com.edutech.api.domain.professor.Professor;
 import com.edutech.api.domain.turma.enums.StatusTurma;
 import jakarta.persistence.*;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -27,7 +29,8 @@ import java.util.List;
 public class Turma {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_turma_seq")
+    @SequenceGenerator(name = "tb_turma_seq", sequenceName = "tb_turma_seq", allocationSize = 50)
     private Long id;
 
     private String codigo;
@@ -54,6 +57,10 @@ public class Turma {
     @OneToMany(mappedBy = "turma", cascade = CascadeType.ALL)
     private List<Matricula> matriculas = new ArrayList<>();
 
+    @Version
+    @ColumnDefault("0")
+    private Long versao;
+
     @CreatedDate
     private LocalDateTime createdAt;
 
@@ -145,7 +152,10 @@ public class Turma {
     }
 
     public Integer getVagasDisponiveis() {
-        return vagasTotais - matriculas.size();
+        long ocupadas = matriculas.stream()
+                .filter(matricula -> matricula.getStatus() != StatusMatricula.CANCELADA)
+                .count();
+        return vagasTotais - (int) ocupadas;
     }
 
     public void vincularProfessor(Professor professor) {
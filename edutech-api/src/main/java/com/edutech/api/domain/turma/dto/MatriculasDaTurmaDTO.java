@@ -0,0 +1,14 @@
+package com.edutech.api.domain.turma.dto;
+
+import com.edutech.api.domain.matricula.dto.MatriculaDaTurmaDTO;
+
+import java.util.List;
+
+/**
+ * Uma página da lista de matriculas da turma. {@code proximo} é o valor a enviar em
+ * {@code apos} para buscar a página seguinte; nulo quando não há mais matriculas.
+ */
+public record MatriculasDaTurmaDTO(
+        List<MatriculaDaTurmaDTO> matriculas,
+        Long proximo
+) {}
@@ -0,0 +1,16 @@
+package com.edutech.api.domain.turma.dto;
+
+import com.edutech.api.domain.curso.dto.CursoResumoDTO;
+import com.edutech.api.domain.matricula.enums.StatusMatricula;
+import com.edutech.api.domain.professor.dto.ProfessorResumoDTO;
+
+import java.util.Map;
+
+public record TurmaPainelDTO(
+        TurmaResumoDTO turma,
+        ProfessorResumoDTO professor,
+        CursoResumoDTO curso,
+        Integer vagasTotais,
+        Integer vagasDisponiveis,
+        Map<StatusMatricula, Long> matriculasPorStatus
+) {}
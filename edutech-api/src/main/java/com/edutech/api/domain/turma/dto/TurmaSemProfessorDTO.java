@@ -0,0 +1,6 @@
+package com.edutech.api.domain.turma.dto;
+
+public record TurmaSemProfessorDTO(
+        Long id,
+        String codigo
+) {}
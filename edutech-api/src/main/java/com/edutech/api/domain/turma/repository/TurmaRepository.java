@@ -1,19 +1,84 @@
 package com.edutech.api.domain.turma.repository;
 
 import com.edutech.api.domain.turma.Turma;
+import com.edutech.api.domain.turma.dto.TurmaSemProfessorDTO;
+import com.edutech.api.domain.turma.enums.StatusTurma;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TurmaRepository extends JpaRepository<Turma, Long> {
 
+    Slice<Turma> findFatiaBy(Pageable pageable);
+
     Optional<Turma> findById(Long id);
 
+    /**
+     * Carrega a turma forçando o incremento da versão no commit. Usado quando uma nova
+     * matricula muda as vagas disponíveis da turma.
+     * <p>
+     * O incremento serializa as matriculas por turma: de duas simultâneas, a segunda a
+     * confirmar recebe conflito de versão e é retentada. É o que impede, fora da fila de
+     * admissão, que duas matriculas ocupem a mesma última vaga; com a fila, um lote inteiro
+     * incrementa a versão uma vez.
+     */
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT t FROM Turma t WHERE t.id = :id")
+    Optional<Turma> findComIncrementoDeVersaoById(@Param("id") Long id);
+
+    /**
+     * Incrementa a versão das turmas cujas vagas ou matriculas mudaram por uma alteração feita
+     * direto nas matriculas (cancelamento e arquivamento). Trancar, reativar e concluir mantêm a
+     * vaga ocupada e não mudam a versão.
+     */
+    @Modifying
+    @Query("UPDATE Turma t SET t.versao = t.versao + 1 WHERE t.id IN :ids")
+    int incrementarVersao(@Param("ids") Collection<Long> ids);
+
     Optional<Turma> findByCodigo(String codigo);
 
+    @Query("SELECT DISTINCT m.turma FROM Matricula m WHERE m.aluno.id = :alunoId")
+    List<Turma> findByAlunoId(@Param("alunoId") Long alunoId);
+
     boolean existsByCodigo(String codigo);
 
     boolean existsByCodigoAndIdNot(String codigo, Long turmaId);
+
+    @Query("SELECT t.versao FROM Turma t WHERE t.id = :id")
+    Optional<Long> findVersaoById(@Param("id") Long id);
+
+    @Query("""
+            SELECT new com.edutech.api.domain.turma.dto.TurmaSemProfessorDTO(t.id, t.codigo)
+            FROM Turma t
+            WHERE t.professor.id = :professorId
+            AND t.status = :status
+            ORDER BY t.id
+            """)
+    List<TurmaSemProfessorDTO> findIdECodigoByProfessorIdAndStatus(@Param("professorId") Long professorId,
+                                                                   @Param("status") StatusTurma status);
+
+    /**
+     * Desvincula o professor de todas as suas turmas no status informado em um único UPDATE,
+     * incrementando a versão de cada turma.
+     */
+    @Modifying
+    @Query("""
+            UPDATE VERSIONED Turma t
+            SET t.professor = null
+            WHERE t.professor.id = :professorId
+            AND t.status = :status
+            """)
+    int desvincularProfessor(@Param("professorId") Long professorId,
+                             @Param("status") StatusTurma status);
 }
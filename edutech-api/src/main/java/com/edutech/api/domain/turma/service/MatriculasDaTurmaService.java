@@ -0,0 +1,83 @@
+package com.edutech.api.domain.turma.service;
+
+import com.edutech.api.domain.exception.ValidacaoException;
+import com.edutech.api.domain.matricula.dto.MatriculaDaTurmaDTO;
+import com.edutech.api.domain.matricula.enums.StatusMatricula;
+import com.edutech.api.domain.matricula.repository.MatriculaRepository;
+import com.edutech.api.domain.turma.dto.MatriculasDaTurmaDTO;
+import com.edutech.api.domain.turma.repository.TurmaRepository;
+import com.edutech.api.infra.conexoes.PoolConexoes;
+import com.edutech.api.infra.conexoes.RoteamentoPool;
+import com.edutech.api.infra.conexoes.UsarPool;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Lista de matriculas da turma sem carregar a coleção {@code Turma.matriculas}: cada página
+ * é uma consulta por (turma_id, id) a partir do último id lido, que lê apenas as colunas
+ * exibidas. O custo de uma página não depende do tamanho da turma nem da posição na lista.
+ */
+@Service
+@RequiredArgsConstructor
+@UsarPool(PoolConexoes.LEITURA)
+public class MatriculasDaTurmaService {
+
+    static final int TAMANHO_MAXIMO_PAGINA = 500;
+    static final int LOTE_TRANSMISSAO = 500;
+
+    private final TurmaRepository turmaRepository;
+    private final MatriculaRepository matriculaRepository;
+
+    public MatriculasDaTurmaDTO listar(Long turmaId, StatusMatricula status, Long apos, int tamanho) {
+        if (tamanho < 1 || tamanho > TAMANHO_MAXIMO_PAGINA) {
+            throw new ValidacaoException("O tamanho da página deve estar entre 1 e " + TAMANHO_MAXIMO_PAGINA);
+        }
+        verificarTurma(turmaId);
+
+        var matriculas = buscar(turmaId, status, apos, tamanho + 1);
+        if (matriculas.size() <= tamanho) {
+            return new MatriculasDaTurmaDTO(matriculas, null);
+        }
+
+        var pagina = matriculas.subList(0, tamanho);
+        return new MatriculasDaTurmaDTO(pagina, pagina.getLast().id());
+    }
+
+    /**
+     * Todas as matriculas da turma, lidas de {@link #LOTE_TRANSMISSAO} em {@link #LOTE_TRANSMISSAO}
+     * à medida que o stream é consumido. A turma é verificada na chamada; os lotes seguintes
+     * só são buscados quando o consumidor chega neles.
+     */
+    @UsarPool(PoolConexoes.RELATORIO)
+    public Stream<MatriculaDaTurmaDTO> transmitir(Long turmaId, StatusMatricula status) {
+        verificarTurma(turmaId);
+
+        // os lotes seguintes são lidos por quem consome o stream, fora deste método
+        var pool = RoteamentoPool.atual();
+        return Stream.iterate(
+                        buscar(turmaId, status, null, LOTE_TRANSMISSAO),
+                        lote -> !lote.isEmpty(),
+                        lote -> lote.size() < LOTE_TRANSMISSAO
+                                ? List.of()
+                                : RoteamentoPool.executar(pool,
+                                        () -> buscar(turmaId, status, lote.getLast().id(), LOTE_TRANSMISSAO)))
+                .flatMap(List::stream);
+    }
+
+    /**
+     * Auxiliares
+     */
+    private List<MatriculaDaTurmaDTO> buscar(Long turmaId, StatusMatricula status, Long apos, int limite) {
+        return matriculaRepository.findPaginaDaTurma(turmaId, status, apos != null ? apos : 0L, Limit.of(limite));
+    }
+
+    private void verificarTurma(Long turmaId) {
+        if (!turmaRepository.existsById(turmaId)) {
+            throw new ValidacaoException("Turma com ID " + turmaId + " não encontrada");
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.edutech.api.domain.turma.service;
+
+import com.edutech.api.domain.curso.mapper.CursoMapper;
+import com.edutech.api.domain.curso.repository.CursoRepository;
+import com.edutech.api.domain.exception.ValidacaoException;
+import com.edutech.api.domain.matricula.enums.StatusMatricula;
+import com.edutech.api.domain.matricula.repository.MatriculaRepository;
+import com.edutech.api.domain.professor.mapper.ProfessorMapper;
+import com.edutech.api.domain.professor.repository.ProfessorRepository;
+import com.edutech.api.domain.turma.dto.TurmaPainelDTO;
+import com.edutech.api.domain.turma.mapper.TurmaMapper;
+import com.edutech.api.domain.turma.repository.TurmaRepository;
+import com.edutech.api.infra.concorrencia.ConsultasParalelas;
+import com.edutech.api.infra.conexoes.PoolConexoes;
+import com.edutech.api.infra.conexoes.UsarPool;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Painel da turma em uma chamada: turma, professor, curso e a contagem de matriculas por
+ * status, consultados em paralelo. As vagas saem da contagem agrupada, sem carregar as
+ * matriculas da turma.
+ */
+@Service
+@RequiredArgsConstructor
+@UsarPool(PoolConexoes.LEITURA)
+public class PainelTurmaService {
+
+    private final ConsultasParalelas consultasParalelas;
+    private final TurmaRepository turmaRepository;
+    private final TurmaMapper turmaMapper;
+    private final ProfessorRepository professorRepository;
+    private final ProfessorMapper professorMapper;
+    private final CursoRepository cursoRepository;
+    private final CursoMapper cursoMapper;
+    private final MatriculaRepository matriculaRepository;
+
+    public TurmaPainelDTO montarPainel(Long turmaId) {
+        try (var escopo = consultasParalelas.abrir("painel-turma")) {
+            var turma = escopo.fork(() -> turmaRepository.findById(turmaId)
+                    .orElseThrow(() -> new ValidacaoException("Turma com ID " + turmaId + " não encontrada")));
+            var professor = escopo.fork(() -> professorRepository.findByTurmaId(turmaId)
+                    .map(professorMapper::toResumoDTO)
+                    .orElse(null));
+            var curso = escopo.fork(() -> cursoRepository.findByTurmaId(turmaId)
+                    .map(cursoMapper::toResumoDTO)
+                    .orElse(null));
+            var contagens = escopo.fork(() -> matriculaRepository.contarPorStatusDaTurma(turmaId));
+
+            escopo.join();
+
+            Map<StatusMatricula, Long> porStatus = new EnumMap<>(StatusMatricula.class);
+            for (var status : StatusMatricula.values()) {
+                porStatus.put(status, 0L);
+            }
+            contagens.get().forEach(contagem -> porStatus.put(contagem.status(), contagem.quantidade()));
+
+            long ocupadas = porStatus.entrySet().stream()
+                    .filter(entrada -> entrada.getKey() != StatusMatricula.CANCELADA)
+                    .mapToLong(Map.Entry::getValue)
+                    .sum();
+            var vagasTotais = turma.get().getVagasTotais();
+
+            return new TurmaPainelDTO(
+                    turmaMapper.toResumoDTO(turma.get()),
+                    professor.get(),
+                    curso.get(),
+                    vagasTotais,
+                    vagasTotais - (int) ocupadas,
+                    porStatus
+            );
+        }
+    }
+}
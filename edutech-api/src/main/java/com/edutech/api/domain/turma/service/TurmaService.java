@@ -3,10 +3,14 @@ package com.edutech.api.domain.turma.service;
 import com.edutech.api.domain.curso.Curso;
 import com.edutech.api.domain.curso.repository.CursoRepository;
 import com.edutech.api.domain.exception.ValidacaoException;
+import com.edutech.api.domain.exception.VersaoDesatualizadaException;
+import com.edutech.api.domain.matricula.evento.MatriculaCanceladaEvento;
+import com.edutech.api.domain.matricula.service.CancelamentoEmMassaMatriculaService;
 import com.edutech.api.domain.professor.Professor;
 import com.edutech.api.domain.professor.repository.ProfessorRepository;
 import com.edutech.api.domain.turma.Turma;
 import com.edutech.api.domain.turma.dto.*;
+import com.edutech.api.domain.turma.enums.StatusTurma;
 import com.edutech.api.domain.turma.mapper.TurmaMapper;
 import com.edutech.api.domain.turma.repository.TurmaRepository;
 import com.edutech.api.domain.turma.validacoes.atualiza_turma.ValidadorAtualizaTurma;
@@ -16,16 +20,28 @@ import com.edutech.api.domain.turma.validacoes.desvincula_professor.ValidadorDes
 import com.edutech.api.domain.turma.validacoes.inicia_turma.ValidadorIniciarTurma;
 import com.edutech.api.domain.turma.validacoes.vincula_curso.ValidadorVinculoCurso;
 import com.edutech.api.domain.turma.validacoes.vincula_professor.ValidadorVinculoProfessor;
+import com.edutech.api.infra.cascata.PropriedadesCascata;
+import com.edutech.api.infra.concorrencia.AgruparChamadas;
+import com.edutech.api.infra.concorrencia.RetentarEmConflito;
+import com.edutech.api.infra.conexoes.PoolConexoes;
+import com.edutech.api.infra.conexoes.UsarPool;
+import com.edutech.api.infra.jfr.EventoTransicaoTurma;
+import com.edutech.api.infra.paginacao.ContagemAproximada;
+import com.edutech.api.infra.paginacao.FatiaDTO;
+import com.edutech.api.infra.validacao.ExecutorValidacoes;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@EnableConfigurationProperties(PropriedadesCascata.class)
 public class TurmaService {
 
     private final TurmaRepository turmaRepository;
@@ -39,10 +55,14 @@ public class TurmaService {
     private final List<ValidadorVinculoCurso> validadoresVinculoCurso;
     private final List<ValidadorDesvinculoCurso> validadoresDesvinculoCurso;
     private final List<ValidadorIniciarTurma> validadorIniciaTurmas;
+    private final CancelamentoEmMassaMatriculaService cancelamentoEmMassaMatriculaService;
+    private final PropriedadesCascata propriedadesCascata;
+    private final ContagemAproximada contagemAproximada;
+    private final ExecutorValidacoes executorValidacoes;
 
     @Transactional
     public TurmaResumoDTO cadastrarTurma(TurmaCreateDTO dto){
-        validadoresCadastroTurma.forEach(validador -> validador.validar(dto));
+        executorValidacoes.validar(validadoresCadastroTurma, validador -> validador.validar(dto));
 
         var turma = criarTurma(dto);
 
@@ -50,11 +70,26 @@ public class TurmaService {
         return turmaMapper.toResumoDTO(turma);
     }
 
+    @RetentarEmConflito(agregado = "Turma")
     @Transactional
     public TurmaResumoDTO atualizarTurma(Long turmaId, TurmaUpdateDTO dto) {
+        return atualizarTurma(turmaId, dto, null);
+    }
+
+    /**
+     * Atualiza a turma apenas se ela ainda estiver na versão esperada (If-Match).
+     * Versão nula ignora a verificação.
+     */
+    @RetentarEmConflito(agregado = "Turma")
+    @Transactional
+    public TurmaResumoDTO atualizarTurma(Long turmaId, TurmaUpdateDTO dto, Long versaoEsperada) {
         var turmaAtual = buscarTurmaPorId(turmaId);
 
-        validadoresAtualizaTurma.forEach(validador -> validador.validar(turmaAtual, dto));
+        if (versaoEsperada != null && !versaoEsperada.equals(turmaAtual.getVersao())) {
+            throw new VersaoDesatualizadaException("Turma com ID " + turmaId + " foi alterada por outra requisição");
+        }
+
+        executorValidacoes.validar(validadoresAtualizaTurma, validador -> validador.validar(turmaAtual, dto));
 
         turmaAtual.atualizar(
                 dto.codigo(),
@@ -70,12 +105,37 @@ public class TurmaService {
         return turmaMapper.toResumoDTO(turmaSalva);
     }
 
+    @Transactional
+    @UsarPool(PoolConexoes.LEITURA)
     public TurmaDetalhesDTO detalharPorId(Long id) {
         var turma = buscarTurmaPorId(id);
 
         return turmaMapper.toDetalhesDTO(turma);
     }
 
+    /**
+     * Detalha a turma agrupando só as chamadas de quem leu a mesma {@code versaoLida}: quem
+     * acabou de gravar lê a versão nova e não recebe um detalhamento carregado antes disso.
+     */
+    @Transactional
+    @AgruparChamadas("turma-detalhes")
+    @UsarPool(PoolConexoes.LEITURA)
+    public TurmaDetalhesDTO detalharPorId(Long id, Long versaoLida) {
+        return detalharPorId(id);
+    }
+
+    /**
+     * Não é agrupada: a versão vira o ETag e o If-Match, e uma leitura começada antes do
+     * último PUT de quem chama devolveria um ETag antigo e um 412 no próximo PUT.
+     */
+    @UsarPool(PoolConexoes.LEITURA)
+    public Long buscarVersao(Long id) {
+        return turmaRepository.findVersaoById(id)
+                .orElseThrow(() -> new ValidacaoException("Turma com ID " + id + " não encontrada"));
+    }
+
+    @AgruparChamadas("turma-codigo")
+    @UsarPool(PoolConexoes.LEITURA)
     public TurmaResumoDTO buscarPorCodigo(String codigo) {
         if (codigo == null || codigo.trim().isEmpty()) {
             throw new ValidacaoException("Código da turma é obrigatório.");
@@ -87,58 +147,87 @@ public class TurmaService {
         return turmaMapper.toResumoDTO(turma);
     }
 
+    @UsarPool(PoolConexoes.RELATORIO)
     public Page<TurmaResumoDTO> buscarTodasTurmas(Pageable pageable){
         Page<Turma> turmas = turmaRepository.findAll(pageable);
         return turmas.map(turmaMapper::toResumoDTO);
     }
 
+    /**
+     * Listagem sem COUNT(*): informa apenas se há próxima página e, se pedido, o total aproximado.
+     */
+    @UsarPool(PoolConexoes.LEITURA)
+    public FatiaDTO<TurmaResumoDTO> listarTurmas(Pageable pageable, boolean incluirTotal) {
+        Slice<Turma> turmas = turmaRepository.findFatiaBy(pageable);
+        var total = incluirTotal ? contagemAproximada.total("tb_turma", turmaRepository::count) : null;
+        return FatiaDTO.de(turmas.map(turmaMapper::toResumoDTO), total);
+    }
+
+    @Transactional
+    @UsarPool(PoolConexoes.RELATORIO)
     public TurmaComMatriculasDTO buscarTurmaComMatriculas(Long turmaId) {
         var turma = buscarTurmaPorId(turmaId);
         return turmaMapper.toTurmaComMatriculasDTO(turma);
     }
 
+    @RetentarEmConflito(agregado = "Turma")
+    @Transactional
     public void iniciarTurma(Long turmaId) {
         var turma = buscarTurmaPorId(turmaId);
 
-        validadorIniciaTurmas.forEach(validador -> validador.validar(turma));
-
-        turma.iniciar();
+        EventoTransicaoTurma.registrar(turmaId, turma.getStatus(), StatusTurma.EM_ANDAMENTO, () -> {
+            executorValidacoes.validar(validadorIniciaTurmas, validador -> validador.validar(turma));
+            turma.iniciar();
+        });
         turmaRepository.save(turma);
     }
 
+    @RetentarEmConflito(agregado = "Turma")
+    @Transactional
     public void concluirTurma(Long turmaId) {
         var turma = buscarTurmaPorId(turmaId);
-        turma.concluir();
+        EventoTransicaoTurma.registrar(turmaId, turma.getStatus(), StatusTurma.CONCLUIDA, turma::concluir);
         turmaRepository.save(turma);
     }
 
+    /**
+     * Cancela a turma e, em um único UPDATE, todas as suas matriculas ativas ou trancadas,
+     * publicando um {@link MatriculaCanceladaEvento} por matricula afetada.
+     * As matriculas não são carregadas no contexto de persistência.
+     */
+    @RetentarEmConflito(agregado = "Turma")
     @Transactional
     public void cancelarTurma(Long turmaId){
         var turma = buscarTurmaPorId(turmaId);
 
-        turma.cancelar();
+        EventoTransicaoTurma.registrar(turmaId, turma.getStatus(), StatusTurma.CANCELADA, () -> {
+            turma.cancelar();
+            cancelamentoEmMassaMatriculaService.cancelarDaTurma(turmaId, propriedadesCascata.motivoCancelamentoTurma());
+        });
     }
 
     /**
      * Vincular/Desvincular professor de turma
      */
+    @RetentarEmConflito(agregado = "Turma")
     @Transactional
     public void vincularProfessor(Long turmaId, Long professorId) {
         var turma = buscarTurmaPorId(turmaId);
         var professor = buscarProfessorPorId(professorId);
 
-        validadoresVinculoProfessor.forEach(validador -> validador.validar(turma, professor));
+        executorValidacoes.validar(validadoresVinculoProfessor, validador -> validador.validar(turma, professor));
 
         turma.vincularProfessor(professor);
         turmaRepository.save(turma);
     }
 
+    @RetentarEmConflito(agregado = "Turma")
     @Transactional
     public void desvincularProfessor(Long turmaId, Long professorId) {
         var turma = buscarTurmaPorId(turmaId);
         var professor = buscarProfessorPorId(professorId);
 
-        validadoresDesvinculoProfessor.forEach(validador -> validador.validar(turma, professor));
+        executorValidacoes.validar(validadoresDesvinculoProfessor, validador -> validador.validar(turma, professor));
 
         turma.desvincularProfessor();
         turmaRepository.save(turma);
@@ -147,23 +236,25 @@ public class TurmaService {
     /**
      * Vincular/Desvincular curso de turma
      */
+    @RetentarEmConflito(agregado = "Turma")
     @Transactional
     public void vincularCurso(Long turmaId, Long cursoId) {
         var turma = buscarTurmaPorId(turmaId);
         var curso = buscarCursoPorId(cursoId);
 
-        validadoresVinculoCurso.forEach(validador -> validador.validar(turma, curso));
+        executorValidacoes.validar(validadoresVinculoCurso, validador -> validador.validar(turma, curso));
 
         turma.vincularCurso(curso);
         turmaRepository.save(turma);
     }
 
+    @RetentarEmConflito(agregado = "Turma")
     @Transactional
     public void desvincularCurso(Long turmaId, Long cursoId){
         var turma = buscarTurmaPorId(turmaId);
         var curso = buscarCursoPorId(cursoId);
 
-        validadoresDesvinculoCurso.forEach(validador -> validador.validar(turma, curso));
+        executorValidacoes.validar(validadoresDesvinculoCurso, validador -> validador.validar(turma, curso));
 
         turma.desvincularCurso();
         turmaRepository.save(turma);
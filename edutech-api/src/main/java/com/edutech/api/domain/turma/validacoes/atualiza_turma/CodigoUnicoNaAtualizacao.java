@@ -0,0 +1,23 @@
+package com.edutech.api.domain.turma.validacoes.atualiza_turma;
+
+import com.edutech.api.domain.turma.Turma;
+import com.edutech.api.domain.turma.dto.TurmaUpdateDTO;
+import com.edutech.api.domain.turma.repository.TurmaRepository;
+import com.edutech.api.domain.turma.validacoes.ValidadorTurmaBase;
+import com.edutech.api.infra.validacao.Custo;
+import com.edutech.api.infra.validacao.Validacao;
+import org.springframework.stereotype.Component;
+
+@Component
+@Validacao(custo = Custo.BANCO, paralela = true)
+public class CodigoUnicoNaAtualizacao extends ValidadorTurmaBase implements ValidadorAtualizaTurma {
+
+    public CodigoUnicoNaAtualizacao(TurmaRepository turmaRepository) {
+        super(turmaRepository);
+    }
+
+    @Override
+    public void validar(Turma turma, TurmaUpdateDTO dto) {
+        validarCodigoUnicoParaAtualizacao(turma.getId(), dto.codigo());
+    }
+}
@@ -1,12 +1,20 @@
 package com.edutech.api.domain.turma.validacoes.atualiza_turma;
 
+import com.edutech.api.domain.exception.ErrosDeValidacao;
 import com.edutech.api.domain.turma.Turma;
 import com.edutech.api.domain.turma.dto.TurmaUpdateDTO;
 import com.edutech.api.domain.turma.repository.TurmaRepository;
 import com.edutech.api.domain.turma.validacoes.ValidadorTurmaBase;
+import com.edutech.api.infra.validacao.Custo;
+import com.edutech.api.infra.validacao.Validacao;
 import org.springframework.stereotype.Component;
 
+/**
+ * Regras de data e horário, sem consulta ao banco; o código único é verificado em
+ * {@link CodigoUnicoNaAtualizacao}.
+ */
 @Component
+@Validacao(custo = Custo.MEMORIA)
 public class ValidadorAtualizaTurmaImpl extends ValidadorTurmaBase implements ValidadorAtualizaTurma {
 
     public ValidadorAtualizaTurmaImpl(TurmaRepository turmaRepository) {
@@ -15,10 +23,11 @@ public class ValidadorAtualizaTurmaImpl extends ValidadorTurmaBase implements Va
 
     @Override
     public void validar(Turma turmaId, TurmaUpdateDTO dto) {
-        validarCodigoUnicoParaAtualizacao(turmaId.getId(), dto.codigo());
-        validarDuracaoMinima(dto.dataInicio(), dto.dataFim());
-        validarDuracaoAula(dto.horarioInicio(), dto.horarioFim());
-        validarHorarioFuncionamento(dto.horarioInicio(), dto.horarioFim());
-        validarPeriodoLetivo(dto.dataInicio(), dto.dataFim());
+        var erros = new ErrosDeValidacao();
+        erros.verificar(() -> validarDuracaoMinima(dto.dataInicio(), dto.dataFim()));
+        erros.verificar(() -> validarDuracaoAula(dto.horarioInicio(), dto.horarioFim()));
+        erros.verificar(() -> validarHorarioFuncionamento(dto.horarioInicio(), dto.horarioFim()));
+        erros.verificar(() -> validarPeriodoLetivo(dto.dataInicio(), dto.dataFim()));
+        erros.lancarSeHouver();
     }
 }
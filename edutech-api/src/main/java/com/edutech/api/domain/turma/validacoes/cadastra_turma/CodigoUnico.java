@@ -0,0 +1,22 @@
+package com.edutech.api.domain.turma.validacoes.cadastra_turma;
+
+import com.edutech.api.domain.turma.dto.TurmaCreateDTO;
+import com.edutech.api.domain.turma.repository.TurmaRepository;
+import com.edutech.api.domain.turma.validacoes.ValidadorTurmaBase;
+import com.edutech.api.infra.validacao.Custo;
+import com.edutech.api.infra.validacao.Validacao;
+import org.springframework.stereotype.Component;
+
+@Component
+@Validacao(custo = Custo.BANCO, paralela = true)
+public class CodigoUnico extends ValidadorTurmaBase implements ValidadorCadastroTurma {
+
+    public CodigoUnico(TurmaRepository turmaRepository) {
+        super(turmaRepository);
+    }
+
+    @Override
+    public void validar(TurmaCreateDTO dto) {
+        validarCodigoUnico(dto.codigo());
+    }
+}
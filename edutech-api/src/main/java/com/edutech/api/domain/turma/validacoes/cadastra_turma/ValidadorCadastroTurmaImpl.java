@@ -1,11 +1,19 @@
 package com.edutech.api.domain.turma.validacoes.cadastra_turma;
 
+import com.edutech.api.domain.exception.ErrosDeValidacao;
 import com.edutech.api.domain.turma.dto.TurmaCreateDTO;
 import com.edutech.api.domain.turma.repository.TurmaRepository;
 import com.edutech.api.domain.turma.validacoes.ValidadorTurmaBase;
+import com.edutech.api.infra.validacao.Custo;
+import com.edutech.api.infra.validacao.Validacao;
 import org.springframework.stereotype.Component;
 
+/**
+ * Regras de data e horário, sem consulta ao banco; o código único é verificado em
+ * {@link CodigoUnico}.
+ */
 @Component
+@Validacao(custo = Custo.MEMORIA)
 public class ValidadorCadastroTurmaImpl extends ValidadorTurmaBase implements ValidadorCadastroTurma{
 
     public ValidadorCadastroTurmaImpl(TurmaRepository turmaRepository) {
@@ -14,10 +22,11 @@ public class ValidadorCadastroTurmaImpl extends ValidadorTurmaBase implements Va
 
     @Override
     public void validar(TurmaCreateDTO dto) {
-        validarCodigoUnico(dto.codigo());
-        validarDuracaoMinima(dto.dataInicio(), dto.dataFim());
-        validarDuracaoAula(dto.horarioInicio(), dto.horarioFim());
-        validarHorarioFuncionamento(dto.horarioInicio(), dto.horarioFim());
-        validarPeriodoLetivo(dto.dataInicio(), dto.dataFim());
+        var erros = new ErrosDeValidacao();
+        erros.verificar(() -> validarDuracaoMinima(dto.dataInicio(), dto.dataFim()));
+        erros.verificar(() -> validarDuracaoAula(dto.horarioInicio(), dto.horarioFim()));
+        erros.verificar(() -> validarHorarioFuncionamento(dto.horarioInicio(), dto.horarioFim()));
+        erros.verificar(() -> validarPeriodoLetivo(dto.dataInicio(), dto.dataFim()));
+        erros.lancarSeHouver();
     }
 }
@@ -3,9 +3,12 @@ package com.edutech.api.domain.turma.validacoes.desvincula_curso;
 import com.edutech.api.domain.curso.Curso;
 import com.edutech.api.domain.exception.ValidacaoException;
 import com.edutech.api.domain.turma.Turma;
+import com.edutech.api.infra.validacao.Custo;
+import com.edutech.api.infra.validacao.Validacao;
 import org.springframework.stereotype.Component;
 
 @Component
+@Validacao(custo = Custo.BANCO)
 public class CursoComMatriculasVinculadas implements ValidadorDesvinculoCurso {
 
     @Override
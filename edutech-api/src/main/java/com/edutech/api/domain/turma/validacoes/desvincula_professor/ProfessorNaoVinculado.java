@@ -3,9 +3,12 @@ package com.edutech.api.domain.turma.validacoes.desvincula_professor;
 import com.edutech.api.domain.exception.ValidacaoException;
 import com.edutech.api.domain.professor.Professor;
 import com.edutech.api.domain.turma.Turma;
+import com.edutech.api.infra.validacao.Custo;
+import com.edutech.api.infra.validacao.Validacao;
 import org.springframework.stereotype.Component;
 
 @Component("ProfessorNaoVinculadoDesvincularProfessor")
+@Validacao(custo = Custo.MEMORIA)
 public class ProfessorNaoVinculado implements ValidadorDesvinculoProfessor {
 
     @Override
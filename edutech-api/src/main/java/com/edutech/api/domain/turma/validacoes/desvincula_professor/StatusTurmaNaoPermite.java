@@ -4,9 +4,12 @@ import com.edutech.api.domain.exception.ValidacaoException;
 import com.edutech.api.domain.professor.Professor;
 import com.edutech.api.domain.turma.enums.StatusTurma;
 import com.edutech.api.domain.turma.Turma;
+import com.edutech.api.infra.validacao.Custo;
+import com.edutech.api.infra.validacao.Validacao;
 import org.springframework.stereotype.Component;
 
 @Component
+@Validacao(custo = Custo.MEMORIA)
 public class StatusTurmaNaoPermite implements ValidadorDesvinculoProfessor {
 
     @Override
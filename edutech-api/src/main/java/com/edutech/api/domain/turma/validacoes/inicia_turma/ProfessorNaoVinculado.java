@@ -2,9 +2,12 @@ package com.edutech.api.domain.turma.validacoes.inicia_turma;
 
 import com.edutech.api.domain.exception.ValidacaoException;
 import com.edutech.api.domain.turma.Turma;
+import com.edutech.api.infra.validacao.Custo;
+import com.edutech.api.infra.validacao.Validacao;
 import org.springframework.stereotype.Component;
 
 @Component("ProfessorNaoVinculadoIniciarTurma")
+@Validacao(custo = Custo.MEMORIA)
 public class ProfessorNaoVinculado implements ValidadorIniciarTurma{
 
     @Override
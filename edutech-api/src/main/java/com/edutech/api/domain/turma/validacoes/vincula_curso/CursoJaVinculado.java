@@ -5,11 +5,14 @@ import com.edutech.api.domain.exception.ValidacaoException;
 import com.edutech.api.domain.professor.Professor;
 import com.edutech.api.domain.turma.Turma;
 import com.edutech.api.domain.turma.repository.TurmaRepository;
+import com.edutech.api.infra.validacao.Custo;
+import com.edutech.api.infra.validacao.Validacao;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
+@Validacao(custo = Custo.MEMORIA)
 public class CursoJaVinculado implements ValidadorVinculoCurso {
 
     @Override
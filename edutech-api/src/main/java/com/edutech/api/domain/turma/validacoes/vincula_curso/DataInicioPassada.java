@@ -3,11 +3,14 @@ package com.edutech.api.domain.turma.validacoes.vincula_curso;
 import com.edutech.api.domain.curso.Curso;
 import com.edutech.api.domain.exception.ValidacaoException;
 import com.edutech.api.domain.turma.Turma;
+import com.edutech.api.infra.validacao.Custo;
+import com.edutech.api.infra.validacao.Validacao;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 
 @Component
+@Validacao(custo = Custo.MEMORIA)
 public class DataInicioPassada implements ValidadorVinculoCurso {
 
     @Override
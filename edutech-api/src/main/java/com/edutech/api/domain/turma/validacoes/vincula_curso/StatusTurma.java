@@ -4,9 +4,12 @@ import com.edutech.api.domain.curso.Curso;
 import com.edutech.api.domain.curso.enums.StatusCurso;
 import com.edutech.api.domain.exception.ValidacaoException;
 import com.edutech.api.domain.turma.Turma;
+import com.edutech.api.infra.validacao.Custo;
+import com.edutech.api.infra.validacao.Validacao;
 import org.springframework.stereotype.Component;
 
 @Component
+@Validacao(custo = Custo.MEMORIA)
 public class StatusTurma implements ValidadorVinculoCurso {
 
     @Override
@@ -3,11 +3,14 @@ package com.edutech.api.domain.turma.validacoes.vincula_professor;
 import com.edutech.api.domain.professor.Professor;
 import com.edutech.api.domain.turma.Turma;
 import com.edutech.api.domain.exception.ValidacaoException;
+import com.edutech.api.infra.validacao.Custo;
+import com.edutech.api.infra.validacao.Validacao;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
+@Validacao(custo = Custo.MEMORIA)
 public class ProfessorJaVinculado implements ValidadorVinculoProfessor {
 
     @Override
@@ -20,7 +20,8 @@ import java.util.List;
 public class Usuario implements UserDetails {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_usuarios_seq")
+    @SequenceGenerator(name = "tb_usuarios_seq", sequenceName = "tb_usuarios_seq", allocationSize = 50)
     private Long id;
     private String login;
     private String senha;
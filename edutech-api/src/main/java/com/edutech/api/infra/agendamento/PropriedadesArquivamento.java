@@ -0,0 +1,29 @@
+package com.edutech.api.infra.agendamento;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuração do arquivamento de matriculas: turmas encerradas há mais de
+ * {@code retencaoMeses} têm suas matriculas finalizadas arquivadas, em lotes de
+ * {@code tamanhoLote}.
+ */
+@ConfigurationProperties(prefix = "arquivamento")
+public record PropriedadesArquivamento(
+        boolean habilitado,
+        String cron,
+        int retencaoMeses,
+        int tamanhoLote
+) {
+
+    public PropriedadesArquivamento {
+        if (cron == null || cron.isBlank()) {
+            cron = "0 0 3 * * *";
+        }
+        if (retencaoMeses < 0) {
+            retencaoMeses = 12;
+        }
+        if (tamanhoLote <= 0) {
+            tamanhoLote = 1_000;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.edutech.api.infra.agendamento;
+
+import com.edutech.api.domain.matricula.service.ArquivamentoMatriculaService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Executa o arquivamento de matriculas periodicamente, lote a lote, até não restar
+ * nada a arquivar. Cada lote é uma transação curta, então a tarefa não segura locks
+ * em tb_matricula por muito tempo.
+ * <p>
+ * Beans agendados são sempre criados na inicialização; o serviço (e os repositórios de
+ * matricula) só é obtido na primeira execução, para não pesar no perfil inicio-rapido.
+ */
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(PropriedadesArquivamento.class)
+@ConditionalOnProperty(prefix = "arquivamento", name = "habilitado", havingValue = "true")
+public class TarefaArquivamentoMatriculas {
+
+    private static final Logger log = LoggerFactory.getLogger(TarefaArquivamentoMatriculas.class);
+
+    private final ObjectProvider<ArquivamentoMatriculaService> arquivamentoMatriculaService;
+    private final PropriedadesArquivamento props;
+
+    @Scheduled(cron = "${arquivamento.cron:0 0 3 * * *}")
+    public void executar() {
+        var limite = LocalDate.now().minusMonths(props.retencaoMeses());
+        long inicio = System.nanoTime();
+        long total = 0;
+
+        int arquivadas;
+        do {
+            arquivadas = arquivamentoMatriculaService.getObject().arquivarLote(limite, props.tamanhoLote());
+            total += arquivadas;
+        } while (arquivadas == props.tamanhoLote());
+
+        if (total > 0) {
+            log.info("Arquivamento: {} matriculas de turmas encerradas antes de {} arquivadas em {} ms",
+                    total, limite, (System.nanoTime() - inicio) / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.edutech.api.infra.cascata;
+
+import com.edutech.api.domain.matricula.enums.MotivoCancelamento;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Motivos gravados nas matriculas canceladas em cascata, quando a turma
+ * é cancelada ou o aluno é inativado.
+ */
+@ConfigurationProperties(prefix = "cascata")
+public record PropriedadesCascata(
+        MotivoCancelamento motivoCancelamentoTurma,
+        MotivoCancelamento motivoInativacaoAluno
+) {
+
+    public PropriedadesCascata {
+        if (motivoCancelamentoTurma == null) {
+            motivoCancelamentoTurma = MotivoCancelamento.TURMA_CANCELADA;
+        }
+        if (motivoInativacaoAluno == null) {
+            motivoInativacaoAluno = MotivoCancelamento.ALUNO_INATIVADO;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.edutech.api.infra.concorrencia;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aplica {@link AgruparChamadas}. Roda antes do interceptor de transação, então quem espera
+ * uma execução em andamento não abre transação nem pega conexão. Chamadas feitas dentro de
+ * uma transação já aberta não são agrupadas, porque precisam enxergar as alterações ainda
+ * não confirmadas dessa transação. Fora dela o agrupamento não garante ler as próprias
+ * gravações: veja {@link AgruparChamadas}.
+ * <p>
+ * Metricas por consulta: {@code edutech.agrupamento.chamadas} com resultado {@code executada}
+ * (foi ao banco) ou {@code agrupada} (recebeu o resultado de outra), e
+ * {@code edutech.agrupamento.proporcao}, a fração agrupada desde a inicialização.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@EnableConfigurationProperties(PropriedadesAgrupamento.class)
+public class AgrupamentoChamadasAspect {
+
+    static final String METRICA = "edutech.agrupamento.chamadas";
+
+    private final MeterRegistry meterRegistry;
+    private final PropriedadesAgrupamento propriedades;
+    private final Map<Chave, CompletableFuture<Object>> emAndamento = new ConcurrentHashMap<>();
+    private final Map<String, Contadores> contadores = new ConcurrentHashMap<>();
+
+    public AgrupamentoChamadasAspect(MeterRegistry meterRegistry, PropriedadesAgrupamento propriedades) {
+        this.meterRegistry = meterRegistry;
+        this.propriedades = propriedades;
+    }
+
+    @Around("@annotation(agrupar)")
+    public Object agrupar(ProceedingJoinPoint joinPoint, AgruparChamadas agrupar) throws Throwable {
+        if (!propriedades.habilitado() || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        var chave = chave(agrupar.value(), joinPoint);
+        var execucao = new CompletableFuture<Object>();
+        var existente = emAndamento.putIfAbsent(chave, execucao);
+        var contagem = contadores(agrupar.value());
+        if (existente != null) {
+            contagem.agrupadas.increment();
+            return aguardar(existente);
+        }
+
+        contagem.executadas.increment();
+        try {
+            var resultado = joinPoint.proceed();
+            execucao.complete(resultado);
+            return resultado;
+        } catch (Throwable e) {
+            execucao.completeExceptionally(e);
+            throw e;
+        } finally {
+            emAndamento.remove(chave, execucao);
+        }
+    }
+
+    /**
+     * Auxiliares
+     */
+    private Chave chave(String nome, ProceedingJoinPoint joinPoint) {
+        Object escopo = null;
+        if (propriedades.escopoDe(nome) == EscopoAgrupamento.USUARIO) {
+            var autenticacao = SecurityContextHolder.getContext().getAuthentication();
+            escopo = autenticacao != null ? autenticacao.getName() : null;
+        }
+        var metodo = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return new Chave(nome, metodo.getDeclaringClass().getName() + "." + metodo.getName(), escopo,
+                Arrays.asList(joinPoint.getArgs()));
+    }
+
+    private Object aguardar(CompletableFuture<Object> execucao) throws Throwable {
+        try {
+            return execucao.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Espera por consulta em andamento interrompida", e);
+        }
+    }
+
+    private Contadores contadores(String nome) {
+        return contadores.computeIfAbsent(nome, chave -> {
+            var novos = new Contadores(new LongAdder(), new LongAdder());
+            registrar(chave, "executada", novos.executadas);
+            registrar(chave, "agrupada", novos.agrupadas);
+            Gauge.builder("edutech.agrupamento.proporcao", novos, Contadores::proporcao)
+                    .description("Fração das chamadas que recebeu o resultado de outra em andamento")
+                    .tag("consulta", chave)
+                    .register(meterRegistry);
+            return novos;
+        });
+    }
+
+    private void registrar(String nome, String resultado, LongAdder contador) {
+        FunctionCounter.builder(METRICA, contador, LongAdder::sum)
+                .description("Chamadas agrupaveis por consulta e resultado")
+                .tag("consulta", nome)
+                .tag("resultado", resultado)
+                .register(meterRegistry);
+    }
+
+    private record Chave(String nome, String metodo, Object escopo, List<Object> argumentos) {
+    }
+
+    private record Contadores(LongAdder executadas, LongAdder agrupadas) {
+
+        double proporcao() {
+            long agrupadas = this.agrupadas.sum();
+            long total = agrupadas + executadas.sum();
+            return total == 0 ? 0 : (double) agrupadas / total;
+        }
+    }
+}
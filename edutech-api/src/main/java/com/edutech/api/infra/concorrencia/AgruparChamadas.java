@@ -0,0 +1,32 @@
+package com.edutech.api.infra.concorrencia;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Chamadas simultâneas com os mesmos argumentos compartilham uma única execução: a primeira
+ * consulta o banco e as que chegam enquanto ela está em andamento esperam e recebem o mesmo
+ * resultado (ou a mesma exceção). Nada é guardado depois que a execução termina.
+ * <p>
+ * Só para leituras sem efeito colateral cujo resultado é imutável e não depende de quem
+ * chama, a menos que o escopo do nome seja {@link EscopoAgrupamento#USUARIO}.
+ * <p>
+ * Quem se junta a uma execução recebe o que ela leu, e ela pode ter começado antes de uma
+ * gravação que quem chama já viu confirmada (o próprio PUT, por exemplo). Não agrupe leituras
+ * que alimentam ETag ou If-Match; onde isso importa, inclua nos argumentos a versão que quem
+ * chama já leu, para que ele só se junte a execuções que começaram depois dela.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AgruparChamadas {
+
+    /**
+     * Nome da consulta, usado como tag das metricas e para configurar o escopo em
+     * {@code agrupamento.escopo}.
+     */
+    String value();
+}
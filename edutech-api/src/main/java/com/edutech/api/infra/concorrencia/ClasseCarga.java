@@ -0,0 +1,28 @@
+package com.edutech.api.infra.concorrencia;
+
+/**
+ * Classe de um endpoint para o {@link LimitadorConcorrencia}. Cada classe tem a sua latência
+ * alvo e uma parcela garantida do limite de requisições simultâneas.
+ */
+public enum ClasseCarga {
+
+    /**
+     * Matricula e login: o que não pode parar durante as aberturas de turma.
+     */
+    CRITICA,
+
+    /**
+     * Demais escritas: cadastros, alterações e transições de estado.
+     */
+    ESCRITA,
+
+    /**
+     * Leituras por id e listagens paginadas.
+     */
+    LEITURA_LEVE,
+
+    /**
+     * Listas completas de turma, exportações, painéis e importações.
+     */
+    PESADA
+}
@@ -0,0 +1,19 @@
+package com.edutech.api.infra.concorrencia;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Classe do endpoint no limite de concorrência. Sem a anotação, GET é
+ * {@link ClasseCarga#LEITURA_LEVE} e os demais métodos são {@link ClasseCarga#ESCRITA}.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ClassificarCarga {
+
+    ClasseCarga value();
+}
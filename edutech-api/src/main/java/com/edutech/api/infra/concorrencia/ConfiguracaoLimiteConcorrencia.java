@@ -0,0 +1,25 @@
+package com.edutech.api.infra.concorrencia;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registra o limite de concorrência nos controllers. A administração fica de fora, para
+ * que a gravação JFR continue disponível durante uma sobrecarga.
+ */
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "limite-concorrencia", name = "habilitado", havingValue = "true")
+public class ConfiguracaoLimiteConcorrencia implements WebMvcConfigurer {
+
+    private final LimitadorConcorrencia limitador;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new InterceptorLimiteConcorrencia(limitador))
+                .excludePathPatterns("/admin/**");
+    }
+}
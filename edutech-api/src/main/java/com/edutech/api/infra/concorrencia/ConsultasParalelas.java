@@ -0,0 +1,22 @@
+package com.edutech.api.infra.concorrencia;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Abre escopos de consultas paralelas com o prazo configurado em {@code composicao.prazo-ms}.
+ */
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(PropriedadesComposicao.class)
+public class ConsultasParalelas {
+
+    private final PlatformTransactionManager transactionManager;
+    private final PropriedadesComposicao propriedades;
+
+    public EscopoParalelo abrir(String nome) {
+        return new EscopoParalelo(nome, propriedades.prazoMs(), transactionManager);
+    }
+}
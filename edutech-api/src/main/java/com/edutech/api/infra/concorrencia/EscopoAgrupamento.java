@@ -0,0 +1,17 @@
+package com.edutech.api.infra.concorrencia;
+
+/**
+ * Quem pode compartilhar uma execução de {@link AgruparChamadas}.
+ */
+public enum EscopoAgrupamento {
+
+    /**
+     * Qualquer chamada com os mesmos argumentos.
+     */
+    GLOBAL,
+
+    /**
+     * Apenas chamadas do mesmo usuário autenticado.
+     */
+    USUARIO
+}
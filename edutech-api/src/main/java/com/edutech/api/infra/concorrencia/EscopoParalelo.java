@@ -0,0 +1,124 @@
+package com.edutech.api.infra.concorrencia;
+
+import com.edutech.api.infra.conexoes.RoteamentoPool;
+import com.edutech.api.infra.log.ContextoLog;
+import com.edutech.api.infra.perfilamento.PerfilRequisicao;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Escopo de consultas independentes, no molde do StructuredTaskScope.ShutdownOnFailure
+ * (ainda em preview no Java 21): cada {@link #fork} roda em uma virtual thread, com sua
+ * própria transação somente leitura, e {@link #join} espera todas terminarem. A primeira
+ * falha ou o fim do prazo, compartilhado por todas e contado da abertura do escopo,
+ * interrompe as que ainda estão rodando. O timeout da transação de cada consulta é o
+ * tempo que resta do prazo, então o banco também abandona a consulta atrasada. As
+ * consultas registram no perfil, logam com o MDC e usam o pool de conexões da requisição
+ * que abriu o escopo.
+ * <p>
+ * Uso: abrir em try-with-resources, fazer os forks, chamar {@code join()} e só então ler
+ * os resultados.
+ */
+public class EscopoParalelo implements AutoCloseable {
+
+    private final String nome;
+    private final long prazoMs;
+    private final long prazoNanos;
+    private final PlatformTransactionManager transactionManager;
+    private final ExecutorService executor;
+    private final CompletionService<Object> conclusoes;
+    private final List<Future<Object>> subtarefas = new ArrayList<>();
+
+    EscopoParalelo(String nome, long prazoMs, PlatformTransactionManager transactionManager) {
+        this.nome = nome;
+        this.prazoMs = prazoMs;
+        this.prazoNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(prazoMs);
+        this.transactionManager = transactionManager;
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(nome + "-", 0).factory());
+        this.conclusoes = new ExecutorCompletionService<>(executor);
+    }
+
+    /**
+     * Inicia a consulta. O resultado só pode ser lido depois de {@link #join()}.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Supplier<T> fork(Callable<T> consulta) {
+        var transacao = new TransactionTemplate(transactionManager);
+        transacao.setReadOnly(true);
+        transacao.setTimeout(segundosRestantes());
+
+        Supplier<Object> tarefa = ContextoLog.propagar(PerfilRequisicao.propagar(RoteamentoPool.propagar(
+                () -> transacao.execute(status -> {
+                    try {
+                        return consulta.call();
+                    } catch (RuntimeException e) {
+                        throw e;
+                    } catch (Exception e) {
+                        throw new CompletionException(e);
+                    }
+                }))));
+        Future<Object> subtarefa = conclusoes.submit(tarefa::get);
+        subtarefas.add(subtarefa);
+        return () -> (T) subtarefa.resultNow();
+    }
+
+    /**
+     * Espera todas as consultas. Propaga a primeira falha, ou {@link ServicoSobrecarregadoException}
+     * se o prazo acabar, cancelando as demais.
+     */
+    public void join() {
+        try {
+            for (int i = 0; i < subtarefas.size(); i++) {
+                var concluida = conclusoes.poll(prazoNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (concluida == null) {
+                    cancelar();
+                    throw new ServicoSobrecarregadoException(
+                            "Prazo de " + prazoMs + " ms esgotado ao consultar " + nome + ", tente novamente");
+                }
+                concluida.get();
+            }
+        } catch (ExecutionException e) {
+            cancelar();
+            throw propagar(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelar();
+            throw new IllegalStateException("Consulta de " + nome + " interrompida", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        cancelar();
+    }
+
+    /**
+     * Auxiliares
+     */
+    private void cancelar() {
+        executor.shutdownNow();
+    }
+
+    private int segundosRestantes() {
+        long restanteMs = TimeUnit.NANOSECONDS.toMillis(prazoNanos - System.nanoTime());
+        return (int) Math.max(1, (restanteMs + 999) / 1000);
+    }
+
+    private RuntimeException propagar(Throwable causa) {
+        if (causa instanceof CompletionException && causa.getCause() != null) {
+            causa = causa.getCause();
+        }
+        if (causa instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (causa instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException("Falha ao consultar " + nome, causa);
+    }
+}
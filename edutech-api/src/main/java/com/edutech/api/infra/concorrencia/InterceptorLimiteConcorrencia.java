@@ -0,0 +1,54 @@
+package com.edutech.api.infra.concorrencia;
+
+import com.edutech.api.infra.concorrencia.LimitadorConcorrencia.Permissao;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Aplica o {@link LimitadorConcorrencia} aos controllers. A recusa é lançada como
+ * {@link ServicoSobrecarregadoException} e respondida com 503 pelo tratamento de erros.
+ * <p>
+ * Nas respostas transmitidas (NDJSON) a vaga fica com a requisição até o fim da
+ * transmissão: o despacho assíncrono encontra a vaga já reservada e a devolve ao terminar.
+ */
+class InterceptorLimiteConcorrencia implements HandlerInterceptor {
+
+    private static final String PERMISSAO = InterceptorLimiteConcorrencia.class.getName() + ".permissao";
+
+    private final LimitadorConcorrencia limitador;
+
+    InterceptorLimiteConcorrencia(LimitadorConcorrencia limitador) {
+        this.limitador = limitador;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod metodo && request.getAttribute(PERMISSAO) == null) {
+            request.setAttribute(PERMISSAO, limitador.adquirir(classificar(request, metodo)));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMISSAO) instanceof Permissao permissao) {
+            request.removeAttribute(PERMISSAO);
+            permissao.liberar(response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value());
+        }
+    }
+
+    /**
+     * Auxiliares
+     */
+    static ClasseCarga classificar(HttpServletRequest request, HandlerMethod metodo) {
+        var classificacao = metodo.getMethodAnnotation(ClassificarCarga.class);
+        if (classificacao != null) {
+            return classificacao.value();
+        }
+        return HttpMethod.GET.matches(request.getMethod()) ? ClasseCarga.LEITURA_LEVE : ClasseCarga.ESCRITA;
+    }
+}
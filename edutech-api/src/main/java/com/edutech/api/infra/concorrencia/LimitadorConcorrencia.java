@@ -0,0 +1,149 @@
+package com.edutech.api.infra.concorrencia;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Limite adaptativo de requisições simultâneas, aplicado antes dos controllers
+ * ({@link InterceptorLimiteConcorrencia}). Quando o banco fica lento as requisições passam
+ * a demorar mais que a latência alvo e o limite cai (AIMD: aumento aditivo de uma unidade
+ * por "janela" de requisições, redução multiplicativa); o excedente recebe 503 na hora, em
+ * vez de ocupar threads do Tomcat esperando conexão no Hikari.
+ * <p>
+ * Enquanto o total está abaixo do limite qualquer classe entra. Com o limite ocupado, só
+ * entra quem está abaixo da sua parcela garantida, então as classes de menor parcela
+ * (pesadas, leituras) são recusadas primeiro e matriculas e login continuam passando.
+ * <p>
+ * O limite é reduzido no máximo uma vez por geração: respostas lentas de requisições que
+ * começaram antes da última redução não reduzem de novo.
+ * <p>
+ * Metricas: {@code edutech.concorrencia.limite}, {@code edutech.concorrencia.ativas} e
+ * {@code edutech.concorrencia.recusadas}, as duas últimas por classe.
+ */
+@Component
+@EnableConfigurationProperties(PropriedadesLimiteConcorrencia.class)
+@ConditionalOnProperty(prefix = "limite-concorrencia", name = "habilitado", havingValue = "true")
+public class LimitadorConcorrencia {
+
+    static final String METRICA = "edutech.concorrencia";
+
+    private final PropriedadesLimiteConcorrencia propriedades;
+    private final LongSupplier relogio;
+    private final AtomicInteger ativas = new AtomicInteger();
+    private final Map<ClasseCarga, AtomicInteger> ativasPorClasse = new EnumMap<>(ClasseCarga.class);
+    private final Map<ClasseCarga, Counter> recusadas = new EnumMap<>(ClasseCarga.class);
+
+    private double limite;
+    private volatile long geracao;
+    private volatile int limiteAtual;
+
+    @Autowired
+    public LimitadorConcorrencia(PropriedadesLimiteConcorrencia propriedades, MeterRegistry meterRegistry) {
+        this(propriedades, meterRegistry, System::nanoTime);
+    }
+
+    LimitadorConcorrencia(PropriedadesLimiteConcorrencia propriedades, MeterRegistry meterRegistry, LongSupplier relogio) {
+        this.propriedades = propriedades;
+        this.relogio = relogio;
+        this.limite = propriedades.limiteInicial();
+        this.limiteAtual = propriedades.limiteInicial();
+
+        Gauge.builder(METRICA + ".limite", this, LimitadorConcorrencia::limite)
+                .description("Limite atual de requisições simultâneas")
+                .register(meterRegistry);
+        for (var classe : ClasseCarga.values()) {
+            var ativasDaClasse = new AtomicInteger();
+            ativasPorClasse.put(classe, ativasDaClasse);
+            Gauge.builder(METRICA + ".ativas", ativasDaClasse, AtomicInteger::get)
+                    .description("Requisições em andamento")
+                    .tag("classe", classe.name())
+                    .register(meterRegistry);
+            recusadas.put(classe, Counter.builder(METRICA + ".recusadas")
+                    .description("Requisições recusadas com 503 pelo limite de concorrência")
+                    .tag("classe", classe.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Reserva uma vaga para a requisição ou recusa com {@link ServicoSobrecarregadoException}.
+     * A vaga deve ser devolvida com {@link Permissao#liberar(boolean)}.
+     */
+    public Permissao adquirir(ClasseCarga classe) {
+        var ativasDaClasse = ativasPorClasse.get(classe);
+        int total = ativas.incrementAndGet();
+        int daClasse = ativasDaClasse.incrementAndGet();
+        int limiteNaEntrada = limiteAtual;
+        if (total > limiteNaEntrada && daClasse > parcela(classe, limiteNaEntrada)) {
+            ativas.decrementAndGet();
+            ativasDaClasse.decrementAndGet();
+            recusadas.get(classe).increment();
+            throw new ServicoSobrecarregadoException("Serviço sobrecarregado, tente novamente em instantes");
+        }
+        return new Permissao(classe, relogio.getAsLong(), total, geracao);
+    }
+
+    public int limite() {
+        return limiteAtual;
+    }
+
+    public int ativas(ClasseCarga classe) {
+        return ativasPorClasse.get(classe).get();
+    }
+
+    /**
+     * Auxiliares
+     */
+    int parcela(ClasseCarga classe, int limite) {
+        return Math.max(1, (int) Math.ceil(limite * propriedades.percentual().get(classe) / 100.0));
+    }
+
+    private synchronized void ajustar(Permissao permissao, boolean congestionado) {
+        if (congestionado) {
+            if (permissao.geracao == geracao) {
+                limite = Math.max(propriedades.limiteMinimo(), limite * propriedades.fatorReducao());
+                geracao++;
+            }
+        } else if (permissao.ativasNaEntrada * 2 >= limite) {
+            limite = Math.min(propriedades.limiteMaximo(), limite + 1 / limite);
+        }
+        limiteAtual = (int) limite;
+    }
+
+    public final class Permissao {
+
+        private final ClasseCarga classe;
+        private final long inicio;
+        private final int ativasNaEntrada;
+        private final long geracao;
+
+        private Permissao(ClasseCarga classe, long inicio, int ativasNaEntrada, long geracao) {
+            this.classe = classe;
+            this.inicio = inicio;
+            this.ativasNaEntrada = ativasNaEntrada;
+            this.geracao = geracao;
+        }
+
+        /**
+         * Devolve a vaga e ajusta o limite pela latência observada. {@code sobrecarga} indica
+         * que a própria requisição foi recusada adiante (ex.: fila de admissão cheia).
+         */
+        public void liberar(boolean sobrecarga) {
+            ativas.decrementAndGet();
+            ativasPorClasse.get(classe).decrementAndGet();
+            long latencia = relogio.getAsLong() - inicio;
+            ajustar(this, sobrecarga || latencia > TimeUnit.MILLISECONDS.toNanos(propriedades.latenciaAlvoMs().get(classe)));
+        }
+    }
+}
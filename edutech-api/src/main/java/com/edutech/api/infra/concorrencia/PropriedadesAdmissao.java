@@ -0,0 +1,36 @@
+package com.edutech.api.infra.concorrencia;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Fila de admissão de matriculas: {@code faixas} filas, cada uma com um único consumidor,
+ * que agrupam os pedidos chegados em até {@code janelaMs} (no maximo {@code tamanhoMaximoLote}).
+ */
+@ConfigurationProperties(prefix = "admissao")
+public record PropriedadesAdmissao(
+        boolean habilitada,
+        int faixas,
+        long janelaMs,
+        int tamanhoMaximoLote,
+        int capacidadeFila,
+        long tempoMaximoEsperaMs
+) {
+
+    public PropriedadesAdmissao {
+        if (faixas <= 0) {
+            faixas = 4;
+        }
+        if (janelaMs < 0) {
+            janelaMs = 2;
+        }
+        if (tamanhoMaximoLote <= 0) {
+            tamanhoMaximoLote = 200;
+        }
+        if (capacidadeFila <= 0) {
+            capacidadeFila = 10_000;
+        }
+        if (tempoMaximoEsperaMs <= 0) {
+            tempoMaximoEsperaMs = 10_000;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.edutech.api.infra.concorrencia;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * Agrupamento de chamadas simultâneas ({@link AgruparChamadas}). O escopo de cada consulta
+ * é configurado pelo nome em {@code escopo}; sem configuração vale {@code escopoPadrao}.
+ */
+@ConfigurationProperties(prefix = "agrupamento")
+public record PropriedadesAgrupamento(
+        boolean habilitado,
+        EscopoAgrupamento escopoPadrao,
+        Map<String, EscopoAgrupamento> escopo
+) {
+
+    public PropriedadesAgrupamento {
+        if (escopoPadrao == null) {
+            escopoPadrao = EscopoAgrupamento.GLOBAL;
+        }
+        escopo = escopo == null ? Map.of() : Map.copyOf(escopo);
+    }
+
+    public EscopoAgrupamento escopoDe(String nome) {
+        return escopo.getOrDefault(nome, escopoPadrao);
+    }
+}
@@ -0,0 +1,19 @@
+package com.edutech.api.infra.concorrencia;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Leituras compostas (perfil do aluno, painel da turma): as consultas de cada tela rodam em
+ * paralelo e todas precisam terminar em {@code prazoMs}, contados da abertura do escopo.
+ */
+@ConfigurationProperties(prefix = "composicao")
+public record PropriedadesComposicao(
+        long prazoMs
+) {
+
+    public PropriedadesComposicao {
+        if (prazoMs <= 0) {
+            prazoMs = 2_000;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.edutech.api.infra.concorrencia;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Limite adaptativo de requisições simultâneas (AIMD). O limite começa em
+ * {@code limiteInicial} e fica entre {@code limiteMinimo} e {@code limiteMaximo}: cresce
+ * enquanto as respostas ficam dentro da {@code latenciaAlvoMs} da classe e é multiplicado
+ * por {@code fatorReducao} quando uma resposta passa do alvo ou volta 503. Com o limite
+ * ocupado, cada classe ainda tem garantido o seu {@code percentual} dele.
+ */
+@ConfigurationProperties(prefix = "limite-concorrencia")
+public record PropriedadesLimiteConcorrencia(
+        boolean habilitado,
+        int limiteInicial,
+        int limiteMinimo,
+        int limiteMaximo,
+        double fatorReducao,
+        Map<ClasseCarga, Long> latenciaAlvoMs,
+        Map<ClasseCarga, Integer> percentual
+) {
+
+    public PropriedadesLimiteConcorrencia {
+        if (limiteMinimo <= 0) {
+            limiteMinimo = 4;
+        }
+        if (limiteMaximo < limiteMinimo) {
+            limiteMaximo = Math.max(limiteMinimo, 150);
+        }
+        if (limiteInicial < limiteMinimo || limiteInicial > limiteMaximo) {
+            limiteInicial = Math.min(limiteMaximo, Math.max(limiteMinimo, 20));
+        }
+        if (fatorReducao <= 0 || fatorReducao >= 1) {
+            fatorReducao = 0.9;
+        }
+        latenciaAlvoMs = completar(latenciaAlvoMs, Map.of(
+                ClasseCarga.CRITICA, 1_000L,
+                ClasseCarga.ESCRITA, 500L,
+                ClasseCarga.LEITURA_LEVE, 250L,
+                ClasseCarga.PESADA, 3_000L));
+        percentual = completar(percentual, Map.of(
+                ClasseCarga.CRITICA, 40,
+                ClasseCarga.ESCRITA, 20,
+                ClasseCarga.LEITURA_LEVE, 30,
+                ClasseCarga.PESADA, 10));
+    }
+
+    /**
+     * Auxiliares
+     */
+    private static <V> Map<ClasseCarga, V> completar(Map<ClasseCarga, V> informado, Map<ClasseCarga, V> padrao) {
+        var completo = new EnumMap<>(padrao);
+        if (informado != null) {
+            completo.putAll(informado);
+        }
+        return Map.copyOf(completo);
+    }
+}
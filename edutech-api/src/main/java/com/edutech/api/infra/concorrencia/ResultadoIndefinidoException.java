@@ -0,0 +1,12 @@
+package com.edutech.api.infra.concorrencia;
+
+/**
+ * A espera acabou depois que a operação já tinha começado: ela pode ainda ser concluída.
+ * Respondida com 504 e sem {@code Retry-After}, porque repetir o pedido às cegas poderia
+ * executá-lo duas vezes; o cliente deve consultar o resultado antes.
+ */
+public class ResultadoIndefinidoException extends RuntimeException {
+    public ResultadoIndefinidoException(String message) {
+        super(message, null, false, false);
+    }
+}
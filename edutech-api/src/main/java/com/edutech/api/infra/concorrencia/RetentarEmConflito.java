@@ -0,0 +1,31 @@
+package com.edutech.api.infra.concorrencia;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Reexecuta a operação quando a transação falha por conflito de versão (lock otimista).
+ * <p>
+ * Cada tentativa roda uma transação nova, que relê o agregado e refaz as validações,
+ * então só deve ser usada em operações que podem ser repetidas com segurança: transições
+ * de estado e vinculos que dependem apenas do estado atual do banco.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetentarEmConflito {
+
+    /**
+     * Nome do agregado, usado como tag das metricas de conflito.
+     */
+    String agregado();
+
+    int tentativas() default 3;
+
+    long esperaInicialMs() default 20;
+
+    long esperaMaximaMs() default 200;
+}
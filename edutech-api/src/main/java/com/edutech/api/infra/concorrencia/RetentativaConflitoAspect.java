@@ -0,0 +1,91 @@
+package com.edutech.api.infra.concorrencia;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Aplica {@link RetentarEmConflito}. Roda antes do interceptor de transação, então cada
+ * tentativa começa e termina sua propria transação. Chamadas feitas dentro de uma transação
+ * já aberta não são retentadas: o conflito fica para quem abriu a transação.
+ * <p>
+ * A espera entre tentativas é exponencial com jitter total (aleatória entre zero e o teto
+ * da tentativa), para que escritores concorrentes não voltem a colidir no mesmo instante.
+ * <p>
+ * Metrica {@code edutech.conflitos.versao}, por agregado e resultado:
+ * {@code retentado} (cada conflito que gerou nova tentativa), {@code recuperado} (operação
+ * concluida após conflito) e {@code esgotado} (tentativas acabaram e o conflito foi propagado).
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class RetentativaConflitoAspect {
+
+    static final String METRICA = "edutech.conflitos.versao";
+
+    private static final Logger log = LoggerFactory.getLogger(RetentativaConflitoAspect.class);
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("@annotation(com.edutech.api.infra.concorrencia.RetentarEmConflito)")
+    public Object retentar(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        var retentar = ((MethodSignature) joinPoint.getSignature()).getMethod().getAnnotation(RetentarEmConflito.class);
+        int tentativa = 1;
+        while (true) {
+            try {
+                var resultado = joinPoint.proceed();
+                if (tentativa > 1) {
+                    contador(retentar, "recuperado").increment();
+                }
+                return resultado;
+            } catch (OptimisticLockingFailureException e) {
+                if (tentativa >= retentar.tentativas()) {
+                    contador(retentar, "esgotado").increment();
+                    throw e;
+                }
+
+                contador(retentar, "retentado").increment();
+                long espera = espera(retentar, tentativa);
+                log.debug("Conflito de versão em {} ({}), tentativa {} de {}; nova tentativa em {} ms",
+                        retentar.agregado(), joinPoint.getSignature().toShortString(),
+                        tentativa, retentar.tentativas(), espera);
+                Thread.sleep(espera);
+                tentativa++;
+            }
+        }
+    }
+
+    /**
+     * Auxiliares
+     */
+    static long espera(RetentarEmConflito retentar, int tentativa) {
+        long teto = Math.min(retentar.esperaMaximaMs(), retentar.esperaInicialMs() << Math.min(tentativa - 1, 20));
+        return ThreadLocalRandom.current().nextLong(teto + 1);
+    }
+
+    private Counter contador(RetentarEmConflito retentar, String resultado) {
+        return Counter.builder(METRICA)
+                .description("Conflitos de versão (lock otimista) por agregado")
+                .tag("agregado", retentar.agregado())
+                .tag("resultado", resultado)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,12 @@
+package com.edutech.api.infra.concorrencia;
+
+/**
+ * A requisição foi recusada por falta de capacidade momentanea (fila cheia ou espera
+ * esgotada). Respondida com 503, para que o cliente tente novamente mais tarde. Não
+ * captura a pilha, que não é lida e custaria mais justamente quando falta capacidade.
+ */
+public class ServicoSobrecarregadoException extends RuntimeException {
+    public ServicoSobrecarregadoException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,112 @@
+package com.edutech.api.infra.conexoes;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Substitui o pool único por um pool por {@link PoolConexoes}, escolhido por
+ * {@link UsarPool}. Os pools são registrados no Micrometer pelo Hikari
+ * ({@code hikaricp.connections.*}, com a tag {@code pool}) e cada um tem o gauge
+ * {@code edutech.pool.saturacao}: conexões em uso sobre o tamanho do pool.
+ * <p>
+ * {@code spring.datasource.hikari} vale para todos os pools, mas é aplicado antes do nome,
+ * do tamanho e da espera de {@link PropriedadesPools}: um {@code maximum-pool-size} ou
+ * {@code pool-name} ali não junta os pools em um só tamanho ou nome.
+ */
+@Configuration
+@EnableConfigurationProperties(PropriedadesPools.class)
+@ConditionalOnProperty(prefix = "pools", name = "habilitado", havingValue = "true")
+public class ConfiguracaoPools {
+
+    private final Environment environment;
+
+    public ConfiguracaoPools(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Bean
+    public HikariDataSource poolTransacional(DataSourceProperties base, PropriedadesPools pools, MeterRegistry registry) {
+        return criar(base, pools, registry, PoolConexoes.TRANSACIONAL);
+    }
+
+    @Bean
+    public HikariDataSource poolLeitura(DataSourceProperties base, PropriedadesPools pools, MeterRegistry registry) {
+        return criar(base, pools, registry, PoolConexoes.LEITURA);
+    }
+
+    @Bean
+    public HikariDataSource poolRelatorio(DataSourceProperties base, PropriedadesPools pools, MeterRegistry registry) {
+        return criar(base, pools, registry, PoolConexoes.RELATORIO);
+    }
+
+    @Bean
+    public HikariDataSource poolValidacao(DataSourceProperties base, PropriedadesPools pools, MeterRegistry registry) {
+        return criar(base, pools, registry, PoolConexoes.VALIDACAO);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties base, PropriedadesPools pools, MeterRegistry registry) {
+        var roteado = new DataSourceRoteado();
+        roteado.setTargetDataSources(Map.of(
+                PoolConexoes.TRANSACIONAL, poolTransacional(base, pools, registry),
+                PoolConexoes.LEITURA, poolLeitura(base, pools, registry),
+                PoolConexoes.RELATORIO, poolRelatorio(base, pools, registry),
+                PoolConexoes.VALIDACAO, poolValidacao(base, pools, registry)));
+        roteado.setDefaultTargetDataSource(poolTransacional(base, pools, registry));
+        return roteado;
+    }
+
+    @Bean
+    public MeterBinder saturacaoPools(DataSourceProperties base, PropriedadesPools pools, MeterRegistry registry) {
+        var porPool = Map.of(
+                PoolConexoes.TRANSACIONAL, poolTransacional(base, pools, registry),
+                PoolConexoes.LEITURA, poolLeitura(base, pools, registry),
+                PoolConexoes.RELATORIO, poolRelatorio(base, pools, registry),
+                PoolConexoes.VALIDACAO, poolValidacao(base, pools, registry));
+        return meterRegistry -> porPool.forEach((pool, dataSource) ->
+                Gauge.builder("edutech.pool.saturacao", dataSource, ConfiguracaoPools::saturacao)
+                        .description("Conexões em uso sobre o tamanho do pool")
+                        .tag("pool", dataSource.getPoolName())
+                        .register(meterRegistry));
+    }
+
+    /**
+     * Auxiliares
+     */
+    private HikariDataSource criar(DataSourceProperties base, PropriedadesPools pools, MeterRegistry registry,
+                                   PoolConexoes pool) {
+        var dataSource = base.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        dataSource.setPoolName("edutech-" + pool.name().toLowerCase(Locale.ROOT));
+        dataSource.setMaximumPoolSize(pools.tamanho().get(pool));
+        dataSource.setConnectionTimeout(pools.esperaMs().get(pool));
+        // registrado aqui, e não pelo Spring Boot, porque o Hibernate pode abrir o pool antes
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        return dataSource;
+    }
+
+    private static double saturacao(HikariDataSource dataSource) {
+        var pool = dataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            return 0;
+        }
+        return (double) pool.getActiveConnections() / dataSource.getMaximumPoolSize();
+    }
+}
@@ -0,0 +1,15 @@
+package com.edutech.api.infra.conexoes;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * DataSource principal da aplicação: entrega conexões do pool definido para a thread em
+ * {@link RoteamentoPool}, ou do pool transacional.
+ */
+class DataSourceRoteado extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return RoteamentoPool.atual();
+    }
+}
@@ -0,0 +1,31 @@
+package com.edutech.api.infra.conexoes;
+
+/**
+ * Pools de conexão separados por tipo de carga, para que consultas longas não esgotem as
+ * conexões das transações curtas de matricula.
+ */
+public enum PoolConexoes {
+
+    /**
+     * Escritas e transações curtas: matriculas, cadastros e transições. Padrão de quem não
+     * declara {@link UsarPool}.
+     */
+    TRANSACIONAL,
+
+    /**
+     * Leituras interativas: consultas por id, por índice e listagens por cursor.
+     */
+    LEITURA,
+
+    /**
+     * Consultas longas e lotes: buscas sem índice, paginação por OFFSET com contagem,
+     * transmissões, importações, arquivamento e contagens.
+     */
+    RELATORIO,
+
+    /**
+     * Consultas dos validadores paralelos, feitas enquanto quem chamou segura uma conexão do
+     * transacional. Separado da leitura para que as matriculas simultâneas não a esgotem.
+     */
+    VALIDACAO
+}
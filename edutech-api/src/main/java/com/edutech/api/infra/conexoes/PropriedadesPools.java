@@ -0,0 +1,43 @@
+package com.edutech.api.infra.conexoes;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Pools de conexão separados por carga ({@link PoolConexoes}). Cada pool tem até
+ * {@code tamanho} conexões e quem não consegue uma em {@code esperaMs} recebe 503. As demais
+ * configurações de {@code spring.datasource.hikari} valem para todos os pools.
+ */
+@ConfigurationProperties(prefix = "pools")
+public record PropriedadesPools(
+        boolean habilitado,
+        Map<PoolConexoes, Integer> tamanho,
+        Map<PoolConexoes, Long> esperaMs
+) {
+
+    public PropriedadesPools {
+        tamanho = completar(tamanho, Map.of(
+                PoolConexoes.TRANSACIONAL, 10,
+                PoolConexoes.LEITURA, 8,
+                PoolConexoes.RELATORIO, 4,
+                PoolConexoes.VALIDACAO, 4));
+        esperaMs = completar(esperaMs, Map.of(
+                PoolConexoes.TRANSACIONAL, 3_000L,
+                PoolConexoes.LEITURA, 2_000L,
+                PoolConexoes.RELATORIO, 30_000L,
+                PoolConexoes.VALIDACAO, 250L));
+    }
+
+    /**
+     * Auxiliares
+     */
+    private static <V> Map<PoolConexoes, V> completar(Map<PoolConexoes, V> informado, Map<PoolConexoes, V> padrao) {
+        var completo = new EnumMap<>(padrao);
+        if (informado != null) {
+            completo.putAll(informado);
+        }
+        return Map.copyOf(completo);
+    }
+}
@@ -0,0 +1,53 @@
+package com.edutech.api.infra.conexoes;
+
+import java.util.function.Supplier;
+
+/**
+ * Pool escolhido para a thread atual, lido pelo {@link DataSourceRoteado} ao abrir uma
+ * conexão. Definido pelo {@link UsarPoolAspect} ou, em código que roda fora do método
+ * anotado (ex.: lotes lidos enquanto uma resposta é transmitida), por {@link #executar}.
+ */
+public final class RoteamentoPool {
+
+    private static final ThreadLocal<PoolConexoes> ATUAL = new ThreadLocal<>();
+
+    private RoteamentoPool() {
+    }
+
+    /**
+     * Pool da thread atual, ou {@code null} para o padrão ({@link PoolConexoes#TRANSACIONAL}).
+     */
+    public static PoolConexoes atual() {
+        return ATUAL.get();
+    }
+
+    public static <T> T executar(PoolConexoes pool, Supplier<T> operacao) {
+        var anterior = trocar(pool);
+        try {
+            return operacao.get();
+        } finally {
+            trocar(anterior);
+        }
+    }
+
+    /**
+     * Leva o pool da thread atual para a operação, que pode rodar em outra thread.
+     */
+    public static <T> Supplier<T> propagar(Supplier<T> operacao) {
+        var pool = ATUAL.get();
+        return () -> executar(pool, operacao);
+    }
+
+    /**
+     * Define o pool da thread e devolve o anterior, para ser restaurado.
+     */
+    static PoolConexoes trocar(PoolConexoes pool) {
+        var anterior = ATUAL.get();
+        if (pool == null) {
+            ATUAL.remove();
+        } else {
+            ATUAL.set(pool);
+        }
+        return anterior;
+    }
+}
@@ -0,0 +1,20 @@
+package com.edutech.api.infra.conexoes;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Pool de conexões usado pelas consultas do método (ou de todos os métodos da classe). A
+ * anotação do método prevalece sobre a da classe. Dentro de uma transação já aberta a
+ * conexão é a da transação, então o pool vale a partir de onde a transação começa.
+ */
+@Documented
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface UsarPool {
+
+    PoolConexoes value();
+}
@@ -0,0 +1,42 @@
+package com.edutech.api.infra.conexoes;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Aplica {@link UsarPool}. Roda antes do {@code @Transactional} (e depois da retentativa
+ * em conflito), para que a conexão da transação já venha do pool escolhido.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class UsarPoolAspect {
+
+    @Around("@annotation(com.edutech.api.infra.conexoes.UsarPool) || @within(com.edutech.api.infra.conexoes.UsarPool)")
+    public Object usarPool(ProceedingJoinPoint joinPoint) throws Throwable {
+        var anterior = RoteamentoPool.trocar(pool(joinPoint));
+        try {
+            return joinPoint.proceed();
+        } finally {
+            RoteamentoPool.trocar(anterior);
+        }
+    }
+
+    /**
+     * Auxiliares
+     */
+    private PoolConexoes pool(ProceedingJoinPoint joinPoint) {
+        var metodo = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        var usarPool = AnnotatedElementUtils.findMergedAnnotation(metodo, UsarPool.class);
+        if (usarPool == null) {
+            usarPool = AnnotatedElementUtils.findMergedAnnotation(joinPoint.getTarget().getClass(), UsarPool.class);
+        }
+        return usarPool.value();
+    }
+}
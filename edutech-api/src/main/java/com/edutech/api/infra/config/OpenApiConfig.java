@@ -5,9 +5,12 @@ import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
+import io.swagger.v3.oas.models.servers.Server;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+
 @Configuration
 public class OpenApiConfig {
 
@@ -19,6 +22,9 @@ public class OpenApiConfig {
                         .version("1.0")
                         .description("Sistema de Gestão Educacional"))
 
+                // Servidor relativo: o documento gerado no build (GeradorOpenApi) vale para qualquer host
+                .servers(List.of(new Server().url("/")))
+
                 // Configuração de segurança JWT
                 .addSecurityItem(new SecurityRequirement().addList("bearerAuth"))
                 .components(new Components()
@@ -1,21 +1,30 @@
 package com.edutech.api.infra.exception;
 
 import com.edutech.api.domain.exception.ValidacaoException;
+import com.edutech.api.domain.exception.VersaoDesatualizadaException;
 import com.edutech.api.infra.dto.DadosErroResposta;
+import com.edutech.api.infra.concorrencia.ResultadoIndefinidoException;
+import com.edutech.api.infra.concorrencia.ServicoSobrecarregadoException;
 import com.edutech.api.infra.dto.DadosErroValidacao;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import jakarta.persistence.EntityNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 import javax.naming.AuthenticationException;
 import java.nio.file.AccessDeniedException;
@@ -27,17 +36,87 @@ public class TratarErros {
 
     private static final Logger logger = LoggerFactory.getLogger(TratarErros.class);
 
+    /**
+     * O corpo é sempre JSON, mesmo quando a requisição pediu outro formato (ex.: NDJSON).
+     * Com mais de uma regra violada, cada uma vem também em {@code erros}.
+     */
     @ExceptionHandler(ValidacaoException.class)
     public ResponseEntity<DadosErroResposta> tratarErroRegraDeNegocio(ValidacaoException ex) {
+        List<DadosErroValidacao> erros = ex.getErros().size() > 1
+                ? ex.getErros().stream().map(erro -> new DadosErroValidacao(null, erro)).toList()
+                : null;
         return ResponseEntity.badRequest()
+                .contentType(MediaType.APPLICATION_JSON)
                 .body(new DadosErroResposta(
                         LocalDateTime.now(),
                         HttpStatus.BAD_REQUEST.value(),
+                        ex.getMessage(),
+                        erros
+                ));
+    }
+
+    @ExceptionHandler(VersaoDesatualizadaException.class)
+    public ResponseEntity<DadosErroResposta> tratarErro412(VersaoDesatualizadaException ex) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                .body(new DadosErroResposta(
+                        LocalDateTime.now(),
+                        HttpStatus.PRECONDITION_FAILED.value(),
+                        ex.getMessage()
+                ));
+    }
+
+    /**
+     * Conflito de versão que sobrou depois das retentativas, inclusive os das operações em
+     * massa, que não passam por uma entidade versionada.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<DadosErroResposta> tratarErro409() {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new DadosErroResposta(
+                        LocalDateTime.now(),
+                        HttpStatus.CONFLICT.value(),
+                        "O recurso foi alterado por outra requisição. Tente novamente."
+                ));
+    }
+
+    @ExceptionHandler(ServicoSobrecarregadoException.class)
+    public ResponseEntity<DadosErroResposta> tratarErro503(ServicoSobrecarregadoException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new DadosErroResposta(
+                        LocalDateTime.now(),
+                        HttpStatus.SERVICE_UNAVAILABLE.value(),
+                        ex.getMessage()
+                ));
+    }
+
+    @ExceptionHandler(ResultadoIndefinidoException.class)
+    public ResponseEntity<DadosErroResposta> tratarErro504(ResultadoIndefinidoException ex) {
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT)
+                .body(new DadosErroResposta(
+                        LocalDateTime.now(),
+                        HttpStatus.GATEWAY_TIMEOUT.value(),
                         ex.getMessage()
                 ));
     }
 
-    @ExceptionHandler(EntityNotFoundException.class)
+    /**
+     * Sem conexão livre no pool dentro da espera configurada: a requisição é recusada como
+     * sobrecarga em vez de erro interno.
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class, CannotGetJdbcConnectionException.class})
+    public ResponseEntity<DadosErroResposta> tratarErro503SemConexao(RuntimeException ex) {
+        logger.warn("Sem conexão disponível com o banco: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new DadosErroResposta(
+                        LocalDateTime.now(),
+                        HttpStatus.SERVICE_UNAVAILABLE.value(),
+                        "Banco de dados indisponível no momento, tente novamente"
+                ));
+    }
+
+    @ExceptionHandler({EntityNotFoundException.class, NoResourceFoundException.class})
     public ResponseEntity<DadosErroResposta> tratarErro404() {
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
                 .body(new DadosErroResposta(
@@ -0,0 +1,42 @@
+package com.edutech.api.infra.gerador;
+
+/**
+ * Gera CPFs validos e unicos a partir de um indice. O indice é espalhado por uma
+ * multiplicação modular (bijetora em 0..10^9-1), então indices distintos nunca colidem
+ * e CPFs consecutivos não ficam sequenciais.
+ */
+public final class GeradorCpf {
+
+    private static final long MODULO = 1_000_000_000L;
+    private static final long MULTIPLICADOR = 387_420_489L; // 3^18, coprimo com 10^9
+
+    private GeradorCpf() {
+    }
+
+    public static String gerar(long indice, long semente) {
+        long base = Math.floorMod(Math.floorMod(indice, MODULO) * MULTIPLICADOR + semente, MODULO);
+
+        var digitos = new int[11];
+        for (int i = 8; i >= 0; i--) {
+            digitos[i] = (int) (base % 10);
+            base /= 10;
+        }
+        digitos[9] = digitoVerificador(digitos, 9);
+        digitos[10] = digitoVerificador(digitos, 10);
+
+        var cpf = new char[11];
+        for (int i = 0; i < 11; i++) {
+            cpf[i] = (char) ('0' + digitos[i]);
+        }
+        return new String(cpf);
+    }
+
+    private static int digitoVerificador(int[] digitos, int tamanho) {
+        int soma = 0;
+        for (int i = 0; i < tamanho; i++) {
+            soma += digitos[i] * (tamanho + 1 - i);
+        }
+        int resto = (soma * 10) % 11;
+        return resto == 10 ? 0 : resto;
+    }
+}
@@ -0,0 +1,549 @@
+package com.edutech.api.infra.gerador;
+
+import com.edutech.api.domain.aluno.enums.StatusAluno;
+import com.edutech.api.domain.curso.enums.CategoriaCurso;
+import com.edutech.api.domain.curso.enums.NivelCurso;
+import com.edutech.api.domain.curso.enums.StatusCurso;
+import com.edutech.api.domain.enums.Modalidade;
+import com.edutech.api.domain.matricula.enums.MotivoCancelamento;
+import com.edutech.api.domain.matricula.enums.StatusMatricula;
+import com.edutech.api.domain.professor.enums.StatusProfessor;
+import com.edutech.api.domain.turma.enums.StatusTurma;
+import com.edutech.api.infra.conexoes.PoolConexoes;
+import com.edutech.api.infra.conexoes.UsarPool;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.SplittableRandom;
+
+/**
+ * Gera massa sintetica em volume de produção direto via JDBC batch (perfil "gerador").
+ * <p>
+ * Os registros respeitam as regras do dominio: CPFs validos e unicos, professor da turma
+ * vinculado ao curso e com a mesma modalidade, turmas com vagas para as suas matriculas,
+ * no maximo 3 matriculas ativas por aluno e apenas alunos ativos com matricula ativa.
+ * Cada tabela usa seu proprio gerador aleatorio derivado da semente, e as linhas são
+ * produzidas em ordem, então a massa é sempre a mesma para a mesma configuração.
+ */
+@Component
+@Profile("gerador")
+@RequiredArgsConstructor
+@EnableConfigurationProperties(PropriedadesGerador.class)
+public class GeradorDeMassa implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(GeradorDeMassa.class);
+
+    /** Mesmo allocationSize das entidades. */
+    private static final int ALOCACAO_SEQUENCIA = 50;
+
+    private static final String[] TABELAS = {
+            "tb_resumo_matriculas_aluno", "tb_matricula_arquivada", "tb_matricula", "tb_turma", "tb_curso_professor", "tb_curso", "tb_professor", "tb_aluno"
+    };
+
+    private static final String[] NOMES = {
+            "Ana", "Bruno", "Carla", "Daniel", "Eduarda", "Felipe", "Gabriela", "Henrique", "Isabela", "João",
+            "Larissa", "Lucas", "Mariana", "Mateus", "Natália", "Otávio", "Paula", "Rafael", "Sofia", "Thiago",
+            "Vitória", "Pedro", "Juliana", "Gustavo", "Beatriz", "Caio", "Letícia", "Rodrigo", "Camila", "André"
+    };
+    private static final String[] SOBRENOMES = {
+            "Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira", "Alves", "Pereira", "Lima", "Gomes",
+            "Costa", "Ribeiro", "Martins", "Carvalho", "Almeida", "Lopes", "Soares", "Fernandes", "Vieira", "Barbosa"
+    };
+    private static final String[] NOMES_EMAIL = semAcento(NOMES);
+    private static final String[] SOBRENOMES_EMAIL = semAcento(SOBRENOMES);
+    private static final String[] DOMINIOS = {"gmail.com", "outlook.com", "yahoo.com.br", "uol.com.br", "edutech.com"};
+    private static final String[] LOGRADOUROS = {
+            "Rua das Flores", "Avenida Paulista", "Rua XV de Novembro", "Avenida Brasil", "Rua Sete de Setembro",
+            "Rua da Consolação", "Avenida Getúlio Vargas", "Rua Tiradentes", "Rua Dom Pedro II", "Avenida Atlântica"
+    };
+    private static final String[] BAIRROS = {"Centro", "Jardim América", "Vila Nova", "Boa Vista", "Santa Cecília", "Liberdade"};
+    private static final String[][] CIDADES = {
+            {"São Paulo", "SP", "11"}, {"Rio de Janeiro", "RJ", "21"}, {"Belo Horizonte", "MG", "31"},
+            {"Curitiba", "PR", "41"}, {"Porto Alegre", "RS", "51"}, {"Salvador", "BA", "71"},
+            {"Recife", "PE", "81"}, {"Fortaleza", "CE", "85"}, {"Brasília", "DF", "61"}, {"Goiânia", "GO", "62"}
+    };
+    private static final String[] TEMAS = {
+            "Java", "Python", "JavaScript", "SQL", "Redes", "Segurança", "Kotlin", "React", "Docker", "AWS",
+            "Figma", "Linux", "Go", "Spring Boot", "Flutter", "Azure", "PostgreSQL", "Kubernetes", "Angular", "Excel"
+    };
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate transacao;
+    private final PropriedadesGerador props;
+
+    private StatusAluno[] statusAlunos;
+    private Modalidade[] modalidadesProfessores;
+    private int[][] professoresDoCurso;
+    private StatusTurma[] statusTurmas;
+    private LocalDate[] inicioTurmas;
+    private LocalDate[] fimTurmas;
+    private int[] matriculasPorTurma;
+    private byte[] matriculasAtivasPorAluno;
+
+    @Override
+    @UsarPool(PoolConexoes.RELATORIO)
+    public void run(ApplicationArguments args) {
+        prepararBanco();
+        log.info("Gerando massa (semente {}, data de referência {}): {} alunos, {} professores, {} cursos, {} turmas, {} matriculas",
+                props.semente(), props.dataReferencia(), props.alunos(), props.professores(),
+                props.cursos(), props.turmas(), props.matriculas());
+
+        long inicio = System.nanoTime();
+        gerarAlunos();
+        gerarProfessores();
+        gerarCursos();
+        gerarVinculosCursoProfessor();
+        gerarTurmas();
+        gerarMatriculas();
+        ajustarSequencias();
+
+        log.info("Massa gerada em {} s", (System.nanoTime() - inicio) / 1_000_000_000);
+    }
+
+    private void gerarAlunos() {
+        var aleatorio = aleatorio(1);
+        statusAlunos = new StatusAluno[props.alunos() + 1];
+        matriculasAtivasPorAluno = new byte[props.alunos() + 1];
+
+        inserir("tb_aluno", """
+                INSERT INTO tb_aluno (id, nome, email, telefone, cpf, data_de_nascimento,
+                    logradouro, bairro, cep, numero, complemento, cidade, uf, status, versao, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)
+                """, props.alunos(), (ps, id) -> {
+            int nome = aleatorio.nextInt(NOMES.length);
+            int sobrenome = aleatorio.nextInt(SOBRENOMES.length);
+            var cidade = CIDADES[aleatorio.nextInt(CIDADES.length)];
+            var status = sortearStatusAluno(aleatorio);
+            statusAlunos[id] = status;
+
+            ps.setLong(1, id);
+            ps.setString(2, NOMES[nome] + " " + SOBRENOMES[sobrenome] + " " + SOBRENOMES[aleatorio.nextInt(SOBRENOMES.length)]);
+            ps.setString(3, email(nome, sobrenome, id, aleatorio));
+            ps.setString(4, telefone(cidade[2], aleatorio));
+            ps.setString(5, GeradorCpf.gerar(id, props.semente()));
+            ps.setDate(6, Date.valueOf(props.dataReferencia().minusDays(365L * 17 + aleatorio.nextInt(365 * 40))));
+            preencherEndereco(ps, 7, cidade, aleatorio);
+            ps.setString(14, status.name());
+            var cadastro = Timestamp.valueOf(props.dataReferencia().minusDays(aleatorio.nextInt(1500)).atTime(9, 0));
+            ps.setTimestamp(15, cadastro);
+            ps.setTimestamp(16, cadastro);
+        });
+    }
+
+    private void gerarProfessores() {
+        var aleatorio = aleatorio(2);
+        var modalidades = Modalidade.values();
+        modalidadesProfessores = new Modalidade[props.professores() + 1];
+
+        inserir("tb_professor", """
+                INSERT INTO tb_professor (id, nome, email, data_nascimento, telefone, cpf, status, modalidade,
+                    logradouro, bairro, cep, numero, complemento, cidade, uf, versao, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)
+                """, props.professores(), (ps, id) -> {
+            int nome = aleatorio.nextInt(NOMES.length);
+            int sobrenome = aleatorio.nextInt(SOBRENOMES.length);
+            var cidade = CIDADES[aleatorio.nextInt(CIDADES.length)];
+            var modalidade = modalidades[aleatorio.nextInt(modalidades.length)];
+            modalidadesProfessores[id] = modalidade;
+
+            ps.setLong(1, id);
+            ps.setString(2, NOMES[nome] + " " + SOBRENOMES[sobrenome]);
+            ps.setString(3, "prof." + email(nome, sobrenome, id, aleatorio));
+            ps.setDate(4, Date.valueOf(props.dataReferencia().minusDays(365L * 25 + aleatorio.nextInt(365 * 35))));
+            ps.setString(5, telefone(cidade[2], aleatorio));
+            ps.setString(6, GeradorCpf.gerar(props.alunos() + (long) id, props.semente()));
+            ps.setString(7, sortearStatusProfessor(aleatorio).name());
+            ps.setString(8, modalidade.name());
+            preencherEndereco(ps, 9, cidade, aleatorio);
+            var cadastro = Timestamp.valueOf(props.dataReferencia().minusDays(aleatorio.nextInt(2000)).atTime(9, 0));
+            ps.setTimestamp(16, cadastro);
+            ps.setTimestamp(17, cadastro);
+        });
+    }
+
+    private void gerarCursos() {
+        var aleatorio = aleatorio(3);
+        var niveis = NivelCurso.values();
+        var categorias = CategoriaCurso.values();
+
+        inserir("tb_curso", """
+                INSERT INTO tb_curso (id, nome, descricao, carga_horaria_total, duracao_meses, status, nivel, categoria, versao)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)
+                """, props.cursos(), (ps, id) -> {
+            var tema = TEMAS[aleatorio.nextInt(TEMAS.length)];
+            var nivel = niveis[aleatorio.nextInt(niveis.length)];
+            boolean exigeCargaAlta = nivel == NivelCurso.AVANCADO || nivel == NivelCurso.ESPECIALIZACAO;
+
+            ps.setLong(1, id);
+            ps.setString(2, tema + " " + nivel.getDescricao() + " " + id);
+            ps.setString(3, "Curso de " + tema + " para o nivel " + nivel.getDescricao().toLowerCase());
+            ps.setInt(4, exigeCargaAlta ? 100 + aleatorio.nextInt(300) : 20 + aleatorio.nextInt(280));
+            ps.setInt(5, 1 + aleatorio.nextInt(12));
+            ps.setString(6, (aleatorio.nextInt(100) < 95 ? StatusCurso.ATIVO : StatusCurso.INATIVO).name());
+            ps.setString(7, nivel.name());
+            ps.setString(8, categorias[aleatorio.nextInt(categorias.length)].name());
+        });
+    }
+
+    /**
+     * Cada curso recebe de 1 a 3 professores distintos.
+     */
+    private void gerarVinculosCursoProfessor() {
+        var aleatorio = aleatorio(4);
+        professoresDoCurso = new int[props.cursos() + 1][];
+        int total = 0;
+        for (int curso = 1; curso <= props.cursos(); curso++) {
+            int quantidade = Math.min(1 + aleatorio.nextInt(3), props.professores());
+            int primeiro = 1 + aleatorio.nextInt(props.professores());
+            int passo = 1 + aleatorio.nextInt(Math.max(props.professores() - 1, 1));
+            professoresDoCurso[curso] = new int[quantidade];
+            for (int i = 0; i < quantidade; i++) {
+                professoresDoCurso[curso][i] = 1 + (primeiro - 1 + i * passo) % props.professores();
+            }
+            total += quantidade;
+        }
+
+        int[] cursos = new int[total];
+        int[] professores = new int[total];
+        int posicao = 0;
+        for (int curso = 1; curso <= props.cursos(); curso++) {
+            for (int professor : professoresDoCurso[curso]) {
+                cursos[posicao] = curso;
+                professores[posicao++] = professor;
+            }
+        }
+
+        inserir("tb_curso_professor", "INSERT INTO tb_curso_professor (curso_id, professor_id) VALUES (?, ?)", total, (ps, linha) -> {
+            ps.setLong(1, cursos[linha - 1]);
+            ps.setLong(2, professores[linha - 1]);
+        });
+    }
+
+    /**
+     * As matriculas são distribuidas igualmente entre as turmas e as vagas acompanham esse total,
+     * deixando folga nas turmas abertas.
+     */
+    private void gerarTurmas() {
+        var aleatorio = aleatorio(5);
+        var referencia = props.dataReferencia();
+        int turmas = props.turmas();
+        statusTurmas = new StatusTurma[turmas + 1];
+        inicioTurmas = new LocalDate[turmas + 1];
+        fimTurmas = new LocalDate[turmas + 1];
+        matriculasPorTurma = new int[turmas + 1];
+
+        inserir("tb_turma", """
+                INSERT INTO tb_turma (id, codigo, data_inicio, data_fim, horario_inicio, horario_fim, vagas_totais,
+                    status, modalidade, curso_id, professor_id, versao, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)
+                """, turmas, (ps, id) -> {
+            var status = sortearStatusTurma(aleatorio);
+            LocalDate inicio = switch (status) {
+                case CONCLUIDA -> referencia.minusDays(150 + aleatorio.nextInt(900));
+                case EM_ANDAMENTO -> referencia.minusDays(1 + aleatorio.nextInt(60));
+                case ABERTA -> referencia.plusDays(5 + aleatorio.nextInt(120));
+                case CANCELADA -> referencia.plusDays(aleatorio.nextInt(200) - 100);
+            };
+            inicio = foraDoRecesso(inicio);
+            var fim = foraDoRecesso(inicio.plusDays(60 + aleatorio.nextInt(90)));
+            if (status == StatusTurma.CONCLUIDA && !fim.isBefore(referencia)) {
+                fim = referencia.minusDays(1);
+            }
+
+            int curso = 1 + aleatorio.nextInt(props.cursos());
+            var professoresCurso = professoresDoCurso[curso];
+            int professor = professoresCurso[aleatorio.nextInt(professoresCurso.length)];
+            boolean semProfessor = status == StatusTurma.ABERTA && aleatorio.nextInt(10) == 0;
+
+            int matriculas = props.matriculas() / turmas + (id <= props.matriculas() % turmas ? 1 : 0);
+            int folga = status == StatusTurma.ABERTA ? 5 + aleatorio.nextInt(16) : aleatorio.nextInt(11);
+            int horaInicio = 7 + aleatorio.nextInt(13);
+
+            statusTurmas[id] = status;
+            inicioTurmas[id] = inicio;
+            fimTurmas[id] = fim;
+            matriculasPorTurma[id] = matriculas;
+
+            ps.setLong(1, id);
+            ps.setString(2, "T" + id);
+            ps.setDate(3, Date.valueOf(inicio));
+            ps.setDate(4, Date.valueOf(fim));
+            ps.setTime(5, Time.valueOf(LocalTime.of(horaInicio, 0)));
+            ps.setTime(6, Time.valueOf(LocalTime.of(Math.min(horaInicio + 1 + aleatorio.nextInt(3), 22), 0)));
+            ps.setInt(7, Math.max(matriculas + folga, 1));
+            ps.setString(8, status.name());
+            ps.setString(9, modalidadesProfessores[professor].name());
+            ps.setLong(10, curso);
+            if (semProfessor) {
+                ps.setNull(11, Types.BIGINT);
+            } else {
+                ps.setLong(11, professor);
+            }
+            var cadastro = Timestamp.valueOf(inicio.minusDays(30).atTime(9, 0));
+            ps.setTimestamp(12, cadastro);
+            ps.setTimestamp(13, cadastro);
+        });
+    }
+
+    /**
+     * Os alunos são percorridos com um passo coprimo com o total, então cada aluno aparece
+     * o mesmo número de vezes e nunca duas vezes na mesma turma. A situação da matricula
+     * segue a da turma; quando o aluno não pode ter outra matricula ativa, ela é cancelada.
+     */
+    private void gerarMatriculas() {
+        var aleatorio = aleatorio(6);
+        var motivos = MotivoCancelamento.values();
+        long passo = passoCoprimo(props.alunos());
+        int[] turmaAtual = {1};
+        int[] restantesNaTurma = {matriculasPorTurma.length > 1 ? matriculasPorTurma[1] : 0};
+
+        inserir("tb_matricula", """
+                INSERT INTO tb_matricula (id, data_matricula, data_conclusao, nota_final, status, motivo_cancelamento,
+                    aluno_id, turma_id, versao)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)
+                """, props.matriculas(), (ps, id) -> {
+            while (restantesNaTurma[0] == 0) {
+                restantesNaTurma[0] = matriculasPorTurma[++turmaAtual[0]];
+            }
+            restantesNaTurma[0]--;
+            int turma = turmaAtual[0];
+            int aluno = (int) (((id - 1) * passo) % props.alunos()) + 1;
+
+            var status = sortearStatusMatricula(statusTurmas[turma], aleatorio);
+            if (status == StatusMatricula.ATIVA) {
+                if (statusAlunos[aluno] != StatusAluno.ATIVO || matriculasAtivasPorAluno[aluno] >= 3) {
+                    status = StatusMatricula.CANCELADA;
+                } else {
+                    matriculasAtivasPorAluno[aluno]++;
+                }
+            }
+
+            ps.setLong(1, id);
+            ps.setDate(2, Date.valueOf(inicioTurmas[turma].minusDays(1 + aleatorio.nextInt(30))));
+            if (status == StatusMatricula.CONCLUIDA) {
+                ps.setDate(3, Date.valueOf(fimTurmas[turma]));
+                ps.setBigDecimal(4, BigDecimal.valueOf(70 + aleatorio.nextInt(31), 1));
+            } else {
+                ps.setNull(3, Types.DATE);
+                ps.setNull(4, Types.DECIMAL);
+            }
+            ps.setString(5, status.name());
+            if (status == StatusMatricula.CANCELADA) {
+                ps.setString(6, (statusTurmas[turma] == StatusTurma.CANCELADA
+                        ? MotivoCancelamento.OUTROS : motivos[aleatorio.nextInt(motivos.length)]).name());
+            } else {
+                ps.setNull(6, Types.VARCHAR);
+            }
+            ps.setLong(7, aluno);
+            ps.setLong(8, turma);
+        });
+    }
+
+    /**
+     * Auxiliares
+     */
+    @FunctionalInterface
+    private interface Linha {
+        void preencher(PreparedStatement ps, int id) throws SQLException;
+    }
+
+    /**
+     * Insere {@code total} linhas (ids 1..total) em lotes, um lote por transação.
+     */
+    private void inserir(String tabela, String sql, int total, Linha linha) {
+        long inicio = System.nanoTime();
+        int lote = props.tamanhoLote();
+        int avisarACada = Math.max(total / 10, lote);
+
+        for (int primeiro = 1; primeiro <= total; primeiro += lote) {
+            int base = primeiro;
+            int tamanho = Math.min(lote, total - primeiro + 1);
+            transacao.executeWithoutResult(status -> jdbc.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    linha.preencher(ps, base + i);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return tamanho;
+                }
+            }));
+
+            int inseridos = primeiro + tamanho - 1;
+            if (inseridos % avisarACada < lote || inseridos == total) {
+                log.info("{}: {}/{}", tabela, inseridos, total);
+            }
+        }
+
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+        log.info("{}: {} linhas em {} s ({} linhas/s)", tabela, total, String.format("%.1f", segundos),
+                Math.round(total / Math.max(segundos, 0.001)));
+    }
+
+    private void prepararBanco() {
+        Long existentes = jdbc.queryForObject("SELECT COUNT(*) FROM tb_aluno", Long.class);
+        if (existentes == null || existentes == 0) {
+            return;
+        }
+        if (!props.limpar()) {
+            throw new IllegalStateException(
+                    "O banco já possui alunos. Use gerador.limpar=true para apagar os dados antes de gerar a massa.");
+        }
+
+        log.info("Apagando dados existentes...");
+        if (isPostgres()) {
+            jdbc.execute("TRUNCATE " + String.join(", ", TABELAS));
+        } else {
+            for (String tabela : TABELAS) {
+                jdbc.execute("DELETE FROM " + tabela);
+            }
+        }
+    }
+
+    /**
+     * Os ids foram informados explicitamente, então as sequences precisam continuar do maior id.
+     * O otimizador pooled usa o valor lido como fim do bloco de {@code ALOCACAO_SEQUENCIA} ids,
+     * por isso o próximo valor é o maior id somado ao tamanho do bloco.
+     * No MySQL a sequence é emulada pelo Hibernate em uma tabela com a coluna next_val.
+     */
+    private void ajustarSequencias() {
+        var banco = nomeDoBanco();
+        for (String tabela : TABELAS) {
+            if (tabela.equals("tb_curso_professor") || tabela.equals("tb_matricula_arquivada")) {
+                continue;
+            }
+            Long maior = jdbc.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + tabela, Long.class);
+            long proximo = (maior == null ? 0 : maior) + ALOCACAO_SEQUENCIA;
+            var sequence = tabela + "_seq";
+
+            if (banco.contains("PostgreSQL")) {
+                jdbc.queryForObject("SELECT setval(?, ?, false)", Long.class, sequence, proximo);
+            } else if (banco.contains("MySQL")) {
+                jdbc.update("UPDATE " + sequence + " SET next_val = ?", proximo);
+            } else if (banco.contains("H2")) {
+                jdbc.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + proximo);
+            }
+        }
+    }
+
+    private boolean isPostgres() {
+        return nomeDoBanco().contains("PostgreSQL");
+    }
+
+    private String nomeDoBanco() {
+        return jdbc.execute((ConnectionCallback<String>) conexao -> conexao.getMetaData().getDatabaseProductName());
+    }
+
+    private SplittableRandom aleatorio(int tabela) {
+        return new SplittableRandom(props.semente() * 1_000_003L + tabela);
+    }
+
+    private void preencherEndereco(PreparedStatement ps, int primeiraColuna, String[] cidade, SplittableRandom aleatorio)
+            throws SQLException {
+        ps.setString(primeiraColuna, LOGRADOUROS[aleatorio.nextInt(LOGRADOUROS.length)]);
+        ps.setString(primeiraColuna + 1, BAIRROS[aleatorio.nextInt(BAIRROS.length)]);
+        ps.setString(primeiraColuna + 2, String.format("%08d", 1_000_000 + aleatorio.nextInt(98_000_000)));
+        ps.setString(primeiraColuna + 3, String.valueOf(1 + aleatorio.nextInt(3000)));
+        ps.setString(primeiraColuna + 4, aleatorio.nextInt(10) < 3 ? "Apto " + (1 + aleatorio.nextInt(200)) : null);
+        ps.setString(primeiraColuna + 5, cidade[0]);
+        ps.setString(primeiraColuna + 6, cidade[1]);
+    }
+
+    private static String email(int nome, int sobrenome, int id, SplittableRandom aleatorio) {
+        return NOMES_EMAIL[nome] + "." + SOBRENOMES_EMAIL[sobrenome] + id + "@" + DOMINIOS[aleatorio.nextInt(DOMINIOS.length)];
+    }
+
+    private static String telefone(String ddd, SplittableRandom aleatorio) {
+        return String.format("(%s)9%04d-%04d", ddd, aleatorio.nextInt(10_000), aleatorio.nextInt(10_000));
+    }
+
+    private static StatusAluno sortearStatusAluno(SplittableRandom aleatorio) {
+        int sorteio = aleatorio.nextInt(100);
+        if (sorteio < 95) return StatusAluno.ATIVO;
+        if (sorteio < 98) return StatusAluno.INATIVO;
+        if (sorteio < 99) return StatusAluno.FORMADO;
+        return StatusAluno.CANCELADO;
+    }
+
+    private static StatusProfessor sortearStatusProfessor(SplittableRandom aleatorio) {
+        int sorteio = aleatorio.nextInt(100);
+        if (sorteio < 92) return StatusProfessor.ATIVO;
+        if (sorteio < 97) return StatusProfessor.INATIVO;
+        return StatusProfessor.AFASTADO;
+    }
+
+    private static StatusTurma sortearStatusTurma(SplittableRandom aleatorio) {
+        int sorteio = aleatorio.nextInt(100);
+        if (sorteio < 55) return StatusTurma.CONCLUIDA;
+        if (sorteio < 75) return StatusTurma.EM_ANDAMENTO;
+        if (sorteio < 95) return StatusTurma.ABERTA;
+        return StatusTurma.CANCELADA;
+    }
+
+    private static StatusMatricula sortearStatusMatricula(StatusTurma turma, SplittableRandom aleatorio) {
+        int sorteio = aleatorio.nextInt(100);
+        return switch (turma) {
+            case CONCLUIDA -> sorteio < 85 ? StatusMatricula.CONCLUIDA : StatusMatricula.CANCELADA;
+            case EM_ANDAMENTO -> sorteio < 80 ? StatusMatricula.ATIVA
+                    : sorteio < 90 ? StatusMatricula.TRANCADA : StatusMatricula.CANCELADA;
+            case ABERTA -> sorteio < 90 ? StatusMatricula.ATIVA : StatusMatricula.CANCELADA;
+            case CANCELADA -> StatusMatricula.CANCELADA;
+        };
+    }
+
+    /**
+     * Turmas não iniciam nem terminam em dezembro ou janeiro (ValidadorTurmaBase).
+     */
+    private static LocalDate foraDoRecesso(LocalDate data) {
+        if (data.getMonth() == Month.DECEMBER) {
+            return data.withDayOfMonth(1).minusDays(1);
+        }
+        if (data.getMonth() == Month.JANUARY) {
+            return data.withDayOfMonth(1).plusMonths(1);
+        }
+        return data;
+    }
+
+    private static long passoCoprimo(int total) {
+        long passo = 7_919;
+        while (mdc(passo, total) != 1) {
+            passo += 2;
+        }
+        return passo;
+    }
+
+    private static long mdc(long a, long b) {
+        return b == 0 ? a : mdc(b, a % b);
+    }
+
+    private static String[] semAcento(String[] valores) {
+        var resultado = new String[valores.length];
+        for (int i = 0; i < valores.length; i++) {
+            resultado[i] = java.text.Normalizer.normalize(valores[i], java.text.Normalizer.Form.NFD)
+                    .replaceAll("\\p{M}", "")
+                    .toLowerCase();
+        }
+        return resultado;
+    }
+}
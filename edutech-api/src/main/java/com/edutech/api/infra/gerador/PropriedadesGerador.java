@@ -0,0 +1,32 @@
+package com.edutech.api.infra.gerador;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.LocalDate;
+
+/**
+ * Volumes e semente da massa sintetica (perfil "gerador"). A mesma semente com a mesma
+ * data de referência gera exatamente os mesmos registros.
+ */
+@ConfigurationProperties(prefix = "gerador")
+public record PropriedadesGerador(
+        long semente,
+        int alunos,
+        int professores,
+        int cursos,
+        int turmas,
+        int matriculas,
+        int tamanhoLote,
+        LocalDate dataReferencia,
+        boolean limpar
+) {
+
+    public PropriedadesGerador {
+        if (dataReferencia == null) {
+            dataReferencia = LocalDate.now();
+        }
+        if (tamanhoLote <= 0) {
+            tamanhoLote = 5_000;
+        }
+    }
+}
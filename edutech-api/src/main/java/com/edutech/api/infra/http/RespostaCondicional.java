@@ -0,0 +1,72 @@
+package com.edutech.api.infra.http;
+
+import com.edutech.api.domain.exception.VersaoDesatualizadaException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.function.Supplier;
+
+/**
+ * Requisições condicionais (If-None-Match / If-Match) baseadas na versão das entidades.
+ * O ETag é forte e formado por id + versão, ex.: "15-3".
+ */
+public final class RespostaCondicional {
+
+    private RespostaCondicional() {
+    }
+
+    public static String etag(Long id, Long versao) {
+        return "\"" + id + "-" + versao + "\"";
+    }
+
+    /**
+     * Responde 304 quando o If-None-Match corresponde a versão atual, sem carregar o corpo.
+     * Caso contrário carrega o corpo e responde 200 com o ETag.
+     */
+    public static <T> ResponseEntity<T> ok(Long id, Long versaoAtual, String ifNoneMatch, Supplier<T> corpo) {
+        if (versaoAtual == null) {
+            return ResponseEntity.ok(corpo.get());
+        }
+
+        var etag = etag(id, versaoAtual);
+        if (corresponde(ifNoneMatch, etag, false)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(corpo.get());
+    }
+
+    /**
+     * Valida o If-Match contra a versão atual e devolve a versão que a atualização deve encontrar.
+     */
+    public static Long versaoEsperada(Long id, Long versaoAtual, String ifMatch) {
+        if (!corresponde(ifMatch, etag(id, versaoAtual), true)) {
+            throw new VersaoDesatualizadaException(
+                    "O recurso foi alterado por outra requisição. Recarregue os dados e tente novamente."
+            );
+        }
+        return versaoAtual;
+    }
+
+    static boolean corresponde(String cabecalho, String etag, boolean comparacaoForte) {
+        if (cabecalho == null || cabecalho.isBlank()) {
+            return false;
+        }
+
+        for (String valor : cabecalho.split(",")) {
+            var tag = valor.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                if (comparacaoForte) {
+                    continue;
+                }
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
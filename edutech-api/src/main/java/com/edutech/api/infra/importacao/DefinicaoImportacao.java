@@ -0,0 +1,36 @@
+package com.edutech.api.infra.importacao;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * O que muda entre as importações de cada cadastro: colunas, conversão da linha,
+ * validações, consulta de CPFs já cadastrados e gravação do lote.
+ */
+public interface DefinicaoImportacao<D> {
+
+    List<String> colunas();
+
+    /**
+     * Converte os campos da linha, indexados pelo nome da coluna, no DTO de cadastro.
+     */
+    D converter(Map<String, String> campos);
+
+    String cpf(D dto);
+
+    /**
+     * Validações de cadastro que não dependem do banco; o CPF duplicado é verificado em lote.
+     */
+    void validar(D dto);
+
+    Set<String> cpfsJaCadastrados(Collection<String> cpfs);
+
+    String mensagemCpfJaCadastrado();
+
+    /**
+     * Grava o lote. Chamado dentro da transação do lote.
+     */
+    void gravar(List<D> lote);
+}
@@ -0,0 +1,201 @@
+package com.edutech.api.infra.importacao;
+
+import com.edutech.api.domain.exception.ValidacaoException;
+import com.edutech.api.infra.importacao.ResultadoImportacaoDTO.ErroImportacaoDTO;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Importa um CSV em streaming: as linhas são lidas uma a uma e acumuladas em lotes de
+ * tamanho fixo. Para cada lote os CPFs repetidos no próprio lote e os já cadastrados
+ * (uma consulta por lote) são recusados e o restante é gravado em uma transação, com
+ * os inserts agrupados em batch JDBC. A memória usada depende do tamanho do lote, não
+ * do arquivo.
+ * <p>
+ * Um CPF repetido em lotes diferentes do arquivo é recusado como já cadastrado, porque
+ * o lote anterior já foi gravado. Uma falha ao gravar recusa apenas as linhas do lote.
+ */
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(PropriedadesImportacao.class)
+public class ImportadorCsv {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportadorCsv.class);
+
+    private final Validator validator;
+    private final TransactionTemplate transacao;
+    private final PropriedadesImportacao propriedades;
+
+    public <D> ResultadoImportacaoDTO importar(InputStream entrada, DefinicaoImportacao<D> definicao) {
+        var leitor = new LeitorCsv(new InputStreamReader(entrada, StandardCharsets.UTF_8));
+        var indices = lerCabecalho(leitor, definicao.colunas());
+        var relatorio = new Relatorio(propriedades.maximoErrosReportados());
+        var lote = new ArrayList<Linha<D>>(propriedades.tamanhoLote());
+
+        try {
+            List<String> registro;
+            while ((registro = leitor.proximoRegistro()) != null) {
+                relatorio.linhasLidas++;
+                var linha = leitor.linhaDoRegistro();
+                var campos = extrairCampos(registro, indices);
+                try {
+                    var dto = definicao.converter(campos);
+                    validarCampos(dto);
+                    definicao.validar(dto);
+                    lote.add(new Linha<>(linha, dto));
+                } catch (ValidacaoException | DateTimeParseException | IllegalArgumentException e) {
+                    relatorio.recusar(linha, campos.get("cpf"), mensagem(e));
+                }
+
+                if (lote.size() == propriedades.tamanhoLote()) {
+                    processarLote(lote, definicao, relatorio);
+                    lote.clear();
+                }
+            }
+        } catch (ValidacaoException e) {
+            relatorio.recusar(leitor.linhaDoRegistro(), null, e.getMessage() + ". Importação interrompida");
+        }
+        processarLote(lote, definicao, relatorio);
+
+        return relatorio.resultado();
+    }
+
+    /**
+     * Auxiliares
+     */
+    private <D> void processarLote(List<Linha<D>> lote, DefinicaoImportacao<D> definicao, Relatorio relatorio) {
+        if (lote.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> primeiraLinhaDoCpf = new HashMap<>();
+        var unicos = new ArrayList<Linha<D>>(lote.size());
+        for (var linha : lote) {
+            var cpf = definicao.cpf(linha.dto());
+            var anterior = primeiraLinhaDoCpf.putIfAbsent(cpf, linha.numero());
+            if (anterior != null) {
+                relatorio.recusar(linha.numero(), cpf, "CPF repetido no arquivo (linha " + anterior + ")");
+            } else {
+                unicos.add(linha);
+            }
+        }
+
+        var cadastrados = definicao.cpfsJaCadastrados(primeiraLinhaDoCpf.keySet());
+        var aceitas = new ArrayList<Linha<D>>(unicos.size());
+        for (var linha : unicos) {
+            var cpf = definicao.cpf(linha.dto());
+            if (cadastrados.contains(cpf)) {
+                relatorio.recusar(linha.numero(), cpf, definicao.mensagemCpfJaCadastrado());
+            } else {
+                aceitas.add(linha);
+            }
+        }
+        if (aceitas.isEmpty()) {
+            return;
+        }
+
+        try {
+            transacao.executeWithoutResult(status -> definicao.gravar(aceitas.stream().map(Linha::dto).toList()));
+            relatorio.importados += aceitas.size();
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Falha ao gravar lote de {} linhas a partir da linha {}", aceitas.size(), aceitas.get(0).numero(), e);
+            for (var linha : aceitas) {
+                relatorio.recusar(linha.numero(), definicao.cpf(linha.dto()), "Falha ao gravar o lote desta linha");
+            }
+        }
+    }
+
+    private Map<String, Integer> lerCabecalho(LeitorCsv leitor, List<String> colunas) {
+        var cabecalho = leitor.proximoRegistro();
+        if (cabecalho == null) {
+            throw new ValidacaoException("Arquivo CSV vazio");
+        }
+
+        Map<String, Integer> indices = new HashMap<>();
+        for (int i = 0; i < cabecalho.size(); i++) {
+            var nome = cabecalho.get(i).replace("\uFEFF", "").trim();
+            indices.put(nome.toLowerCase(Locale.ROOT), i);
+        }
+
+        var ausentes = colunas.stream()
+                .filter(coluna -> !indices.containsKey(coluna.toLowerCase(Locale.ROOT)))
+                .toList();
+        if (!ausentes.isEmpty()) {
+            throw new ValidacaoException("Colunas obrigatórias ausentes no CSV: " + String.join(", ", ausentes));
+        }
+
+        Map<String, Integer> porColuna = new HashMap<>();
+        colunas.forEach(coluna -> porColuna.put(coluna, indices.get(coluna.toLowerCase(Locale.ROOT))));
+        return porColuna;
+    }
+
+    private Map<String, String> extrairCampos(List<String> registro, Map<String, Integer> indices) {
+        Map<String, String> campos = new HashMap<>();
+        indices.forEach((coluna, indice) -> {
+            var valor = indice < registro.size() ? registro.get(indice).trim() : "";
+            campos.put(coluna, valor.isEmpty() ? null : valor);
+        });
+        return campos;
+    }
+
+    private <D> void validarCampos(D dto) {
+        Set<ConstraintViolation<D>> violacoes = validator.validate(dto);
+        if (!violacoes.isEmpty()) {
+            throw new ValidacaoException(violacoes.stream()
+                    .map(violacao -> violacao.getPropertyPath() + ": " + violacao.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+    }
+
+    private String mensagem(RuntimeException e) {
+        if (e instanceof DateTimeParseException parse) {
+            return "Data invalida '" + parse.getParsedString() + "', use dd/MM/yyyy";
+        }
+        return e.getMessage();
+    }
+
+    private record Linha<D>(long numero, D dto) {
+    }
+
+    private static class Relatorio {
+
+        private final int maximoErros;
+        private final List<ErroImportacaoDTO> erros = new ArrayList<>();
+        private long linhasLidas;
+        private long importados;
+        private long rejeitados;
+
+        Relatorio(int maximoErros) {
+            this.maximoErros = maximoErros;
+        }
+
+        void recusar(long linha, String cpf, String mensagem) {
+            rejeitados++;
+            if (erros.size() < maximoErros) {
+                erros.add(new ErroImportacaoDTO(linha, cpf, mensagem));
+            }
+        }
+
+        ResultadoImportacaoDTO resultado() {
+            erros.sort(Comparator.comparingLong(ErroImportacaoDTO::linha));
+            return new ResultadoImportacaoDTO(linhasLidas, importados, rejeitados, List.copyOf(erros),
+                    rejeitados > erros.size());
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.edutech.api.infra.importacao;
+
+import com.edutech.api.domain.exception.ValidacaoException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Leitor de CSV incremental: lê um registro por vez, sem carregar o arquivo em memória.
+ * Aceita campos entre aspas (com aspas duplicadas e quebras de linha dentro) e usa como
+ * separador ';' ou ',' conforme o que aparecer primeiro no cabeçalho.
+ */
+public class LeitorCsv {
+
+    private final Reader entrada;
+    private char separador;
+    private int linha = 1;
+    private int linhaDoRegistro;
+    private int proximo = -2;
+
+    public LeitorCsv(Reader entrada) {
+        this.entrada = entrada.markSupported() ? entrada : new BufferedReader(entrada);
+    }
+
+    /**
+     * Lê o próximo registro ou retorna null no fim do arquivo. Linhas em branco são ignoradas.
+     */
+    public List<String> proximoRegistro() {
+        if (espiar() == -1) {
+            return null;
+        }
+        while (espiar() == '\r' || espiar() == '\n') {
+            consumirQuebraDeLinha();
+        }
+        if (espiar() == -1) {
+            return null;
+        }
+
+        linhaDoRegistro = linha;
+        if (separador == 0) {
+            separador = detectarSeparador();
+        }
+
+        var campos = new ArrayList<String>();
+        var campo = new StringBuilder();
+        boolean entreAspas = false;
+
+        while (true) {
+            int c = ler();
+            if (entreAspas) {
+                if (c == -1) {
+                    throw new ValidacaoException("Aspas não fechadas no registro iniciado na linha " + linhaDoRegistro);
+                }
+                if (c == '"') {
+                    if (espiar() == '"') {
+                        campo.append((char) ler());
+                    } else {
+                        entreAspas = false;
+                    }
+                } else {
+                    if (c == '\n') {
+                        linha++;
+                    }
+                    campo.append((char) c);
+                }
+            } else if (c == '"' && campo.isEmpty()) {
+                entreAspas = true;
+            } else if (c == separador) {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else if (c == -1 || c == '\n' || c == '\r') {
+                if (c == '\r' && espiar() == '\n') {
+                    ler();
+                }
+                if (c != -1) {
+                    linha++;
+                }
+                campos.add(campo.toString());
+                return campos;
+            } else {
+                campo.append((char) c);
+            }
+        }
+    }
+
+    /**
+     * Número da linha do arquivo onde começa o último registro lido (o cabeçalho é a linha 1).
+     */
+    public int linhaDoRegistro() {
+        return linhaDoRegistro;
+    }
+
+    /**
+     * Auxiliares
+     */
+    private char detectarSeparador() {
+        if (espiar() == ';' || espiar() == ',') {
+            return (char) espiar();
+        }
+        try {
+            entrada.mark(8192);
+            int c;
+            int lidos = 0;
+            boolean entreAspas = espiar() == '"';
+            while ((c = entrada.read()) != -1 && lidos++ < 8192) {
+                if (c == '"') {
+                    entreAspas = !entreAspas;
+                } else if (!entreAspas && (c == ';' || c == ',')) {
+                    entrada.reset();
+                    return (char) c;
+                } else if (!entreAspas && (c == '\n' || c == '\r')) {
+                    break;
+                }
+            }
+            entrada.reset();
+            return ';';
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void consumirQuebraDeLinha() {
+        if (ler() == '\r' && espiar() == '\n') {
+            ler();
+        }
+        linha++;
+    }
+
+    private int espiar() {
+        if (proximo == -2) {
+            proximo = lerDaEntrada();
+        }
+        return proximo;
+    }
+
+    private int ler() {
+        int c = espiar();
+        proximo = -2;
+        return c;
+    }
+
+    private int lerDaEntrada() {
+        try {
+            return entrada.read();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.edutech.api.infra.importacao;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Importação de CSV: cada lote de {@code tamanhoLote} linhas tem seus CPFs verificados em
+ * uma consulta e é gravado em uma transação. O relatório guarda no máximo
+ * {@code maximoErrosReportados} erros, para a memória não crescer com o arquivo.
+ */
+@ConfigurationProperties(prefix = "importacao")
+public record PropriedadesImportacao(
+        int tamanhoLote,
+        int maximoErrosReportados
+) {
+
+    public PropriedadesImportacao {
+        if (tamanhoLote <= 0) {
+            tamanhoLote = 1_000;
+        }
+        if (maximoErrosReportados <= 0) {
+            maximoErrosReportados = 1_000;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.edutech.api.infra.importacao;
+
+import java.util.List;
+
+public record ResultadoImportacaoDTO(
+        long linhasLidas,
+        long importados,
+        long rejeitados,
+        List<ErroImportacaoDTO> erros,
+        boolean errosTruncados
+) {
+
+    public record ErroImportacaoDTO(
+            long linha,
+            String cpf,
+            String mensagem
+    ) {}
+}
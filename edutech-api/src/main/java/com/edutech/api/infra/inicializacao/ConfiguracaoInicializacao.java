@@ -0,0 +1,26 @@
+package com.edutech.api.infra.inicializacao;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+
+import javax.sql.DataSource;
+
+/**
+ * Com {@code spring.main.lazy-initialization} (perfil inicio-rapido) os beans são criados no
+ * primeiro uso. Os daqui são usados por toda requisição e continuam sendo criados na
+ * inicialização, para a primeira requisição não pagar o metamodelo do Hibernate, o pool de
+ * conexões e a leitura das chaves RSA.
+ */
+@Configuration
+public class ConfiguracaoInicializacao {
+
+    @Bean
+    static LazyInitializationExcludeFilter beansDoCaminhoDaRequisicao() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                EntityManagerFactory.class, DataSource.class, JwtDecoder.class, JwtEncoder.class);
+    }
+}
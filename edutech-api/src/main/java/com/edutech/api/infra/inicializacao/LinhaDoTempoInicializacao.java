@@ -0,0 +1,85 @@
+package com.edutech.api.infra.inicializacao;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Resume a linha do tempo gravada pelo {@link BufferingApplicationStartup} (ligado no
+ * {@code main}): tempo até a aplicação ficar pronta e os beans mais caros, pelo tempo
+ * próprio de cada um, descontadas as dependências criadas dentro dele. A linha do tempo
+ * completa continua em {@code GET /actuator/startup}.
+ */
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(PropriedadesInicializacao.class)
+public class LinhaDoTempoInicializacao implements ApplicationListener<ApplicationReadyEvent> {
+
+    static final String CRIACAO_BEAN = "spring.beans.instantiate";
+
+    private static final Logger log = LoggerFactory.getLogger(LinhaDoTempoInicializacao.class);
+
+    private final PropriedadesInicializacao propriedades;
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent evento) {
+        if (!(evento.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup startup)) {
+            return;
+        }
+        var mais = beansMaisCaros(startup.getBufferedTimeline().getEvents(), propriedades.beansListados());
+        log.info("Aplicação pronta em {} ms; beans mais caros (tempo próprio): {}",
+                evento.getTimeTaken().toMillis(),
+                mais.stream()
+                        .map(bean -> bean.nome() + "=" + bean.tempo().toMillis() + "ms")
+                        .collect(Collectors.joining(", ")));
+    }
+
+    /**
+     * Tempo de criação de cada bean menos o das criações aninhadas nele, em ordem decrescente.
+     */
+    static List<TempoBean> beansMaisCaros(List<TimelineEvent> eventos, int limite) {
+        Map<Long, Duration> aninhado = new HashMap<>();
+        for (var evento : eventos) {
+            var passo = evento.getStartupStep();
+            if (CRIACAO_BEAN.equals(passo.getName()) && passo.getParentId() != null) {
+                aninhado.merge(passo.getParentId(), evento.getDuration(), Duration::plus);
+            }
+        }
+        return eventos.stream()
+                .filter(evento -> CRIACAO_BEAN.equals(evento.getStartupStep().getName()))
+                .map(evento -> new TempoBean(nomeBean(evento.getStartupStep()),
+                        evento.getDuration().minus(aninhado.getOrDefault(evento.getStartupStep().getId(), Duration.ZERO))))
+                .sorted(Comparator.comparing(TempoBean::tempo).reversed())
+                .limit(limite)
+                .toList();
+    }
+
+    /**
+     * Auxiliares
+     */
+    private static String nomeBean(StartupStep passo) {
+        for (var tag : passo.getTags()) {
+            if ("beanName".equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return "?";
+    }
+
+    record TempoBean(String nome, Duration tempo) {
+    }
+}
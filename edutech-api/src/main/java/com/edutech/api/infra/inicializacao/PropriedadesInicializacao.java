@@ -0,0 +1,19 @@
+package com.edutech.api.infra.inicializacao;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Linha do tempo da inicialização: quando a aplicação fica pronta, os {@code beansListados}
+ * beans que mais demoraram para ser criados (sem contar as dependências) vão para o log.
+ */
+@ConfigurationProperties(prefix = "inicializacao")
+public record PropriedadesInicializacao(
+        int beansListados
+) {
+
+    public PropriedadesInicializacao {
+        if (beansListados <= 0) {
+            beansListados = 10;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.edutech.api.infra.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Um pedido de matricula, da chegada à resposta. Quando passa pela fila de admissão a
+ * duração inclui a espera pelo lote.
+ */
+@Name("edutech.AdmissaoMatricula")
+@Label("Admissão de Matricula")
+@Category({"EduTech", "Matricula"})
+@StackTrace(false)
+public class EventoAdmissaoMatricula extends Event {
+
+    @Label("Turma")
+    public long turmaId;
+
+    @Label("Aluno")
+    public long alunoId;
+
+    @Label("Pela Fila")
+    public boolean pelaFila;
+
+    @Label("Resultado")
+    public String resultado;
+}
@@ -0,0 +1,19 @@
+package com.edutech.api.infra.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Verificação de credenciais no login (busca do usuário e comparação do hash da senha).
+ */
+@Name("edutech.Login")
+@Label("Login")
+@Category({"EduTech", "Segurança"})
+@StackTrace(false)
+public class EventoLogin extends Event {
+
+    @Label("Login")
+    public String login;
+
+    @Label("Resultado")
+    public String resultado;
+}
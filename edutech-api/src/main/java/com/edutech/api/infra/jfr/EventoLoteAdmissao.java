@@ -0,0 +1,25 @@
+package com.edutech.api.infra.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Um lote da fila de admissão gravado em uma transação.
+ */
+@Name("edutech.LoteAdmissao")
+@Label("Lote de Admissão")
+@Category({"EduTech", "Matricula"})
+@StackTrace(false)
+public class EventoLoteAdmissao extends Event {
+
+    @Label("Turma")
+    public long turmaId;
+
+    @Label("Pedidos")
+    public int pedidos;
+
+    @Label("Aceitos")
+    public int aceitos;
+
+    @Label("Resultado")
+    public String resultado;
+}
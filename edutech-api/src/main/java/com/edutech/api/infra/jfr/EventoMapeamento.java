@@ -0,0 +1,19 @@
+package com.edutech.api.infra.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Chamada a um mapper MapStruct.
+ */
+@Name("edutech.Mapeamento")
+@Label("Mapeamento")
+@Category({"EduTech", "Mapeamento"})
+@StackTrace(false)
+public class EventoMapeamento extends Event {
+
+    @Label("Mapper")
+    public Class<?> mapper;
+
+    @Label("Método")
+    public String metodo;
+}
@@ -0,0 +1,40 @@
+package com.edutech.api.infra.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Mudança de status de uma turma, incluindo as validações e, no cancelamento, a cascata
+ * sobre as matriculas.
+ */
+@Name("edutech.TransicaoTurma")
+@Label("Transição de Turma")
+@Category({"EduTech", "Turma"})
+public class EventoTransicaoTurma extends Event {
+
+    @Label("Turma")
+    public long turmaId;
+
+    @Label("Status Anterior")
+    public String statusAnterior;
+
+    @Label("Status Pretendido")
+    public String statusPretendido;
+
+    @Label("Resultado")
+    public String resultado;
+
+    /**
+     * Executa a transição registrando o evento, inclusive quando ela é recusada.
+     */
+    public static void registrar(long turmaId, Enum<?> statusAnterior, Enum<?> statusPretendido, Runnable transicao) {
+        RegistroEventos.registrar(new EventoTransicaoTurma(), () -> {
+            transicao.run();
+            return null;
+        }, (evento, retorno, resultado) -> {
+            evento.turmaId = turmaId;
+            evento.statusAnterior = statusAnterior.name();
+            evento.statusPretendido = statusPretendido.name();
+            evento.resultado = resultado;
+        });
+    }
+}
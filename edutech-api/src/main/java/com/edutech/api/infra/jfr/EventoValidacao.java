@@ -0,0 +1,19 @@
+package com.edutech.api.infra.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Execução de um validador de regra de negócio.
+ */
+@Name("edutech.Validacao")
+@Label("Validação")
+@Category({"EduTech", "Validação"})
+@StackTrace(false)
+public class EventoValidacao extends Event {
+
+    @Label("Validador")
+    public Class<?> validador;
+
+    @Label("Resultado")
+    public String resultado;
+}
@@ -0,0 +1,35 @@
+package com.edutech.api.infra.jfr;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registra um {@link EventoValidacao} por validador executado e um {@link EventoMapeamento}
+ * por chamada a mapper. Cada chamada passa a ter um proxy a mais mesmo sem gravação ativa,
+ * por isso o aspecto só existe com {@code jfr.eventos-habilitados} (ligado no perfil local).
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(prefix = "jfr", name = "eventos-habilitados", havingValue = "true")
+public class EventosJfrAspect {
+
+    @Around("execution(* com.edutech.api.domain..validacoes..*.validar(..)) " +
+            "|| execution(* com.edutech.api.domain..validadores..*.validar(..))")
+    public Object validacao(ProceedingJoinPoint joinPoint) throws Throwable {
+        return RegistroEventos.registrar(new EventoValidacao(), joinPoint::proceed, (evento, retorno, resultado) -> {
+            evento.validador = joinPoint.getTarget().getClass();
+            evento.resultado = resultado;
+        });
+    }
+
+    @Around("execution(public * com.edutech.api.domain..mapper..*(..))")
+    public Object mapeamento(ProceedingJoinPoint joinPoint) throws Throwable {
+        return RegistroEventos.registrar(new EventoMapeamento(), joinPoint::proceed, (evento, retorno, resultado) -> {
+            evento.mapper = joinPoint.getTarget().getClass();
+            evento.metodo = joinPoint.getSignature().getName();
+        });
+    }
+}
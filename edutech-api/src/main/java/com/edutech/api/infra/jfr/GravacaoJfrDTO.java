@@ -0,0 +1,12 @@
+package com.edutech.api.infra.jfr;
+
+import java.time.Instant;
+
+public record GravacaoJfrDTO(
+        String estado,
+        String configuracao,
+        Instant inicio,
+        Long duracaoMaximaS,
+        Long tamanhoBytes
+) {
+}
@@ -0,0 +1,146 @@
+package com.edutech.api.infra.jfr;
+
+import com.edutech.api.domain.exception.ValidacaoException;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Uma gravação JFR por vez, dentro da própria aplicação. A gravação é limitada em duração
+ * e tamanho e, ao parar (pelo pedido ou pelo fim da duração), é gravada em um arquivo
+ * temporário que fica disponível para download até a próxima ser iniciada.
+ */
+@Service
+@EnableConfigurationProperties(PropriedadesJfr.class)
+public class GravacaoJfrService {
+
+    private static final List<Class<? extends jdk.jfr.Event>> EVENTOS = List.of(
+            EventoAdmissaoMatricula.class, EventoLoteAdmissao.class, EventoValidacao.class,
+            EventoTransicaoTurma.class, EventoLogin.class, EventoMapeamento.class);
+
+    /**
+     * Eventos do JDK que copiam o ambiente, as propriedades e os argumentos da JVM (senha do
+     * banco, segredos do JWT) para o arquivo baixado.
+     */
+    static final List<String> EVENTOS_SENSIVEIS = List.of(
+            "jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty", "jdk.JVMInformation");
+
+    private final PropriedadesJfr propriedades;
+    private Recording gravacao;
+    private Path arquivo;
+
+    public GravacaoJfrService(PropriedadesJfr propriedades) {
+        this.propriedades = propriedades;
+    }
+
+    /**
+     * Inicia a gravação. Sem duração informada, ou acima do limite, usa {@code jfr.duracao-maxima-s}.
+     */
+    public synchronized GravacaoJfrDTO iniciar(Long duracaoS) {
+        if (gravando()) {
+            throw new ValidacaoException("Já existe uma gravação JFR em andamento");
+        }
+        var duracao = duracaoS == null || duracaoS <= 0
+                ? propriedades.duracaoMaximaS()
+                : Math.min(duracaoS, propriedades.duracaoMaximaS());
+
+        descartarAnterior();
+        try {
+            arquivo = Files.createTempFile("edutech-", ".jfr");
+            gravacao = new Recording(Configuration.getConfiguration(propriedades.configuracao()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ParseException e) {
+            throw new IllegalStateException("Configuração JFR inválida: " + propriedades.configuracao(), e);
+        }
+        EVENTOS.forEach(gravacao::enable);
+        EVENTOS_SENSIVEIS.forEach(gravacao::disable);
+        gravacao.setName("edutech");
+        gravacao.setToDisk(true);
+        gravacao.setMaxSize(propriedades.tamanhoMaximoMb() * 1024 * 1024);
+        gravacao.setDuration(Duration.ofSeconds(duracao));
+        try {
+            gravacao.setDestination(arquivo);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        gravacao.start();
+        return situacao();
+    }
+
+    public synchronized GravacaoJfrDTO parar() {
+        if (!gravando()) {
+            throw new ValidacaoException("Não há gravação JFR em andamento");
+        }
+        gravacao.stop();
+        return situacao();
+    }
+
+    public synchronized GravacaoJfrDTO situacao() {
+        if (gravacao == null) {
+            return new GravacaoJfrDTO("NENHUMA", null, null, null, null);
+        }
+        return new GravacaoJfrDTO(
+                gravando() ? "GRAVANDO" : "CONCLUIDA",
+                propriedades.configuracao(),
+                gravacao.getStartTime(),
+                gravacao.getDuration() == null ? null : gravacao.getDuration().toSeconds(),
+                tamanhoArquivo());
+    }
+
+    /**
+     * Arquivo da última gravação, disponível depois que ela parou.
+     */
+    public synchronized Path arquivo() {
+        if (gravacao == null || gravando() || !Files.exists(arquivo)) {
+            throw new ValidacaoException("Não há gravação JFR concluída para download");
+        }
+        return arquivo;
+    }
+
+    @PreDestroy
+    synchronized void encerrar() {
+        descartarAnterior();
+    }
+
+    /**
+     * Auxiliares
+     */
+    private boolean gravando() {
+        return gravacao != null && (gravacao.getState() == RecordingState.NEW || gravacao.getState() == RecordingState.RUNNING);
+    }
+
+    private void descartarAnterior() {
+        if (gravacao != null) {
+            gravacao.close();
+            gravacao = null;
+        }
+        if (arquivo != null) {
+            try {
+                Files.deleteIfExists(arquivo);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            arquivo = null;
+        }
+    }
+
+    private Long tamanhoArquivo() {
+        try {
+            return gravando() || !Files.exists(arquivo) ? null : Files.size(arquivo);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.edutech.api.infra.jfr;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Eventos JFR da aplicação e gravações sob demanda. Com {@code eventosHabilitados} (ligado
+ * só no perfil local) os validadores e mappers passam por um aspecto que registra cada
+ * chamada; os demais eventos ficam nos pontos de entrada dos serviços. As gravações
+ * usam a configuração {@code configuracao} do JDK ("default" ou "profile"), param sozinhas
+ * após {@code duracaoMaximaS} segundos e guardam no máximo {@code tamanhoMaximoMb} MB.
+ */
+@ConfigurationProperties(prefix = "jfr")
+public record PropriedadesJfr(
+        boolean eventosHabilitados,
+        String configuracao,
+        long duracaoMaximaS,
+        long tamanhoMaximoMb
+) {
+
+    public PropriedadesJfr {
+        if (configuracao == null || configuracao.isBlank()) {
+            configuracao = "profile";
+        }
+        if (duracaoMaximaS <= 0) {
+            duracaoMaximaS = 600;
+        }
+        if (tamanhoMaximoMb <= 0) {
+            tamanhoMaximoMb = 100;
+        }
+    }
+}
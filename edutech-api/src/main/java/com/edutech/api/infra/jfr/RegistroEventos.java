@@ -0,0 +1,46 @@
+package com.edutech.api.infra.jfr;
+
+import jdk.jfr.Event;
+
+/**
+ * Ciclo de vida dos eventos JFR da aplicação: inicia o evento, executa a operação e, só
+ * quando há uma gravação que aceita o evento, preenche os campos e o grava, com o resultado
+ * tirado da exceção que encerrou a operação.
+ */
+public final class RegistroEventos {
+
+    private RegistroEventos() {
+    }
+
+    @FunctionalInterface
+    public interface Operacao<T, X extends Throwable> {
+        T executar() throws X;
+    }
+
+    /**
+     * Recebe o retorno da operação ({@code null} quando ela falhou) e o {@link ResultadoEvento}.
+     */
+    @FunctionalInterface
+    public interface Preenchimento<E extends Event, T> {
+        void preencher(E evento, T retorno, String resultado);
+    }
+
+    public static <E extends Event, T, X extends Throwable> T registrar(
+            E evento, Operacao<T, X> operacao, Preenchimento<E, ? super T> preenchimento) throws X {
+        evento.begin();
+        T retorno = null;
+        Throwable erro = null;
+        try {
+            retorno = operacao.executar();
+            return retorno;
+        } catch (Throwable e) {
+            erro = e;
+            throw e;
+        } finally {
+            if (evento.shouldCommit()) {
+                preenchimento.preencher(evento, retorno, ResultadoEvento.de(erro));
+                evento.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.edutech.api.infra.jfr;
+
+import com.edutech.api.domain.exception.ValidacaoException;
+import com.edutech.api.infra.concorrencia.ServicoSobrecarregadoException;
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * Resultado gravado nos eventos JFR, a partir da exceção que encerrou a operação.
+ */
+public final class ResultadoEvento {
+
+    public static final String SUCESSO = "SUCESSO";
+    public static final String RECUSADO = "RECUSADO";
+    public static final String SOBRECARGA = "SOBRECARGA";
+    public static final String ERRO = "ERRO";
+
+    private ResultadoEvento() {
+    }
+
+    public static String de(Throwable erro) {
+        if (erro == null) {
+            return SUCESSO;
+        }
+        if (erro instanceof ValidacaoException || erro instanceof AuthenticationException) {
+            return RECUSADO;
+        }
+        if (erro instanceof ServicoSobrecarregadoException) {
+            return SOBRECARGA;
+        }
+        return ERRO;
+    }
+}
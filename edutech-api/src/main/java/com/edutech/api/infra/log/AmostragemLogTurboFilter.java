@@ -0,0 +1,51 @@
+package com.edutech.api.infra.log;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Deixa passar um a cada {@code umACada} eventos DEBUG/TRACE das categorias configuradas
+ * (prefixos de logger, separados por vírgula), para que ligar o DEBUG de SQL ou segurança
+ * em produção não inunde o log. Eventos que o nível do logger já descartaria não são
+ * contados, e as consultas {@code isDebugEnabled()} não são afetadas.
+ */
+public class AmostragemLogTurboFilter extends TurboFilter {
+
+    private String[] categorias = new String[0];
+    private AtomicLong[] contadores = new AtomicLong[0];
+    private int umACada = 100;
+
+    public void setCategorias(String categorias) {
+        this.categorias = Arrays.stream(categorias.split(","))
+                .map(String::trim)
+                .filter(categoria -> !categoria.isEmpty())
+                .toArray(String[]::new);
+        this.contadores = new AtomicLong[this.categorias.length];
+        Arrays.setAll(contadores, i -> new AtomicLong());
+    }
+
+    public void setUmACada(int umACada) {
+        this.umACada = Math.max(1, umACada);
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (format == null || level.toInt() > Level.DEBUG_INT || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        var nome = logger.getName();
+        for (int i = 0; i < categorias.length; i++) {
+            if (nome.startsWith(categorias[i])) {
+                return contadores[i].getAndIncrement() % umACada == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+            }
+        }
+        return FilterReply.NEUTRAL;
+    }
+}
@@ -0,0 +1,18 @@
+package com.edutech.api.infra.log;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+@Configuration
+public class ConfiguracaoLog {
+
+    /**
+     * Aplicado pelo Spring Boot ao executor padrão de tarefas, usado também nas respostas
+     * assíncronas do MVC (NDJSON): as tarefas mantêm o MDC da requisição.
+     */
+    @Bean
+    public TaskDecorator decoradorContextoLog() {
+        return ContextoLog::propagar;
+    }
+}
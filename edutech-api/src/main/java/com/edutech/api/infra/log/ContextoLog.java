@@ -0,0 +1,56 @@
+package com.edutech.api.infra.log;
+
+import org.slf4j.MDC;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Chaves de correlação do MDC e a cópia delas para tarefas que rodam em outra thread.
+ */
+public final class ContextoLog {
+
+    public static final String REQUISICAO = "requestId";
+    public static final String USUARIO = "usuario";
+
+    private ContextoLog() {
+    }
+
+    /**
+     * Envolve a tarefa para que rode com o MDC da thread que a criou.
+     */
+    public static <T> Supplier<T> propagar(Supplier<T> tarefa) {
+        var contexto = MDC.getCopyOfContextMap();
+        if (contexto == null) {
+            return tarefa;
+        }
+        return () -> {
+            var anterior = MDC.getCopyOfContextMap();
+            MDC.setContextMap(contexto);
+            try {
+                return tarefa.get();
+            } finally {
+                restaurar(anterior);
+            }
+        };
+    }
+
+    public static Runnable propagar(Runnable tarefa) {
+        var comContexto = propagar(() -> {
+            tarefa.run();
+            return null;
+        });
+        return comContexto::get;
+    }
+
+    /**
+     * Auxiliares
+     */
+    private static void restaurar(Map<String, String> contexto) {
+        if (contexto == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(contexto);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.edutech.api.infra.log;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Primeiro filtro da requisição: põe no MDC o id da requisição, recebido em
+ * {@code X-Request-Id} ou gerado, e o devolve no mesmo cabeçalho. O login do usuário é
+ * acrescentado depois da autenticação ({@link FiltroUsuarioLog}); as duas chaves são
+ * removidas aqui, no fim da requisição.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class FiltroCorrelacao extends OncePerRequestFilter {
+
+    static final String CABECALHO = "X-Request-Id";
+
+    private static final Pattern ID_VALIDO = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        var recebido = request.getHeader(CABECALHO);
+        var id = recebido != null && ID_VALIDO.matcher(recebido).matches() ? recebido : UUID.randomUUID().toString();
+
+        MDC.put(ContextoLog.REQUISICAO, id);
+        response.setHeader(CABECALHO, id);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            MDC.remove(ContextoLog.REQUISICAO);
+            MDC.remove(ContextoLog.USUARIO);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.edutech.api.infra.log;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Põe no MDC o subject do token. Registrado na cadeia de segurança logo após a validação
+ * do JWT, não como bean, para não rodar também fora dela.
+ */
+public class FiltroUsuarioLog extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        var autenticacao = SecurityContextHolder.getContext().getAuthentication();
+        if (autenticacao != null && autenticacao.isAuthenticated()) {
+            MDC.put(ContextoLog.USUARIO, autenticacao.getName());
+        }
+        chain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,95 @@
+package com.edutech.api.infra.log;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import org.springframework.boot.logging.structured.StructuredLogFormatter;
+import org.springframework.core.env.Environment;
+
+import java.time.format.DateTimeFormatter;
+
+/**
+ * JSON de uma linha por evento com os campos do Elastic Common Schema ({@code @timestamp},
+ * {@code log.level}, {@code log.logger}, {@code process.thread.name}, {@code service.name},
+ * {@code message}, {@code error.*}) e as chaves do MDC no primeiro nível.
+ * <p>
+ * Usado no lugar do formato {@code ecs} do Spring Boot, que escreve o JSON caractere a
+ * caractere por um {@code OutputStreamWriter} (cerca de 19 KB alocados e 17 µs por
+ * evento, ver {@code LogBenchmark}): aqui o evento é montado em um único StringBuilder.
+ */
+public class FormatadorLogJson implements StructuredLogFormatter<ILoggingEvent> {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final String servico;
+
+    public FormatadorLogJson(Environment environment) {
+        this.servico = environment.getProperty("spring.application.name", "");
+    }
+
+    @Override
+    public String format(ILoggingEvent evento) {
+        var mensagem = evento.getFormattedMessage();
+        var json = new StringBuilder(256 + (mensagem == null ? 0 : mensagem.length()));
+
+        json.append("{\"@timestamp\":\"");
+        DateTimeFormatter.ISO_INSTANT.formatTo(evento.getInstant(), json);
+        json.append("\",\"log.level\":\"").append(evento.getLevel().levelStr);
+        json.append("\",\"log.logger\":");
+        texto(json, evento.getLoggerName());
+        json.append(",\"process.thread.name\":");
+        texto(json, evento.getThreadName());
+        json.append(",\"service.name\":");
+        texto(json, servico);
+        json.append(",\"message\":");
+        texto(json, mensagem);
+
+        evento.getMDCPropertyMap().forEach((chave, valor) -> {
+            json.append(',');
+            texto(json, chave);
+            json.append(':');
+            texto(json, valor);
+        });
+
+        var erro = evento.getThrowableProxy();
+        if (erro != null) {
+            json.append(",\"error.type\":");
+            texto(json, erro.getClassName());
+            json.append(",\"error.message\":");
+            texto(json, erro.getMessage());
+            json.append(",\"error.stack_trace\":");
+            texto(json, ThrowableProxyUtil.asString(erro));
+        }
+
+        return json.append(",\"ecs.version\":\"8.11\"}\n").toString();
+    }
+
+    /**
+     * Auxiliares
+     */
+    private static void texto(StringBuilder json, String valor) {
+        if (valor == null) {
+            json.append("null");
+            return;
+        }
+        json.append('"');
+        int inicio = 0;
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                continue;
+            }
+            json.append(valor, inicio, i);
+            inicio = i + 1;
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> json.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+            }
+        }
+        json.append(valor, inicio, valor.length());
+        json.append('"');
+    }
+}
@@ -0,0 +1,110 @@
+package com.edutech.api.infra.paginacao;
+
+import com.edutech.api.infra.conexoes.PoolConexoes;
+import com.edutech.api.infra.conexoes.UsarPool;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Totais das listagens sem COUNT(*) por página. A primeira consulta de cada tabela/filtro
+ * conta uma vez; depois o valor é servido da memória e recalculado em segundo plano a cada
+ * {@code contagem.intervalo-atualizacao-ms}. Sem filtro, no Postgres, usa a estimativa das
+ * estatísticas da tabela, que não varre a tabela.
+ * <p>
+ * A contagem roda fora do mapa, que só recebe o valor pronto: dentro de
+ * {@code computeIfAbsent} ou {@code replaceAll} ela seguraria a trava do trecho do mapa e
+ * bloquearia as outras chaves desse trecho enquanto a consulta durasse. Duas primeiras
+ * consultas simultâneas da mesma chave podem contar as duas; fica o valor de quem terminar
+ * primeiro.
+ */
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(PropriedadesContagem.class)
+@UsarPool(PoolConexoes.RELATORIO)
+public class ContagemAproximada {
+
+    private static final Logger log = LoggerFactory.getLogger(ContagemAproximada.class);
+
+    private final JdbcTemplate jdbc;
+    private final PropriedadesContagem propriedades;
+    private final Map<String, Contagem> contagens = new ConcurrentHashMap<>();
+    private volatile Boolean postgres;
+
+    /**
+     * Total da tabela inteira.
+     */
+    public TotalAproximado total(String tabela, LongSupplier contagemExata) {
+        return obter(tabela, () -> estimarTabela(tabela, contagemExata));
+    }
+
+    /**
+     * Total das linhas da tabela com o filtro informado (ex.: um status).
+     */
+    public TotalAproximado total(String tabela, Enum<?> filtro, LongSupplier contagemExata) {
+        return obter(tabela + ":" + filtro.name(), contagemExata);
+    }
+
+    @Scheduled(fixedDelayString = "${contagem.intervalo-atualizacao-ms:60000}",
+            initialDelayString = "${contagem.intervalo-atualizacao-ms:60000}")
+    public void atualizar() {
+        contagens.forEach((chave, contagem) -> {
+            try {
+                contagens.replace(chave, contagem, contar(contagem.fonte()));
+            } catch (DataAccessException e) {
+                log.warn("Falha ao atualizar a contagem de {}; mantendo o valor de {}", chave, contagem.total().calculadoEm(), e);
+            }
+        });
+    }
+
+    /**
+     * Auxiliares
+     */
+    private TotalAproximado obter(String chave, LongSupplier fonte) {
+        var contagem = contagens.get(chave);
+        if (contagem == null) {
+            var nova = contar(fonte);
+            var existente = contagens.putIfAbsent(chave, nova);
+            contagem = existente != null ? existente : nova;
+        }
+        return contagem.total();
+    }
+
+    private Contagem contar(LongSupplier fonte) {
+        return new Contagem(fonte, new TotalAproximado(fonte.getAsLong(), Instant.now()));
+    }
+
+    private long estimarTabela(String tabela, LongSupplier contagemExata) {
+        if (propriedades.usarEstatisticasPostgres() && postgres()) {
+            Long estimativa = jdbc.queryForObject(
+                    "SELECT c.reltuples::bigint FROM pg_class c WHERE c.oid = to_regclass(?)", Long.class, tabela);
+            // reltuples é -1 enquanto a tabela não passou por ANALYZE/VACUUM
+            if (estimativa != null && estimativa >= 0) {
+                return estimativa;
+            }
+        }
+        return contagemExata.getAsLong();
+    }
+
+    private boolean postgres() {
+        if (postgres == null) {
+            postgres = jdbc.execute((ConnectionCallback<Boolean>) conexao ->
+                    "PostgreSQL".equalsIgnoreCase(conexao.getMetaData().getDatabaseProductName()));
+        }
+        return postgres;
+    }
+
+    private record Contagem(LongSupplier fonte, TotalAproximado total) {
+    }
+}
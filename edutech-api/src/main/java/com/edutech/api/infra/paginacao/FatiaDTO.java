@@ -0,0 +1,31 @@
+package com.edutech.api.infra.paginacao;
+
+import org.springframework.data.domain.Slice;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Página de uma listagem sem COUNT(*): informa apenas se há próxima página. O total, quando
+ * pedido, é aproximado e vem com o instante em que foi calculado.
+ */
+public record FatiaDTO<T>(
+        List<T> conteudo,
+        int pagina,
+        int tamanho,
+        boolean temProxima,
+        Long totalAproximado,
+        Instant totalCalculadoEm
+) {
+
+    public static <T> FatiaDTO<T> de(Slice<T> fatia, TotalAproximado total) {
+        return new FatiaDTO<>(
+                fatia.getContent(),
+                fatia.getNumber(),
+                fatia.getSize(),
+                fatia.hasNext(),
+                total != null ? total.valor() : null,
+                total != null ? total.calculadoEm() : null
+        );
+    }
+}
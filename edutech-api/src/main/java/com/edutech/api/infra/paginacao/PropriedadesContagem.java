@@ -0,0 +1,24 @@
+package com.edutech.api.infra.paginacao;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Totais aproximados das listagens: cada contagem fica em memória e é recalculada a cada
+ * {@code intervaloAtualizacaoMs}. Sem filtro, no Postgres, o total vem das estatísticas da
+ * tabela ({@code pg_class.reltuples}) em vez de um COUNT(*).
+ */
+@ConfigurationProperties(prefix = "contagem")
+public record PropriedadesContagem(
+        long intervaloAtualizacaoMs,
+        Boolean usarEstatisticasPostgres
+) {
+
+    public PropriedadesContagem {
+        if (intervaloAtualizacaoMs <= 0) {
+            intervaloAtualizacaoMs = 60_000;
+        }
+        if (usarEstatisticasPostgres == null) {
+            usarEstatisticasPostgres = true;
+        }
+    }
+}
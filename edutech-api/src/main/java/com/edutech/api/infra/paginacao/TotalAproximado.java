@@ -0,0 +1,8 @@
+package com.edutech.api.infra.paginacao;
+
+import java.time.Instant;
+
+public record TotalAproximado(
+        long valor,
+        Instant calculadoEm
+) {}
@@ -0,0 +1,28 @@
+package com.edutech.api.infra.perfilamento;
+
+import org.hibernate.cfg.SessionEventSettings;
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Liga os eventos do Hibernate que alimentam o {@link PerfilRequisicao}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "perfilamento", name = "habilitado", havingValue = "true")
+public class ConfiguracaoPerfilamento {
+
+    @Bean
+    public HibernatePropertiesCustomizer perfilamentoHibernate() {
+        return propriedades -> {
+            propriedades.put(SessionEventSettings.AUTO_SESSION_EVENTS_LISTENER, OuvinteSessaoPerfilamento.class.getName());
+            propriedades.put(EntityManagerFactoryBuilderImpl.INTEGRATOR_PROVIDER,
+                    (IntegratorProvider) () -> List.of(new IntegradorPerfilamento()));
+        };
+    }
+}
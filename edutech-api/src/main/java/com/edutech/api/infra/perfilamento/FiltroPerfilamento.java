@@ -0,0 +1,130 @@
+package com.edutech.api.infra.perfilamento;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Abre o perfil de cada requisição, logo após a correlação e antes da segurança, e no fim loga o resumo das que
+ * passaram de {@code perfilamento.limite-requisicao-lenta-ms}, em pares chave=valor.
+ * Com {@code perfilamento.expor-cabecalhos} os contadores vão nos cabeçalhos
+ * {@code X-Perfil-*}, gravados quando o corpo começa a ser escrito.
+ * <p>
+ * Nas respostas transmitidas (NDJSON) as leituras feitas durante a escrita do corpo rodam
+ * em outra thread e ficam fora do perfil.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(prefix = "perfilamento", name = "habilitado", havingValue = "true")
+@EnableConfigurationProperties(PropriedadesPerfilamento.class)
+public class FiltroPerfilamento extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(FiltroPerfilamento.class);
+
+    private final PropriedadesPerfilamento propriedades;
+
+    public FiltroPerfilamento(PropriedadesPerfilamento propriedades) {
+        this.propriedades = propriedades;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        var inicio = System.nanoTime();
+        var perfil = PerfilRequisicao.iniciar();
+        var resposta = propriedades.exporCabecalhos() ? new RespostaComPerfil(response, perfil) : response;
+        try {
+            chain.doFilter(request, resposta);
+        } finally {
+            PerfilRequisicao.encerrar();
+            if (resposta instanceof RespostaComPerfil comPerfil) {
+                comPerfil.escreverCabecalhos();
+            }
+            var duracaoMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+            if (duracaoMs >= propriedades.limiteRequisicaoLentaMs()) {
+                logarRequisicaoLenta(request, response, perfil, duracaoMs);
+            }
+        }
+    }
+
+    /**
+     * Auxiliares
+     */
+    private void logarRequisicaoLenta(HttpServletRequest request, HttpServletResponse response,
+                                      PerfilRequisicao perfil, long duracaoMs) {
+        var rota = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        log.warn("Requisição lenta: metodo={} uri={} rota={} status={} duracaoMs={} consultas={} jdbcMs={} " +
+                        "conexoes={} esperaConexaoMs={} entidades={} entidadesPorTipo={} colecoes={}",
+                request.getMethod(), request.getRequestURI(), rota, response.getStatus(), duracaoMs,
+                perfil.consultas(), perfil.jdbcMs(), perfil.conexoes(), perfil.esperaConexaoMs(),
+                perfil.totalEntidades(), entidadesPorTipo(perfil), perfil.colecoes());
+    }
+
+    private static String entidadesPorTipo(PerfilRequisicao perfil) {
+        return perfil.entidades().entrySet().stream()
+                .map(entidade -> entidade.getKey() + "=" + entidade.getValue())
+                .collect(Collectors.joining(",", "{", "}"));
+    }
+
+    /**
+     * Grava os cabeçalhos do perfil uma única vez, antes de a resposta ser confirmada.
+     */
+    private static class RespostaComPerfil extends HttpServletResponseWrapper {
+
+        private final PerfilRequisicao perfil;
+        private boolean cabecalhosEscritos;
+
+        RespostaComPerfil(HttpServletResponse response, PerfilRequisicao perfil) {
+            super(response);
+            this.perfil = perfil;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            escreverCabecalhos();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            escreverCabecalhos();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            escreverCabecalhos();
+            super.flushBuffer();
+        }
+
+        void escreverCabecalhos() {
+            if (cabecalhosEscritos || isCommitted()) {
+                return;
+            }
+            cabecalhosEscritos = true;
+            setHeader("X-Perfil-Consultas", String.valueOf(perfil.consultas()));
+            setHeader("X-Perfil-Jdbc-Ms", String.valueOf(perfil.jdbcMs()));
+            setHeader("X-Perfil-Conexoes", String.valueOf(perfil.conexoes()));
+            setHeader("X-Perfil-Espera-Conexao-Ms", String.valueOf(perfil.esperaConexaoMs()));
+            setHeader("X-Perfil-Entidades", entidadesPorTipo(perfil));
+            setHeader("X-Perfil-Colecoes", String.valueOf(perfil.colecoes()));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.edutech.api.infra.perfilamento;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Conta as entidades hidratadas (por tipo) e as coleções inicializadas no perfil da
+ * requisição. Entidades já presentes na sessão não disparam o post-load e não são contadas.
+ */
+public class IntegradorPerfilamento implements Integrator {
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        var registro = sessionFactory.getServiceRegistry().requireService(EventListenerRegistry.class);
+
+        registro.appendListeners(EventType.POST_LOAD, (PostLoadEventListener) evento -> {
+            var perfil = PerfilRequisicao.atual();
+            if (perfil != null) {
+                perfil.registrarEntidade(nomeSimples(evento.getPersister().getEntityName()));
+            }
+        });
+        registro.appendListeners(EventType.INIT_COLLECTION, (InitializeCollectionEventListener) evento -> {
+            var perfil = PerfilRequisicao.atual();
+            if (perfil != null) {
+                perfil.registrarColecao();
+            }
+        });
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+
+    /**
+     * Auxiliares
+     */
+    private static String nomeSimples(String entidade) {
+        return entidade.substring(entidade.lastIndexOf('.') + 1);
+    }
+}
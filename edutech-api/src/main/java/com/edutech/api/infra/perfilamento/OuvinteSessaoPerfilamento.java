@@ -0,0 +1,57 @@
+package com.edutech.api.infra.perfilamento;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Criado pelo Hibernate para cada sessão ({@code hibernate.session.events.auto}). Mede o
+ * tempo de cada statement e batch executado e a espera para obter a conexão do pool,
+ * registrando no perfil da requisição da thread, se houver.
+ */
+public class OuvinteSessaoPerfilamento implements SessionEventListener {
+
+    private long inicioExecucao;
+    private long inicioConexao;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        inicioExecucao = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        registrarConsulta();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        inicioExecucao = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        registrarConsulta();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        inicioConexao = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        var perfil = PerfilRequisicao.atual();
+        if (perfil != null) {
+            perfil.registrarConexao(System.nanoTime() - inicioConexao);
+        }
+    }
+
+    /**
+     * Auxiliares
+     */
+    private void registrarConsulta() {
+        var perfil = PerfilRequisicao.atual();
+        if (perfil != null) {
+            perfil.registrarConsulta(System.nanoTime() - inicioExecucao);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.edutech.api.infra.perfilamento;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Contadores de acesso ao banco de uma requisição. Fica associado à thread que atende a
+ * requisição e é alimentado pelos eventos do Hibernate; as consultas paralelas das
+ * leituras compostas levam o perfil para as suas threads, por isso os contadores aceitam
+ * escrita concorrente.
+ */
+public final class PerfilRequisicao {
+
+    private static final ThreadLocal<PerfilRequisicao> ATUAL = new ThreadLocal<>();
+
+    private final LongAdder consultas = new LongAdder();
+    private final LongAdder jdbcNanos = new LongAdder();
+    private final LongAdder conexoes = new LongAdder();
+    private final LongAdder esperaConexaoNanos = new LongAdder();
+    private final LongAdder colecoes = new LongAdder();
+    private final Map<String, LongAdder> entidades = new ConcurrentHashMap<>();
+
+    public static PerfilRequisicao iniciar() {
+        var perfil = new PerfilRequisicao();
+        ATUAL.set(perfil);
+        return perfil;
+    }
+
+    public static void encerrar() {
+        ATUAL.remove();
+    }
+
+    /**
+     * Perfil da requisição em andamento na thread, ou null fora de uma requisição.
+     */
+    public static PerfilRequisicao atual() {
+        return ATUAL.get();
+    }
+
+    /**
+     * Envolve a tarefa para que, rodando em outra thread, registre no perfil da requisição
+     * que a criou.
+     */
+    public static <T> Supplier<T> propagar(Supplier<T> tarefa) {
+        var perfil = ATUAL.get();
+        if (perfil == null) {
+            return tarefa;
+        }
+        return () -> {
+            ATUAL.set(perfil);
+            try {
+                return tarefa.get();
+            } finally {
+                ATUAL.remove();
+            }
+        };
+    }
+
+    void registrarConsulta(long nanos) {
+        consultas.increment();
+        jdbcNanos.add(nanos);
+    }
+
+    void registrarConexao(long esperaNanos) {
+        conexoes.increment();
+        esperaConexaoNanos.add(esperaNanos);
+    }
+
+    void registrarEntidade(String entidade) {
+        entidades.computeIfAbsent(entidade, nome -> new LongAdder()).increment();
+    }
+
+    void registrarColecao() {
+        colecoes.increment();
+    }
+
+    public long consultas() {
+        return consultas.sum();
+    }
+
+    public long jdbcMs() {
+        return TimeUnit.NANOSECONDS.toMillis(jdbcNanos.sum());
+    }
+
+    public long conexoes() {
+        return conexoes.sum();
+    }
+
+    public long esperaConexaoMs() {
+        return TimeUnit.NANOSECONDS.toMillis(esperaConexaoNanos.sum());
+    }
+
+    public long colecoes() {
+        return colecoes.sum();
+    }
+
+    public long totalEntidades() {
+        return entidades.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * Entidades carregadas por tipo, em ordem alfabética.
+     */
+    public Map<String, Long> entidades() {
+        var porTipo = new TreeMap<String, Long>();
+        entidades.forEach((entidade, quantidade) -> porTipo.put(entidade, quantidade.sum()));
+        return porTipo;
+    }
+}
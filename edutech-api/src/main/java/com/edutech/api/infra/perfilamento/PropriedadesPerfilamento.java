@@ -0,0 +1,23 @@
+package com.edutech.api.infra.perfilamento;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Perfil de cada requisição: consultas, tempo de JDBC, espera por conexão e entidades
+ * carregadas. Requisições acima de {@code limiteRequisicaoLentaMs} têm o resumo logado;
+ * com {@code exporCabecalhos} os contadores voltam também nos cabeçalhos da resposta
+ * (ligado só no perfil local).
+ */
+@ConfigurationProperties(prefix = "perfilamento")
+public record PropriedadesPerfilamento(
+        boolean habilitado,
+        long limiteRequisicaoLentaMs,
+        boolean exporCabecalhos
+) {
+
+    public PropriedadesPerfilamento {
+        if (limiteRequisicaoLentaMs <= 0) {
+            limiteRequisicaoLentaMs = 500;
+        }
+    }
+}
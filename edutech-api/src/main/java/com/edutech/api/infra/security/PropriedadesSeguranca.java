@@ -0,0 +1,18 @@
+package com.edutech.api.infra.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * Logins que recebem o escopo {@code admin} no token e podem usar as rotas {@code /admin/**}.
+ */
+@ConfigurationProperties(prefix = "seguranca")
+public record PropriedadesSeguranca(
+        List<String> administradores
+) {
+
+    public PropriedadesSeguranca {
+        administradores = administradores == null ? List.of() : List.copyOf(administradores);
+    }
+}
@@ -1,6 +1,7 @@
 package com.edutech.api.infra.security;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.security.oauth2.jwt.JwtClaimsSet;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
@@ -10,12 +11,14 @@ import java.time.Instant;
 
 @Service
 @RequiredArgsConstructor
+@EnableConfigurationProperties(PropriedadesSeguranca.class)
 public class TokenService {
 
     private static final String ISSUER = "edutech_api";
     private static final long EXPIRATION_SECONDS = 7200L; // 2 horas
 
     private final JwtEncoder jwtEncoder;
+    private final PropriedadesSeguranca propriedadesSeguranca;
 
     public String gerarToken(String subject) {
         Instant agora = Instant.now();
@@ -25,6 +28,11 @@ public class TokenService {
                 .issuedAt(agora)
                 .expiresAt(agora.plusSeconds(EXPIRATION_SECONDS))
                 .subject(subject)
+                .claims(c -> {
+                    if (propriedadesSeguranca.administradores().contains(subject)) {
+                        c.put("scope", "admin");
+                    }
+                })
                 .build();
 
         return jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
@@ -0,0 +1,12 @@
+package com.edutech.api.infra.validacao;
+
+public enum Custo {
+    /**
+     * Só lê os argumentos e entidades já carregadas.
+     */
+    MEMORIA,
+    /**
+     * Consulta o banco (inclusive coleções lazy).
+     */
+    BANCO
+}
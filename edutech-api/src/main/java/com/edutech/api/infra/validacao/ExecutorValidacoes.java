@@ -0,0 +1,275 @@
+package com.edutech.api.infra.validacao;
+
+import com.edutech.api.domain.exception.ErrosDeValidacao;
+import com.edutech.api.domain.exception.ValidacaoException;
+import com.edutech.api.infra.concorrencia.ConsultasParalelas;
+import com.edutech.api.infra.conexoes.PoolConexoes;
+import com.edutech.api.infra.conexoes.PropriedadesPools;
+import com.edutech.api.infra.conexoes.RoteamentoPool;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Executa uma cadeia de validadores na ordem dos metadados de {@link Validacao}, e não na
+ * ordem em que o Spring injetou a lista:
+ * <ol>
+ *     <li>os validadores em memória rodam primeiro; se algum recusar, nenhum que consulta
+ *     o banco chega a rodar;</li>
+ *     <li>depois os de banco, cada um só quando os validadores de que depende aceitaram
+ *     (um validador cuja dependência recusou é pulado). Os que ficam prontos ao mesmo tempo
+ *     e são marcados como paralelos rodam juntos, em transações somente leitura do pool
+ *     {@link PoolConexoes#VALIDACAO}; os demais rodam na transação de quem chamou.</li>
+ * </ol>
+ * Uma rodada paralela só começa se houver uma conexão do pool de validação para cada
+ * validador; com o pool ocupado por outras requisições, a rodada roda na transação de quem
+ * chamou, um validador de cada vez, em vez de esperar por conexões. Sem os pools separados
+ * ({@code pools.habilitado: false}) os validadores nunca rodam em paralelo, porque a única
+ * conexão livre poderia ser a que quem chamou está esperando.
+ * Em {@code validacao.modo: primeiro-erro} a primeira recusa interrompe a cadeia; em
+ * {@code todos-os-erros} as recusas da etapa são acumuladas em uma única
+ * {@link ValidacaoException}.
+ * <p>
+ * O tempo de cada validador vai para {@code edutech.validacao}, por validador e resultado.
+ */
+@Component
+@EnableConfigurationProperties(PropriedadesValidacao.class)
+public class ExecutorValidacoes {
+
+    static final String METRICA = "edutech.validacao";
+
+    private static final ClassValue<Metadados> METADADOS = new ClassValue<>() {
+        @Override
+        protected Metadados computeValue(Class<?> tipo) {
+            return Metadados.de(tipo);
+        }
+    };
+
+    private final PropriedadesValidacao propriedades;
+    private final ConsultasParalelas consultasParalelas;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore conexoes;
+    private final Map<Class<?>, Temporizadores> temporizadores = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ExecutorValidacoes(PropriedadesValidacao propriedades, ConsultasParalelas consultasParalelas,
+                              MeterRegistry meterRegistry, ObjectProvider<PropriedadesPools> pools) {
+        this(propriedades, consultasParalelas, meterRegistry, pools.stream()
+                .filter(PropriedadesPools::habilitado)
+                .mapToInt(propriedadesPools -> propriedadesPools.tamanho().get(PoolConexoes.VALIDACAO))
+                .findFirst()
+                .orElse(0));
+    }
+
+    /**
+     * {@code conexoes} é o tamanho do pool de validação; com zero, nada roda em paralelo.
+     */
+    public ExecutorValidacoes(PropriedadesValidacao propriedades, ConsultasParalelas consultasParalelas,
+                              MeterRegistry meterRegistry, int conexoes) {
+        this.propriedades = propriedades;
+        this.consultasParalelas = consultasParalelas;
+        this.meterRegistry = meterRegistry;
+        this.conexoes = new Semaphore(conexoes);
+    }
+
+    public <V> void validar(List<V> validadores, Consumer<? super V> validacao) {
+        var emMemoria = new ArrayList<Etapa<V>>();
+        var noBanco = new ArrayList<Etapa<V>>();
+        validadores.forEach(validador -> {
+            var etapa = new Etapa<>(validador, METADADOS.get(AopProxyUtils.ultimateTargetClass(validador)));
+            (etapa.metadados().custo() == Custo.MEMORIA ? emMemoria : noBanco).add(etapa);
+        });
+
+        var erros = new ErrosDeValidacao();
+        for (var etapa : emMemoria) {
+            registrarRecusa(executar(etapa, validacao), erros);
+        }
+        erros.lancarSeHouver();
+
+        validarNoBanco(noBanco, validacao, erros);
+        erros.lancarSeHouver();
+    }
+
+    /**
+     * Auxiliares
+     */
+    private <V> void validarNoBanco(List<Etapa<V>> pendentes, Consumer<? super V> validacao, ErrosDeValidacao erros) {
+        var presentes = new HashSet<Class<?>>();
+        pendentes.forEach(etapa -> presentes.add(etapa.metadados().tipo()));
+        var aceitos = new HashSet<Class<?>>();
+
+        while (!pendentes.isEmpty()) {
+            var naoExecutados = new HashSet<Class<?>>();
+            pendentes.forEach(etapa -> naoExecutados.add(etapa.metadados().tipo()));
+            var prontos = new ArrayList<Etapa<V>>();
+            for (var iterador = pendentes.iterator(); iterador.hasNext(); ) {
+                var etapa = iterador.next();
+                var estado = etapa.metadados().estado(presentes, aceitos, naoExecutados);
+                if (estado != Prontidao.AGUARDANDO) {
+                    iterador.remove();
+                }
+                if (estado == Prontidao.PRONTO) {
+                    prontos.add(etapa);
+                }
+            }
+            if (prontos.isEmpty()) {
+                // só restam validadores cuja dependência recusou
+                return;
+            }
+
+            // os da transação atual primeiro, um de cada vez: o resultado deles pode liberar
+            // outros validadores para a rodada paralela
+            var sequencial = prontos.stream().filter(etapa -> !etapa.metadados().paralela()).findFirst();
+            if (sequencial.isPresent()) {
+                prontos.remove(sequencial.get());
+                pendentes.addAll(0, prontos);
+                var erro = executar(sequencial.get(), validacao);
+                registrar(sequencial.get(), erro, aceitos, erros);
+                continue;
+            }
+
+            var resultados = emParalelo(prontos)
+                    ? executarEmParalelo(prontos, validacao)
+                    : prontos.stream().map(etapa -> executar(etapa, validacao)).toList();
+            for (int i = 0; i < prontos.size(); i++) {
+                registrar(prontos.get(i), resultados.get(i), aceitos, erros);
+            }
+        }
+    }
+
+    private boolean emParalelo(List<? extends Etapa<?>> prontos) {
+        return prontos.size() > 1 && propriedades.consultasParalelas() && conexoes.tryAcquire(prontos.size());
+    }
+
+    /**
+     * Devolve ao final as conexões reservadas por {@link #emParalelo}.
+     */
+    private <V> List<ValidacaoException> executarEmParalelo(List<Etapa<V>> etapas, Consumer<? super V> validacao) {
+        boolean primeiroErro = propriedades.modo() == ModoValidacao.PRIMEIRO_ERRO;
+        try (var escopo = consultasParalelas.abrir("validacao")) {
+            var forks = RoteamentoPool.executar(PoolConexoes.VALIDACAO, () -> etapas.stream()
+                    .map(etapa -> escopo.fork(() -> {
+                        var erro = executar(etapa, validacao);
+                        if (erro != null && primeiroErro) {
+                            throw erro;
+                        }
+                        return erro;
+                    }))
+                    .toList());
+            escopo.join();
+            return forks.stream().map(Supplier::get).toList();
+        } finally {
+            conexoes.release(etapas.size());
+        }
+    }
+
+    /**
+     * Roda o validador e devolve a recusa, ou {@code null} se ele aceitou.
+     */
+    private <V> ValidacaoException executar(Etapa<V> etapa, Consumer<? super V> validacao) {
+        long inicio = System.nanoTime();
+        var temporizadores = temporizadores(etapa.metadados().tipo());
+        try {
+            validacao.accept(etapa.validador());
+            temporizadores.aceito().record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            return null;
+        } catch (ValidacaoException e) {
+            temporizadores.recusado().record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            return e;
+        }
+    }
+
+    private void registrar(Etapa<?> etapa, ValidacaoException erro, Set<Class<?>> aceitos, ErrosDeValidacao erros) {
+        if (erro == null) {
+            aceitos.add(etapa.metadados().tipo());
+        } else {
+            registrarRecusa(erro, erros);
+        }
+    }
+
+    private void registrarRecusa(ValidacaoException erro, ErrosDeValidacao erros) {
+        if (erro == null) {
+            return;
+        }
+        if (propriedades.modo() == ModoValidacao.PRIMEIRO_ERRO) {
+            throw erro;
+        }
+        erros.adicionar(erro);
+    }
+
+    private Temporizadores temporizadores(Class<?> tipo) {
+        return temporizadores.computeIfAbsent(tipo, chave -> new Temporizadores(
+                temporizador(chave, "aceito"), temporizador(chave, "recusado")));
+    }
+
+    private Timer temporizador(Class<?> tipo, String resultado) {
+        return Timer.builder(METRICA)
+                .description("Tempo de execução de cada validador")
+                .tag("validador", nome(tipo))
+                .tag("resultado", resultado)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Há validadores com o mesmo nome em cadeias diferentes (ex.: CpfDuplicado de aluno e de
+     * professor), então a tag leva o pacote a partir de {@code domain}.
+     */
+    private static String nome(Class<?> tipo) {
+        var pacote = tipo.getPackageName();
+        int dominio = pacote.indexOf(".domain.");
+        return (dominio < 0 ? pacote : pacote.substring(dominio + ".domain.".length())) + "." + tipo.getSimpleName();
+    }
+
+    private record Etapa<V>(V validador, Metadados metadados) {
+    }
+
+    private record Temporizadores(Timer aceito, Timer recusado) {
+    }
+
+    private enum Prontidao {
+        PRONTO, AGUARDANDO, PULADO
+    }
+
+    private record Metadados(Class<?> tipo, Custo custo, boolean paralela, List<Class<?>> dependeDe) {
+
+        static Metadados de(Class<?> tipo) {
+            var validacao = tipo.getAnnotation(Validacao.class);
+            if (validacao == null) {
+                return new Metadados(tipo, Custo.BANCO, false, List.of());
+            }
+            return new Metadados(tipo, validacao.custo(), validacao.paralela(), List.of(validacao.dependeDe()));
+        }
+
+        /**
+         * Dependências fora da cadeia (ex.: filtradas na admissão em lote) contam como aceitas.
+         */
+        Prontidao estado(Set<Class<?>> presentes, Set<Class<?>> aceitos, Set<Class<?>> naoExecutados) {
+            var estado = Prontidao.PRONTO;
+            for (var dependencia : dependeDe) {
+                if (!presentes.contains(dependencia) || aceitos.contains(dependencia)) {
+                    continue;
+                }
+                if (!naoExecutados.contains(dependencia)) {
+                    return Prontidao.PULADO;
+                }
+                estado = Prontidao.AGUARDANDO;
+            }
+            return estado;
+        }
+    }
+}
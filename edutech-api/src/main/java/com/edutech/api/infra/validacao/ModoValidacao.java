@@ -0,0 +1,12 @@
+package com.edutech.api.infra.validacao;
+
+public enum ModoValidacao {
+    /**
+     * Para no primeiro validador que recusar; os demais não rodam.
+     */
+    PRIMEIRO_ERRO,
+    /**
+     * Roda todos os validadores e recusa com todos os erros encontrados.
+     */
+    TODOS_OS_ERROS
+}
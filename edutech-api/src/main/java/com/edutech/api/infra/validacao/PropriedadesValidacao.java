@@ -0,0 +1,26 @@
+package com.edutech.api.infra.validacao;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * {@code modo} decide se as cadeias de validadores param no primeiro erro ou reportam
+ * todos. Com todos os erros, os validadores que consultam o banco rodam mesmo quando um
+ * anterior já recusou, mas só se os validadores em memória tiverem aceitado.
+ * {@code consultasParalelas} liga a execução simultânea dos validadores marcados como
+ * {@link Validacao#paralela()}.
+ */
+@ConfigurationProperties(prefix = "validacao")
+public record PropriedadesValidacao(
+        ModoValidacao modo,
+        Boolean consultasParalelas
+) {
+
+    public PropriedadesValidacao {
+        if (modo == null) {
+            modo = ModoValidacao.TODOS_OS_ERROS;
+        }
+        if (consultasParalelas == null) {
+            consultasParalelas = true;
+        }
+    }
+}
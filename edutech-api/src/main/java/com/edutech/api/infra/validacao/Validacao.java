@@ -0,0 +1,31 @@
+package com.edutech.api.infra.validacao;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Metadados do validador para o {@link ExecutorValidacoes}: os de custo {@link Custo#MEMORIA}
+ * rodam antes dos que consultam o banco, e um validador só roda depois dos que estão em
+ * {@link #dependeDe} terem aceitado. Sem a anotação, o validador é tratado como
+ * {@link Custo#BANCO}, sem dependências e sem rodar em paralelo.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Validacao {
+
+    Custo custo();
+
+    /**
+     * A consulta só lê dados já confirmados, então pode rodar em outra thread e outra
+     * transação, em paralelo com as demais consultas paralelas prontas da cadeia. A transação
+     * é somente leitura: um validador que possa gravar, ainda que só na primeira chamada,
+     * não pode ser paralelo.
+     */
+    boolean paralela() default false;
+
+    Class<?>[] dependeDe() default {};
+}
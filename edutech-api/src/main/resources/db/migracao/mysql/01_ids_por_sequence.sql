@@ -0,0 +1,38 @@
+-- Migra os ids de AUTO_INCREMENT para sequences com otimizador pooled (allocationSize = 50).
+-- O MySQL não tem sequences: o Hibernate as emula em uma tabela por sequence, com a coluna next_val.
+-- Rodar com a aplicação parada, antes de subir a versão que usa @SequenceGenerator.
+-- Cada sequence começa no maior id + 50: o Hibernate usa o valor lido como fim do bloco de 50 ids.
+-- O script pode ser reexecutado.
+SET FOREIGN_KEY_CHECKS = 0;
+
+CREATE TABLE IF NOT EXISTS tb_usuarios_seq (next_val BIGINT);
+DELETE FROM tb_usuarios_seq;
+INSERT INTO tb_usuarios_seq (next_val) SELECT COALESCE(MAX(id), 0) + 50 FROM tb_usuarios;
+ALTER TABLE tb_usuarios MODIFY id BIGINT NOT NULL;
+
+CREATE TABLE IF NOT EXISTS tb_aluno_seq (next_val BIGINT);
+DELETE FROM tb_aluno_seq;
+INSERT INTO tb_aluno_seq (next_val) SELECT COALESCE(MAX(id), 0) + 50 FROM tb_aluno;
+ALTER TABLE tb_aluno MODIFY id BIGINT NOT NULL;
+
+CREATE TABLE IF NOT EXISTS tb_professor_seq (next_val BIGINT);
+DELETE FROM tb_professor_seq;
+INSERT INTO tb_professor_seq (next_val) SELECT COALESCE(MAX(id), 0) + 50 FROM tb_professor;
+ALTER TABLE tb_professor MODIFY id BIGINT NOT NULL;
+
+CREATE TABLE IF NOT EXISTS tb_curso_seq (next_val BIGINT);
+DELETE FROM tb_curso_seq;
+INSERT INTO tb_curso_seq (next_val) SELECT COALESCE(MAX(id), 0) + 50 FROM tb_curso;
+ALTER TABLE tb_curso MODIFY id BIGINT NOT NULL;
+
+CREATE TABLE IF NOT EXISTS tb_turma_seq (next_val BIGINT);
+DELETE FROM tb_turma_seq;
+INSERT INTO tb_turma_seq (next_val) SELECT COALESCE(MAX(id), 0) + 50 FROM tb_turma;
+ALTER TABLE tb_turma MODIFY id BIGINT NOT NULL;
+
+CREATE TABLE IF NOT EXISTS tb_matricula_seq (next_val BIGINT);
+DELETE FROM tb_matricula_seq;
+INSERT INTO tb_matricula_seq (next_val) SELECT COALESCE(MAX(id), 0) + 50 FROM tb_matricula;
+ALTER TABLE tb_matricula MODIFY id BIGINT NOT NULL;
+
+SET FOREIGN_KEY_CHECKS = 1;
@@ -0,0 +1,21 @@
+-- A lista de matriculas da turma pagina por (turma_id, id). Cria idx_matricula_turma_id, se
+-- ainda não existir, e remove idx_matricula_turma, o índice só de turma_id que a versão do
+-- arquivamento de matriculas declarou em Matricula e o ddl-auto: update criou. O novo o cobre,
+-- inclusive para a chave estrangeira de turma_id. O MySQL não tem IF EXISTS em índices, então
+-- cada passo consulta information_schema; bancos que nunca tiveram o índice antigo ficam como
+-- estão. O script pode ser reexecutado.
+SET @existe := (SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'tb_matricula'
+                AND index_name = 'idx_matricula_turma_id');
+SET @comando := IF(@existe = 0, 'CREATE INDEX idx_matricula_turma_id ON tb_matricula (turma_id, id)', 'DO 0');
+PREPARE passo FROM @comando;
+EXECUTE passo;
+DEALLOCATE PREPARE passo;
+
+SET @existe := (SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'tb_matricula'
+                AND index_name = 'idx_matricula_turma');
+SET @comando := IF(@existe > 0, 'DROP INDEX idx_matricula_turma ON tb_matricula', 'DO 0');
+PREPARE passo FROM @comando;
+EXECUTE passo;
+DEALLOCATE PREPARE passo;
@@ -0,0 +1,37 @@
+-- Migra os ids de IDENTITY para sequences com otimizador pooled (allocationSize = 50).
+-- Rodar com a aplicação parada, antes de subir a versão que usa @SequenceGenerator.
+-- Cada sequence começa no maior id + 50: o Hibernate usa o valor lido como fim do bloco de 50 ids.
+-- O script pode ser reexecutado.
+BEGIN;
+
+CREATE SEQUENCE IF NOT EXISTS tb_usuarios_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('tb_usuarios_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM tb_usuarios), false);
+ALTER TABLE tb_usuarios ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE tb_usuarios ALTER COLUMN id DROP DEFAULT;
+
+CREATE SEQUENCE IF NOT EXISTS tb_aluno_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('tb_aluno_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM tb_aluno), false);
+ALTER TABLE tb_aluno ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE tb_aluno ALTER COLUMN id DROP DEFAULT;
+
+CREATE SEQUENCE IF NOT EXISTS tb_professor_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('tb_professor_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM tb_professor), false);
+ALTER TABLE tb_professor ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE tb_professor ALTER COLUMN id DROP DEFAULT;
+
+CREATE SEQUENCE IF NOT EXISTS tb_curso_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('tb_curso_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM tb_curso), false);
+ALTER TABLE tb_curso ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE tb_curso ALTER COLUMN id DROP DEFAULT;
+
+CREATE SEQUENCE IF NOT EXISTS tb_turma_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('tb_turma_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM tb_turma), false);
+ALTER TABLE tb_turma ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE tb_turma ALTER COLUMN id DROP DEFAULT;
+
+CREATE SEQUENCE IF NOT EXISTS tb_matricula_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('tb_matricula_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM tb_matricula), false);
+ALTER TABLE tb_matricula ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE tb_matricula ALTER COLUMN id DROP DEFAULT;
+
+COMMIT;
@@ -0,0 +1,6 @@
+-- A lista de matriculas da turma pagina por (turma_id, id). Cria idx_matricula_turma_id, se
+-- ainda não existir, e remove idx_matricula_turma, o índice só de turma_id que a versão do
+-- arquivamento de matriculas declarou em Matricula e o ddl-auto: update criou. O novo o cobre.
+-- Bancos que nunca tiveram o índice antigo ficam como estão. O script pode ser reexecutado.
+CREATE INDEX IF NOT EXISTS idx_matricula_turma_id ON tb_matricula (turma_id, id);
+DROP INDEX IF EXISTS idx_matricula_turma;
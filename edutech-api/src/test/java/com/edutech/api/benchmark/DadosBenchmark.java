@@ -0,0 +1,98 @@
+package com.edutech.api.benchmark;
+
+import com.edutech.api.domain.aluno.Aluno;
+import com.edutech.api.domain.curso.Curso;
+import com.edutech.api.domain.curso.enums.CategoriaCurso;
+import com.edutech.api.domain.curso.enums.NivelCurso;
+import com.edutech.api.domain.endereco.Endereco;
+import com.edutech.api.domain.enums.Modalidade;
+import com.edutech.api.domain.matricula.Matricula;
+import com.edutech.api.domain.professor.Professor;
+import com.edutech.api.domain.turma.Turma;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Entidades de exemplo compartilhadas pelos benchmarks, montadas sem JPA.
+ */
+final class DadosBenchmark {
+
+    private DadosBenchmark() {
+    }
+
+    static Aluno aluno(long id) {
+        var aluno = new Aluno(
+                "Aluno " + id,
+                "aluno" + id + "@email.com",
+                "11999999999",
+                "52998224725",
+                LocalDate.of(2000, 3, 15),
+                endereco()
+        );
+        ReflectionTestUtils.setField(aluno, "id", id);
+        return aluno;
+    }
+
+    static Professor professor(long id) {
+        var professor = new Professor(
+                "Professor " + id,
+                "professor" + id + "@email.com",
+                LocalDate.of(1985, 7, 10),
+                "11988888888",
+                "11144477735",
+                Modalidade.HIBRIDO,
+                endereco()
+        );
+        ReflectionTestUtils.setField(professor, "id", id);
+        return professor;
+    }
+
+    static Curso curso(long id, int professores) {
+        var curso = new Curso(
+                "Java Avançado",
+                "Spring Boot, JPA e microsserviços",
+                120,
+                4,
+                NivelCurso.AVANCADO,
+                CategoriaCurso.PROGRAMACAO
+        );
+        ReflectionTestUtils.setField(curso, "id", id);
+        for (int i = 0; i < professores; i++) {
+            curso.getProfessores().add(professor(i + 1));
+        }
+        return curso;
+    }
+
+    static Turma turma(long id, int matriculas) {
+        var turma = new Turma(
+                "JAVA-" + id,
+                LocalDate.of(2025, 3, 3),
+                LocalDate.of(2025, 7, 18),
+                LocalTime.of(19, 0),
+                LocalTime.of(22, 0),
+                40,
+                Modalidade.PRESENCIAL
+        );
+        ReflectionTestUtils.setField(turma, "id", id);
+        turma.vincularCurso(curso(1L, 0));
+        turma.vincularProfessor(professor(1L));
+        for (int i = 0; i < matriculas; i++) {
+            var matricula = new Matricula(aluno(i + 1), turma, LocalDate.of(2025, 2, 20));
+            ReflectionTestUtils.setField(matricula, "id", (long) i + 1);
+            turma.getMatriculas().add(matricula);
+        }
+        return turma;
+    }
+
+    static Matricula matricula(long id) {
+        var matricula = new Matricula(aluno(id), turma(1L, 0), LocalDate.of(2025, 2, 20));
+        ReflectionTestUtils.setField(matricula, "id", id);
+        return matricula;
+    }
+
+    private static Endereco endereco() {
+        return new Endereco("Rua das Flores", "Centro", "01001000", "100", "Apto 12", "São Paulo", "SP");
+    }
+}
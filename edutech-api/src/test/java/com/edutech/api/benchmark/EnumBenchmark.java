@@ -0,0 +1,59 @@
+package com.edutech.api.benchmark;
+
+import com.edutech.api.domain.curso.enums.CategoriaCurso;
+import com.edutech.api.domain.enums.Modalidade;
+import com.edutech.api.domain.matricula.enums.StatusMatricula;
+import com.edutech.api.domain.turma.enums.StatusTurma;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookups {@code fromJson} usados na desserialização dos enums.
+ * O valor em minúsculas força o caminho do equalsIgnoreCase.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EnumBenchmark {
+
+    @Param({"primeiro", "ultimo"})
+    private String posicao;
+
+    private String modalidade;
+    private String statusMatricula;
+    private String statusTurma;
+    private String categoriaCurso;
+
+    @Setup
+    public void setup() {
+        boolean primeiro = posicao.equals("primeiro");
+        modalidade = primeiro ? "presencial" : "hibrido";
+        statusMatricula = primeiro ? "ativa" : "trancada";
+        statusTurma = primeiro ? "aberta" : "cancelada";
+        categoriaCurso = primeiro ? "programacao" : "cloud";
+    }
+
+    @Benchmark
+    public Modalidade modalidade() {
+        return Modalidade.fromJson(modalidade);
+    }
+
+    @Benchmark
+    public StatusMatricula statusMatricula() {
+        return StatusMatricula.fromJson(statusMatricula);
+    }
+
+    @Benchmark
+    public StatusTurma statusTurma() {
+        return StatusTurma.fromJson(statusTurma);
+    }
+
+    @Benchmark
+    public CategoriaCurso categoriaCurso() {
+        return CategoriaCurso.fromJson(categoriaCurso);
+    }
+}
@@ -0,0 +1,150 @@
+package com.edutech.api.benchmark;
+
+import com.edutech.api.EduTechApiApplication;
+import com.edutech.api.domain.aluno.Aluno;
+import com.edutech.api.domain.endereco.Endereco;
+import com.edutech.api.domain.enums.Modalidade;
+import com.edutech.api.domain.matricula.Matricula;
+import com.edutech.api.domain.turma.Turma;
+import com.edutech.api.infra.gerador.GeradorCpf;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cadastro em massa de alunos e matriculas pelo Hibernate, antes e depois das sequences.
+ * IDENTITY reproduz o mapeamento antigo (ids por orm.xml, sem batch); SEQUENCE usa o
+ * mapeamento atual com allocationSize 50 e batch de 50 inserts.
+ * <p>
+ * Por padrão roda em H2 em memória, onde não há ida e volta de rede e a diferença é a menor possivel.
+ * Para medir no Postgres: {@code -Djmh.args="EscritaEmLoteBenchmark -jvmArgsAppend
+ * -Dbenchmark.url=jdbc:postgresql://localhost:5432/benchdb?reWriteBatchedInserts=true"}
+ * (usuário e senha em {@code benchmark.usuario} e {@code benchmark.senha}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class EscritaEmLoteBenchmark {
+
+    private static final int ALUNOS_POR_OPERACAO = 1_000;
+    private static final int TAMANHO_LOTE = 50;
+    private static final LocalDate DATA_MATRICULA = LocalDate.of(2025, 2, 20);
+
+    @Param({"IDENTITY", "SEQUENCE"})
+    public String estrategia;
+
+    private ConfigurableApplicationContext contexto;
+    private EntityManager entityManager;
+    private TransactionTemplate transacao;
+    private Long turmaId;
+    private long proximoAluno;
+
+    @Setup(Level.Trial)
+    public void subir() {
+        var url = System.getProperty("benchmark.url", "jdbc:h2:mem:escrita-" + estrategia + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+        var argumentos = new ArrayList<String>();
+        argumentos.add("--spring.datasource.url=" + url);
+        argumentos.add("--spring.datasource.driver-class-name=");
+        argumentos.add("--spring.datasource.username=" + System.getProperty("benchmark.usuario", "sa"));
+        argumentos.add("--spring.datasource.password=" + System.getProperty("benchmark.senha", ""));
+        argumentos.add("--spring.jpa.hibernate.ddl-auto=create-drop");
+        argumentos.add("--spring.jpa.show-sql=false");
+        argumentos.add("--spring.jpa.properties.hibernate.generate_statistics=true");
+        argumentos.add("--logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN");
+        argumentos.add("--arquivamento.habilitado=false");
+        argumentos.add("--admissao.habilitada=false");
+        argumentos.add("--logging.level.root=WARN");
+        argumentos.add("--logging.level.org.hibernate.SQL=WARN");
+        argumentos.add("--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+        argumentos.add("--logging.level.com.edutech.api=WARN");
+        if (url.startsWith("jdbc:h2")) {
+            argumentos.add("--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect");
+        }
+        if (estrategia.equals("IDENTITY")) {
+            argumentos.add("--spring.jpa.mapping-resources=benchmark/ids-identity-orm.xml");
+            argumentos.add("--spring.jpa.properties.hibernate.jdbc.batch_size=0");
+            argumentos.add("--spring.jpa.properties.hibernate.order_inserts=false");
+            argumentos.add("--spring.jpa.properties.hibernate.order_updates=false");
+        }
+
+        contexto = new SpringApplicationBuilder(EduTechApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run(argumentos.toArray(String[]::new));
+        entityManager = contexto.getBean(EntityManager.class);
+        transacao = new TransactionTemplate(contexto.getBean(PlatformTransactionManager.class));
+
+        turmaId = transacao.execute(status -> {
+            var turma = new Turma("BENCH-" + estrategia, LocalDate.of(2025, 3, 3), LocalDate.of(2025, 7, 18),
+                    LocalTime.of(19, 0), LocalTime.of(22, 0), 40, Modalidade.PRESENCIAL);
+            entityManager.persist(turma);
+            return turma.getId();
+        });
+    }
+
+    /**
+     * Esvazia as tabelas a cada iteração para o banco em memória não crescer durante a medição.
+     */
+    @Setup(Level.Iteration)
+    public void limpar() {
+        transacao.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM Matricula").executeUpdate();
+            entityManager.createQuery("DELETE FROM Aluno").executeUpdate();
+        });
+    }
+
+    /**
+     * Informa quantos statements JDBC cada aluno com matricula custou, para confirmar que o
+     * batch de fato aconteceu (com batch, um statement atende o lote inteiro).
+     */
+    @TearDown(Level.Trial)
+    public void descer() {
+        var estatisticas = contexto.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        System.out.printf("%n%s: %.3f statements preparados por aluno com matricula (%d alunos)%n",
+                estrategia, (double) estatisticas.getPrepareStatementCount() / proximoAluno, proximoAluno);
+        contexto.close();
+    }
+
+    /**
+     * Um aluno e uma matricula por iteração, em uma única transação, limpando o contexto
+     * de persistência a cada lote como faria uma importação.
+     */
+    @Benchmark
+    public int cadastrarAlunosEMatriculas() {
+        return transacao.execute(status -> {
+            var turma = entityManager.getReference(Turma.class, turmaId);
+            for (int i = 1; i <= ALUNOS_POR_OPERACAO; i++) {
+                long indice = proximoAluno++;
+                var aluno = new Aluno("Aluno " + indice, "aluno" + indice + "@bench.edutech.com", "11999999999",
+                        GeradorCpf.gerar(indice, 35L), LocalDate.of(2000, 3, 15), endereco());
+                entityManager.persist(aluno);
+                entityManager.persist(new Matricula(aluno, turma, DATA_MATRICULA));
+
+                if (i % TAMANHO_LOTE == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                    turma = entityManager.getReference(Turma.class, turmaId);
+                }
+            }
+            return ALUNOS_POR_OPERACAO;
+        });
+    }
+
+    private static Endereco endereco() {
+        return new Endereco("Rua das Flores", "Centro", "01001000", "100", "Apto 12", "São Paulo", "SP");
+    }
+}
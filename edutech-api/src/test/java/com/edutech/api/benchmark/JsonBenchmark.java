@@ -0,0 +1,72 @@
+package com.edutech.api.benchmark;
+
+import com.edutech.api.domain.curso.dto.CursoDetalhesDTO;
+import com.edutech.api.domain.curso.mapper.CursoMapperImpl;
+import com.edutech.api.domain.matricula.dto.MatriculaDetalhesDTO;
+import com.edutech.api.domain.matricula.dto.MatriculaResumoDTO;
+import com.edutech.api.domain.matricula.mapper.MatriculaMapper;
+import com.edutech.api.domain.matricula.mapper.MatriculaMapperImpl;
+import com.edutech.api.domain.turma.dto.TurmaDetalhesDTO;
+import com.edutech.api.domain.turma.mapper.TurmaMapperImpl;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Serialização Jackson dos DTOs (datas com @JsonFormat e enums com @JsonValue),
+ * usando um ObjectMapper configurado como o do Spring Boot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonBenchmark {
+
+    private ObjectMapper objectMapper;
+
+    private MatriculaDetalhesDTO matriculaDetalhes;
+    private TurmaDetalhesDTO turmaDetalhes;
+    private CursoDetalhesDTO cursoDetalhes;
+    private List<MatriculaResumoDTO> paginaMatriculas;
+
+    @Setup
+    public void setup() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        MatriculaMapper matriculaMapper = new MatriculaMapperImpl();
+        matriculaDetalhes = matriculaMapper.toDetalhesDTO(DadosBenchmark.matricula(1L));
+        turmaDetalhes = new TurmaMapperImpl().toDetalhesDTO(DadosBenchmark.turma(1L, 10));
+        cursoDetalhes = new CursoMapperImpl().toDetalhesDTO(DadosBenchmark.curso(1L, 5));
+        paginaMatriculas = LongStream.rangeClosed(1, 20)
+                .mapToObj(DadosBenchmark::matricula)
+                .map(matriculaMapper::toResumoDTO)
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] matriculaDetalhes() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(matriculaDetalhes);
+    }
+
+    @Benchmark
+    public byte[] turmaDetalhes() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(turmaDetalhes);
+    }
+
+    @Benchmark
+    public byte[] cursoDetalhes() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(cursoDetalhes);
+    }
+
+    @Benchmark
+    public byte[] paginaDeMatriculas() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(paginaMatriculas);
+    }
+}
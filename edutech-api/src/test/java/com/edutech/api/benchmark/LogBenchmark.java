@@ -0,0 +1,124 @@
+package com.edutech.api.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import com.edutech.api.infra.log.FormatadorLogJson;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.MDC;
+import org.springframework.boot.logging.logback.StructuredLogEncoder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão de quem loga, com 4 threads gravando o log de SQL do Hibernate (mensagem e
+ * parâmetros típicos) em um destino real ({@code /dev/null}, um write por evento, como o
+ * console redirecionado):
+ * <ul>
+ *     <li>SINCRONO_TEXTO: o padrão de texto do perfil de desenvolvimento, appender síncrono;</li>
+ *     <li>SINCRONO_JSON_ECS_BOOT: o formato {@code ecs} do Spring Boot, appender síncrono;</li>
+ *     <li>SINCRONO_JSON: o {@link FormatadorLogJson} do perfil prod, appender síncrono;</li>
+ *     <li>ASSINCRONO_JSON: o mesmo atrás do AsyncAppender do perfil prod (fila de 8192, sem
+ *     bloquear: com a fila cheia os eventos são descartados);</li>
+ *     <li>ASSINCRONO_JSON_BLOQUEANTE: o mesmo, mas esperando vaga na fila, sem descarte.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class LogBenchmark {
+
+    private static final String PADRAO_TEXTO = "%d{HH:mm:ss.SSS} [%thread] %-5level %logger{36} - %msg%n";
+    private static final String SQL = "select m1_0.id,m1_0.aluno_id,m1_0.data_matricula,m1_0.status,m1_0.turma_id " +
+            "from tb_matricula m1_0 where m1_0.turma_id=? and m1_0.id>? order by m1_0.id fetch first ? rows only";
+
+    @Param({"SINCRONO_TEXTO", "SINCRONO_JSON_ECS_BOOT", "SINCRONO_JSON", "ASSINCRONO_JSON", "ASSINCRONO_JSON_BLOQUEANTE"})
+    public String pipeline;
+
+    private LoggerContext contexto;
+    private Logger logger;
+
+    @Setup
+    public void setup() throws IOException {
+        contexto = new LoggerContext();
+        contexto.setMDCAdapter(MDC.getMDCAdapter());
+        contexto.putObject(Environment.class.getName(), new StandardEnvironment());
+
+        var saida = new OutputStreamAppender<ILoggingEvent>();
+        saida.setContext(contexto);
+        saida.setEncoder(pipeline.equals("SINCRONO_TEXTO") ? encoderTexto() : encoderJson());
+        saida.setOutputStream(new FileOutputStream(System.getProperty("os.name").startsWith("Windows") ? "NUL" : "/dev/null"));
+        saida.start();
+
+        logger = contexto.getLogger("org.hibernate.SQL");
+        logger.setLevel(Level.DEBUG);
+        logger.setAdditive(false);
+        if (pipeline.startsWith("ASSINCRONO")) {
+            var assincrono = new AsyncAppender();
+            assincrono.setContext(contexto);
+            assincrono.setQueueSize(8192);
+            assincrono.setDiscardingThreshold(0);
+            assincrono.setNeverBlock(!pipeline.endsWith("BLOQUEANTE"));
+            assincrono.addAppender(saida);
+            assincrono.start();
+            logger.addAppender(assincrono);
+        } else {
+            logger.addAppender(saida);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        contexto.stop();
+    }
+
+    @Benchmark
+    public void logarSql(ContextoRequisicao contextoRequisicao) {
+        logger.debug(SQL);
+    }
+
+    /**
+     * MDC de uma requisição autenticada, em cada thread do benchmark.
+     */
+    @State(Scope.Thread)
+    public static class ContextoRequisicao {
+
+        @Setup
+        public void setup() {
+            MDC.put("requestId", "0b6f3a52-6c1e-4f0e-9d43-2f5b8f1c9a77");
+            MDC.put("usuario", "user");
+        }
+    }
+
+    /**
+     * Auxiliares
+     */
+    private Encoder<ILoggingEvent> encoderTexto() {
+        var encoder = new PatternLayoutEncoder();
+        encoder.setContext(contexto);
+        encoder.setPattern(PADRAO_TEXTO);
+        encoder.start();
+        return encoder;
+    }
+
+    private Encoder<ILoggingEvent> encoderJson() {
+        var encoder = new StructuredLogEncoder();
+        encoder.setContext(contexto);
+        encoder.setFormat(pipeline.equals("SINCRONO_JSON_ECS_BOOT") ? "ecs" : FormatadorLogJson.class.getName());
+        encoder.start();
+        return encoder;
+    }
+}
@@ -0,0 +1,80 @@
+package com.edutech.api.benchmark;
+
+import com.edutech.api.domain.curso.Curso;
+import com.edutech.api.domain.curso.dto.CursoDetalhesDTO;
+import com.edutech.api.domain.curso.mapper.CursoMapper;
+import com.edutech.api.domain.curso.mapper.CursoMapperImpl;
+import com.edutech.api.domain.matricula.Matricula;
+import com.edutech.api.domain.matricula.dto.MatriculaDetalhesDTO;
+import com.edutech.api.domain.matricula.dto.MatriculaResumoDTO;
+import com.edutech.api.domain.matricula.mapper.MatriculaMapper;
+import com.edutech.api.domain.matricula.mapper.MatriculaMapperImpl;
+import com.edutech.api.domain.turma.Turma;
+import com.edutech.api.domain.turma.dto.TurmaComMatriculasDTO;
+import com.edutech.api.domain.turma.dto.TurmaDetalhesDTO;
+import com.edutech.api.domain.turma.dto.TurmaResumoDTO;
+import com.edutech.api.domain.turma.mapper.TurmaMapper;
+import com.edutech.api.domain.turma.mapper.TurmaMapperImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversões entidade -> DTO geradas pelo MapStruct.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"0", "40"})
+    private int matriculasPorTurma;
+
+    private final MatriculaMapper matriculaMapper = new MatriculaMapperImpl();
+    private final TurmaMapper turmaMapper = new TurmaMapperImpl();
+    private final CursoMapper cursoMapper = new CursoMapperImpl();
+
+    private Matricula matricula;
+    private Turma turma;
+    private Curso curso;
+
+    @Setup
+    public void setup() {
+        matricula = DadosBenchmark.matricula(1L);
+        turma = DadosBenchmark.turma(1L, matriculasPorTurma);
+        curso = DadosBenchmark.curso(1L, 5);
+    }
+
+    @Benchmark
+    public MatriculaResumoDTO matriculaParaResumo() {
+        return matriculaMapper.toResumoDTO(matricula);
+    }
+
+    @Benchmark
+    public MatriculaDetalhesDTO matriculaParaDetalhes() {
+        return matriculaMapper.toDetalhesDTO(matricula);
+    }
+
+    @Benchmark
+    public TurmaResumoDTO turmaParaResumo() {
+        return turmaMapper.toResumoDTO(turma);
+    }
+
+    @Benchmark
+    public TurmaDetalhesDTO turmaParaDetalhes() {
+        return turmaMapper.toDetalhesDTO(turma);
+    }
+
+    @Benchmark
+    public TurmaComMatriculasDTO turmaComMatriculas() {
+        return turmaMapper.toTurmaComMatriculasDTO(turma);
+    }
+
+    @Benchmark
+    public CursoDetalhesDTO cursoParaDetalhes() {
+        return cursoMapper.toDetalhesDTO(curso);
+    }
+}
@@ -0,0 +1,114 @@
+package com.edutech.api.benchmark;
+
+import com.edutech.api.domain.exception.ValidacaoException;
+import com.edutech.api.infra.dto.DadosErroResposta;
+import com.edutech.api.infra.exception.TratarErros;
+import com.edutech.api.infra.validacao.ExecutorValidacoes;
+import com.edutech.api.infra.validacao.ModoValidacao;
+import com.edutech.api.infra.validacao.PropriedadesValidacao;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Vazão de matriculas recusadas: aluno no limite de turmas e turma sem vagas, com os dados
+ * já em memória para isolar o custo da exceção. A cadeia roda a {@code profundidade}
+ * chamadas do ponto em que a exceção é tratada, como em uma requisição que passa pelos
+ * filtros, proxies e aspectos antes do service.
+ * <p>
+ * {@code pilhaCompleta} reproduz a exceção antiga, que capturava a pilha.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidacaoRecusadaBenchmark {
+
+    @Param({"10", "150"})
+    private int profundidade;
+
+    private final TratarErros tratarErros = new TratarErros();
+    private final ExecutorValidacoes primeiroErro = new ExecutorValidacoes(
+            new PropriedadesValidacao(ModoValidacao.PRIMEIRO_ERRO, null), null, new SimpleMeterRegistry(), 0);
+    private final ExecutorValidacoes todosOsErros = new ExecutorValidacoes(
+            new PropriedadesValidacao(ModoValidacao.TODOS_OS_ERROS, null), null, new SimpleMeterRegistry(), 0);
+
+    private final Pedido pedido = new Pedido(true, 3, 30, 30);
+
+    private final List<Consumer<Pedido>> validadores = List.of(
+            pedido -> {
+                if (!pedido.alunoAtivo()) {
+                    throw new ValidacaoException("Aluno inativo para matricula");
+                }
+            },
+            pedido -> {
+                if (pedido.turmasAtivas() >= 3) {
+                    throw new ValidacaoException("O aluno ja esta matriculado em 3 turmas ativas");
+                }
+            },
+            pedido -> {
+                if (pedido.matriculas() >= pedido.vagas()) {
+                    throw new ValidacaoException("A turma esta com todas as vagas preenchidas");
+                }
+            });
+
+    private final List<Consumer<Pedido>> validadoresComPilha = List.of(
+            pedido -> {
+                if (pedido.turmasAtivas() >= 3) {
+                    throw new ExcecaoComPilha("O aluno ja esta matriculado em 3 turmas ativas");
+                }
+            });
+
+    @Benchmark
+    public Object pilhaCompleta() {
+        try {
+            return descer(profundidade, () -> validadoresComPilha.forEach(v -> v.accept(pedido)));
+        } catch (ExcecaoComPilha e) {
+            return tratarErros.tratarErroRegraDeNegocio(new ValidacaoException(e.getMessage()));
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<DadosErroResposta> semPilhaPrimeiroErro() {
+        try {
+            return descer(profundidade, () -> primeiroErro.validar(validadores, v -> v.accept(pedido)));
+        } catch (ValidacaoException e) {
+            return tratarErros.tratarErroRegraDeNegocio(e);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<DadosErroResposta> semPilhaTodosOsErros() {
+        try {
+            return descer(profundidade, () -> todosOsErros.validar(validadores, v -> v.accept(pedido)));
+        } catch (ValidacaoException e) {
+            return tratarErros.tratarErroRegraDeNegocio(e);
+        }
+    }
+
+    /**
+     * Auxiliares
+     */
+    private static <T> T descer(int restante, Runnable cadeia) {
+        if (restante == 0) {
+            cadeia.run();
+            return null;
+        }
+        return descer(restante - 1, cadeia);
+    }
+
+    private record Pedido(boolean alunoAtivo, int turmasAtivas, int matriculas, int vagas) {
+    }
+
+    private static class ExcecaoComPilha extends RuntimeException {
+        ExcecaoComPilha(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.edutech.api.benchmark;
+
+import com.edutech.api.domain.enums.Modalidade;
+import com.edutech.api.domain.turma.dto.TurmaCreateDTO;
+import com.edutech.api.domain.turma.validacoes.cadastra_turma.ValidadorCadastroTurmaImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validações de data/horario do ValidadorTurmaBase. A consulta de código unico,
+ * que depende do banco, fica no validador CodigoUnico.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidadorTurmaBenchmark {
+
+    private final ValidadorCadastroTurmaImpl validador = new ValidadorCadastroTurmaImpl(null);
+
+    private TurmaCreateDTO turmaValida;
+
+    @Setup
+    public void setup() {
+        turmaValida = new TurmaCreateDTO(
+                null,
+                LocalDate.of(2025, 3, 3),
+                LocalDate.of(2025, 7, 18),
+                LocalTime.of(19, 0),
+                LocalTime.of(22, 0),
+                40,
+                Modalidade.PRESENCIAL
+        );
+    }
+
+    @Benchmark
+    public TurmaCreateDTO validarTurmaValida() {
+        validador.validar(turmaValida);
+        return turmaValida;
+    }
+}
@@ -0,0 +1,101 @@
+package com.edutech.api.carga;
+
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Teste de carga ponta a ponta contra uma instancia já em execução da API.
+ * <p>
+ * Fases:
+ * <ol>
+ *     <li>massa de dados: cria cursos, professores, turmas e alunos pela API (não medido);</li>
+ *     <li>rajada de login: todos os usuarios virtuais autenticam ao mesmo tempo;</li>
+ *     <li>carga mista: cada usuario executa seu {@link Cenario} em loop até o fim da duração.</li>
+ * </ol>
+ * Executado por {@code scripts/carga.sh}, que sobe banco e aplicação e informa o commit.
+ */
+public final class CargaMain {
+
+    public static void main(String[] args) throws Exception {
+        var config = ConfiguracaoCarga.deArgumentos(args);
+        if (config.turmas() <= config.turmasDisputadas()) {
+            throw new IllegalArgumentException("turmas deve ser maior que turmas-disputadas");
+        }
+
+        var api = new ClienteApi(config.url());
+
+        System.out.println("Criando massa de dados (semente " + config.semente() + ")...");
+        var token = api.login(config.login(), config.senha());
+        var massa = MassaDeDados.criar(api, token, config);
+
+        List<Relatorio.Fase> fases = new ArrayList<>();
+        List<Cenario.Sessao> sessoes = new ArrayList<>();
+        var proximoAluno = new AtomicLong(config.alunos());
+        for (int usuario = 0; usuario < config.usuarios(); usuario++) {
+            sessoes.add(new Cenario.Sessao(api, config, massa, usuario, proximoAluno));
+        }
+
+        System.out.println("Rajada de login com " + config.usuarios() + " usuarios...");
+        var metricasLogin = new Metricas();
+        api.registrarEm(metricasLogin);
+        fases.add(Relatorio.Fase.de("rajada-login", executarJuntos(sessoes, null, null), metricasLogin));
+
+        System.out.println("Carga mista por " + config.duracao().toSeconds() + " s...");
+        var metricasMista = new Metricas();
+        api.registrarEm(metricasMista);
+        fases.add(Relatorio.Fase.de("carga-mista", executarJuntos(sessoes, config.duracao(), config), metricasMista));
+
+        var relatorio = Relatorio.de(config, fases);
+        var base = config.base() != null && Files.exists(config.base()) ? Relatorio.ler(config.base()) : null;
+        var diretorio = config.saida().resolve(config.commit());
+        relatorio.gravar(diretorio, base);
+
+        System.out.println(relatorio.markdown(base));
+        System.out.println("Relatório gravado em " + diretorio.toAbsolutePath());
+    }
+
+    /**
+     * Dispara todos os usuarios juntos, um virtual thread cada. Sem duração, cada usuario
+     * apenas faz login uma vez; com duração, executa o cenario em loop até o prazo.
+     */
+    private static Duration executarJuntos(List<Cenario.Sessao> sessoes, Duration duracao, ConfiguracaoCarga config)
+            throws InterruptedException {
+        var largada = new CountDownLatch(1);
+        long inicio;
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int usuario = 0; usuario < sessoes.size(); usuario++) {
+                var sessao = sessoes.get(usuario);
+                var cenario = Cenario.paraUsuario(usuario, sessoes.size());
+                executor.submit(() -> {
+                    largada.await();
+                    if (duracao == null) {
+                        Cenario.LOGIN.executar(sessao);
+                        return null;
+                    }
+
+                    long prazo = System.nanoTime() + duracao.toNanos();
+                    while (System.nanoTime() < prazo) {
+                        try {
+                            cenario.executar(sessao);
+                        } catch (RuntimeException e) {
+                            // a falha já foi registrada nas metricas do endpoint; segue o loop
+                        }
+                        if (config.pausaMs() > 0) {
+                            Thread.sleep(config.pausaMs());
+                        }
+                    }
+                    return null;
+                });
+            }
+            inicio = System.nanoTime();
+            largada.countDown();
+        }
+        return Duration.ofNanos(System.nanoTime() - inicio);
+    }
+}
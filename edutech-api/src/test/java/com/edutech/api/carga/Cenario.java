@@ -0,0 +1,129 @@
+package com.edutech.api.carga;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Perfis de usuario da carga mista. O peso define a fração dos usuarios virtuais
+ * que executa cada perfil; cada chamada de {@link #executar} é uma iteração.
+ */
+enum Cenario {
+
+    /** Reautenticação constante, como no inicio de cada aula. */
+    LOGIN(10) {
+        @Override
+        void executar(Sessao sessao) {
+            sessao.token = sessao.api.login(sessao.config.login(), sessao.config.senha());
+        }
+    },
+
+    /** Navegação no catalogo de cursos e turmas. */
+    CATALOGO(50) {
+        @Override
+        void executar(Sessao sessao) {
+            var api = sessao.api;
+            api.get("GET /cursos", "/cursos?page=" + sessao.aleatorio.nextInt(3) + "&size=10", sessao.token);
+            api.get("GET /cursos/{id}/detalhes", "/cursos/" + sessao.sortear(sessao.massa.cursos) + "/detalhes", sessao.token);
+            api.get("GET /turmas", "/turmas?page=" + sessao.aleatorio.nextInt(6) + "&size=10", sessao.token);
+            api.get("GET /turmas/{id}", "/turmas/" + sessao.sortear(sessao.massa.turmas), sessao.token);
+        }
+    },
+
+    /** Corrida de matriculas concentrada em poucas turmas com vagas limitadas. */
+    MATRICULA(25) {
+        @Override
+        void executar(Sessao sessao) {
+            var turma = sessao.sortear(sessao.massa.turmasDisputadas);
+            sessao.api.enviar("POST /matriculas", "POST", "/matriculas", sessao.token, Map.of(
+                    "alunoId", sessao.sortear(sessao.massa.alunos),
+                    "turmaId", turma,
+                    "dataMatricula", LocalDate.now().format(DATA)
+            ));
+            sessao.api.get("GET /turmas/{id}", "/turmas/" + turma, sessao.token);
+        }
+    },
+
+    /** Secretaria: consulta e manutenção de cadastros. */
+    SECRETARIA(15) {
+        @Override
+        void executar(Sessao sessao) {
+            var api = sessao.api;
+            var aluno = sessao.sortear(sessao.massa.alunos);
+            api.get("GET /alunos", "/alunos?page=" + sessao.aleatorio.nextInt(20) + "&size=11", sessao.token);
+            api.get("GET /alunos/{id}/detalhes", "/alunos/" + aluno + "/detalhes", sessao.token);
+            api.enviar("PATCH /alunos/{id}", "PATCH", "/alunos/" + aluno, sessao.token,
+                    Map.of("telefone", String.format("(11)9%04d-%04d", sessao.aleatorio.nextInt(10_000), sessao.aleatorio.nextInt(10_000))));
+
+            if (sessao.aleatorio.nextInt(5) == 0) {
+                api.enviar("POST /alunos", "POST", "/alunos", sessao.token,
+                        MassaDeDados.aluno(sessao.proximoAluno.getAndIncrement(), sessao.config.semente()));
+            }
+            if (sessao.aleatorio.nextInt(5) == 0) {
+                var turmas = sessao.massa.turmas;
+                var turma = turmas.get(sessao.massa.turmasDisputadas.size()
+                        + sessao.aleatorio.nextInt(turmas.size() - sessao.massa.turmasDisputadas.size()));
+                api.enviar("PATCH /turmas/{id}", "PATCH", "/turmas/" + turma, sessao.token,
+                        Map.of("vagasTotais", 40 + sessao.aleatorio.nextInt(6)));
+            }
+        }
+    };
+
+    private static final DateTimeFormatter DATA = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    final int peso;
+
+    Cenario(int peso) {
+        this.peso = peso;
+    }
+
+    abstract void executar(Sessao sessao);
+
+    /**
+     * Distribui os usuarios entre os cenarios proporcionalmente aos pesos,
+     * sempre na mesma ordem para a mesma quantidade de usuarios.
+     */
+    static Cenario paraUsuario(int usuario, int totalUsuarios) {
+        int pesoTotal = 0;
+        for (Cenario cenario : values()) {
+            pesoTotal += cenario.peso;
+        }
+
+        int posicao = (int) ((long) usuario * pesoTotal / totalUsuarios);
+        for (Cenario cenario : values()) {
+            if (posicao < cenario.peso) {
+                return cenario;
+            }
+            posicao -= cenario.peso;
+        }
+        return values()[values().length - 1];
+    }
+
+    /**
+     * Estado de um usuario virtual.
+     */
+    static final class Sessao {
+
+        final ClienteApi api;
+        final ConfiguracaoCarga config;
+        final MassaDeDados massa;
+        final Random aleatorio;
+        final AtomicLong proximoAluno;
+        String token;
+
+        Sessao(ClienteApi api, ConfiguracaoCarga config, MassaDeDados massa, int usuario, AtomicLong proximoAluno) {
+            this.api = api;
+            this.config = config;
+            this.massa = massa;
+            this.aleatorio = new Random(config.semente() * 31 + usuario);
+            this.proximoAluno = proximoAluno;
+        }
+
+        long sortear(List<Long> ids) {
+            return ids.get(aleatorio.nextInt(ids.size()));
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.edutech.api.carga;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * Cliente HTTP da carga. Cada chamada é cronometrada e registrada nas metricas
+ * da fase corrente com o template do endpoint.
+ */
+final class ClienteApi {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient http;
+    private final URI base;
+    private final ObjectMapper json = new ObjectMapper();
+    private volatile Metricas metricas = new Metricas();
+
+    ClienteApi(URI base) {
+        this.base = base;
+        this.http = HttpClient.newBuilder()
+                .connectTimeout(TIMEOUT)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    void registrarEm(Metricas metricas) {
+        this.metricas = metricas;
+    }
+
+    String login(String login, String senha) {
+        var resposta = enviar("POST /login", "POST", "/login", null,
+                "{\"login\":\"" + login + "\",\"senha\":\"" + senha + "\"}");
+        if (resposta.status() != 200) {
+            throw new IllegalStateException("Falha no login (" + resposta.status() + "): " + resposta.corpo());
+        }
+        return resposta.json().get("token").asText();
+    }
+
+    Resposta get(String endpoint, String caminho, String token) {
+        return enviar(endpoint, "GET", caminho, token, null);
+    }
+
+    Resposta enviar(String endpoint, String metodo, String caminho, String token, Object corpo) {
+        String conteudo;
+        try {
+            conteudo = corpo == null || corpo instanceof String ? (String) corpo : json.writeValueAsString(corpo);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+
+        var requisicao = HttpRequest.newBuilder(base.resolve(caminho))
+                .timeout(TIMEOUT)
+                .header("Accept", "application/json")
+                .method(metodo, conteudo == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(conteudo));
+        if (conteudo != null) {
+            requisicao.header("Content-Type", "application/json");
+        }
+        if (token != null) {
+            requisicao.header("Authorization", "Bearer " + token);
+        }
+
+        long inicio = System.nanoTime();
+        try {
+            var resposta = http.send(requisicao.build(), HttpResponse.BodyHandlers.ofString());
+            metricas.registrar(endpoint, resposta.statusCode(), System.nanoTime() - inicio);
+            return new Resposta(resposta.statusCode(), resposta.body(), json);
+        } catch (IOException e) {
+            metricas.registrar(endpoint, Metricas.FALHA_DE_REDE, System.nanoTime() - inicio);
+            return new Resposta(Metricas.FALHA_DE_REDE, e.toString(), json);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Resposta(Metricas.FALHA_DE_REDE, e.toString(), json);
+        }
+    }
+
+    record Resposta(int status, String corpo, ObjectMapper mapper) {
+
+        boolean sucesso() {
+            return status >= 200 && status < 300;
+        }
+
+        JsonNode json() {
+            try {
+                return mapper.readTree(corpo);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Resposta não é JSON: " + corpo, e);
+            }
+        }
+
+        long id() {
+            if (!sucesso()) {
+                throw new IllegalStateException("Requisição falhou (" + status + "): " + corpo);
+            }
+            return json().get("id").asLong();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.edutech.api.carga;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Parametros da execução de carga, lidos de argumentos no formato {@code --chave=valor}.
+ * Os valores padrão formam o perfil de referência usado para comparar commits.
+ */
+record ConfiguracaoCarga(
+        URI url,
+        String login,
+        String senha,
+        Duration duracao,
+        int usuarios,
+        int pausaMs,
+        long semente,
+        int cursos,
+        int professores,
+        int turmas,
+        int turmasDisputadas,
+        int alunos,
+        Path saida,
+        String commit,
+        Path base
+) {
+
+    static ConfiguracaoCarga deArgumentos(String[] args) {
+        Map<String, String> valores = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Argumento invalido: " + arg + " (use --chave=valor)");
+            }
+            int separador = arg.indexOf('=');
+            valores.put(arg.substring(2, separador), arg.substring(separador + 1));
+        }
+
+        var base = valores.get("base");
+        return new ConfiguracaoCarga(
+                URI.create(valores.getOrDefault("url", "http://localhost:8080")),
+                valores.getOrDefault("login", "user"),
+                valores.getOrDefault("senha", "user123"),
+                Duration.ofSeconds(Long.parseLong(valores.getOrDefault("duracao", "60"))),
+                Integer.parseInt(valores.getOrDefault("usuarios", "50")),
+                Integer.parseInt(valores.getOrDefault("pausa-ms", "20")),
+                Long.parseLong(valores.getOrDefault("semente", "42")),
+                Integer.parseInt(valores.getOrDefault("cursos", "20")),
+                Integer.parseInt(valores.getOrDefault("professores", "30")),
+                Integer.parseInt(valores.getOrDefault("turmas", "60")),
+                Integer.parseInt(valores.getOrDefault("turmas-disputadas", "5")),
+                Integer.parseInt(valores.getOrDefault("alunos", "2000")),
+                Path.of(valores.getOrDefault("saida", "target/carga")),
+                valores.getOrDefault("commit", "local"),
+                base == null || base.isBlank() ? null : Path.of(base)
+        );
+    }
+
+    /**
+     * Parametros que influenciam o resultado; relatórios só são comparaveis quando coincidem.
+     */
+    Map<String, Object> perfil() {
+        Map<String, Object> perfil = new LinkedHashMap<>();
+        perfil.put("duracaoSegundos", duracao.toSeconds());
+        perfil.put("usuarios", usuarios);
+        perfil.put("pausaMs", pausaMs);
+        perfil.put("semente", semente);
+        perfil.put("cursos", cursos);
+        perfil.put("professores", professores);
+        perfil.put("turmas", turmas);
+        perfil.put("turmasDisputadas", turmasDisputadas);
+        perfil.put("alunos", alunos);
+        return perfil;
+    }
+}
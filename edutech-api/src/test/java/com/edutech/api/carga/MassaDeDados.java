@@ -0,0 +1,127 @@
+package com.edutech.api.carga;
+
+import com.edutech.api.infra.gerador.GeradorCpf;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Cria pela própria API os cursos, professores, turmas e alunos usados na carga.
+ * Tudo é derivado da semente, então duas execuções com a mesma configuração
+ * partem exatamente da mesma massa.
+ */
+final class MassaDeDados {
+
+    private static final String[] MODALIDADES = {"PRESENCIAL", "EAD", "HIBRIDO"};
+    private static final String[] NIVEIS = {"INTRODUCAO", "BASICO", "INTERMEDIARIO", "AVANCADO", "ESPECIALIZACAO"};
+    private static final String[] CATEGORIAS = {"PROGRAMACAO", "BANCO_DADOS", "DESIGN_GRAFICO", "REDES", "SEGURANCA", "MOBILE", "WEB", "CLOUD"};
+
+    final List<Long> cursos = new ArrayList<>();
+    final List<Long> turmas = new ArrayList<>();
+    final List<Long> turmasDisputadas = new ArrayList<>();
+    final List<Long> alunos = new ArrayList<>();
+
+    static MassaDeDados criar(ClienteApi api, String token, ConfiguracaoCarga config) {
+        var massa = new MassaDeDados();
+        var aleatorio = new Random(config.semente());
+
+        for (int i = 0; i < config.cursos(); i++) {
+            massa.cursos.add(api.enviar("POST /cursos", "POST", "/cursos", token, curso(i, aleatorio)).id());
+        }
+
+        Map<String, List<Long>> professoresPorModalidade = new LinkedHashMap<>();
+        for (int i = 0; i < config.professores(); i++) {
+            var modalidade = MODALIDADES[i % MODALIDADES.length];
+            var id = api.enviar("POST /professores", "POST", "/professores", token, professor(i, modalidade, config.semente())).id();
+            professoresPorModalidade.computeIfAbsent(modalidade, m -> new ArrayList<>()).add(id);
+        }
+
+        for (int i = 0; i < config.turmas(); i++) {
+            boolean disputada = i < config.turmasDisputadas();
+            var modalidade = MODALIDADES[i % MODALIDADES.length];
+            var turma = api.enviar("POST /turmas", "POST", "/turmas", token, turma(i, modalidade, disputada, config.semente())).id();
+
+            var curso = massa.cursos.get(aleatorio.nextInt(massa.cursos.size()));
+            var professores = professoresPorModalidade.get(modalidade);
+            api.enviar("PUT /turmas/{id}/curso/{cursoId}", "PUT", "/turmas/" + turma + "/curso/" + curso, token, null);
+            api.enviar("PUT /turmas/{id}/professor/{professorId}", "PUT",
+                    "/turmas/" + turma + "/professor/" + professores.get(aleatorio.nextInt(professores.size())), token, null);
+
+            massa.turmas.add(turma);
+            if (disputada) {
+                massa.turmasDisputadas.add(turma);
+            }
+        }
+
+        for (int i = 0; i < config.alunos(); i++) {
+            massa.alunos.add(api.enviar("POST /alunos", "POST", "/alunos", token, aluno(i, config.semente())).id());
+        }
+        return massa;
+    }
+
+    static Map<String, Object> aluno(long indice, long semente) {
+        Map<String, Object> aluno = new LinkedHashMap<>();
+        aluno.put("nome", "Aluno Carga " + indice);
+        aluno.put("email", "aluno" + indice + "@carga.edutech.com");
+        aluno.put("telefone", "(11)9" + String.format("%04d", indice % 10_000) + "-" + String.format("%04d", (indice / 10_000) % 10_000));
+        aluno.put("cpf", GeradorCpf.gerar(indice, semente));
+        aluno.put("dataDeNascimento", String.format("%02d/%02d/%d", 1 + indice % 28, 1 + indice % 12, 1980 + indice % 25));
+        aluno.put("endereco", endereco(indice));
+        return aluno;
+    }
+
+    private static Map<String, Object> professor(int indice, String modalidade, long semente) {
+        Map<String, Object> professor = new LinkedHashMap<>();
+        professor.put("nome", "Professor Carga " + indice);
+        professor.put("email", "professor" + indice + "@carga.edutech.com");
+        professor.put("dataNascimento", String.format("%02d/%02d/%d", 1 + indice % 28, 1 + indice % 12, 1960 + indice % 30));
+        professor.put("telefone", "(21)9" + String.format("%04d", indice % 10_000) + "-0000");
+        professor.put("cpf", GeradorCpf.gerar(900_000_000L + indice, semente));
+        professor.put("modalidade", modalidade);
+        professor.put("endereco", endereco(indice));
+        return professor;
+    }
+
+    private static Map<String, Object> curso(int indice, Random aleatorio) {
+        Map<String, Object> curso = new LinkedHashMap<>();
+        curso.put("nome", "Curso Carga " + indice);
+        curso.put("descricao", "Curso gerado para teste de carga numero " + indice);
+        curso.put("cargaHorariaTotal", 100 + aleatorio.nextInt(200));
+        curso.put("duracaoMeses", 1 + aleatorio.nextInt(12));
+        curso.put("nivel", NIVEIS[indice % NIVEIS.length]);
+        curso.put("categoria", CATEGORIAS[indice % CATEGORIAS.length]);
+        return curso;
+    }
+
+    /**
+     * Turmas de março a junho do proximo ano, sempre validas para as regras de periodo letivo.
+     * As disputadas tem poucas vagas para provocar a corrida de matriculas.
+     */
+    private static Map<String, Object> turma(int indice, String modalidade, boolean disputada, long semente) {
+        var ano = LocalDate.now().getYear() + 1;
+        Map<String, Object> turma = new LinkedHashMap<>();
+        turma.put("codigo", "C" + semente % 1000 + "-" + indice);
+        turma.put("dataInicio", String.format("02/03/%d", ano));
+        turma.put("dataFim", String.format("30/06/%d", ano));
+        turma.put("horarioInicio", String.format("%02d:00", 8 + indice % 10));
+        turma.put("horarioFim", String.format("%02d:00", 10 + indice % 10));
+        turma.put("vagasTotais", disputada ? 30 : 40);
+        turma.put("modalidade", modalidade);
+        return turma;
+    }
+
+    private static Map<String, Object> endereco(long indice) {
+        Map<String, Object> endereco = new LinkedHashMap<>();
+        endereco.put("logradouro", "Rua " + indice);
+        endereco.put("bairro", "Centro");
+        endereco.put("cep", String.format("%08d", 1_000_000 + indice % 90_000_000));
+        endereco.put("cidade", "São Paulo");
+        endereco.put("uf", "SP");
+        endereco.put("numero", String.valueOf(1 + indice % 2000));
+        return endereco;
+    }
+}
@@ -0,0 +1,51 @@
+package com.edutech.api.carga;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Latências e status por endpoint de uma fase da carga.
+ * O endpoint é o template da rota (ex.: "GET /turmas/{id}"), não a URL concreta.
+ */
+final class Metricas {
+
+    /** Status usado quando a requisição falha antes de receber resposta (timeout, conexão recusada). */
+    static final int FALHA_DE_REDE = -1;
+
+    private final Map<String, Registro> registros = new ConcurrentHashMap<>();
+
+    void registrar(String endpoint, int status, long nanos) {
+        registros.computeIfAbsent(endpoint, e -> new Registro()).adicionar(status, nanos);
+    }
+
+    Map<String, Registro> registros() {
+        return new TreeMap<>(registros);
+    }
+
+    static final class Registro {
+
+        private long[] latencias = new long[1024];
+        private int quantidade;
+        private final Map<Integer, Long> status = new TreeMap<>();
+
+        synchronized void adicionar(int codigo, long nanos) {
+            if (quantidade == latencias.length) {
+                latencias = Arrays.copyOf(latencias, quantidade * 2);
+            }
+            latencias[quantidade++] = nanos;
+            status.merge(codigo, 1L, Long::sum);
+        }
+
+        synchronized long[] latenciasOrdenadas() {
+            var copia = Arrays.copyOf(latencias, quantidade);
+            Arrays.sort(copia);
+            return copia;
+        }
+
+        synchronized Map<Integer, Long> status() {
+            return new TreeMap<>(status);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.edutech.api.carga;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resultado de uma execução de carga. É gravado em JSON (para comparação entre commits)
+ * e em Markdown (para leitura), e pode ser comparado com um relatório base.
+ */
+record Relatorio(
+        String commit,
+        String data,
+        Map<String, Object> perfil,
+        List<Fase> fases
+) {
+
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    record Fase(String nome, double duracaoSegundos, List<Endpoint> endpoints) {
+
+        static Fase de(String nome, Duration duracao, Metricas metricas) {
+            var segundos = duracao.toNanos() / 1e9;
+            List<Endpoint> endpoints = new ArrayList<>();
+            metricas.registros().forEach((endpoint, registro) -> endpoints.add(Endpoint.de(endpoint, registro, segundos)));
+            return new Fase(nome, arredondar(segundos), endpoints);
+        }
+    }
+
+    /**
+     * Erros são falhas de rede e respostas 5xx; rejeições são respostas 4xx
+     * (regras de negocio, como turma sem vagas, entram aqui).
+     */
+    record Endpoint(
+            String endpoint,
+            long requisicoes,
+            double throughput,
+            double p50Ms,
+            double p90Ms,
+            double p99Ms,
+            double maxMs,
+            double taxaErro,
+            double taxaRejeicao,
+            Map<Integer, Long> status
+    ) {
+
+        static Endpoint de(String endpoint, Metricas.Registro registro, double segundos) {
+            var latencias = registro.latenciasOrdenadas();
+            var status = registro.status();
+            long erros = 0;
+            long rejeicoes = 0;
+            for (var entrada : status.entrySet()) {
+                int codigo = entrada.getKey();
+                if (codigo == Metricas.FALHA_DE_REDE || codigo >= 500) {
+                    erros += entrada.getValue();
+                } else if (codigo >= 400) {
+                    rejeicoes += entrada.getValue();
+                }
+            }
+
+            int total = latencias.length;
+            return new Endpoint(
+                    endpoint,
+                    total,
+                    arredondar(total / segundos),
+                    percentil(latencias, 50),
+                    percentil(latencias, 90),
+                    percentil(latencias, 99),
+                    total == 0 ? 0 : arredondar(latencias[total - 1] / 1e6),
+                    total == 0 ? 0 : arredondar((double) erros / total),
+                    total == 0 ? 0 : arredondar((double) rejeicoes / total),
+                    status
+            );
+        }
+    }
+
+    static Relatorio de(ConfiguracaoCarga config, List<Fase> fases) {
+        return new Relatorio(config.commit(), OffsetDateTime.now().toString(), config.perfil(), fases);
+    }
+
+    static Relatorio ler(Path arquivo) throws IOException {
+        return JSON.readValue(arquivo.toFile(), Relatorio.class);
+    }
+
+    void gravar(Path diretorio, Relatorio base) throws IOException {
+        Files.createDirectories(diretorio);
+        JSON.writeValue(diretorio.resolve("relatorio.json").toFile(), this);
+        Files.writeString(diretorio.resolve("relatorio.md"), markdown(base));
+    }
+
+    String markdown(Relatorio base) {
+        var md = new StringBuilder();
+        md.append("# Carga - ").append(commit).append("\n\n");
+        md.append("Data: ").append(data).append("  \n");
+        md.append("Perfil: `").append(perfil).append("`\n");
+
+        if (base != null) {
+            md.append("\nBase: ").append(base.commit()).append(" (").append(base.data()).append(")");
+            if (!base.perfil().toString().equals(perfil.toString())) {
+                md.append(" — **perfil diferente, comparação não é valida**: `").append(base.perfil()).append('`');
+            }
+            md.append('\n');
+        }
+
+        for (Fase fase : fases) {
+            md.append("\n## ").append(fase.nome()).append(" (").append(fase.duracaoSegundos()).append(" s)\n\n");
+            md.append("| Endpoint | Req | Req/s | p50 ms | p90 ms | p99 ms | max ms | Erros | Rejeições |");
+            md.append(base != null ? " Δ Req/s | Δ p99 |\n" : "\n");
+            md.append("|---|---:|---:|---:|---:|---:|---:|---:|---:|");
+            md.append(base != null ? "---:|---:|\n" : "\n");
+
+            for (Endpoint e : fase.endpoints()) {
+                md.append("| ").append(e.endpoint())
+                        .append(" | ").append(e.requisicoes())
+                        .append(" | ").append(e.throughput())
+                        .append(" | ").append(e.p50Ms())
+                        .append(" | ").append(e.p90Ms())
+                        .append(" | ").append(e.p99Ms())
+                        .append(" | ").append(e.maxMs())
+                        .append(" | ").append(porcentagem(e.taxaErro()))
+                        .append(" | ").append(porcentagem(e.taxaRejeicao()))
+                        .append(" |");
+                if (base != null) {
+                    var anterior = base.endpoint(fase.nome(), e.endpoint());
+                    md.append(' ').append(anterior == null ? "-" : variacao(anterior.throughput(), e.throughput()))
+                            .append(" | ").append(anterior == null ? "-" : variacao(anterior.p99Ms(), e.p99Ms()))
+                            .append(" |");
+                }
+                md.append('\n');
+            }
+        }
+        return md.toString();
+    }
+
+    private Endpoint endpoint(String fase, String endpoint) {
+        return fases.stream()
+                .filter(f -> f.nome().equals(fase))
+                .flatMap(f -> f.endpoints().stream())
+                .filter(e -> e.endpoint().equals(endpoint))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static String variacao(double antes, double depois) {
+        if (antes == 0) {
+            return "-";
+        }
+        return String.format("%+.1f%%", (depois - antes) / antes * 100);
+    }
+
+    private static String porcentagem(double taxa) {
+        return String.format("%.2f%%", taxa * 100);
+    }
+
+    private static double percentil(long[] ordenadas, int percentil) {
+        if (ordenadas.length == 0) {
+            return 0;
+        }
+        int indice = (int) Math.ceil(percentil / 100.0 * ordenadas.length) - 1;
+        return arredondar(ordenadas[Math.max(indice, 0)] / 1e6);
+    }
+
+    private static double arredondar(double valor) {
+        return Math.round(valor * 100) / 100.0;
+    }
+}
@@ -2,12 +2,17 @@ package com.edutech.api.controller;
 
 import com.edutech.api.domain.aluno.dto.AlunoCreateDTO;
 import com.edutech.api.domain.aluno.dto.AlunoDetalhesDTO;
+import com.edutech.api.domain.aluno.dto.AlunoPerfilDTO;
 import com.edutech.api.domain.aluno.dto.AlunoResumoDTO;
 import com.edutech.api.domain.aluno.dto.AlunoUpdateDTO;
 import com.edutech.api.domain.aluno.enums.StatusAluno;
 import com.edutech.api.domain.aluno.service.AlunoService;
+import com.edutech.api.domain.aluno.service.ImportacaoAlunoService;
+import com.edutech.api.domain.aluno.service.PerfilAlunoService;
 import com.edutech.api.domain.endereco.dto.DadosEnderecoDTO;
 import com.edutech.api.domain.exception.ValidacaoException;
+import com.edutech.api.domain.matricula.dto.ResumoMatriculasDTO;
+import com.edutech.api.infra.importacao.ResultadoImportacaoDTO;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,12 +24,14 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.ByteArrayInputStream;
 import java.time.LocalDate;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @DisplayName("Testes unitários do aluno controller")
@@ -35,6 +42,10 @@ class AlunoControllerTest {
     private AlunoController alunoController;
     @Mock
     private AlunoService alunoService;
+    @Mock
+    private ImportacaoAlunoService importacaoAlunoService;
+    @Mock
+    private PerfilAlunoService perfilAlunoService;
 
     @Test
     @DisplayName("Deve cadastrar um novo aluno e retornar status 201 Created")
@@ -142,10 +153,10 @@ class AlunoControllerTest {
                 StatusAluno.ATIVO
         );
 
-        when(alunoService.atualizarAluno(eq(alunoId), any(AlunoUpdateDTO.class)))
+        when(alunoService.atualizarAluno(eq(alunoId), any(AlunoUpdateDTO.class), isNull()))
                 .thenReturn(alunoResumoAtualizado);
 
-        ResponseEntity<AlunoResumoDTO> response = alunoController.atualizar(alunoId, updateDto);
+        ResponseEntity<AlunoResumoDTO> response = alunoController.atualizar(alunoId, updateDto, null);
 
         assertAll(
                 () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
@@ -153,7 +164,7 @@ class AlunoControllerTest {
                 () -> assertNotNull(response.getBody())
         );
 
-        verify(alunoService).atualizarAluno(eq(alunoId), eq(updateDto));
+        verify(alunoService).atualizarAluno(eq(alunoId), eq(updateDto), isNull());
     }
 
     @Test
@@ -274,7 +285,7 @@ class AlunoControllerTest {
 
         when(alunoService.detalharAluno(id)).thenReturn(detalhesMock);
 
-        ResponseEntity<AlunoDetalhesDTO> response = alunoController.detalharAluno(id);
+        ResponseEntity<AlunoDetalhesDTO> response = alunoController.detalharAluno(id, null);
 
         assertAll(
                 () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
@@ -298,4 +309,39 @@ class AlunoControllerTest {
         );
         verify(alunoService).excluir(id);
     }
+
+    @Test
+    @DisplayName("Deve importar alunos de um CSV e retornar o relatório com status 200")
+    void deveImportarAlunosDeCsv() {
+        var csv = new ByteArrayInputStream(new byte[0]);
+        var relatorio = new ResultadoImportacaoDTO(10, 9, 1,
+                List.of(new ResultadoImportacaoDTO.ErroImportacaoDTO(4, "12345678900", "Já existe um aluno com este CPF cadastrado.")),
+                false);
+        when(importacaoAlunoService.importar(csv)).thenReturn(relatorio);
+
+        ResponseEntity<ResultadoImportacaoDTO> resposta = alunoController.importar(csv);
+
+        assertAll(
+                () -> assertEquals(HttpStatus.OK, resposta.getStatusCode()),
+                () -> assertEquals(relatorio, resposta.getBody())
+        );
+    }
+
+    @Test
+    @DisplayName("Deve retornar o perfil do aluno com status 200")
+    void deveRetornarPerfilDoAluno() {
+        var perfil = new AlunoPerfilDTO(
+                new AlunoDetalhesDTO(1L, "Lucas Souza", "lucas@email.com", "(11)99999-9999", "12345678900",
+                        LocalDate.of(2002, 5, 30), StatusAluno.ATIVO, null),
+                new ResumoMatriculasDTO(1, 0, 0, List.of("08:00-10:00")),
+                List.of(), List.of(), List.of());
+        when(perfilAlunoService.montarPerfil(1L)).thenReturn(perfil);
+
+        ResponseEntity<AlunoPerfilDTO> resposta = alunoController.perfil(1L);
+
+        assertAll(
+                () -> assertEquals(HttpStatus.OK, resposta.getStatusCode()),
+                () -> assertEquals(perfil, resposta.getBody())
+        );
+    }
 }
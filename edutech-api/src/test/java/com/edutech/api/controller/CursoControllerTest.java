@@ -264,16 +264,17 @@ class CursoControllerTest {
                 professores
         );
 
-        when(cursoService.detalharPorId(id)).thenReturn(detalhesMock);
+        when(cursoService.buscarVersao(id)).thenReturn(4L);
+        when(cursoService.detalharPorId(id, 4L)).thenReturn(detalhesMock);
 
-        ResponseEntity<CursoDetalhesDTO> response = cursoController.detalharPorId(id);
+        ResponseEntity<CursoDetalhesDTO> response = cursoController.detalharPorId(id, null);
 
         assertAll(
                 () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
                 () -> assertEquals(detalhesMock, response.getBody())
         );
 
-        verify(cursoService).detalharPorId(id);
+        verify(cursoService).detalharPorId(id, 4L);
     }
 
     @Test
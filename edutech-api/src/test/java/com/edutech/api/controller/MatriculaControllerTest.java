@@ -4,6 +4,7 @@ import com.edutech.api.domain.exception.ValidacaoException;
 import com.edutech.api.domain.matricula.dto.*;
 import com.edutech.api.domain.matricula.enums.MotivoCancelamento;
 import com.edutech.api.domain.matricula.enums.StatusMatricula;
+import com.edutech.api.domain.matricula.service.AdmissaoMatriculaService;
 import com.edutech.api.domain.matricula.service.MatriculaService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -30,6 +31,8 @@ public class MatriculaControllerTest {
 
     @Mock
     private MatriculaService matriculaService;
+    @Mock
+    private AdmissaoMatriculaService admissaoMatriculaService;
     @InjectMocks
     private MatriculaController matriculaController;
 
@@ -50,7 +53,7 @@ public class MatriculaControllerTest {
                 "JAVA-052025",
                 StatusMatricula.ATIVA);
 
-        when(matriculaService.cadastrarMatricula(dto)).thenReturn(resumoDTO);
+        when(admissaoMatriculaService.admitir(dto)).thenReturn(resumoDTO);
 
         UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromUriString("http://localhost");
 
@@ -60,7 +63,7 @@ public class MatriculaControllerTest {
                 () -> assertEquals(HttpStatus.CREATED, response.getStatusCode()),
                 () -> assertEquals(resumoDTO, response.getBody()),
                 () -> assertTrue(response.getHeaders().getLocation().toString().contains("/matriculas/10")),
-                () -> verify(matriculaService).cadastrarMatricula(dto)
+                () -> verify(admissaoMatriculaService).admitir(dto)
         );
     }
 
@@ -79,7 +82,7 @@ public class MatriculaControllerTest {
                 StatusMatricula.ATIVA);
 
         UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromUriString("http://localhost");
-        when(matriculaService.cadastrarMatricula(dto)).thenReturn(resumo);
+        when(admissaoMatriculaService.admitir(dto)).thenReturn(resumo);
 
         var response = matriculaController.cadastrar(dto, uriBuilder);
 
@@ -88,7 +91,7 @@ public class MatriculaControllerTest {
                 () -> assertEquals(resumo, response.getBody()),
                 () -> assertTrue(response.getHeaders().getLocation().toString().contains("/matriculas/10"))
         );
-        verify(matriculaService).cadastrarMatricula(dto);
+        verify(admissaoMatriculaService).admitir(dto);
     }
 
     @Test
@@ -101,7 +104,7 @@ public class MatriculaControllerTest {
         );
 
         UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromUriString("http://localhost");
-        when(matriculaService.cadastrarMatricula(dto))
+        when(admissaoMatriculaService.admitir(dto))
                 .thenThrow(new ValidacaoException("Aluno já está matriculado nesta turma"));
 
         var ex = assertThrows(ValidacaoException.class, () ->
@@ -109,7 +112,7 @@ public class MatriculaControllerTest {
         );
 
         assertEquals("Aluno já está matriculado nesta turma", ex.getMessage());
-        verify(matriculaService).cadastrarMatricula(dto);
+        verify(admissaoMatriculaService).admitir(dto);
     }
 
     @Test
@@ -174,6 +177,26 @@ public class MatriculaControllerTest {
         verify(matriculaService).buscarPorNomeDoAluno(nome);
     }
 
+    @Test
+    @DisplayName("Deve retornar o historico de matrículas do aluno, incluindo as arquivadas")
+    void deveRetornarHistoricoDoAluno() {
+        List<MatriculaResumoDTO> historico = List.of(
+                new MatriculaResumoDTO(9L, LocalDate.of(2025, 3, 3), 1L, "João Pedro",
+                        4L, "JAVA-032025", StatusMatricula.ATIVA),
+                new MatriculaResumoDTO(2L, LocalDate.of(2022, 2, 1), 1L, "João Pedro",
+                        1L, "JAVA-022022", StatusMatricula.CONCLUIDA));
+
+        when(matriculaService.historicoDoAluno(1L)).thenReturn(historico);
+
+        ResponseEntity<List<MatriculaResumoDTO>> response = matriculaController.historicoDoAluno(1L);
+
+        assertAll(
+                () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
+                () -> assertEquals(historico, response.getBody())
+        );
+        verify(matriculaService).historicoDoAluno(1L);
+    }
+
     @Test
     @DisplayName("Deve listar todas as matrículas com sucesso")
     void deveListarTodasMatriculasComSucesso() {
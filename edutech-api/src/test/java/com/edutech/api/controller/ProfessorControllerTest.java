@@ -5,10 +5,12 @@ import com.edutech.api.domain.enums.Modalidade;
 import com.edutech.api.domain.exception.ValidacaoException;
 import com.edutech.api.domain.professor.dto.ProfessorCreateDTO;
 import com.edutech.api.domain.professor.dto.ProfessorDetalhesDTO;
+import com.edutech.api.domain.professor.dto.ProfessorExclusaoDTO;
 import com.edutech.api.domain.professor.dto.ProfessorResumoDTO;
 import com.edutech.api.domain.professor.dto.ProfessorUpdateDTO;
 import com.edutech.api.domain.professor.enums.StatusProfessor;
 import com.edutech.api.domain.professor.service.ProfessorService;
+import com.edutech.api.domain.turma.dto.TurmaSemProfessorDTO;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -285,7 +287,7 @@ public class ProfessorControllerTest {
 
         when(professorService.detalharProfessor(id)).thenReturn(detalhes);
 
-        ResponseEntity<ProfessorDetalhesDTO> response = professorController.detalharProfessor(id);
+        ResponseEntity<ProfessorDetalhesDTO> response = professorController.detalharProfessor(id, null);
 
         assertAll(
                 () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
@@ -295,13 +297,31 @@ public class ProfessorControllerTest {
     }
 
     @Test
-    @DisplayName("Deve excluir um professor com sucesso e retornar status 204 No Content")
+    @DisplayName("Deve excluir um professor com sucesso, retornar 204 e informar no cabeçalho as turmas que ficaram sem professor")
     void deveExcluirProfessorComSucesso() {
         Long id = 1L;
+        var exclusao = new ProfessorExclusaoDTO(id, List.of(
+                new TurmaSemProfessorDTO(5L, "TURMA-2025-01"), new TurmaSemProfessorDTO(7L, "TURMA-2025-03")));
+
+        when(professorService.excluirProfessor(id)).thenReturn(exclusao);
 
         ResponseEntity<Void> response = professorController.excluir(id);
 
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        assertEquals("5,7", response.getHeaders().getFirst(ProfessorController.CABECALHO_TURMAS_SEM_PROFESSOR));
         verify(professorService).excluirProfessor(id);
     }
+
+    @Test
+    @DisplayName("Deve excluir um professor sem turmas abertas e retornar 204 sem o cabeçalho de turmas")
+    void deveExcluirProfessorSemTurmas() {
+        Long id = 1L;
+
+        when(professorService.excluirProfessor(id)).thenReturn(new ProfessorExclusaoDTO(id, List.of()));
+
+        ResponseEntity<Void> response = professorController.excluir(id);
+
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        assertFalse(response.getHeaders().containsKey(ProfessorController.CABECALHO_TURMAS_SEM_PROFESSOR));
+    }
 }
@@ -2,30 +2,59 @@ package com.edutech.api.controller;
 
 import com.edutech.api.domain.enums.Modalidade;
 import com.edutech.api.domain.exception.ValidacaoException;
+import com.edutech.api.domain.exception.VersaoDesatualizadaException;
 import com.edutech.api.domain.matricula.dto.MatriculaResumoDTO;
 import com.edutech.api.domain.matricula.enums.StatusMatricula;
+import com.edutech.api.domain.matricula.repository.MatriculaRepository;
 import com.edutech.api.domain.turma.dto.*;
 import com.edutech.api.domain.turma.enums.StatusTurma;
+import com.edutech.api.domain.turma.repository.TurmaRepository;
+import com.edutech.api.domain.matricula.dto.MatriculaDaTurmaDTO;
+import com.edutech.api.domain.turma.service.MatriculasDaTurmaService;
+import com.edutech.api.domain.turma.service.PainelTurmaService;
 import com.edutech.api.domain.turma.service.TurmaService;
+import com.edutech.api.infra.conexoes.PoolConexoes;
+import com.edutech.api.infra.conexoes.RoteamentoPool;
+import com.edutech.api.infra.conexoes.UsarPoolAspect;
+import com.edutech.api.infra.exception.TratarErros;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.*;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @DisplayName("Testes unitários do Turma controller")
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +62,14 @@ class TurmaControllerTest {
 
     @Mock
     private TurmaService turmaService;
+    @Mock
+    private PainelTurmaService painelTurmaService;
+    @Mock
+    private MatriculasDaTurmaService matriculasDaTurmaService;
+    @Mock
+    private TurmaRepository turmaRepository;
+    @Mock
+    private MatriculaRepository matriculaRepository;
     @InjectMocks
     private TurmaController turmaController;
 
@@ -178,15 +215,15 @@ class TurmaControllerTest {
                 StatusTurma.ABERTA
         );
 
-        when(turmaService.atualizarTurma(id, dto)).thenReturn(turmaAtualizada);
+        when(turmaService.atualizarTurma(id, dto, null)).thenReturn(turmaAtualizada);
 
-        ResponseEntity<TurmaResumoDTO> response = turmaController.atualizar(id, dto);
+        ResponseEntity<TurmaResumoDTO> response = turmaController.atualizar(id, dto, null);
 
         assertAll(
                 () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
                 () -> assertEquals(turmaAtualizada, response.getBody())
         );
-        verify(turmaService).atualizarTurma(id, dto);
+        verify(turmaService).atualizarTurma(id, dto, null);
     }
 
     @Test
@@ -207,12 +244,12 @@ class TurmaControllerTest {
                 StatusTurma.ABERTA
         );
 
-        when(turmaService.atualizarTurma(id, dto)).thenReturn(turmaAtualizada);
+        when(turmaService.atualizarTurma(id, dto, null)).thenReturn(turmaAtualizada);
 
-        ResponseEntity<TurmaResumoDTO> response = turmaController.atualizar(id, dto);
+        ResponseEntity<TurmaResumoDTO> response = turmaController.atualizar(id, dto, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        verify(turmaService).atualizarTurma(id, dto);
+        verify(turmaService).atualizarTurma(id, dto, null);
     }
 
     @Test
@@ -236,12 +273,12 @@ class TurmaControllerTest {
                 StatusTurma.ABERTA
         );
 
-        when(turmaService.atualizarTurma(id, dto)).thenReturn(turmaAtualizada);
+        when(turmaService.atualizarTurma(id, dto, null)).thenReturn(turmaAtualizada);
 
-        ResponseEntity<TurmaResumoDTO> response = turmaController.atualizar(id, dto);
+        ResponseEntity<TurmaResumoDTO> response = turmaController.atualizar(id, dto, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        verify(turmaService).atualizarTurma(id, dto);
+        verify(turmaService).atualizarTurma(id, dto, null);
     }
 
     @Test
@@ -257,17 +294,17 @@ class TurmaControllerTest {
                 null,
                 null);
 
-        when(turmaService.atualizarTurma(id, dto))
+        when(turmaService.atualizarTurma(id, dto, null))
                 .thenThrow(new ValidacaoException("Curso não encontrado"));
 
         ValidacaoException exception = assertThrows(
                 ValidacaoException.class,
-                () -> turmaController.atualizar(id, dto)
+                () -> turmaController.atualizar(id, dto, null)
         );
 
         assertAll(
                 () -> assertEquals("Curso não encontrado", exception.getMessage()),
-                () -> verify(turmaService).atualizarTurma(id, dto)
+                () -> verify(turmaService).atualizarTurma(id, dto, null)
         );
     }
 
@@ -288,15 +325,72 @@ class TurmaControllerTest {
                 StatusTurma.ABERTA
         );
 
-        when(turmaService.detalharPorId(id)).thenReturn(detalhes);
+        when(turmaService.buscarVersao(id)).thenReturn(2L);
+        when(turmaService.detalharPorId(id, 2L)).thenReturn(detalhes);
 
-        ResponseEntity<TurmaDetalhesDTO> response = turmaController.detalharPorId(id);
+        ResponseEntity<TurmaDetalhesDTO> response = turmaController.detalharPorId(id, null);
 
         assertAll(
                 () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
+                () -> assertEquals("\"1-2\"", response.getHeaders().getETag()),
                 () -> assertEquals(detalhes, response.getBody())
         );
-        verify(turmaService).detalharPorId(id);
+        verify(turmaService).detalharPorId(id, 2L);
+    }
+
+    @Test
+    @DisplayName("Deve retornar 304 sem carregar a turma quando o If-None-Match corresponde ao ETag atual")
+    void deveRetornarNaoModificadoQuandoEtagCorresponde() {
+        Long id = 1L;
+
+        when(turmaService.buscarVersao(id)).thenReturn(2L);
+
+        ResponseEntity<TurmaDetalhesDTO> response = turmaController.detalharPorId(id, "\"1-2\"");
+
+        assertAll(
+                () -> assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode()),
+                () -> assertEquals("\"1-2\"", response.getHeaders().getETag()),
+                () -> assertNull(response.getBody())
+        );
+        verify(turmaService, never()).detalharPorId(eq(id), any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando o If-Match não corresponde a versão atual da turma")
+    void deveLancarExcecaoQuandoIfMatchDesatualizado() {
+        Long id = 1L;
+        var dto = new TurmaUpdateDTO("JAVA-NOVO", null, null, null, null, null, null);
+
+        when(turmaService.buscarVersao(id)).thenReturn(3L);
+
+        assertThrows(VersaoDesatualizadaException.class,
+                () -> turmaController.atualizar(id, dto, "\"1-2\""));
+        verify(turmaService, never()).atualizarTurma(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve atualizar com If-Match valido e responder o resumo sem ETag")
+    void deveAtualizarComIfMatchSemEtagNaResposta() {
+        Long id = 1L;
+        var dto = new TurmaUpdateDTO("JAVA-NOVO", null, null, null, null, null, null);
+        var turmaAtualizada = new TurmaResumoDTO(
+                id, "JAVA-NOVO",
+                LocalDate.of(2025, 6, 15),
+                LocalDate.of(2025, 8, 15),
+                StatusTurma.ABERTA
+        );
+
+        when(turmaService.buscarVersao(id)).thenReturn(2L);
+        when(turmaService.atualizarTurma(id, dto, 2L)).thenReturn(turmaAtualizada);
+
+        ResponseEntity<TurmaResumoDTO> response = turmaController.atualizar(id, dto, "\"1-2\"");
+
+        assertAll(
+                () -> assertEquals(HttpStatus.OK, response.getStatusCode()),
+                () -> assertNull(response.getHeaders().getETag()),
+                () -> assertEquals(turmaAtualizada, response.getBody())
+        );
+        verify(turmaService).buscarVersao(id);
     }
 
     @Test
@@ -487,4 +581,127 @@ class TurmaControllerTest {
         );
         verify(turmaService).desvincularCurso(turmaId, cursoId);
     }
+
+    @Test
+    @DisplayName("Deve retornar o painel da turma com status 200")
+    void deveRetornarPainelDaTurma() {
+        var painel = new TurmaPainelDTO(
+                new TurmaResumoDTO(1L, "T-01", LocalDate.of(2025, 3, 1), LocalDate.of(2025, 7, 1), StatusTurma.ABERTA),
+                null, null, 30, 28,
+                Map.of(StatusMatricula.ATIVA, 2L));
+        when(painelTurmaService.montarPainel(1L)).thenReturn(painel);
+
+        ResponseEntity<TurmaPainelDTO> resposta = turmaController.painel(1L);
+
+        assertAll(
+                () -> assertEquals(HttpStatus.OK, resposta.getStatusCode()),
+                () -> assertEquals(painel, resposta.getBody())
+        );
+    }
+
+    @Test
+    @DisplayName("Deve retornar uma página das matriculas da turma com o cursor da próxima")
+    void deveListarMatriculasDaTurma() {
+        var pagina = new MatriculasDaTurmaDTO(
+                List.of(new MatriculaDaTurmaDTO(5L, 3L, "Ana", StatusMatricula.ATIVA, LocalDate.of(2025, 3, 1))),
+                5L);
+        when(matriculasDaTurmaService.listar(1L, StatusMatricula.ATIVA, null, 1)).thenReturn(pagina);
+
+        ResponseEntity<MatriculasDaTurmaDTO> resposta = turmaController.listarMatriculas(1L, StatusMatricula.ATIVA, null, 1);
+
+        assertAll(
+                () -> assertEquals(HttpStatus.OK, resposta.getStatusCode()),
+                () -> assertEquals(pagina, resposta.getBody())
+        );
+    }
+
+    @Test
+    @DisplayName("Deve transmitir as matriculas em NDJSON lendo cada lote só durante a escrita, no pool do relatório")
+    void deveTransmitirMatriculasEmLotesNoPoolDoRelatorio() throws Exception {
+        var pools = new ArrayList<PoolConexoes>();
+        when(turmaRepository.existsById(1L)).thenReturn(true);
+        when(matriculaRepository.findPaginaDaTurma(eq(1L), isNull(), any(), any())).thenAnswer(invocacao -> {
+            pools.add(RoteamentoPool.atual());
+            return lote(invocacao.getArgument(2), invocacao.getArgument(3), 520);
+        });
+
+        var resposta = controllerTransmitindo().transmitirMatriculas(1L, null);
+        verify(matriculaRepository).findPaginaDaTurma(any(), any(), any(), any());
+        assertNull(RoteamentoPool.atual());
+
+        var saida = new ByteArrayOutputStream();
+        resposta.getBody().writeTo(saida);
+        var linhas = saida.toString(StandardCharsets.UTF_8).split("\n");
+
+        assertAll(
+                () -> assertEquals(MediaType.APPLICATION_NDJSON, resposta.getHeaders().getContentType()),
+                () -> assertEquals(520, linhas.length),
+                () -> assertEquals("{\"id\":1,\"alunoId\":1,\"nomeAluno\":\"Aluno 1\",\"status\":\"Ativa\","
+                        + "\"dataMatricula\":\"01/03/2025\"}", linhas[0]),
+                () -> assertTrue(linhas[519].startsWith("{\"id\":520,")),
+                () -> assertEquals(List.of(PoolConexoes.RELATORIO, PoolConexoes.RELATORIO), pools)
+        );
+    }
+
+    @Test
+    @DisplayName("Deve interromper a transmissão com as linhas já escritas inteiras quando um lote falhar")
+    void deveInterromperTransmissaoQuandoLoteFalhar() {
+        var lidas = new ArrayList<MatriculaDaTurmaDTO>();
+        when(turmaRepository.existsById(1L)).thenReturn(true);
+        when(matriculaRepository.findPaginaDaTurma(eq(1L), isNull(), any(), any())).thenAnswer(invocacao -> {
+            Long apos = invocacao.getArgument(2);
+            if (apos > 0) {
+                throw new DataAccessResourceFailureException("Conexão perdida");
+            }
+            var primeiro = lote(apos, invocacao.getArgument(3), 520);
+            lidas.addAll(primeiro);
+            return primeiro;
+        });
+
+        var resposta = controllerTransmitindo().transmitirMatriculas(1L, null);
+        var saida = new ByteArrayOutputStream();
+
+        assertThrows(DataAccessResourceFailureException.class, () -> resposta.getBody().writeTo(saida));
+        var escrito = saida.toString(StandardCharsets.UTF_8);
+        var linhas = escrito.split("\n");
+
+        assertAll(
+                () -> assertTrue(escrito.endsWith("\n")),
+                () -> assertEquals(lidas.size(), linhas.length),
+                () -> assertTrue(linhas[linhas.length - 1].startsWith("{\"id\":" + lidas.getLast().id() + ","))
+        );
+        verify(matriculaRepository, times(2)).findPaginaDaTurma(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve responder 409 quando o cancelamento em massa das matriculas esgotar as retentativas")
+    void deveResponderConflitoQuandoCancelamentoEmMassaFalhar() throws Exception {
+        doThrow(new OptimisticLockingFailureException("Matriculas da turma 1 foram alteradas durante o cancelamento"))
+                .when(turmaService).cancelarTurma(1L);
+        var mockMvc = MockMvcBuilders.standaloneSetup(turmaController)
+                .setControllerAdvice(new TratarErros())
+                .build();
+
+        mockMvc.perform(delete("/turmas/1/cancelamento"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409))
+                .andExpect(jsonPath("$.mensagem").value("O recurso foi alterado por outra requisição. Tente novamente."));
+    }
+
+    /**
+     * Auxiliares
+     */
+    private TurmaController controllerTransmitindo() {
+        var fabrica = new AspectJProxyFactory(new MatriculasDaTurmaService(turmaRepository, matriculaRepository));
+        fabrica.setProxyTargetClass(true);
+        fabrica.addAspect(new UsarPoolAspect());
+        MatriculasDaTurmaService servico = fabrica.getProxy();
+        return new TurmaController(turmaService, painelTurmaService, servico, Jackson2ObjectMapperBuilder.json().build());
+    }
+
+    private static List<MatriculaDaTurmaDTO> lote(Long apos, Limit limite, long total) {
+        return LongStream.rangeClosed(apos + 1, Math.min(apos + limite.max(), total))
+                .mapToObj(id -> new MatriculaDaTurmaDTO(id, id, "Aluno " + id, StatusMatricula.ATIVA, LocalDate.of(2025, 3, 1)))
+                .toList();
+    }
 }
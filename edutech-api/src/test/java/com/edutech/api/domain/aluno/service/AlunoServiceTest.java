@@ -13,6 +13,14 @@ import com.edutech.api.domain.endereco.Endereco;
 import com.edutech.api.domain.endereco.dto.DadosEnderecoDTO;
 import com.edutech.api.domain.endereco.mapper.EnderecoMapper;
 import com.edutech.api.domain.exception.ValidacaoException;
+import com.edutech.api.domain.matricula.enums.MotivoCancelamento;
+import com.edutech.api.domain.matricula.service.CancelamentoEmMassaMatriculaService;
+import com.edutech.api.infra.cascata.PropriedadesCascata;
+import com.edutech.api.infra.paginacao.ContagemAproximada;
+import com.edutech.api.infra.paginacao.TotalAproximado;
+import com.edutech.api.infra.validacao.ExecutorValidacoes;
+import com.edutech.api.infra.validacao.PropriedadesValidacao;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,10 +28,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
@@ -31,7 +42,10 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,6 +62,14 @@ class AlunoServiceTest {
     private List<ValidadorCadastroAluno> validadores;
     @Mock
     private AlunoMapper alunoMapper;
+    @Mock
+    private CancelamentoEmMassaMatriculaService cancelamentoEmMassaMatriculaService;
+    @Spy
+    private PropriedadesCascata propriedadesCascata = new PropriedadesCascata(null, null);
+    @Mock
+    private ContagemAproximada contagemAproximada;
+    @Spy
+    private ExecutorValidacoes executorValidacoes = new ExecutorValidacoes(new PropriedadesValidacao(null, null), null, new SimpleMeterRegistry(), 0);
 
     @Test
     @DisplayName("Deve cadastrar aluno com sucesso")
@@ -264,6 +286,51 @@ class AlunoServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("Deve listar alunos por status sem COUNT(*) e com o total aproximado do status")
+    void deveListarAlunosPorStatusComTotalAproximado() {
+        var aluno = new Aluno(
+                "Lucas","lucas@email.com","999999999",
+                "12345678900", LocalDate.of(2000, 1, 1),
+                null);
+        var alunoResumoDTO = new AlunoResumoDTO(
+                1L, "Lucas", "lucas@email.com", StatusAluno.ATIVO);
+        var pageable = PageRequest.of(0, 1);
+        var calculadoEm = Instant.parse("2025-06-01T10:00:00Z");
+
+        when(alunoRepository.findFatiaByStatus(StatusAluno.ATIVO, pageable))
+                .thenReturn(new SliceImpl<>(List.of(aluno), pageable, true));
+        when(alunoMapper.toResumoDTO(aluno)).thenReturn(alunoResumoDTO);
+        when(contagemAproximada.total(eq("tb_aluno"), eq(StatusAluno.ATIVO), any()))
+                .thenReturn(new TotalAproximado(1500, calculadoEm));
+
+        var resultado = alunoService.listarAlunos(StatusAluno.ATIVO, pageable, true);
+
+        assertAll(
+                () -> assertEquals(List.of(alunoResumoDTO), resultado.conteudo()),
+                () -> assertTrue(resultado.temProxima()),
+                () -> assertEquals(1500L, resultado.totalAproximado()),
+                () -> assertEquals(calculadoEm, resultado.totalCalculadoEm())
+        );
+        verify(alunoRepository, never()).findByStatus(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve listar todos os alunos sem total quando ele não for pedido")
+    void deveListarAlunosSemTotal() {
+        var pageable = PageRequest.of(0, 10);
+        when(alunoRepository.findFatiaBy(pageable)).thenReturn(new SliceImpl<>(List.of(), pageable, false));
+
+        var resultado = alunoService.listarAlunos(null, pageable, false);
+
+        assertAll(
+                () -> assertFalse(resultado.temProxima()),
+                () -> assertNull(resultado.totalAproximado()),
+                () -> assertNull(resultado.totalCalculadoEm())
+        );
+        verifyNoInteractions(contagemAproximada);
+    }
+
     @Test
     void deveDetalharAlunoComSucesso() {
         var endereco = new Endereco(
@@ -324,7 +391,8 @@ class AlunoServiceTest {
         assertAll(
                 () -> verify(alunoRepository).findById(1L),
                 () -> verify(alunoRepository).save(aluno),
-                () -> assertEquals(StatusAluno.INATIVO, aluno.getStatus())
+                () -> assertEquals(StatusAluno.INATIVO, aluno.getStatus()),
+                () -> verify(cancelamentoEmMassaMatriculaService).cancelarDoAluno(1L, MotivoCancelamento.ALUNO_INATIVADO)
         );
     }
 
@@ -333,5 +401,6 @@ class AlunoServiceTest {
         when(alunoRepository.findById(99L)).thenReturn(Optional.empty());
 
         assertThrows(ValidacaoException.class, () -> alunoService.excluir(99L));
+        verifyNoInteractions(cancelamentoEmMassaMatriculaService);
     }
 }
@@ -0,0 +1,165 @@
+package com.edutech.api.domain.aluno.service;
+
+import com.edutech.api.domain.aluno.Aluno;
+import com.edutech.api.domain.aluno.repository.AlunoRepository;
+import com.edutech.api.domain.aluno.validacoes.CpfDuplicado;
+import com.edutech.api.domain.aluno.validacoes.ValidadorCadastroAluno;
+import com.edutech.api.domain.endereco.mapper.EnderecoMapper;
+import com.edutech.api.domain.exception.ValidacaoException;
+import com.edutech.api.infra.importacao.ImportadorCsv;
+import com.edutech.api.infra.importacao.PropriedadesImportacao;
+import com.edutech.api.infra.importacao.ResultadoImportacaoDTO.ErroImportacaoDTO;
+import com.edutech.api.infra.validacao.ExecutorValidacoes;
+import com.edutech.api.infra.validacao.PropriedadesValidacao;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Importação de alunos em CSV")
+class ImportacaoAlunoServiceTest {
+
+    private static final String CABECALHO =
+            "nome;email;telefone;cpf;dataDeNascimento;logradouro;bairro;cep;cidade;uf;complemento;numero\n";
+
+    @Mock
+    private AlunoRepository alunoRepository;
+    @Mock
+    private EnderecoMapper enderecoMapper;
+    @Mock
+    private ValidadorCadastroAluno outroValidador;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ImportacaoAlunoService importacaoAlunoService;
+
+    @BeforeEach
+    void setUp() {
+        var validator = Validation.buildDefaultValidatorFactory().getValidator();
+        var importador = new ImportadorCsv(validator, new TransactionTemplate(transactionManager),
+                new PropriedadesImportacao(2, 3));
+        var validadores = List.of(outroValidador, new CpfDuplicado(alunoRepository));
+        importacaoAlunoService = new ImportacaoAlunoService(importador, alunoRepository, enderecoMapper, validadores,
+                new ExecutorValidacoes(new PropriedadesValidacao(null, null), null, new SimpleMeterRegistry(), 0));
+    }
+
+    @Test
+    @DisplayName("Deve importar em lotes com uma consulta de CPF por lote, sem usar o validador de CPF")
+    void deveImportarEmLotes() {
+        when(alunoRepository.findCpfsCadastrados(anyCollection())).thenReturn(Set.of());
+
+        var resultado = importacaoAlunoService.importar(csv(
+                linha("Ana", "11111111111"),
+                "\"Silva, Bruno\";bruno@email.com;(11)99999-9999;22222222222;01/02/2000;\"Rua \"\"B\"\"\";Centro;01311000;São Paulo;SP;;10\n",
+                linha("Carla", "33333333333")
+        ));
+
+        assertAll(
+                () -> assertEquals(3, resultado.linhasLidas()),
+                () -> assertEquals(3, resultado.importados()),
+                () -> assertEquals(0, resultado.rejeitados()),
+                () -> assertTrue(resultado.erros().isEmpty())
+        );
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Aluno>> lotes = ArgumentCaptor.forClass(List.class);
+        verify(alunoRepository, times(2)).saveAll(lotes.capture());
+        assertEquals(List.of(2, 1), lotes.getAllValues().stream().map(List::size).toList());
+        assertEquals("Silva, Bruno", lotes.getAllValues().get(0).get(1).getNome());
+        verify(alunoRepository, times(2)).findCpfsCadastrados(anyCollection());
+        verify(alunoRepository, never()).existsByCpf(any());
+        verify(outroValidador, times(3)).validar(any());
+    }
+
+    @Test
+    @DisplayName("Deve recusar linhas inválidas, CPF repetido no arquivo e CPF já cadastrado, informando a linha")
+    void deveRecusarLinhasInvalidas() {
+        when(alunoRepository.findCpfsCadastrados(anyCollection()))
+                .thenAnswer(invocacao -> invocacao.<Collection<String>>getArgument(0).contains("44444444444")
+                        ? Set.of("44444444444") : Set.of());
+
+        var resultado = importacaoAlunoService.importar(csv(
+                linha("Ana", "11111111111"),
+                linha("Ana de novo", "11111111111"),
+                "Bruno;bruno@email.com;(11)99999-9999;22222222222;31/02/2000;Rua B;Centro;01311000;São Paulo;SP;;10\n",
+                linha("", "33333333333"),
+                linha("Daniel", "44444444444")
+        ));
+
+        assertAll(
+                () -> assertEquals(5, resultado.linhasLidas()),
+                () -> assertEquals(1, resultado.importados()),
+                () -> assertEquals(4, resultado.rejeitados()),
+                () -> assertEquals(List.of(3L, 4L, 5L), resultado.erros().stream().map(ErroImportacaoDTO::linha).toList()),
+                () -> assertEquals("CPF repetido no arquivo (linha 2)", resultado.erros().get(0).mensagem()),
+                () -> assertTrue(resultado.erros().get(1).mensagem().startsWith("Data invalida")),
+                () -> assertTrue(resultado.erros().get(2).mensagem().startsWith("nome:")),
+                () -> assertTrue(resultado.errosTruncados())
+        );
+    }
+
+    @Test
+    @DisplayName("Deve recusar as linhas do lote quando a gravação falhar e seguir com os próximos lotes")
+    void deveRecusarLoteQuandoGravacaoFalhar() {
+        when(alunoRepository.findCpfsCadastrados(anyCollection())).thenReturn(Set.of());
+        when(alunoRepository.saveAll(any()))
+                .thenThrow(new DataIntegrityViolationException("violação"))
+                .thenReturn(List.of());
+
+        var resultado = importacaoAlunoService.importar(csv(
+                linha("Ana", "11111111111"),
+                linha("Bruno", "22222222222"),
+                linha("Carla", "33333333333")
+        ));
+
+        assertAll(
+                () -> assertEquals(1, resultado.importados()),
+                () -> assertEquals(2, resultado.rejeitados()),
+                () -> assertEquals(List.of(2L, 3L), resultado.erros().stream().map(ErroImportacaoDTO::linha).toList())
+        );
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando faltarem colunas obrigatórias no cabeçalho")
+    void deveLancarExcecaoQuandoFaltaremColunas() {
+        var entrada = new ByteArrayInputStream("nome,email,cpf\nAna,ana@email.com,11111111111\n"
+                .getBytes(StandardCharsets.UTF_8));
+
+        var ex = assertThrows(ValidacaoException.class, () -> importacaoAlunoService.importar(entrada));
+
+        assertTrue(ex.getMessage().contains("telefone"));
+        verifyNoInteractions(alunoRepository);
+    }
+
+    /**
+     * Auxiliares
+     */
+    private static String linha(String nome, String cpf) {
+        return nome + ";aluno@email.com;(11)99999-9999;" + cpf + ";15/03/2001;Rua A;Centro;01311000;São Paulo;SP;Ap 1;100\n";
+    }
+
+    private static ByteArrayInputStream csv(String... linhas) {
+        return new ByteArrayInputStream((CABECALHO + String.join("", linhas)).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,199 @@
+package com.edutech.api.domain.matricula.service;
+
+import com.edutech.api.domain.aluno.Aluno;
+import com.edutech.api.domain.aluno.repository.AlunoRepository;
+import com.edutech.api.domain.curso.Curso;
+import com.edutech.api.domain.curso.enums.CategoriaCurso;
+import com.edutech.api.domain.curso.enums.NivelCurso;
+import com.edutech.api.domain.endereco.Endereco;
+import com.edutech.api.domain.enums.Modalidade;
+import com.edutech.api.domain.exception.ValidacaoException;
+import com.edutech.api.domain.matricula.Matricula;
+import com.edutech.api.domain.matricula.dto.MatriculaCreateDTO;
+import com.edutech.api.domain.matricula.dto.MatriculaResumoDTO;
+import com.edutech.api.domain.matricula.enums.StatusMatricula;
+import com.edutech.api.domain.matricula.mapper.MatriculaMapper;
+import com.edutech.api.domain.matricula.repository.MatriculaRepository;
+import com.edutech.api.domain.matricula.validadores.ValidadorCadastroMatricula;
+import com.edutech.api.domain.turma.Turma;
+import com.edutech.api.domain.turma.repository.TurmaRepository;
+import com.edutech.api.infra.validacao.ExecutorValidacoes;
+import com.edutech.api.infra.validacao.PropriedadesValidacao;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Admissão em Lote de Matriculas Service Testes")
+class AdmissaoLoteMatriculaServiceTest {
+
+    @Mock
+    private MatriculaRepository matriculaRepository;
+    @Mock
+    private MatriculaMapper matriculaMapper;
+    @Mock
+    private AlunoRepository alunoRepository;
+    @Mock
+    private TurmaRepository turmaRepository;
+    @Mock
+    private ValidadorCadastroMatricula validadorAluno;
+    @Mock
+    private ValidadorCadastroMatricula validadorVagas;
+    @Mock
+    private ResumoMatriculasService resumoMatriculasService;
+
+    private AdmissaoLoteMatriculaService service;
+    private Turma turma;
+    private final LocalDate data = LocalDate.of(2025, 5, 20);
+
+    @BeforeEach
+    void setup() {
+        service = new AdmissaoLoteMatriculaService(matriculaRepository, matriculaMapper, alunoRepository,
+                turmaRepository, List.of(validadorAluno, validadorVagas), resumoMatriculasService,
+                new ExecutorValidacoes(new PropriedadesValidacao(null, null), null, new SimpleMeterRegistry(), 0));
+
+        turma = new Turma("TURMA-2025-05", LocalDate.of(2025, 6, 2), LocalDate.of(2025, 11, 28),
+                LocalTime.of(8, 0), LocalTime.of(10, 0), 2, Modalidade.EAD);
+        turma.vincularCurso(new Curso("Java Web", "Curso completo de Java para web", 120, 6,
+                NivelCurso.INTERMEDIARIO, CategoriaCurso.PROGRAMACAO));
+    }
+
+    @Test
+    @DisplayName("Deve contar as vagas uma vez, aceitar até preenchê-las e inserir as aceitas juntas")
+    void deveAdmitirAteAcabaremAsVagas() {
+        var pedidos = List.of(pedido(1L), pedido(2L), pedido(3L));
+        when(validadorVagas.verificaVagasDaTurma()).thenReturn(true);
+        when(turmaRepository.findComIncrementoDeVersaoById(7L)).thenReturn(Optional.of(turma));
+        when(matriculaRepository.countByTurmaIdAndStatusNot(7L, StatusMatricula.CANCELADA)).thenReturn(0L);
+        when(alunoRepository.findAllById(any())).thenReturn(List.of(aluno(1L), aluno(2L), aluno(3L)));
+        when(matriculaMapper.toResumoDTO(any(Matricula.class))).thenAnswer(i -> resumo(i.getArgument(0)));
+
+        var resultados = service.admitir(7L, pedidos);
+
+        assertAll(
+                () -> assertEquals(1L, resultados.get(0).matricula().alunoId()),
+                () -> assertEquals(2L, resultados.get(1).matricula().alunoId()),
+                () -> assertEquals("A turma esta com todas as vagas preenchidas", resultados.get(2).erro().getMessage())
+        );
+        verify(matriculaRepository, times(1)).countByTurmaIdAndStatusNot(7L, StatusMatricula.CANCELADA);
+        verify(validadorAluno, times(3)).validar(any());
+        verify(validadorVagas, never()).validar(any());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Matricula>> inseridas = ArgumentCaptor.forClass(List.class);
+        verify(matriculaRepository).saveAll(inseridas.capture());
+        assertEquals(2, inseridas.getValue().size());
+    }
+
+    @Test
+    @DisplayName("Deve recusar apenas o pedido inválido, sem afetar os demais do lote")
+    void deveRecusarSomenteOPedidoInvalido() {
+        var pedidos = List.of(pedido(1L), pedido(2L), pedido(1L));
+        when(turmaRepository.findComIncrementoDeVersaoById(7L)).thenReturn(Optional.of(turma));
+        when(alunoRepository.findAllById(any())).thenReturn(List.of(aluno(1L), aluno(2L)));
+        doAnswer(i -> {
+            if (i.<MatriculaCreateDTO>getArgument(0).alunoId() == 2L) {
+                throw new ValidacaoException("Aluno inativo para matricula");
+            }
+            return null;
+        }).when(validadorAluno).validar(any());
+        when(matriculaMapper.toResumoDTO(any(Matricula.class))).thenAnswer(i -> resumo(i.getArgument(0)));
+
+        var resultados = service.admitir(7L, pedidos);
+
+        assertAll(
+                () -> assertNotNull(resultados.get(0).matricula()),
+                () -> assertEquals("Aluno inativo para matricula", resultados.get(1).erro().getMessage()),
+                () -> assertTrue(resultados.get(2).erro().getMessage().contains("já possui pedido de matricula em andamento"))
+        );
+    }
+
+    @Test
+    @DisplayName("Deve recusar o aluno que atingiu o limite de turmas depois da validação, sem inserir a matricula dele")
+    void deveRecusarAlunoQueAtingiuOLimiteNoResumo() {
+        when(turmaRepository.findComIncrementoDeVersaoById(7L)).thenReturn(Optional.of(turma));
+        when(alunoRepository.findAllById(any())).thenReturn(List.of(aluno(1L), aluno(2L)));
+        doThrow(new ValidacaoException(ResumoMatriculasService.MENSAGEM_LIMITE))
+                .when(resumoMatriculasService).admitir(eq(1L), any());
+        when(matriculaMapper.toResumoDTO(any(Matricula.class))).thenAnswer(i -> resumo(i.getArgument(0)));
+
+        var resultados = service.admitir(7L, List.of(pedido(1L), pedido(2L)));
+
+        assertAll(
+                () -> assertEquals(ResumoMatriculasService.MENSAGEM_LIMITE, resultados.get(0).erro().getMessage()),
+                () -> assertEquals(2L, resultados.get(1).matricula().alunoId())
+        );
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Matricula>> inseridas = ArgumentCaptor.forClass(List.class);
+        verify(matriculaRepository).saveAll(inseridas.capture());
+        assertEquals(1, inseridas.getValue().size());
+    }
+
+    @Test
+    @DisplayName("Deve passar ao próximo pedido a vaga do aluno recusado no resumo")
+    void devePassarAVagaDoRecusadoNoResumoAoProximo() {
+        when(validadorVagas.verificaVagasDaTurma()).thenReturn(true);
+        when(turmaRepository.findComIncrementoDeVersaoById(7L)).thenReturn(Optional.of(turma));
+        when(matriculaRepository.countByTurmaIdAndStatusNot(7L, StatusMatricula.CANCELADA)).thenReturn(0L);
+        when(alunoRepository.findAllById(any())).thenReturn(List.of(aluno(1L), aluno(2L), aluno(3L)));
+        doThrow(new ValidacaoException(ResumoMatriculasService.MENSAGEM_LIMITE))
+                .when(resumoMatriculasService).admitir(eq(1L), any());
+        when(matriculaMapper.toResumoDTO(any(Matricula.class))).thenAnswer(i -> resumo(i.getArgument(0)));
+
+        var resultados = service.admitir(7L, List.of(pedido(1L), pedido(2L), pedido(3L)));
+
+        assertAll(
+                () -> assertEquals(ResumoMatriculasService.MENSAGEM_LIMITE, resultados.get(0).erro().getMessage()),
+                () -> assertEquals(2L, resultados.get(1).matricula().alunoId()),
+                () -> assertEquals(3L, resultados.get(2).matricula().alunoId())
+        );
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Matricula>> inseridas = ArgumentCaptor.forClass(List.class);
+        verify(matriculaRepository).saveAll(inseridas.capture());
+        assertEquals(2, inseridas.getValue().size());
+    }
+
+    @Test
+    @DisplayName("Deve recusar o lote inteiro quando a turma não tiver curso")
+    void deveRecusarLoteDeTurmaSemCurso() {
+        var semCurso = new Turma("TURMA-2025-06", LocalDate.of(2025, 6, 2), LocalDate.of(2025, 11, 28),
+                LocalTime.of(8, 0), LocalTime.of(10, 0), 10, Modalidade.EAD);
+        when(turmaRepository.findComIncrementoDeVersaoById(7L)).thenReturn(Optional.of(semCurso));
+
+        var resultados = service.admitir(7L, List.of(pedido(1L), pedido(2L)));
+
+        assertTrue(resultados.stream().allMatch(r -> r.erro() != null && r.erro().getMessage().contains("não tem um curso associado")));
+        verifyNoInteractions(matriculaRepository, alunoRepository);
+    }
+
+    private MatriculaCreateDTO pedido(Long alunoId) {
+        return new MatriculaCreateDTO(alunoId, 7L, data);
+    }
+
+    private Aluno aluno(Long id) {
+        var aluno = new Aluno("Aluno " + id, "aluno" + id + "@email.com", "(11)91234-5678", "123.456.789-0" + id,
+                LocalDate.of(2000, 1, 1), new Endereco("Rua A", "Centro", "01000-000", "1", null, "São Paulo", "SP"));
+        ReflectionTestUtils.setField(aluno, "id", id);
+        return aluno;
+    }
+
+    private MatriculaResumoDTO resumo(Matricula matricula) {
+        return new MatriculaResumoDTO(null, matricula.getDataMatricula(), matricula.getAluno().getId(),
+                matricula.getAluno().getNome(), 7L, "TURMA-2025-05", StatusMatricula.ATIVA);
+    }
+}
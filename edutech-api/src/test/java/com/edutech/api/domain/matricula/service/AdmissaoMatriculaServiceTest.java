@@ -0,0 +1,167 @@
+package com.edutech.api.domain.matricula.service;
+
+import com.edutech.api.domain.exception.ValidacaoException;
+import com.edutech.api.domain.matricula.dto.MatriculaCreateDTO;
+import com.edutech.api.domain.matricula.dto.MatriculaResumoDTO;
+import com.edutech.api.domain.matricula.enums.StatusMatricula;
+import com.edutech.api.infra.concorrencia.PropriedadesAdmissao;
+import com.edutech.api.infra.concorrencia.ResultadoIndefinidoException;
+import com.edutech.api.infra.concorrencia.ServicoSobrecarregadoException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Fila de Admissão de Matriculas Testes")
+class AdmissaoMatriculaServiceTest {
+
+    @Mock
+    private AdmissaoLoteMatriculaService admissaoLoteMatriculaService;
+    @Mock
+    private MatriculaService matriculaService;
+
+    private AdmissaoMatriculaService service;
+
+    @AfterEach
+    void encerrar() {
+        if (service != null) {
+            service.parar();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve agrupar pedidos simultâneos da mesma turma e devolver a cada chamador o seu resultado")
+    void deveAgruparPedidosSimultaneos() throws Exception {
+        iniciar(true, 50);
+        var lotes = new AtomicInteger();
+        when(admissaoLoteMatriculaService.admitir(eq(7L), anyList())).thenAnswer(invocacao -> {
+            lotes.incrementAndGet();
+            List<MatriculaCreateDTO> pedidos = invocacao.getArgument(1);
+            return pedidos.stream()
+                    .map(p -> p.alunoId() % 2 == 0
+                            ? AdmissaoLoteMatriculaService.Resultado.aceito(resumo(p.alunoId()))
+                            : AdmissaoLoteMatriculaService.Resultado.recusado(new ValidacaoException("Recusado " + p.alunoId())))
+                    .toList();
+        });
+
+        int chamadores = 40;
+        var largada = new CountDownLatch(1);
+        List<Future<Object>> respostas = new ArrayList<>();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long aluno = 1; aluno <= chamadores; aluno++) {
+                long id = aluno;
+                respostas.add(executor.submit(() -> {
+                    largada.await();
+                    try {
+                        return service.admitir(new MatriculaCreateDTO(id, 7L, LocalDate.of(2025, 5, 20)));
+                    } catch (ValidacaoException e) {
+                        return e;
+                    }
+                }));
+            }
+            largada.countDown();
+        }
+
+        for (int i = 0; i < chamadores; i++) {
+            long aluno = i + 1;
+            var resposta = respostas.get(i).get();
+            if (aluno % 2 == 0) {
+                assertEquals(aluno, ((MatriculaResumoDTO) resposta).alunoId());
+            } else {
+                assertEquals("Recusado " + aluno, ((ValidacaoException) resposta).getMessage());
+            }
+        }
+        assertTrue(lotes.get() < chamadores, "pedidos simultâneos devem ser admitidos em lotes");
+        verifyNoInteractions(matriculaService);
+    }
+
+    @Test
+    @DisplayName("Deve repassar ao chamador a falha do lote")
+    void deveRepassarFalhaDoLote() {
+        iniciar(true, 0);
+        when(admissaoLoteMatriculaService.admitir(eq(7L), anyList())).thenThrow(new IllegalStateException("banco fora"));
+
+        var ex = assertThrows(IllegalStateException.class,
+                () -> service.admitir(new MatriculaCreateDTO(1L, 7L, LocalDate.of(2025, 5, 20))));
+
+        assertEquals("banco fora", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("Com a fila desabilitada deve cadastrar direto pelo MatriculaService")
+    void deveCadastrarDiretoQuandoDesabilitada() {
+        iniciar(false, 0);
+        var dto = new MatriculaCreateDTO(2L, 7L, LocalDate.of(2025, 5, 20));
+        when(matriculaService.cadastrarMatricula(dto)).thenReturn(resumo(2L));
+
+        assertEquals(2L, service.admitir(dto).alunoId());
+        verifyNoInteractions(admissaoLoteMatriculaService);
+    }
+
+    @Test
+    @DisplayName("Espera esgotada: Deve pedir nova tentativa só se o pedido ainda não entrou em um lote")
+    void deveIndicarResultadoIndefinidoQuandoOLoteJaComecou() throws Exception {
+        iniciar(true, 0, 200);
+        var liberarLote = new CountDownLatch(1);
+        List<List<MatriculaCreateDTO>> lotes = new CopyOnWriteArrayList<>();
+        when(admissaoLoteMatriculaService.admitir(eq(7L), anyList())).thenAnswer(invocacao -> {
+            List<MatriculaCreateDTO> pedidos = invocacao.getArgument(1);
+            lotes.add(pedidos);
+            liberarLote.await();
+            return pedidos.stream().map(p -> AdmissaoLoteMatriculaService.Resultado.aceito(resumo(p.alunoId()))).toList();
+        });
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var emLote = executor.submit(() -> service.admitir(new MatriculaCreateDTO(1L, 7L, LocalDate.of(2025, 5, 20))));
+            while (lotes.isEmpty()) {
+                Thread.sleep(5);
+            }
+            var naFila = executor.submit(() -> service.admitir(new MatriculaCreateDTO(2L, 7L, LocalDate.of(2025, 5, 20))));
+
+            var erroEmLote = assertThrows(ExecutionException.class, emLote::get).getCause();
+            var erroNaFila = assertThrows(ExecutionException.class, naFila::get).getCause();
+            liberarLote.countDown();
+
+            assertAll(
+                    () -> assertInstanceOf(ResultadoIndefinidoException.class, erroEmLote),
+                    () -> assertInstanceOf(ServicoSobrecarregadoException.class, erroNaFila)
+            );
+        }
+        // o pedido abandonado na fila não entra no lote seguinte
+        verify(admissaoLoteMatriculaService, after(300).times(1)).admitir(eq(7L), anyList());
+    }
+
+    private void iniciar(boolean habilitada, long janelaMs) {
+        iniciar(habilitada, janelaMs, 5_000);
+    }
+
+    private void iniciar(boolean habilitada, long janelaMs, long tempoMaximoEsperaMs) {
+        var props = new PropriedadesAdmissao(habilitada, 2, janelaMs, 200, 1_000, tempoMaximoEsperaMs);
+        service = new AdmissaoMatriculaService(admissaoLoteMatriculaService, matriculaService, props, new SimpleMeterRegistry());
+        service.iniciar();
+    }
+
+    private MatriculaResumoDTO resumo(Long alunoId) {
+        return new MatriculaResumoDTO(alunoId * 10, LocalDate.of(2025, 5, 20), alunoId, "Aluno " + alunoId,
+                7L, "TURMA-2025-05", StatusMatricula.ATIVA);
+    }
+}
@@ -0,0 +1,71 @@
+package com.edutech.api.domain.matricula.service;
+
+import com.edutech.api.domain.matricula.enums.StatusMatricula;
+import com.edutech.api.domain.matricula.repository.MatriculaArquivadaRepository;
+import com.edutech.api.domain.matricula.repository.MatriculaRepository;
+import com.edutech.api.domain.turma.enums.StatusTurma;
+import com.edutech.api.domain.turma.repository.TurmaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Arquivamento de Matriculas Service Testes")
+class ArquivamentoMatriculaServiceTest {
+
+    @InjectMocks
+    private ArquivamentoMatriculaService service;
+    @Mock
+    private MatriculaRepository matriculaRepository;
+    @Mock
+    private MatriculaArquivadaRepository matriculaArquivadaRepository;
+    @Mock
+    private TurmaRepository turmaRepository;
+
+    private final LocalDate limite = LocalDate.of(2024, 6, 30);
+
+    @Test
+    @DisplayName("Sucesso no arquivamento: Deve copiar o lote para o arquivo, removê-lo de tb_matricula e incrementar a versão das turmas")
+    void deveArquivarLote() {
+        var ids = List.of(1L, 2L, 3L);
+        when(matriculaRepository.findIdsArquivaveis(
+                List.of(StatusMatricula.CONCLUIDA, StatusMatricula.CANCELADA),
+                List.of(StatusTurma.CONCLUIDA, StatusTurma.CANCELADA),
+                limite, PageRequest.of(0, 500))).thenReturn(ids);
+        when(matriculaRepository.findTurmaIdsByIdIn(ids)).thenReturn(List.of(10L, 20L));
+
+        int arquivadas = service.arquivarLote(limite, 500);
+
+        assertEquals(3, arquivadas);
+        var ordem = inOrder(matriculaArquivadaRepository, matriculaRepository);
+        ordem.verify(matriculaArquivadaRepository).copiarDeMatriculas(eq(ids), any());
+        ordem.verify(matriculaRepository).deleteAllByIdInBatch(ids);
+        verify(turmaRepository).incrementarVersao(List.of(10L, 20L));
+    }
+
+    @Test
+    @DisplayName("Nada a arquivar: Não deve copiar nem apagar quando não houver matrículas elegíveis")
+    void naoDeveFazerNadaSemMatriculasElegiveis() {
+        when(matriculaRepository.findIdsArquivaveis(anyList(), anyList(), eq(limite), any())).thenReturn(List.of());
+
+        int arquivadas = service.arquivarLote(limite, 500);
+
+        assertEquals(0, arquivadas);
+        verifyNoInteractions(matriculaArquivadaRepository);
+        verify(matriculaRepository, never()).deleteAllByIdInBatch(any());
+        verifyNoInteractions(turmaRepository);
+    }
+}
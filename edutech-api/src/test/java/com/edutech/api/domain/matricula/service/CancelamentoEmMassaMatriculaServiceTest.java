@@ -0,0 +1,83 @@
+package com.edutech.api.domain.matricula.service;
+
+import com.edutech.api.domain.matricula.enums.MotivoCancelamento;
+import com.edutech.api.domain.matricula.enums.StatusMatricula;
+import com.edutech.api.domain.matricula.evento.MatriculaCanceladaEvento;
+import com.edutech.api.domain.matricula.repository.MatriculaRepository;
+import com.edutech.api.domain.matricula.repository.MatriculaRepository.MatriculaAberta;
+import com.edutech.api.domain.turma.repository.TurmaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Cancelamento em Massa de Matriculas Testes")
+class CancelamentoEmMassaMatriculaServiceTest {
+
+    @InjectMocks
+    private CancelamentoEmMassaMatriculaService service;
+    @Mock
+    private MatriculaRepository matriculaRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private ResumoMatriculasService resumoMatriculasService;
+    @Mock
+    private TurmaRepository turmaRepository;
+
+    @Test
+    @DisplayName("Sucesso na cascata da turma: Deve cancelar em massa e publicar um evento por matricula")
+    void deveCancelarMatriculasDaTurmaEPublicarEventos() {
+        when(matriculaRepository.findAbertasByTurmaId(eq(1L), anyCollection()))
+                .thenReturn(List.of(new MatriculaAberta(10L, 100L, 1L, StatusMatricula.ATIVA), new MatriculaAberta(11L, 101L, 1L, StatusMatricula.ATIVA)));
+        when(matriculaRepository.cancelarPorTurmaId(eq(1L), anyCollection(), eq(MotivoCancelamento.TURMA_CANCELADA)))
+                .thenReturn(2);
+
+        int canceladas = service.cancelarDaTurma(1L, MotivoCancelamento.TURMA_CANCELADA);
+
+        assertEquals(2, canceladas);
+        verify(resumoMatriculasService).registrarCancelamentos(anyList());
+        verify(eventPublisher).publishEvent(new MatriculaCanceladaEvento(10L, 100L, 1L, MotivoCancelamento.TURMA_CANCELADA));
+        verify(eventPublisher).publishEvent(new MatriculaCanceladaEvento(11L, 101L, 1L, MotivoCancelamento.TURMA_CANCELADA));
+        verifyNoInteractions(turmaRepository);
+    }
+
+    @Test
+    @DisplayName("Sucesso na cascata do aluno: Deve cancelar em massa as matriculas do aluno em todas as turmas e incrementar a versão delas")
+    void deveCancelarMatriculasDoAlunoEPublicarEventos() {
+        when(matriculaRepository.findAbertasByAlunoId(eq(100L), anyCollection()))
+                .thenReturn(List.of(new MatriculaAberta(20L, 100L, 2L, StatusMatricula.ATIVA), new MatriculaAberta(10L, 100L, 1L, StatusMatricula.ATIVA)));
+        when(matriculaRepository.cancelarPorAlunoId(eq(100L), anyCollection(), eq(MotivoCancelamento.ALUNO_INATIVADO)))
+                .thenReturn(2);
+
+        service.cancelarDoAluno(100L, MotivoCancelamento.ALUNO_INATIVADO);
+
+        verify(eventPublisher).publishEvent(new MatriculaCanceladaEvento(10L, 100L, 1L, MotivoCancelamento.ALUNO_INATIVADO));
+        verify(eventPublisher).publishEvent(new MatriculaCanceladaEvento(20L, 100L, 2L, MotivoCancelamento.ALUNO_INATIVADO));
+        verify(turmaRepository).incrementarVersao(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("Falha na cascata: Deve sinalizar conflito quando as matriculas mudam entre a leitura e o UPDATE em massa")
+    void deveSinalizarConflitoQuandoMatriculasMudamDuranteCancelamento() {
+        when(matriculaRepository.findAbertasByTurmaId(eq(1L), anyCollection()))
+                .thenReturn(List.of(new MatriculaAberta(10L, 100L, 1L, StatusMatricula.ATIVA), new MatriculaAberta(11L, 101L, 1L, StatusMatricula.ATIVA)));
+        when(matriculaRepository.cancelarPorTurmaId(eq(1L), anyCollection(), any())).thenReturn(1);
+
+        assertThrows(OptimisticLockingFailureException.class,
+                () -> service.cancelarDaTurma(1L, MotivoCancelamento.TURMA_CANCELADA));
+        verifyNoInteractions(eventPublisher, resumoMatriculasService);
+    }
+}
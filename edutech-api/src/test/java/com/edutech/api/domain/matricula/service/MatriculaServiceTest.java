@@ -10,16 +10,21 @@ import com.edutech.api.domain.endereco.Endereco;
 import com.edutech.api.domain.enums.Modalidade;
 import com.edutech.api.domain.exception.ValidacaoException;
 import com.edutech.api.domain.matricula.Matricula;
+import com.edutech.api.domain.matricula.MatriculaArquivada;
 import com.edutech.api.domain.matricula.dto.MatriculaCreateDTO;
 import com.edutech.api.domain.matricula.dto.MatriculaDetalhesDTO;
 import com.edutech.api.domain.matricula.dto.MatriculaResumoDTO;
 import com.edutech.api.domain.matricula.enums.MotivoCancelamento;
 import com.edutech.api.domain.matricula.enums.StatusMatricula;
 import com.edutech.api.domain.matricula.mapper.MatriculaMapper;
+import com.edutech.api.domain.matricula.repository.MatriculaArquivadaRepository;
 import com.edutech.api.domain.matricula.repository.MatriculaRepository;
 import com.edutech.api.domain.matricula.validadores.ValidadorCadastroMatricula;
 import com.edutech.api.domain.turma.Turma;
 import com.edutech.api.domain.turma.repository.TurmaRepository;
+import com.edutech.api.infra.validacao.ExecutorValidacoes;
+import com.edutech.api.infra.validacao.PropriedadesValidacao;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -27,6 +32,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
@@ -53,6 +59,8 @@ class MatriculaServiceTest {
     @Mock
     private MatriculaRepository matriculaRepository;
     @Mock
+    private MatriculaArquivadaRepository matriculaArquivadaRepository;
+    @Mock
     private MatriculaMapper matriculaMapper;
     @Mock
     private AlunoRepository alunoRepository;
@@ -60,12 +68,16 @@ class MatriculaServiceTest {
     private TurmaRepository turmaRepository;
     @Mock
     private List<ValidadorCadastroMatricula> validadores;
+    @Mock
+    private ResumoMatriculasService resumoMatriculasService;
 
     private Endereco endereco;
     private Aluno aluno;
     private Turma turma;
     private Matricula matricula;
     private MatriculaResumoDTO resumoDTO;
+    @Spy
+    private ExecutorValidacoes executorValidacoes = new ExecutorValidacoes(new PropriedadesValidacao(null, null), null, new SimpleMeterRegistry(), 0);
 
     @BeforeEach
     void setup(){
@@ -110,7 +122,7 @@ class MatriculaServiceTest {
         );
 
         when(alunoRepository.findById(1L)).thenReturn(Optional.of(aluno));
-        when(turmaRepository.findById(3L)).thenReturn(Optional.of(turma));
+        when(turmaRepository.findComIncrementoDeVersaoById(3L)).thenReturn(Optional.of(turma));
         when(matriculaRepository.save(any(Matricula.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
         when(matriculaMapper.toResumoDTO(any(Matricula.class))).thenReturn(resumoDTO);
@@ -142,7 +154,7 @@ class MatriculaServiceTest {
         );
 
         verify(alunoRepository).findById(1L);
-        verify(turmaRepository).findById(3L);
+        verify(turmaRepository).findComIncrementoDeVersaoById(3L);
         verify(matriculaRepository).save(any(Matricula.class));
         verify(matriculaMapper).toResumoDTO(matriculaCapturada);
     }
@@ -176,6 +188,36 @@ class MatriculaServiceTest {
         verify(matriculaMapper).toDetalhesDTO(matricula);
     }
 
+    @Test
+    @DisplayName("Busca por ID arquivada: Deve buscar no arquivo quando a matrícula não estiver mais em tb_matricula")
+    void deveDetalharMatriculaArquivada() {
+        var arquivada = mock(MatriculaArquivada.class);
+        var detalhesDTO = new MatriculaDetalhesDTO(
+                1L, LocalDate.of(2022, 2, 1), LocalDate.of(2022, 6, 30),
+                new BigDecimal("8.5"), StatusMatricula.CONCLUIDA, null, 1L, "Maria Oliveira",
+                3L, "TURMA-2022-02"
+        );
+
+        when(matriculaRepository.findById(1L)).thenReturn(Optional.empty());
+        when(matriculaArquivadaRepository.findComAlunoETurmaById(1L)).thenReturn(Optional.of(arquivada));
+        when(matriculaMapper.toDetalhesDTO(arquivada)).thenReturn(detalhesDTO);
+
+        var result = service.detalharPorId(1L);
+
+        assertEquals(detalhesDTO, result);
+    }
+
+    @Test
+    @DisplayName("Falha na busca por ID: Deve lançar exceção quando a matrícula não existir em nenhuma das tabelas")
+    void deveLancarExcecaoAoDetalharMatriculaInexistente() {
+        when(matriculaRepository.findById(1L)).thenReturn(Optional.empty());
+        when(matriculaArquivadaRepository.findComAlunoETurmaById(1L)).thenReturn(Optional.empty());
+
+        var ex = assertThrows(ValidacaoException.class, () -> service.detalharPorId(1L));
+
+        assertEquals("Matricula com ID 1 não encontrado", ex.getMessage());
+    }
+
     @Test
     @DisplayName("Sucesso na busca por nome do aluno: Deve retornar as matrículas associadas a um aluno específico pelo nome")
     void deveBuscarMatriculasPorNomeDoAluno() {
@@ -192,6 +234,49 @@ class MatriculaServiceTest {
         verify(matriculaMapper).toResumoDTO(matricula);
     }
 
+    @Test
+    @DisplayName("Sucesso no historico: Deve juntar matrículas em uso e arquivadas, da mais recente para a mais antiga")
+    void deveRetornarHistoricoComMatriculasArquivadas() {
+        var arquivada = mock(MatriculaArquivada.class);
+        var resumoArquivada = new MatriculaResumoDTO(
+                7L, LocalDate.of(2022, 2, 1), 1L, "Maria Oliveira",
+                2L, "TURMA-2022-02", StatusMatricula.CONCLUIDA
+        );
+
+        when(alunoRepository.existsById(1L)).thenReturn(true);
+        when(matriculaRepository.findByAlunoId(1L)).thenReturn(List.of(matricula));
+        when(matriculaArquivadaRepository.findByAlunoId(1L)).thenReturn(List.of(arquivada));
+        when(matriculaMapper.toResumoDTO(matricula)).thenReturn(resumoDTO);
+        when(matriculaMapper.toResumoDTO(arquivada)).thenReturn(resumoArquivada);
+
+        var result = service.historicoDoAluno(1L);
+
+        assertEquals(List.of(resumoDTO, resumoArquivada), result);
+    }
+
+    @Test
+    @DisplayName("Falha no historico: Deve lançar exceção quando o aluno não existir")
+    void deveLancarExcecaoNoHistoricoDeAlunoInexistente() {
+        when(alunoRepository.existsById(99L)).thenReturn(false);
+
+        var ex = assertThrows(ValidacaoException.class, () -> service.historicoDoAluno(99L));
+
+        assertEquals("Aluno com ID 99 não encontrado", ex.getMessage());
+        verifyNoInteractions(matriculaRepository, matriculaArquivadaRepository);
+    }
+
+    @Test
+    @DisplayName("Falha na alteração: Deve informar que a matrícula arquivada não pode ser alterada")
+    void deveLancarExcecaoAoAlterarMatriculaArquivada() {
+        when(matriculaRepository.findById(1L)).thenReturn(Optional.empty());
+        when(matriculaArquivadaRepository.existsById(1L)).thenReturn(true);
+
+        var ex = assertThrows(ValidacaoException.class, () -> service.trancarMatricula(1L));
+
+        assertEquals("Matricula com ID 1 está arquivada e não pode ser alterada", ex.getMessage());
+        verify(matriculaRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("Falha na validação: Deve lançar exceção ao tentar operar com um nome vazio")
     void deveLancarExcecaoSeNomeForVazio() {
@@ -284,10 +369,11 @@ class MatriculaServiceTest {
     }
 
     @Test
-    @DisplayName("Sucesso no cancelamento: Deve permitir o cancelamento de uma matrícula de forma bem-sucedida")
+    @DisplayName("Sucesso no cancelamento: Deve cancelar a matrícula e incrementar a versão da turma, que ganhou uma vaga")
     void deveCancelarMatriculaComSucesso() {
         Long matriculaId = 2L;
         MotivoCancelamento motivo = MotivoCancelamento.DESISTENCIA;
+        ReflectionTestUtils.setField(turma, "id", 3L);
 
         when(matriculaRepository.findById(matriculaId)).thenReturn(Optional.of(matricula));
         when(matriculaRepository.save(matricula)).thenReturn(matricula);
@@ -302,6 +388,7 @@ class MatriculaServiceTest {
                 () -> assertEquals(motivo, matricula.getMotivoCancelamento())
         );
         verify(matriculaRepository).save(matricula);
+        verify(turmaRepository).incrementarVersao(List.of(3L));
         verify(matriculaMapper).toResumoDTO(matricula);
     }
 }
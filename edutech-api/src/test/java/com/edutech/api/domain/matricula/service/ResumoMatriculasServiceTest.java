@@ -0,0 +1,205 @@
+package com.edutech.api.domain.matricula.service;
+
+import com.edutech.api.domain.enums.Modalidade;
+import com.edutech.api.domain.exception.ValidacaoException;
+import com.edutech.api.domain.matricula.ResumoMatriculasAluno;
+import com.edutech.api.domain.matricula.enums.StatusMatricula;
+import com.edutech.api.domain.matricula.repository.MatriculaArquivadaRepository;
+import com.edutech.api.domain.matricula.repository.MatriculaRepository.HorarioTurma;
+import com.edutech.api.domain.matricula.repository.MatriculaRepository.MatriculaAberta;
+import com.edutech.api.domain.matricula.repository.MatriculaRepository;
+import com.edutech.api.domain.matricula.repository.ResumoMatriculasAlunoRepository;
+import com.edutech.api.domain.turma.Turma;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Resumo de Matriculas do Aluno Service Testes")
+class ResumoMatriculasServiceTest {
+
+    /** Faixas de 08:00 a 10:00 (bits 16 a 19). */
+    private static final long MANHA = 0xFL << 16;
+
+    @InjectMocks
+    private ResumoMatriculasService service;
+    @Mock
+    private ResumoMatriculasAlunoRepository resumoRepository;
+    @Mock
+    private MatriculaRepository matriculaRepository;
+    @Mock
+    private MatriculaArquivadaRepository matriculaArquivadaRepository;
+    @Mock
+    private EntityManager entityManager;
+
+    private final Turma turma = new Turma("TURMA-2025-05", LocalDate.of(2025, 6, 2), LocalDate.of(2025, 11, 28),
+            LocalTime.of(8, 0), LocalTime.of(10, 0), 30, Modalidade.EAD);
+
+    @Test
+    @DisplayName("Sucesso na admissão: Deve somar a matricula e ocupar os horários da turma")
+    void deveAdmitirAbaixoDoLimite() {
+        when(resumoRepository.findById(1L)).thenReturn(Optional.of(new ResumoMatriculasAluno(1L, 1, 0, 0, 0)));
+        when(resumoRepository.admitir(1L, 3, 0, MANHA)).thenReturn(1);
+
+        service.admitir(1L, turma);
+
+        verify(resumoRepository).admitir(1L, 3, 0, MANHA);
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    @DisplayName("Falha na admissão: Deve recusar o aluno que já está no limite sem tentar o UPDATE")
+    void deveRecusarAlunoNoLimite() {
+        when(resumoRepository.findById(1L)).thenReturn(Optional.of(new ResumoMatriculasAluno(1L, 3, 0, 0, 0)));
+
+        var erro = assertThrows(ValidacaoException.class, () -> service.admitir(1L, turma));
+
+        assertEquals(ResumoMatriculasService.MENSAGEM_LIMITE, erro.getMessage());
+        verify(resumoRepository, never()).admitir(anyLong(), anyInt(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Admissão concorrente: Deve reler o resumo e recusar quando outra transação ocupou a última vaga do aluno")
+    void deveRecusarQuandoOutraTransacaoAtingiuOLimite() {
+        var resumo = new ResumoMatriculasAluno(1L, 2, 0, 0, 0);
+        when(resumoRepository.findById(1L)).thenReturn(Optional.of(resumo));
+        when(resumoRepository.admitir(1L, 3, 0, MANHA)).thenReturn(0);
+        doAnswer(i -> {
+            ReflectionTestUtils.setField(resumo, "ativas", 3);
+            return null;
+        }).when(entityManager).refresh(resumo);
+
+        assertThrows(ValidacaoException.class, () -> service.admitir(1L, turma));
+        verify(resumoRepository, times(1)).admitir(anyLong(), anyInt(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Primeira admissão: Deve gravar o resumo contado na própria transação e então somar a matricula")
+    void deveCriarResumoNaTransacaoDaAdmissao() {
+        when(resumoRepository.findById(1L)).thenReturn(Optional.empty());
+        when(matriculaRepository.contarPorStatusDoAluno(1L)).thenReturn(List.of(
+                new MatriculaRepository.ContagemPorStatus(StatusMatricula.ATIVA, 1)));
+        when(resumoRepository.saveAndFlush(any())).thenAnswer(i -> i.getArgument(0));
+        when(resumoRepository.admitir(1L, 3, 0, MANHA)).thenReturn(1);
+
+        service.admitir(1L, turma);
+
+        verify(resumoRepository).saveAndFlush(argThat(resumo -> resumo.getAtivas() == 1));
+        verify(resumoRepository).admitir(1L, 3, 0, MANHA);
+    }
+
+    @Test
+    @DisplayName("Primeira transição: Deve gravar o resumo contado, que já inclui a transição, sem aplicar a variação")
+    void deveCriarResumoNaTransacaoDaTransicao() {
+        when(resumoRepository.findById(1L)).thenReturn(Optional.empty());
+        when(matriculaRepository.contarPorStatusDoAluno(1L)).thenReturn(List.of(
+                new MatriculaRepository.ContagemPorStatus(StatusMatricula.TRANCADA, 1)));
+
+        service.registrar(1L, StatusMatricula.ATIVA, StatusMatricula.TRANCADA);
+
+        var ordem = inOrder(entityManager, matriculaRepository, resumoRepository);
+        ordem.verify(entityManager).flush();
+        ordem.verify(matriculaRepository).contarPorStatusDoAluno(1L);
+        ordem.verify(resumoRepository).saveAndFlush(argThat(resumo -> resumo.getTrancadas() == 1 && resumo.getAtivas() == 0));
+        verify(resumoRepository, never()).registrar(anyLong(), anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Criação concorrente: Deve tratar a chave duplicada como conflito de versão, para a operação ser retentada")
+    void deveTratarCriacaoConcorrenteComoConflito() {
+        when(resumoRepository.findById(1L)).thenReturn(Optional.empty());
+        when(resumoRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("pk_resumo"));
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> service.admitir(1L, turma));
+        verify(resumoRepository, never()).admitir(anyLong(), anyInt(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Consulta sem resumo: Deve devolver a contagem sem gravar nada")
+    void deveContarSemGravarNaConsulta() {
+        when(resumoRepository.findById(1L)).thenReturn(Optional.empty());
+        when(matriculaRepository.contarPorStatusDoAluno(1L)).thenReturn(List.of(
+                new MatriculaRepository.ContagemPorStatus(StatusMatricula.ATIVA, 2)));
+
+        assertEquals(2, service.buscar(1L).getAtivas());
+        verify(resumoRepository, never()).saveAndFlush(any());
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    @DisplayName("Trancamento: Deve mover a matricula de ativas para trancadas e manter os horários ocupados")
+    void deveRegistrarTrancamentoSemLiberarHorario() {
+        when(resumoRepository.findById(1L)).thenReturn(Optional.of(new ResumoMatriculasAluno(1L, 1, 0, 0, MANHA)));
+        when(resumoRepository.registrar(1L, -1, 1, 0)).thenReturn(1);
+
+        service.registrar(1L, StatusMatricula.ATIVA, StatusMatricula.TRANCADA);
+
+        verify(resumoRepository, never()).atualizarHorarios(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Conclusão: Deve contar a matricula como concluída e recalcular os horários do aluno")
+    void deveRegistrarConclusaoLiberandoHorario() {
+        when(resumoRepository.findById(1L)).thenReturn(Optional.of(new ResumoMatriculasAluno(1L, 1, 0, 0, MANHA)));
+        when(resumoRepository.registrar(1L, -1, 0, 1)).thenReturn(1);
+        when(matriculaRepository.findHorariosDoAluno(eq(1L), anyCollection())).thenReturn(List.of());
+
+        service.registrar(1L, StatusMatricula.ATIVA, StatusMatricula.CONCLUIDA);
+
+        verify(resumoRepository).atualizarHorarios(1L, 0);
+    }
+
+    @Test
+    @DisplayName("Resumo inconsistente: Deve recontar as matriculas do aluno quando um total ficaria negativo")
+    void deveRecontarResumoInconsistente() {
+        when(resumoRepository.findById(1L)).thenReturn(Optional.of(new ResumoMatriculasAluno(1L, 0, 0, 0, 0)));
+        when(resumoRepository.registrar(1L, -1, 0, 0)).thenReturn(0);
+        when(matriculaRepository.contarPorStatusDoAluno(1L)).thenReturn(List.of(
+                new MatriculaRepository.ContagemPorStatus(StatusMatricula.ATIVA, 1),
+                new MatriculaRepository.ContagemPorStatus(StatusMatricula.CONCLUIDA, 2)));
+        when(matriculaArquivadaRepository.countByAlunoIdAndStatus(1L, StatusMatricula.CONCLUIDA)).thenReturn(4L);
+        when(matriculaRepository.findHorariosDoAluno(eq(1L), anyCollection()))
+                .thenReturn(List.of(new HorarioTurma(LocalTime.of(8, 0), LocalTime.of(10, 0))));
+
+        service.registrar(1L, StatusMatricula.ATIVA, StatusMatricula.CANCELADA);
+
+        verify(resumoRepository).substituir(1L, 1, 0, 6, MANHA);
+    }
+
+    @Test
+    @DisplayName("Cancelamento em massa: Deve agrupar as variações por aluno e aplicá-las em ordem de id")
+    void deveRegistrarCancelamentosEmOrdemDeAluno() {
+        when(resumoRepository.findById(anyLong())).thenAnswer(i -> Optional.of(new ResumoMatriculasAluno(i.getArgument(0), 2, 1, 0, MANHA)));
+        when(resumoRepository.registrar(anyLong(), anyInt(), anyInt(), anyInt())).thenReturn(1);
+
+        service.registrarCancelamentos(List.of(
+                new MatriculaAberta(10L, 200L, 1L, StatusMatricula.ATIVA),
+                new MatriculaAberta(11L, 100L, 1L, StatusMatricula.ATIVA),
+                new MatriculaAberta(12L, 200L, 2L, StatusMatricula.TRANCADA)));
+
+        var ordem = inOrder(resumoRepository);
+        ordem.verify(resumoRepository).registrar(100L, -1, 0, 0);
+        ordem.verify(resumoRepository).registrar(200L, -1, -1, 0);
+    }
+}
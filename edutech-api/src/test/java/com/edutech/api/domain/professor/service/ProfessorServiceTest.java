@@ -1,5 +1,6 @@
 package com.edutech.api.domain.professor.service;
 
+import com.edutech.api.domain.curso.repository.CursoRepository;
 import com.edutech.api.domain.endereco.Endereco;
 import com.edutech.api.domain.endereco.dto.DadosEnderecoDTO;
 import com.edutech.api.domain.endereco.mapper.EnderecoMapper;
@@ -14,7 +15,13 @@ import com.edutech.api.domain.professor.enums.StatusProfessor;
 import com.edutech.api.domain.professor.mapper.ProfessorMapper;
 import com.edutech.api.domain.professor.repository.ProfessorRepository;
 import com.edutech.api.domain.professor.validacoes.ValidadorCadastroProfessor;
+import com.edutech.api.domain.turma.dto.TurmaSemProfessorDTO;
+import com.edutech.api.domain.turma.enums.StatusTurma;
+import com.edutech.api.domain.turma.repository.TurmaRepository;
 import com.edutech.api.domain.turma.service.TurmaService;
+import com.edutech.api.infra.validacao.ExecutorValidacoes;
+import com.edutech.api.infra.validacao.PropriedadesValidacao;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,7 +29,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 
@@ -32,6 +41,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -49,6 +59,12 @@ class ProfessorServiceTest {
     private ProfessorRepository professorRepository;
     @Mock
     private List<ValidadorCadastroProfessor> validadores;
+    @Mock
+    private TurmaRepository turmaRepository;
+    @Mock
+    private CursoRepository cursoRepository;
+    @Spy
+    private ExecutorValidacoes executorValidacoes = new ExecutorValidacoes(new PropriedadesValidacao(null, null), null, new SimpleMeterRegistry(), 0);
 
     @Test
     @DisplayName("Sucesso no cadastro: Deve permitir o registro de um novo professor com dados válidos")
@@ -154,6 +170,27 @@ class ProfessorServiceTest {
         verify(professorRepository).findById(1L);
         verify(enderecoMapper).toEndereco(professorUpdateDTO.endereco());
         verify(professorMapper).toResumoDTO(professorCapturado);
+        verify(cursoRepository).incrementarVersaoDosCursosDoProfessor(1L);
+    }
+
+    @Test
+    @DisplayName("Sucesso na atualização: Não deve alterar a versão dos cursos quando o nome do professor não muda")
+    void naoDeveIncrementarVersaoDosCursosSemMudarNome() {
+        var professor = new Professor(
+                "Ana Carolina Souza", "ana.souza@academia.com.br", LocalDate.of(1990, 3, 15),
+                "(31)99876-5432", "12345678901", Modalidade.EAD,
+                new Endereco(
+                        "Rua das Flores", "Centro", "12345678",
+                        "São Paulo", "SP", "Apto 101", "100"));
+        var professorUpdateDTO = new ProfessorUpdateDTO(
+                "Ana Carolina Souza", null, null, "(21)98765-1234", null, null, null);
+
+        when(professorRepository.findById(1L)).thenReturn(Optional.of(professor));
+
+        professorService.atualizarProfessor(1L, professorUpdateDTO);
+
+        assertEquals("(21)98765-1234", professor.getTelefone());
+        verify(cursoRepository, never()).incrementarVersaoDosCursosDoProfessor(any());
     }
 
     @Test
@@ -341,13 +378,39 @@ class ProfessorServiceTest {
                         "Rua das Flores", "Centro", "12345678",
                         "São Paulo", "SP", "Apto 101", "100"));
 
+        var turmasSemProfessor = List.of(new TurmaSemProfessorDTO(5L, "TURMA-2025-01"));
+
         when(professorRepository.findById(1L)).thenReturn(Optional.of(professor));
+        when(turmaRepository.findIdECodigoByProfessorIdAndStatus(1L, StatusTurma.ABERTA)).thenReturn(turmasSemProfessor);
+        when(turmaRepository.desvincularProfessor(1L, StatusTurma.ABERTA)).thenReturn(1);
 
-        professorService.excluirProfessor(1L);
+        var resultado = professorService.excluirProfessor(1L);
 
         verify(professorRepository).findById(1L);
         verify(professorRepository).save(professor);
+        verify(cursoRepository).incrementarVersaoDosCursosDoProfessor(1L);
+        verify(cursoRepository).removerProfessorDosCursos(1L);
         assertEquals(StatusProfessor.INATIVO, professor.getStatus());
+        assertEquals(turmasSemProfessor, resultado.turmasSemProfessor());
+    }
+
+    @Test
+    @DisplayName("Falha na exclusão: Deve sinalizar conflito quando as turmas do professor mudam durante o desvinculo em massa")
+    void deveSinalizarConflitoQuandoTurmasMudamDuranteExclusao() {
+        var professor = new Professor(
+                "Ana Carolina Souza", "ana.souza@academia.com.br", LocalDate.of(1990, 3, 15),
+                "(31)99876-5432", "12345678901", Modalidade.EAD,
+                new Endereco(
+                        "Rua das Flores", "Centro", "12345678",
+                        "São Paulo", "SP", "Apto 101", "100"));
+
+        when(professorRepository.findById(1L)).thenReturn(Optional.of(professor));
+        when(turmaRepository.findIdECodigoByProfessorIdAndStatus(1L, StatusTurma.ABERTA))
+                .thenReturn(List.of(new TurmaSemProfessorDTO(5L, "TURMA-2025-01")));
+        when(turmaRepository.desvincularProfessor(1L, StatusTurma.ABERTA)).thenReturn(2);
+
+        assertThrows(OptimisticLockingFailureException.class, () -> professorService.excluirProfessor(1L));
+        verify(cursoRepository, never()).removerProfessorDosCursos(1L);
     }
 
 }
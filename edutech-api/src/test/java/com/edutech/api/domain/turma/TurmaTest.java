@@ -4,6 +4,7 @@ import com.edutech.api.domain.curso.Curso;
 import com.edutech.api.domain.enums.Modalidade;
 import com.edutech.api.domain.exception.ValidacaoException;
 import com.edutech.api.domain.matricula.Matricula;
+import com.edutech.api.domain.matricula.enums.StatusMatricula;
 import com.edutech.api.domain.professor.Professor;
 import com.edutech.api.domain.turma.enums.StatusTurma;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,6 +19,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("Testes unitários da entidade Turma")
@@ -201,6 +203,32 @@ class TurmaTest {
         assertEquals(18, turma.getVagasDisponiveis());
     }
 
+    @Test
+    @DisplayName("Sucesso no cálculo: Matriculas canceladas não devem ocupar vagas na turma")
+    void naoDeveContarMatriculasCanceladasNasVagas() {
+        var ativa = mock(Matricula.class);
+        var cancelada = mock(Matricula.class);
+        when(ativa.getStatus()).thenReturn(StatusMatricula.ATIVA);
+        when(cancelada.getStatus()).thenReturn(StatusMatricula.CANCELADA);
+        turma.getMatriculas().addAll(List.of(ativa, cancelada));
+
+        assertEquals(19, turma.getVagasDisponiveis());
+    }
+
+    @Test
+    @DisplayName("Sucesso no cálculo: Matriculas trancadas e concluídas devem continuar ocupando vagas na turma")
+    void deveContarMatriculasTrancadasEConcluidasNasVagas() {
+        var trancada = mock(Matricula.class);
+        var concluida = mock(Matricula.class);
+        var cancelada = mock(Matricula.class);
+        when(trancada.getStatus()).thenReturn(StatusMatricula.TRANCADA);
+        when(concluida.getStatus()).thenReturn(StatusMatricula.CONCLUIDA);
+        when(cancelada.getStatus()).thenReturn(StatusMatricula.CANCELADA);
+        turma.getMatriculas().addAll(List.of(trancada, concluida, cancelada));
+
+        assertEquals(18, turma.getVagasDisponiveis());
+    }
+
     @Test
     @DisplayName("Cenário completo: Deve vincular e desvincular um professor de uma turma com sucesso")
     void deveVincularEDesvincularProfessorComSucesso() {
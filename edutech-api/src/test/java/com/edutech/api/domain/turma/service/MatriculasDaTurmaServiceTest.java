@@ -0,0 +1,107 @@
+package com.edutech.api.domain.turma.service;
+
+import com.edutech.api.domain.exception.ValidacaoException;
+import com.edutech.api.domain.matricula.dto.MatriculaDaTurmaDTO;
+import com.edutech.api.domain.matricula.enums.StatusMatricula;
+import com.edutech.api.domain.matricula.repository.MatriculaRepository;
+import com.edutech.api.domain.turma.repository.TurmaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static com.edutech.api.domain.turma.service.MatriculasDaTurmaService.LOTE_TRANSMISSAO;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Lista de matriculas da turma")
+class MatriculasDaTurmaServiceTest {
+
+    @InjectMocks
+    private MatriculasDaTurmaService matriculasDaTurmaService;
+    @Mock
+    private TurmaRepository turmaRepository;
+    @Mock
+    private MatriculaRepository matriculaRepository;
+
+    @Test
+    @DisplayName("Deve buscar uma linha a mais para saber se há próxima página e devolver o último id como cursor")
+    void deveListarPaginaComProximoCursor() {
+        when(turmaRepository.existsById(1L)).thenReturn(true);
+        when(matriculaRepository.findPaginaDaTurma(1L, StatusMatricula.ATIVA, 10L, Limit.of(3)))
+                .thenReturn(matriculas(11, 14));
+
+        var pagina = matriculasDaTurmaService.listar(1L, StatusMatricula.ATIVA, 10L, 2);
+
+        assertAll(
+                () -> assertEquals(List.of(11L, 12L), pagina.matriculas().stream().map(MatriculaDaTurmaDTO::id).toList()),
+                () -> assertEquals(12L, pagina.proximo())
+        );
+    }
+
+    @Test
+    @DisplayName("Deve indicar o fim da lista com cursor nulo")
+    void deveIndicarFimDaLista() {
+        when(turmaRepository.existsById(1L)).thenReturn(true);
+        when(matriculaRepository.findPaginaDaTurma(1L, null, 0L, Limit.of(51))).thenReturn(matriculas(1, 3));
+
+        var pagina = matriculasDaTurmaService.listar(1L, null, null, 50);
+
+        assertAll(
+                () -> assertEquals(3, pagina.matriculas().size()),
+                () -> assertNull(pagina.proximo())
+        );
+    }
+
+    @Test
+    @DisplayName("Deve recusar tamanho de página fora do limite e turma inexistente")
+    void deveRecusarParametrosInvalidos() {
+        assertThrows(ValidacaoException.class, () -> matriculasDaTurmaService.listar(1L, null, null, 501));
+        assertThrows(ValidacaoException.class, () -> matriculasDaTurmaService.listar(1L, null, null, 0));
+
+        when(turmaRepository.existsById(9L)).thenReturn(false);
+        var ex = assertThrows(ValidacaoException.class, () -> matriculasDaTurmaService.transmitir(9L, null));
+
+        assertEquals("Turma com ID 9 não encontrada", ex.getMessage());
+        verifyNoInteractions(matriculaRepository);
+    }
+
+    @Test
+    @DisplayName("Deve transmitir todas as matriculas buscando o lote seguinte só quando o anterior for consumido")
+    void deveTransmitirEmLotes() {
+        when(turmaRepository.existsById(1L)).thenReturn(true);
+        when(matriculaRepository.findPaginaDaTurma(1L, null, 0L, Limit.of(LOTE_TRANSMISSAO)))
+                .thenReturn(matriculas(1, LOTE_TRANSMISSAO));
+        when(matriculaRepository.findPaginaDaTurma(1L, null, (long) LOTE_TRANSMISSAO, Limit.of(LOTE_TRANSMISSAO)))
+                .thenReturn(matriculas(LOTE_TRANSMISSAO + 1, LOTE_TRANSMISSAO + 20));
+
+        var stream = matriculasDaTurmaService.transmitir(1L, null);
+        verify(matriculaRepository, times(1)).findPaginaDaTurma(any(), any(), any(), any());
+
+        var ids = stream.map(MatriculaDaTurmaDTO::id).toList();
+
+        assertAll(
+                () -> assertEquals(LOTE_TRANSMISSAO + 20, ids.size()),
+                () -> assertEquals(LOTE_TRANSMISSAO + 20L, ids.getLast())
+        );
+        verify(matriculaRepository, times(2)).findPaginaDaTurma(any(), any(), any(), any());
+    }
+
+    /**
+     * Auxiliares
+     */
+    private static List<MatriculaDaTurmaDTO> matriculas(long primeiroId, long ultimoId) {
+        return LongStream.rangeClosed(primeiroId, ultimoId)
+                .mapToObj(id -> new MatriculaDaTurmaDTO(id, id, "Aluno " + id, StatusMatricula.ATIVA, LocalDate.of(2025, 3, 1)))
+                .toList();
+    }
+}
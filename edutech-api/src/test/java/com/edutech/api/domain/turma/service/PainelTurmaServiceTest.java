@@ -0,0 +1,103 @@
+package com.edutech.api.domain.turma.service;
+
+import com.edutech.api.domain.curso.mapper.CursoMapper;
+import com.edutech.api.domain.curso.repository.CursoRepository;
+import com.edutech.api.domain.exception.ValidacaoException;
+import com.edutech.api.domain.matricula.enums.StatusMatricula;
+import com.edutech.api.domain.matricula.repository.MatriculaRepository;
+import com.edutech.api.domain.matricula.repository.MatriculaRepository.ContagemPorStatus;
+import com.edutech.api.domain.professor.mapper.ProfessorMapper;
+import com.edutech.api.domain.professor.repository.ProfessorRepository;
+import com.edutech.api.domain.turma.Turma;
+import com.edutech.api.domain.turma.dto.TurmaResumoDTO;
+import com.edutech.api.domain.turma.enums.StatusTurma;
+import com.edutech.api.domain.turma.mapper.TurmaMapper;
+import com.edutech.api.domain.turma.repository.TurmaRepository;
+import com.edutech.api.infra.concorrencia.ConsultasParalelas;
+import com.edutech.api.infra.concorrencia.PropriedadesComposicao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Painel da turma")
+class PainelTurmaServiceTest {
+
+    @Mock
+    private TurmaRepository turmaRepository;
+    @Mock
+    private TurmaMapper turmaMapper;
+    @Mock
+    private ProfessorRepository professorRepository;
+    @Mock
+    private ProfessorMapper professorMapper;
+    @Mock
+    private CursoRepository cursoRepository;
+    @Mock
+    private CursoMapper cursoMapper;
+    @Mock
+    private MatriculaRepository matriculaRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PainelTurmaService painelTurmaService;
+
+    @BeforeEach
+    void setup() {
+        var consultasParalelas = new ConsultasParalelas(transactionManager, new PropriedadesComposicao(2_000));
+        painelTurmaService = new PainelTurmaService(consultasParalelas, turmaRepository, turmaMapper,
+                professorRepository, professorMapper, cursoRepository, cursoMapper, matriculaRepository);
+    }
+
+    @Test
+    @DisplayName("Deve montar o painel com as vagas calculadas pela contagem de matriculas por status")
+    void deveMontarPainel() {
+        var turma = mock(Turma.class);
+        var resumo = new TurmaResumoDTO(1L, "T-01", null, null, StatusTurma.ABERTA);
+        when(turma.getVagasTotais()).thenReturn(30);
+        when(turmaRepository.findById(1L)).thenReturn(Optional.of(turma));
+        when(turmaMapper.toResumoDTO(turma)).thenReturn(resumo);
+        when(professorRepository.findByTurmaId(1L)).thenReturn(Optional.empty());
+        when(cursoRepository.findByTurmaId(1L)).thenReturn(Optional.empty());
+        when(matriculaRepository.contarPorStatusDaTurma(1L)).thenReturn(List.of(
+                new ContagemPorStatus(StatusMatricula.ATIVA, 10),
+                new ContagemPorStatus(StatusMatricula.TRANCADA, 2),
+                new ContagemPorStatus(StatusMatricula.CANCELADA, 5)
+        ));
+
+        var painel = painelTurmaService.montarPainel(1L);
+
+        assertAll(
+                () -> assertEquals(resumo, painel.turma()),
+                () -> assertNull(painel.professor()),
+                () -> assertNull(painel.curso()),
+                () -> assertEquals(30, painel.vagasTotais()),
+                () -> assertEquals(18, painel.vagasDisponiveis()),
+                () -> assertEquals(0L, painel.matriculasPorStatus().get(StatusMatricula.CONCLUIDA)),
+                () -> assertEquals(5L, painel.matriculasPorStatus().get(StatusMatricula.CANCELADA))
+        );
+    }
+
+    @Test
+    @DisplayName("Deve propagar a validação quando a turma não existir")
+    void deveFalharQuandoTurmaNaoExistir() {
+        when(turmaRepository.findById(9L)).thenReturn(Optional.empty());
+        lenient().when(professorRepository.findByTurmaId(9L)).thenReturn(Optional.empty());
+        lenient().when(cursoRepository.findByTurmaId(9L)).thenReturn(Optional.empty());
+        lenient().when(matriculaRepository.contarPorStatusDaTurma(9L)).thenReturn(List.of());
+
+        var ex = assertThrows(ValidacaoException.class, () -> painelTurmaService.montarPainel(9L));
+
+        assertEquals("Turma com ID 9 não encontrada", ex.getMessage());
+    }
+}
@@ -7,6 +7,9 @@ import com.edutech.api.domain.curso.repository.CursoRepository;
 import com.edutech.api.domain.endereco.Endereco;
 import com.edutech.api.domain.enums.Modalidade;
 import com.edutech.api.domain.exception.ValidacaoException;
+import com.edutech.api.domain.exception.VersaoDesatualizadaException;
+import com.edutech.api.domain.matricula.enums.MotivoCancelamento;
+import com.edutech.api.domain.matricula.service.CancelamentoEmMassaMatriculaService;
 import com.edutech.api.domain.professor.Professor;
 import com.edutech.api.domain.professor.repository.ProfessorRepository;
 import com.edutech.api.domain.turma.Turma;
@@ -21,6 +24,11 @@ import com.edutech.api.domain.turma.validacoes.desvincula_professor.ValidadorDes
 import com.edutech.api.domain.turma.validacoes.inicia_turma.ValidadorIniciarTurma;
 import com.edutech.api.domain.turma.validacoes.vincula_curso.ValidadorVinculoCurso;
 import com.edutech.api.domain.turma.validacoes.vincula_professor.ValidadorVinculoProfessor;
+import com.edutech.api.infra.cascata.PropriedadesCascata;
+import com.edutech.api.infra.paginacao.ContagemAproximada;
+import com.edutech.api.infra.validacao.ExecutorValidacoes;
+import com.edutech.api.infra.validacao.PropriedadesValidacao;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -70,6 +78,10 @@ class TurmaServiceTest {
     private List<ValidadorDesvinculoCurso> validadoresDesvinculoCurso;
     @Mock
     private List<ValidadorIniciarTurma> validadorIniciaTurmas;
+    @Mock
+    private CancelamentoEmMassaMatriculaService cancelamentoEmMassaMatriculaService;
+    @Mock
+    private ContagemAproximada contagemAproximada;
 
     @BeforeEach
     void setup(){
@@ -84,7 +96,11 @@ class TurmaServiceTest {
                 validadoresDesvinculoProfessor,
                 validadoresVinculoCurso,
                 validadoresDesvinculoCurso,
-                validadorIniciaTurmas
+                validadorIniciaTurmas,
+                cancelamentoEmMassaMatriculaService,
+                new PropriedadesCascata(null, null),
+                contagemAproximada,
+                new ExecutorValidacoes(new PropriedadesValidacao(null, null), null, new SimpleMeterRegistry(), 0)
         );
     }
 
@@ -329,6 +345,30 @@ class TurmaServiceTest {
         assertEquals("Turma com ID 999 não encontrada", exception.getMessage());
     }
 
+    @Test
+    @DisplayName("Falha na atualização: Deve lançar exceção quando a turma não está mais na versão esperada")
+    void deveLancarExcecaoAoAtualizarTurmaComVersaoDesatualizada() {
+        var turma = new Turma(
+                "TURMA-2024-02", LocalDate.of(2025,5,20),
+                LocalDate.of(2025, 12, 15), LocalTime.of(19, 0),
+                LocalTime.of(20, 30), 20, Modalidade.EAD
+        );
+        ReflectionTestUtils.setField(turma, "versao", 4L);
+
+        var dto = new TurmaUpdateDTO(
+                "TURMA-NEW", null, null, null, null, null, null
+        );
+
+        when(turmaRepository.findById(1L)).thenReturn(Optional.of(turma));
+
+        var exception = assertThrows(VersaoDesatualizadaException.class, () ->
+                turmaService.atualizarTurma(1L, dto, 3L)
+        );
+
+        assertEquals("Turma com ID 1 foi alterada por outra requisição", exception.getMessage());
+        verify(turmaRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("Sucesso ao concluir: Deve finalizar uma turma que já atingiu a data prevista de término")
     void deveConcluirTurmaComSucesso() {
@@ -380,6 +420,7 @@ class TurmaServiceTest {
         turmaService.cancelarTurma(1L);
 
         assertEquals(StatusTurma.CANCELADA, turma.getStatus());
+        verify(cancelamentoEmMassaMatriculaService).cancelarDaTurma(1L, MotivoCancelamento.TURMA_CANCELADA);
     }
 
     @Test
@@ -396,6 +437,7 @@ class TurmaServiceTest {
         when(turmaRepository.findById(1L)).thenReturn(Optional.of(turma));
 
         assertThrows(ValidacaoException.class, () -> turmaService.cancelarTurma(1L));
+        verifyNoInteractions(cancelamentoEmMassaMatriculaService);
     }
 
     /**
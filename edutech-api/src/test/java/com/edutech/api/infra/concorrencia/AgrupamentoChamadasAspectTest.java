@@ -0,0 +1,112 @@
+package com.edutech.api.infra.concorrencia;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Agrupamento de chamadas simultâneas")
+class AgrupamentoChamadasAspectTest {
+
+    private SimpleMeterRegistry registry;
+    private Consultas consultas;
+    private Consultas proxy;
+
+    static class Consultas {
+        final AtomicInteger execucoes = new AtomicInteger();
+        final CountDownLatch liberar = new CountDownLatch(1);
+
+        @AgruparChamadas("turma-detalhes")
+        public String detalhar(Long id) throws InterruptedException {
+            execucoes.incrementAndGet();
+            liberar.await(5, TimeUnit.SECONDS);
+            if (id < 0) {
+                throw new IllegalArgumentException("id inválido");
+            }
+            return "turma " + id;
+        }
+    }
+
+    @BeforeEach
+    void setup() {
+        registry = new SimpleMeterRegistry();
+        consultas = new Consultas();
+        var fabrica = new AspectJProxyFactory(consultas);
+        fabrica.setProxyTargetClass(true);
+        fabrica.addAspect(new AgrupamentoChamadasAspect(registry,
+                new PropriedadesAgrupamento(true, EscopoAgrupamento.GLOBAL, Map.of())));
+        proxy = fabrica.getProxy();
+    }
+
+    @Test
+    @DisplayName("Deve executar uma vez e entregar o resultado a todas as chamadas simultâneas")
+    void deveCompartilharExecucaoEmAndamento() throws Exception {
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var chamadas = new ArrayList<Future<String>>();
+            for (int i = 0; i < 10; i++) {
+                chamadas.add(executor.submit(() -> proxy.detalhar(1L)));
+            }
+            var outra = executor.submit(() -> proxy.detalhar(2L));
+            esperarChamadas(11);
+            consultas.liberar.countDown();
+
+            for (var chamada : chamadas) {
+                assertEquals("turma 1", chamada.get());
+            }
+            assertEquals("turma 2", outra.get());
+        }
+        assertAll(
+                () -> assertEquals(2, consultas.execucoes.get()),
+                () -> assertEquals(2, contador("executada")),
+                () -> assertEquals(9, contador("agrupada"))
+        );
+    }
+
+    @Test
+    @DisplayName("Deve propagar a falha a quem esperava e executar de novo na chamada seguinte")
+    void devePropagarFalhaSemGuardarResultado() throws Exception {
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var primeira = executor.submit(() -> proxy.detalhar(-1L));
+            var segunda = executor.submit(() -> proxy.detalhar(-1L));
+            esperarChamadas(2);
+            consultas.liberar.countDown();
+
+            for (var chamada : List.of(primeira, segunda)) {
+                var erro = assertThrows(Exception.class, chamada::get);
+                assertInstanceOf(IllegalArgumentException.class, erro.getCause());
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> proxy.detalhar(-1L));
+        assertEquals(2, consultas.execucoes.get());
+    }
+
+    /**
+     * Auxiliares
+     */
+    private void esperarChamadas(int chamadas) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (contador("executada") + contador("agrupada") < chamadas && System.nanoTime() < limite) {
+            Thread.sleep(5);
+        }
+    }
+
+    private double contador(String resultado) {
+        var contador = registry.find(AgrupamentoChamadasAspect.METRICA)
+                .tag("consulta", "turma-detalhes")
+                .tag("resultado", resultado)
+                .functionCounter();
+        return contador == null ? 0 : contador.count();
+    }
+}
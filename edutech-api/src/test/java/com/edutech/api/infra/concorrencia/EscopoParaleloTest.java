@@ -0,0 +1,92 @@
+package com.edutech.api.infra.concorrencia;
+
+import com.edutech.api.domain.exception.ValidacaoException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("Escopo de consultas paralelas")
+class EscopoParaleloTest {
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    @Test
+    @DisplayName("Deve executar as consultas em paralelo, levando o tempo da mais lenta")
+    void deveExecutarEmParalelo() {
+        long inicio = System.nanoTime();
+        try (var escopo = new EscopoParalelo("teste", 5_000, transactionManager)) {
+            var a = escopo.fork(() -> dormir(300, "a"));
+            var b = escopo.fork(() -> dormir(300, "b"));
+            var c = escopo.fork(() -> dormir(300, "c"));
+
+            escopo.join();
+
+            long decorridoMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+            assertAll(
+                    () -> assertEquals("abc", a.get() + b.get() + c.get()),
+                    () -> assertTrue(decorridoMs < 800, "levou " + decorridoMs + " ms")
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("Deve propagar a primeira falha e interromper as consultas restantes")
+    void devePropagarFalhaEInterromperRestantes() {
+        var interrompida = new CountDownLatch(1);
+
+        try (var escopo = new EscopoParalelo("teste", 5_000, transactionManager)) {
+            escopo.fork(() -> {
+                try {
+                    return dormir(5_000, "lenta");
+                } catch (IllegalStateException e) {
+                    interrompida.countDown();
+                    throw e;
+                }
+            });
+            escopo.fork(() -> {
+                throw new ValidacaoException("Aluno não encontrado");
+            });
+
+            var ex = assertThrows(ValidacaoException.class, escopo::join);
+            assertEquals("Aluno não encontrado", ex.getMessage());
+        }
+        assertDoesNotThrow(() -> assertTrue(interrompida.await(2, TimeUnit.SECONDS)));
+    }
+
+    @Test
+    @DisplayName("Deve responder 503 quando o prazo compartilhado acabar")
+    void deveFalharQuandoPrazoAcabar() {
+        long inicio = System.nanoTime();
+        try (var escopo = new EscopoParalelo("painel", 200, transactionManager)) {
+            escopo.fork(() -> dormir(100, "rapida"));
+            escopo.fork(() -> dormir(5_000, "lenta"));
+
+            var ex = assertThrows(ServicoSobrecarregadoException.class, escopo::join);
+
+            long decorridoMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+            assertAll(
+                    () -> assertTrue(ex.getMessage().contains("painel")),
+                    () -> assertTrue(decorridoMs < 1_000, "levou " + decorridoMs + " ms")
+            );
+        }
+    }
+
+    /**
+     * Auxiliares
+     */
+    private static String dormir(long ms, String resultado) {
+        try {
+            Thread.sleep(ms);
+            return resultado;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrompida", e);
+        }
+    }
+}
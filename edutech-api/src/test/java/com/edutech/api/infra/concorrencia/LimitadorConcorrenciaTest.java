@@ -0,0 +1,75 @@
+package com.edutech.api.infra.concorrencia;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Limite adaptativo de concorrência")
+class LimitadorConcorrenciaTest {
+
+    private final AtomicLong agora = new AtomicLong();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final LimitadorConcorrencia limitador = new LimitadorConcorrencia(
+            new PropriedadesLimiteConcorrencia(true, 10, 2, 20, 0.5,
+                    Map.of(ClasseCarga.LEITURA_LEVE, 100L), Map.of(ClasseCarga.CRITICA, 50, ClasseCarga.PESADA, 10)),
+            registry, agora::get);
+
+    @Test
+    @DisplayName("Com o limite ocupado deve admitir cada classe só até a sua parcela garantida")
+    void deveRecusarPorParcelaComLimiteOcupado() {
+        var permissoes = new ArrayList<LimitadorConcorrencia.Permissao>();
+        for (int i = 0; i < 10; i++) {
+            permissoes.add(limitador.adquirir(ClasseCarga.LEITURA_LEVE));
+        }
+
+        assertThrows(ServicoSobrecarregadoException.class, () -> limitador.adquirir(ClasseCarga.LEITURA_LEVE));
+        permissoes.add(limitador.adquirir(ClasseCarga.PESADA));
+        assertThrows(ServicoSobrecarregadoException.class, () -> limitador.adquirir(ClasseCarga.PESADA));
+        for (int i = 0; i < 5; i++) {
+            permissoes.add(limitador.adquirir(ClasseCarga.CRITICA));
+        }
+        assertThrows(ServicoSobrecarregadoException.class, () -> limitador.adquirir(ClasseCarga.CRITICA));
+
+        assertAll(
+                () -> assertEquals(10, limitador.ativas(ClasseCarga.LEITURA_LEVE)),
+                () -> assertEquals(5, limitador.ativas(ClasseCarga.CRITICA)),
+                () -> assertEquals(1.0, registry.get("edutech.concorrencia.recusadas").tag("classe", "PESADA").counter().count()),
+                () -> assertEquals(1.0, registry.get("edutech.concorrencia.recusadas").tag("classe", "LEITURA_LEVE").counter().count())
+        );
+
+        permissoes.forEach(permissao -> permissao.liberar(false));
+        assertEquals(0, limitador.ativas(ClasseCarga.CRITICA));
+        assertDoesNotThrow(() -> limitador.adquirir(ClasseCarga.PESADA).liberar(false));
+    }
+
+    @Test
+    @DisplayName("Deve reduzir o limite uma vez por geração de respostas lentas e voltar a crescer com respostas rápidas")
+    void deveAjustarPelaLatencia() {
+        var lentas = new ArrayList<LimitadorConcorrencia.Permissao>();
+        for (int i = 0; i < 8; i++) {
+            lentas.add(limitador.adquirir(ClasseCarga.LEITURA_LEVE));
+        }
+        agora.addAndGet(TimeUnit.MILLISECONDS.toNanos(150));
+        lentas.forEach(permissao -> permissao.liberar(false));
+        assertEquals(5, limitador.limite());
+
+        limitador.adquirir(ClasseCarga.LEITURA_LEVE).liberar(true);
+        assertEquals(2, limitador.limite());
+        assertEquals(2.0, registry.get("edutech.concorrencia.limite").gauge().value());
+
+        for (int i = 0; i < 20; i++) {
+            var primeira = limitador.adquirir(ClasseCarga.CRITICA);
+            var segunda = limitador.adquirir(ClasseCarga.CRITICA);
+            primeira.liberar(false);
+            segunda.liberar(false);
+        }
+        assertTrue(limitador.limite() > 2);
+    }
+}
@@ -0,0 +1,98 @@
+package com.edutech.api.infra.concorrencia;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Retentativa em conflito de versão")
+class RetentativaConflitoAspectTest {
+
+    private SimpleMeterRegistry registry;
+    private Operacoes operacoes;
+    private Operacoes proxy;
+
+    static class Operacoes {
+        final AtomicInteger chamadas = new AtomicInteger();
+        int conflitosAntesDeConcluir;
+
+        @RetentarEmConflito(agregado = "Turma", esperaInicialMs = 1, esperaMaximaMs = 2)
+        public String alterar() {
+            if (chamadas.incrementAndGet() <= conflitosAntesDeConcluir) {
+                throw new ObjectOptimisticLockingFailureException("Turma", 1L);
+            }
+            return "ok";
+        }
+    }
+
+    @BeforeEach
+    void setup() {
+        registry = new SimpleMeterRegistry();
+        operacoes = new Operacoes();
+        var fabrica = new AspectJProxyFactory(operacoes);
+        fabrica.setProxyTargetClass(true);
+        fabrica.addAspect(new RetentativaConflitoAspect(registry));
+        proxy = fabrica.getProxy();
+    }
+
+    @Test
+    @DisplayName("Deve repetir a operação após conflito e registrar a recuperação")
+    void deveRecuperarAposConflito() {
+        operacoes.conflitosAntesDeConcluir = 2;
+
+        assertEquals("ok", proxy.alterar());
+        assertAll(
+                () -> assertEquals(3, operacoes.chamadas.get()),
+                () -> assertEquals(2, contador("retentado")),
+                () -> assertEquals(1, contador("recuperado")),
+                () -> assertEquals(0, contador("esgotado"))
+        );
+    }
+
+    @Test
+    @DisplayName("Deve propagar o conflito quando as tentativas acabarem")
+    void devePropagarConflitoAoEsgotarTentativas() {
+        operacoes.conflitosAntesDeConcluir = 10;
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> proxy.alterar());
+        assertAll(
+                () -> assertEquals(3, operacoes.chamadas.get()),
+                () -> assertEquals(2, contador("retentado")),
+                () -> assertEquals(1, contador("esgotado"))
+        );
+    }
+
+    @Test
+    @DisplayName("Não deve registrar conflito quando a operação conclui na primeira tentativa")
+    void naoDeveRetentarSemConflito() {
+        assertEquals("ok", proxy.alterar());
+        assertAll(
+                () -> assertEquals(1, operacoes.chamadas.get()),
+                () -> assertTrue(registry.find(RetentativaConflitoAspect.METRICA).counters().isEmpty())
+        );
+    }
+
+    @Test
+    @DisplayName("A espera deve ficar entre zero e o teto exponencial da tentativa")
+    void esperaDeveRespeitarTeto() throws NoSuchMethodException {
+        var retentar = Operacoes.class.getMethod("alterar").getAnnotation(RetentarEmConflito.class);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(RetentativaConflitoAspect.espera(retentar, 1) <= 1);
+            assertTrue(RetentativaConflitoAspect.espera(retentar, 5) <= 2);
+        }
+    }
+
+    private double contador(String resultado) {
+        var contador = registry.find(RetentativaConflitoAspect.METRICA)
+                .tags("agregado", "Turma", "resultado", resultado)
+                .counter();
+        return contador == null ? 0 : contador.count();
+    }
+}
@@ -0,0 +1,53 @@
+package com.edutech.api.infra.conexoes;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Configuração dos pools de conexão")
+class ConfiguracaoPoolsTest {
+
+    private final ApplicationContextRunner contexto = new ApplicationContextRunner()
+            .withUserConfiguration(Propriedades.class, ConfiguracaoPools.class)
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withPropertyValues(
+                    "pools.habilitado=true",
+                    "spring.datasource.url=jdbc:h2:mem:pools",
+                    "spring.datasource.hikari.maximum-pool-size=50",
+                    "spring.datasource.hikari.pool-name=unico",
+                    "spring.datasource.hikari.idle-timeout=120000");
+
+    @EnableConfigurationProperties(DataSourceProperties.class)
+    static class Propriedades {
+    }
+
+    @Test
+    @DisplayName("Deve manter o tamanho e o nome de cada pool mesmo com spring.datasource.hikari definido")
+    void deveManterTamanhoENomeDeCadaPool() {
+        contexto.run(aplicacao -> {
+            var transacional = aplicacao.getBean("poolTransacional", HikariDataSource.class);
+            var leitura = aplicacao.getBean("poolLeitura", HikariDataSource.class);
+            var relatorio = aplicacao.getBean("poolRelatorio", HikariDataSource.class);
+            var validacao = aplicacao.getBean("poolValidacao", HikariDataSource.class);
+
+            assertAll(
+                    () -> assertEquals(10, transacional.getMaximumPoolSize()),
+                    () -> assertEquals(8, leitura.getMaximumPoolSize()),
+                    () -> assertEquals(4, relatorio.getMaximumPoolSize()),
+                    () -> assertEquals(4, validacao.getMaximumPoolSize()),
+                    () -> assertEquals(250L, validacao.getConnectionTimeout()),
+                    () -> assertEquals("edutech-leitura", leitura.getPoolName()),
+                    () -> assertEquals("edutech-relatorio", relatorio.getPoolName()),
+                    () -> assertEquals(120_000L, transacional.getIdleTimeout()),
+                    () -> assertEquals(120_000L, relatorio.getIdleTimeout())
+            );
+        });
+    }
+}
@@ -0,0 +1,99 @@
+package com.edutech.api.infra.conexoes;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Roteamento de pools de conexão")
+class UsarPoolAspectTest {
+
+    private Consultas proxy;
+
+    @UsarPool(PoolConexoes.LEITURA)
+    static class Consultas {
+
+        public PoolConexoes porId() {
+            return RoteamentoPool.atual();
+        }
+
+        @UsarPool(PoolConexoes.RELATORIO)
+        public PoolConexoes relatorio() {
+            return RoteamentoPool.atual();
+        }
+
+        @UsarPool(PoolConexoes.RELATORIO)
+        public void falhar() {
+            throw new IllegalStateException("falha");
+        }
+    }
+
+    @BeforeEach
+    void setup() {
+        var fabrica = new AspectJProxyFactory(new Consultas());
+        fabrica.setProxyTargetClass(true);
+        fabrica.addAspect(new UsarPoolAspect());
+        proxy = fabrica.getProxy();
+    }
+
+    @Test
+    @DisplayName("Deve usar o pool do método e, sem ele, o da classe")
+    void deveUsarPoolDoMetodoOuDaClasse() {
+        assertAll(
+                () -> assertEquals(PoolConexoes.LEITURA, proxy.porId()),
+                () -> assertEquals(PoolConexoes.RELATORIO, proxy.relatorio()),
+                () -> assertNull(RoteamentoPool.atual())
+        );
+    }
+
+    @Test
+    @DisplayName("Deve restaurar o pool anterior mesmo quando o método falha")
+    void deveRestaurarPoolAnteriorAposFalha() {
+        RoteamentoPool.executar(PoolConexoes.LEITURA, () -> {
+            assertThrows(IllegalStateException.class, proxy::falhar);
+            assertEquals(PoolConexoes.LEITURA, RoteamentoPool.atual());
+            return null;
+        });
+        assertNull(RoteamentoPool.atual());
+    }
+
+    @Test
+    @DisplayName("Deve entregar a conexão do pool da thread, inclusive em outra thread quando propagado")
+    void deveRotearConexaoPeloPoolDaThread() throws Exception {
+        var roteado = new DataSourceRoteado();
+        roteado.setTargetDataSources(Map.of(
+                PoolConexoes.TRANSACIONAL, new DriverManagerDataSource("jdbc:h2:mem:transacional"),
+                PoolConexoes.RELATORIO, new DriverManagerDataSource("jdbc:h2:mem:relatorio")));
+        roteado.setDefaultTargetDataSource(new DriverManagerDataSource("jdbc:h2:mem:transacional"));
+        roteado.afterPropertiesSet();
+
+        Supplier<String> emOutraThread = RoteamentoPool.executar(PoolConexoes.RELATORIO,
+                () -> RoteamentoPool.propagar(() -> url(roteado)));
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            assertAll(
+                    () -> assertEquals("jdbc:h2:mem:transacional", url(roteado)),
+                    () -> assertEquals("jdbc:h2:mem:relatorio", executor.submit(emOutraThread::get).get())
+            );
+        }
+    }
+
+    /**
+     * Auxiliares
+     */
+    private String url(DataSource dataSource) {
+        try (var conexao = dataSource.getConnection()) {
+            return conexao.getMetaData().getURL();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.edutech.api.infra.inicializacao;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Linha do tempo da inicialização")
+class LinhaDoTempoInicializacaoTest {
+
+    @Test
+    @DisplayName("Deve ordenar os beans pelo tempo próprio, descontando as dependências criadas dentro deles")
+    void deveOrdenarPeloTempoProprio() throws Exception {
+        var startup = new BufferingApplicationStartup(100);
+
+        var servico = criar(startup, "servico");
+        Thread.sleep(10);
+        var repositorio = criar(startup, "repositorio");
+        Thread.sleep(80);
+        repositorio.end();
+        servico.end();
+        startup.start("spring.context.refresh").end();
+
+        var beans = LinhaDoTempoInicializacao.beansMaisCaros(startup.getBufferedTimeline().getEvents(), 10);
+
+        assertEquals(2, beans.size());
+        assertAll(
+                () -> assertEquals("repositorio", beans.get(0).nome()),
+                () -> assertTrue(beans.get(0).tempo().compareTo(Duration.ofMillis(80)) >= 0),
+                () -> assertEquals("servico", beans.get(1).nome()),
+                () -> assertTrue(beans.get(1).tempo().compareTo(Duration.ofMillis(80)) < 0)
+        );
+        assertEquals(1, LinhaDoTempoInicializacao.beansMaisCaros(startup.getBufferedTimeline().getEvents(), 1).size());
+    }
+
+    /**
+     * Auxiliares
+     */
+    private static StartupStep criar(BufferingApplicationStartup startup, String bean) {
+        return startup.start(LinhaDoTempoInicializacao.CRIACAO_BEAN).tag("beanName", bean);
+    }
+}
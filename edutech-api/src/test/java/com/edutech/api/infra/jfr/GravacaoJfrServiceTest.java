@@ -0,0 +1,80 @@
+package com.edutech.api.infra.jfr;
+
+import com.edutech.api.domain.exception.ValidacaoException;
+import com.edutech.api.domain.turma.enums.StatusTurma;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Gravação JFR sob demanda")
+class GravacaoJfrServiceTest {
+
+    private final GravacaoJfrService gravacaoJfrService = new GravacaoJfrService(new PropriedadesJfr(true, "default", 60, 10));
+
+    @AfterEach
+    void encerrar() {
+        gravacaoJfrService.encerrar();
+    }
+
+    @Test
+    @DisplayName("Deve gravar os eventos da aplicação e disponibilizar o arquivo só depois de parar")
+    void deveGravarEventosDaAplicacao() throws Exception {
+        assertEquals("NENHUMA", gravacaoJfrService.situacao().estado());
+
+        var iniciada = gravacaoJfrService.iniciar(3600L);
+        assertAll(
+                () -> assertEquals("GRAVANDO", iniciada.estado()),
+                () -> assertEquals(60L, iniciada.duracaoMaximaS()),
+                () -> assertThrows(ValidacaoException.class, () -> gravacaoJfrService.iniciar(null)),
+                () -> assertThrows(ValidacaoException.class, gravacaoJfrService::arquivo)
+        );
+
+        EventoTransicaoTurma.registrar(7L, StatusTurma.ABERTA, StatusTurma.EM_ANDAMENTO, () -> {});
+        assertThrows(ValidacaoException.class, () -> EventoTransicaoTurma.registrar(8L, StatusTurma.CONCLUIDA, StatusTurma.CANCELADA,
+                () -> { throw new ValidacaoException("Não é possivel cancelar uma turma já concluída."); }));
+
+        var parada = gravacaoJfrService.parar();
+        List<RecordedEvent> transicoes = RecordingFile.readAllEvents(gravacaoJfrService.arquivo()).stream()
+                .filter(evento -> evento.getEventType().getName().equals("edutech.TransicaoTurma"))
+                .toList();
+
+        assertAll(
+                () -> assertEquals("CONCLUIDA", parada.estado()),
+                () -> assertTrue(parada.tamanhoBytes() > 0),
+                () -> assertEquals(2, transicoes.size()),
+                () -> assertEquals(7L, transicoes.get(0).getLong("turmaId")),
+                () -> assertEquals(ResultadoEvento.SUCESSO, transicoes.get(0).getString("resultado")),
+                () -> assertEquals("CANCELADA", transicoes.get(1).getString("statusPretendido")),
+                () -> assertEquals(ResultadoEvento.RECUSADO, transicoes.get(1).getString("resultado")),
+                () -> assertThrows(ValidacaoException.class, gravacaoJfrService::parar)
+        );
+    }
+
+    @Test
+    @DisplayName("Não deve gravar no arquivo o ambiente, as propriedades nem os argumentos da JVM")
+    void naoDeveGravarEventosSensiveis() throws Exception {
+        gravacaoJfrService.iniciar(60L);
+        var configuracao = FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .filter(gravacao -> gravacao.getName().equals("edutech"))
+                .findFirst()
+                .orElseThrow()
+                .getSettings();
+
+        gravacaoJfrService.parar();
+        var tipos = RecordingFile.readAllEvents(gravacaoJfrService.arquivo()).stream()
+                .map(evento -> evento.getEventType().getName())
+                .toList();
+
+        assertAll(GravacaoJfrService.EVENTOS_SENSIVEIS.stream().map(nome -> () -> {
+            assertEquals("false", configuracao.get(nome + "#enabled"), nome);
+            assertFalse(tipos.contains(nome), nome);
+        }));
+    }
+}
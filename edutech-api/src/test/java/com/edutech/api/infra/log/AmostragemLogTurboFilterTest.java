@@ -0,0 +1,78 @@
+package com.edutech.api.infra.log;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Amostragem e contexto do log")
+class AmostragemLogTurboFilterTest {
+
+    private final LoggerContext contexto = new LoggerContext();
+
+    @Test
+    @DisplayName("Deve deixar passar um a cada N eventos DEBUG das categorias amostradas")
+    void deveAmostrarCategoriasConfiguradas() {
+        var filtro = new AmostragemLogTurboFilter();
+        filtro.setCategorias("org.hibernate.SQL, org.springframework.security");
+        filtro.setUmACada(10);
+
+        var sql = contexto.getLogger("org.hibernate.SQL");
+        sql.setLevel(Level.DEBUG);
+        var aplicacao = contexto.getLogger("com.edutech.api");
+        aplicacao.setLevel(Level.DEBUG);
+
+        long sqlAceitos = IntStream.range(0, 100)
+                .filter(i -> filtro.decide(null, sql, Level.DEBUG, "select ...", null, null) == FilterReply.NEUTRAL)
+                .count();
+
+        assertAll(
+                () -> assertEquals(10, sqlAceitos),
+                () -> assertEquals(FilterReply.NEUTRAL, filtro.decide(null, sql, Level.DEBUG, null, null, null)),
+                () -> assertEquals(FilterReply.NEUTRAL, filtro.decide(null, sql, Level.WARN, "lento", null, null)),
+                () -> assertEquals(FilterReply.NEUTRAL, filtro.decide(null, aplicacao, Level.DEBUG, "mensagem", null, null))
+        );
+    }
+
+    @Test
+    @DisplayName("Não deve contar eventos que o nível do logger já descarta")
+    void naoDeveContarEventosAbaixoDoNivel() {
+        var filtro = new AmostragemLogTurboFilter();
+        filtro.setCategorias("org.hibernate.SQL");
+        filtro.setUmACada(2);
+
+        var sql = contexto.getLogger("org.hibernate.SQL");
+        sql.setLevel(Level.INFO);
+        filtro.decide(null, sql, Level.DEBUG, "select ...", null, null);
+
+        sql.setLevel(Level.DEBUG);
+        assertEquals(FilterReply.NEUTRAL, filtro.decide(null, sql, Level.DEBUG, "select ...", null, null));
+        assertEquals(FilterReply.DENY, filtro.decide(null, sql, Level.DEBUG, "select ...", null, null));
+    }
+
+    @Test
+    @DisplayName("Deve levar o MDC da requisição para a tarefa em outra thread e limpá-lo depois")
+    void devePropagarMdc() throws Exception {
+        MDC.put(ContextoLog.REQUISICAO, "req-1");
+        MDC.put(ContextoLog.USUARIO, "user");
+        try (var executor = Executors.newSingleThreadExecutor()) {
+            var visto = CompletableFuture.supplyAsync(ContextoLog.propagar(() -> MDC.get(ContextoLog.REQUISICAO) + "/" + MDC.get(ContextoLog.USUARIO)), executor).get();
+            var depois = CompletableFuture.supplyAsync(() -> MDC.get(ContextoLog.REQUISICAO), executor).get();
+
+            assertAll(
+                    () -> assertEquals("req-1/user", visto),
+                    () -> assertNull(depois)
+            );
+        } finally {
+            MDC.clear();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.edutech.api.infra.log;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Formato JSON do log de produção")
+class FormatadorLogJsonTest {
+
+    private final FormatadorLogJson formatador = new FormatadorLogJson(
+            new MockEnvironment().withProperty("spring.application.name", "edutechapi"));
+
+    @Test
+    @DisplayName("Deve gerar uma linha JSON válida com campos ECS, MDC e erro")
+    void deveGerarJsonValido() throws Exception {
+        var contexto = new LoggerContext();
+        contexto.setMDCAdapter(MDC.getMDCAdapter());
+        MDC.put(ContextoLog.REQUISICAO, "req-1");
+        try {
+            var evento = new LoggingEvent(getClass().getName(), contexto.getLogger("com.edutech.api.Teste"), Level.WARN,
+                    "Falha \"grave\" em {}\n\tlinha 2 \\ fim \u0001", new IllegalStateException("sem conexão"),
+                    new Object[]{"C:\\temp"});
+
+            var linha = formatador.format(evento);
+            var json = new ObjectMapper().readTree(linha);
+
+            assertAll(
+                    () -> assertTrue(linha.endsWith("}\n")),
+                    () -> assertEquals(1, linha.lines().count()),
+                    () -> assertEquals("WARN", json.get("log.level").asText()),
+                    () -> assertEquals("com.edutech.api.Teste", json.get("log.logger").asText()),
+                    () -> assertEquals("edutechapi", json.get("service.name").asText()),
+                    () -> assertEquals("Falha \"grave\" em C:\\temp\n\tlinha 2 \\ fim \u0001", json.get("message").asText()),
+                    () -> assertEquals("req-1", json.get("requestId").asText()),
+                    () -> assertEquals("java.lang.IllegalStateException", json.get("error.type").asText()),
+                    () -> assertTrue(json.get("error.stack_trace").asText().contains("sem conexão")),
+                    () -> assertNotNull(json.get("@timestamp"))
+            );
+        } finally {
+            MDC.clear();
+        }
+    }
+}
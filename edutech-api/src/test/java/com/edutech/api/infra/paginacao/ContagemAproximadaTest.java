@@ -0,0 +1,132 @@
+package com.edutech.api.infra.paginacao;
+
+import com.edutech.api.domain.aluno.enums.StatusAluno;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Contagem aproximada das listagens")
+class ContagemAproximadaTest {
+
+    @Mock
+    private JdbcTemplate jdbc;
+
+    @Test
+    @DisplayName("Deve contar uma vez por filtro e servir o valor da memória até a próxima atualização")
+    void deveServirContagemDaMemoriaAteAtualizar() {
+        var contagem = new ContagemAproximada(jdbc, new PropriedadesContagem(0, false));
+        var chamadas = new AtomicLong();
+        var linhas = new AtomicLong(10);
+
+        var primeiro = contagem.total("tb_aluno", StatusAluno.ATIVO, () -> { chamadas.incrementAndGet(); return linhas.get(); });
+        linhas.set(12);
+        var segundo = contagem.total("tb_aluno", StatusAluno.ATIVO, () -> { chamadas.incrementAndGet(); return linhas.get(); });
+        var outroFiltro = contagem.total("tb_aluno", StatusAluno.INATIVO, () -> 3);
+
+        assertAll(
+                () -> assertEquals(10, primeiro.valor()),
+                () -> assertEquals(primeiro, segundo),
+                () -> assertEquals(3, outroFiltro.valor()),
+                () -> assertEquals(1, chamadas.get())
+        );
+
+        contagem.atualizar();
+
+        assertEquals(12, contagem.total("tb_aluno", StatusAluno.ATIVO, () -> 0).valor());
+        verifyNoInteractions(jdbc);
+    }
+
+    @Test
+    @DisplayName("Deve usar as estatísticas do Postgres para a tabela sem filtro")
+    void deveUsarEstatisticasDoPostgres() {
+        var contagem = new ContagemAproximada(jdbc, new PropriedadesContagem(0, null));
+        when(jdbc.execute(any(ConnectionCallback.class))).thenReturn(true);
+        when(jdbc.queryForObject(anyString(), eq(Long.class), eq("tb_matricula"))).thenReturn(5_000_000L);
+
+        var total = contagem.total("tb_matricula", () -> fail("não deveria contar a tabela"));
+
+        assertEquals(5_000_000L, total.valor());
+    }
+
+    @Test
+    @DisplayName("Deve contar a tabela quando ela ainda não tiver estatísticas")
+    void deveContarQuandoNaoHouverEstatisticas() {
+        var contagem = new ContagemAproximada(jdbc, new PropriedadesContagem(0, null));
+        when(jdbc.execute(any(ConnectionCallback.class))).thenReturn(true);
+        when(jdbc.queryForObject(anyString(), eq(Long.class), eq("tb_curso"))).thenReturn(-1L);
+
+        assertEquals(42, contagem.total("tb_curso", () -> 42).valor());
+    }
+
+    @Test
+    @DisplayName("Deve manter o último valor quando a atualização falhar")
+    void deveManterValorQuandoAtualizacaoFalhar() {
+        var contagem = new ContagemAproximada(jdbc, new PropriedadesContagem(0, false));
+        var falhar = new AtomicLong();
+        var anterior = contagem.total("tb_turma", () -> {
+            if (falhar.get() > 0) {
+                throw new QueryTimeoutException("timeout");
+            }
+            return 7;
+        });
+        falhar.set(1);
+
+        contagem.atualizar();
+
+        assertEquals(anterior, contagem.total("tb_turma", () -> 0));
+    }
+
+    @Test
+    @DisplayName("Não deve prender quem consulta a mesma chave enquanto outra contagem ainda roda")
+    void naoDeveBloquearDuranteContagem() throws Exception {
+        var contagem = new ContagemAproximada(jdbc, new PropriedadesContagem(0, false));
+        var contando = new CountDownLatch(1);
+        var liberar = new CountDownLatch(1);
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var lenta = executor.submit(() -> contagem.total("tb_turma", () -> {
+                contando.countDown();
+                aguardar(liberar);
+                return 7;
+            }));
+            contando.await();
+            try {
+                var rapida = assertTimeoutPreemptively(Duration.ofSeconds(2), () -> contagem.total("tb_turma", () -> 9));
+                assertEquals(9, rapida.valor());
+            } finally {
+                liberar.countDown();
+            }
+
+            assertEquals(9, lenta.get().valor());
+        }
+    }
+
+    /**
+     * Auxiliares
+     */
+    private void aguardar(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
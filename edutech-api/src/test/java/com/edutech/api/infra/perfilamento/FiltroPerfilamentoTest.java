@@ -0,0 +1,86 @@
+package com.edutech.api.infra.perfilamento;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Perfil das requisições")
+class FiltroPerfilamentoTest {
+
+    @Test
+    @DisplayName("Deve expor os contadores registrados até o corpo começar a ser escrito")
+    void deveExporContadoresNosCabecalhos() throws Exception {
+        var filtro = new FiltroPerfilamento(new PropriedadesPerfilamento(true, 500, true));
+        var response = new MockHttpServletResponse();
+
+        filtro.doFilter(new MockHttpServletRequest("GET", "/turmas/1"), response, (req, res) -> {
+            var perfil = PerfilRequisicao.atual();
+            perfil.registrarConexao(TimeUnit.MILLISECONDS.toNanos(3));
+            perfil.registrarConsulta(TimeUnit.MILLISECONDS.toNanos(7));
+            perfil.registrarConsulta(TimeUnit.MILLISECONDS.toNanos(5));
+            perfil.registrarEntidade("Turma");
+            perfil.registrarEntidade("Aluno");
+            perfil.registrarEntidade("Aluno");
+            perfil.registrarColecao();
+            res.getWriter().write("{}");
+            perfil.registrarConsulta(0);
+        });
+
+        assertAll(
+                () -> assertEquals("2", response.getHeader("X-Perfil-Consultas")),
+                () -> assertEquals("12", response.getHeader("X-Perfil-Jdbc-Ms")),
+                () -> assertEquals("1", response.getHeader("X-Perfil-Conexoes")),
+                () -> assertEquals("3", response.getHeader("X-Perfil-Espera-Conexao-Ms")),
+                () -> assertEquals("{Aluno=2,Turma=1}", response.getHeader("X-Perfil-Entidades")),
+                () -> assertEquals("1", response.getHeader("X-Perfil-Colecoes")),
+                () -> assertNull(PerfilRequisicao.atual())
+        );
+    }
+
+    @Test
+    @DisplayName("Não deve expor cabeçalhos quando desligado, nem nas respostas sem corpo")
+    void naoDeveExporCabecalhosQuandoDesligado() throws Exception {
+        var desligado = new MockHttpServletResponse();
+        new FiltroPerfilamento(new PropriedadesPerfilamento(true, 500, false))
+                .doFilter(new MockHttpServletRequest(), desligado, (req, res) -> res.getWriter().write("{}"));
+
+        var semCorpo = new MockHttpServletResponse();
+        new FiltroPerfilamento(new PropriedadesPerfilamento(true, 500, true))
+                .doFilter(new MockHttpServletRequest(), semCorpo, (req, res) -> PerfilRequisicao.atual().registrarConsulta(0));
+
+        assertAll(
+                () -> assertFalse(desligado.containsHeader("X-Perfil-Consultas")),
+                () -> assertEquals("1", semCorpo.getHeader("X-Perfil-Consultas"))
+        );
+    }
+
+    @Test
+    @DisplayName("Deve registrar no perfil da requisição as tarefas propagadas para outras threads")
+    void deveRegistrarTarefasPropagadas() throws Exception {
+        var perfil = PerfilRequisicao.iniciar();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var tarefa = PerfilRequisicao.propagar(() -> {
+                PerfilRequisicao.atual().registrarEntidade("Curso");
+                return PerfilRequisicao.atual();
+            });
+
+            var vistoNaOutraThread = CompletableFuture.supplyAsync(tarefa, executor).get();
+            var semPropagar = CompletableFuture.supplyAsync(PerfilRequisicao::atual, executor).get();
+
+            assertAll(
+                    () -> assertSame(perfil, vistoNaOutraThread),
+                    () -> assertNull(semPropagar),
+                    () -> assertEquals(1, perfil.totalEntidades())
+            );
+        } finally {
+            PerfilRequisicao.encerrar();
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.edutech.api.infra.validacao;
+
+import com.edutech.api.domain.exception.ValidacaoException;
+import com.edutech.api.infra.concorrencia.ConsultasParalelas;
+import com.edutech.api.infra.concorrencia.PropriedadesComposicao;
+import com.edutech.api.infra.conexoes.PoolConexoes;
+import com.edutech.api.infra.conexoes.RoteamentoPool;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("Execução das cadeias de validadores")
+class ExecutorValidacoesTest {
+
+    private final List<String> executados = Collections.synchronizedList(new ArrayList<>());
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final List<Consumer<String>> validadores = List.of(
+            valor -> executados.add("aluno"),
+            valor -> {
+                executados.add("limite");
+                throw new ValidacaoException("Limite de turmas atingido");
+            },
+            valor -> {
+                executados.add("vagas");
+                throw new ValidacaoException("Turma sem vagas");
+            });
+
+    @Test
+    @DisplayName("Todos os erros: Deve rodar todos os validadores e recusar com todas as mensagens")
+    void deveAcumularTodosOsErros() {
+        var executor = executor(ModoValidacao.TODOS_OS_ERROS, false);
+
+        var erro = assertThrows(ValidacaoException.class,
+                () -> executor.validar(validadores, validador -> validador.accept("dto")));
+
+        assertAll(
+                () -> assertEquals(List.of("aluno", "limite", "vagas"), executados),
+                () -> assertEquals(List.of("Limite de turmas atingido", "Turma sem vagas"), erro.getErros()),
+                () -> assertEquals("Limite de turmas atingido; Turma sem vagas", erro.getMessage())
+        );
+    }
+
+    @Test
+    @DisplayName("Primeiro erro: Deve parar no primeiro validador que recusar")
+    void devePararNoPrimeiroErro() {
+        var executor = executor(ModoValidacao.PRIMEIRO_ERRO, false);
+
+        var erro = assertThrows(ValidacaoException.class,
+                () -> executor.validar(validadores, validador -> validador.accept("dto")));
+
+        assertAll(
+                () -> assertEquals(List.of("aluno", "limite"), executados),
+                () -> assertEquals(List.of("Limite de turmas atingido"), erro.getErros())
+        );
+    }
+
+    @Test
+    @DisplayName("Deve lançar a exceção de validação sem capturar a pilha")
+    void deveLancarSemPilha() {
+        var executor = executor(null, false);
+
+        var erro = assertThrows(ValidacaoException.class,
+                () -> executor.validar(validadores, validador -> validador.accept("dto")));
+
+        assertEquals(0, erro.getStackTrace().length);
+    }
+
+    @Test
+    @DisplayName("Deve rodar os validadores em memória antes e não consultar o banco quando um deles recusar")
+    void deveRecusarEmMemoriaSemConsultarBanco() {
+        var executor = executor(ModoValidacao.TODOS_OS_ERROS, false);
+        List<Consumer<String>> cadeia = List.of(new Banco(), new Memoria(), new MemoriaRecusa());
+
+        var erro = assertThrows(ValidacaoException.class,
+                () -> executor.validar(cadeia, validador -> validador.accept("dto")));
+
+        assertAll(
+                () -> assertEquals(List.of("memoria", "memoria-recusa"), executados),
+                () -> assertEquals(List.of("Status da turma não permite"), erro.getErros())
+        );
+    }
+
+    @Test
+    @DisplayName("Deve rodar a dependência primeiro e pular o validador que depende dela quando ela recusar")
+    void devePularDependenteQuandoDependenciaRecusar() {
+        var executor = executor(ModoValidacao.TODOS_OS_ERROS, false);
+        List<Consumer<String>> cadeia = List.of(new Dependente(), new BaseRecusa(), new Banco());
+
+        var erro = assertThrows(ValidacaoException.class,
+                () -> executor.validar(cadeia, validador -> validador.accept("dto")));
+
+        assertAll(
+                () -> assertEquals(List.of("base-recusa", "banco"), executados),
+                () -> assertEquals(List.of("Aluno inativo"), erro.getErros())
+        );
+    }
+
+    @Test
+    @DisplayName("Deve rodar juntos os validadores de banco paralelos, no pool de validação")
+    void deveConsultarBancoEmParalelo() {
+        var executor = executor(ModoValidacao.TODOS_OS_ERROS, true);
+        var pools = Collections.synchronizedList(new ArrayList<PoolConexoes>());
+        List<Consumer<String>> cadeia = List.of(new Lenta(), new Lenta(), new Lenta());
+
+        for (int rodada = 0; rodada < 2; rodada++) {
+            long inicio = System.nanoTime();
+            executor.validar(cadeia, validador -> {
+                pools.add(RoteamentoPool.atual());
+                validador.accept("dto");
+            });
+            long decorridoMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+            assertTrue(decorridoMs < 700, "levou " + decorridoMs + " ms");
+        }
+
+        assertAll(
+                () -> assertEquals(6, executados.size()),
+                () -> assertEquals(Collections.nCopies(6, PoolConexoes.VALIDACAO), pools)
+        );
+    }
+
+    @Test
+    @DisplayName("Deve rodar na transação de quem chamou, sem esperar, quando faltam conexões de validação para a rodada")
+    void deveConsultarNaTransacaoAtualSemConexoesDeValidacao() {
+        var executor = executor(ModoValidacao.TODOS_OS_ERROS, true, 2);
+        var pools = Collections.synchronizedList(new ArrayList<PoolConexoes>());
+        List<Consumer<String>> cadeia = List.of(new Lenta(), new Lenta(), new Lenta());
+
+        executor.validar(cadeia, validador -> {
+            pools.add(RoteamentoPool.atual());
+            validador.accept("dto");
+        });
+
+        assertAll(
+                () -> assertEquals(3, executados.size()),
+                () -> assertEquals(Collections.nCopies(3, null), pools)
+        );
+    }
+
+    @Test
+    @DisplayName("Deve registrar o tempo de cada validador por resultado")
+    void deveRegistrarTempoPorValidador() {
+        var executor = executor(ModoValidacao.TODOS_OS_ERROS, false);
+        List<Consumer<String>> cadeia = List.of(new Memoria(), new Banco(), new BaseRecusa());
+
+        assertThrows(ValidacaoException.class,
+                () -> executor.validar(cadeia, validador -> validador.accept("dto")));
+
+        assertAll(
+                () -> assertEquals(1, contagem("com.edutech.api.infra.validacao.Memoria", "aceito")),
+                () -> assertEquals(1, contagem("com.edutech.api.infra.validacao.Banco", "aceito")),
+                () -> assertEquals(1, contagem("com.edutech.api.infra.validacao.BaseRecusa", "recusado")),
+                () -> assertEquals(0, contagem("com.edutech.api.infra.validacao.BaseRecusa", "aceito"))
+        );
+    }
+
+    /**
+     * Auxiliares
+     */
+    private ExecutorValidacoes executor(ModoValidacao modo, boolean consultasParalelas) {
+        return executor(modo, consultasParalelas, 4);
+    }
+
+    private ExecutorValidacoes executor(ModoValidacao modo, boolean consultasParalelas, int conexoes) {
+        var consultas = new ConsultasParalelas(mock(PlatformTransactionManager.class), new PropriedadesComposicao(5_000));
+        return new ExecutorValidacoes(new PropriedadesValidacao(modo, consultasParalelas), consultas, registry, conexoes);
+    }
+
+    private long contagem(String validador, String resultado) {
+        return registry.get(ExecutorValidacoes.METRICA)
+                .tags("validador", validador, "resultado", resultado)
+                .timer()
+                .count();
+    }
+
+    @Validacao(custo = Custo.MEMORIA)
+    private class Memoria implements Consumer<String> {
+        @Override
+        public void accept(String valor) {
+            executados.add("memoria");
+        }
+    }
+
+    @Validacao(custo = Custo.MEMORIA)
+    private class MemoriaRecusa implements Consumer<String> {
+        @Override
+        public void accept(String valor) {
+            executados.add("memoria-recusa");
+            throw new ValidacaoException("Status da turma não permite");
+        }
+    }
+
+    @Validacao(custo = Custo.BANCO)
+    private class Banco implements Consumer<String> {
+        @Override
+        public void accept(String valor) {
+            executados.add("banco");
+        }
+    }
+
+    @Validacao(custo = Custo.BANCO)
+    private class BaseRecusa implements Consumer<String> {
+        @Override
+        public void accept(String valor) {
+            executados.add("base-recusa");
+            throw new ValidacaoException("Aluno inativo");
+        }
+    }
+
+    @Validacao(custo = Custo.BANCO, paralela = true, dependeDe = BaseRecusa.class)
+    private class Dependente implements Consumer<String> {
+        @Override
+        public void accept(String valor) {
+            executados.add("dependente");
+        }
+    }
+
+    @Validacao(custo = Custo.BANCO, paralela = true)
+    private class Lenta implements Consumer<String> {
+        @Override
+        public void accept(String valor) {
+            try {
+                Thread.sleep(300);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            executados.add("lenta");
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.edutech.api.openapi;
+
+import com.edutech.api.EduTechApiApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gera no build o documento OpenAPI servido como recurso estático: sobe a aplicação com um
+ * H2 em memória, lê {@code /v3/api-docs} e grava {@code openapi.json} e a versão já
+ * comprimida {@code openapi.json.gz} no diretório informado (o {@code static} das classes).
+ * Executado pelo Maven no {@code prepare-package} (perfil {@code openapi}, ativo enquanto os
+ * testes são compilados); {@code -Dopenapi.pular=true} dispensa.
+ */
+public final class GeradorOpenApi {
+
+    static final String DOCUMENTO = "openapi.json";
+
+    public static void main(String[] args) throws Exception {
+        var destino = Path.of(args.length > 0 ? args[0] : "target/classes/static");
+
+        var aplicacao = new SpringApplication(EduTechApiApplication.class);
+        try (var contexto = aplicacao.run(
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--spring.main.lazy-initialization=true",
+                "--spring.datasource.url=jdbc:h2:mem:openapi;MODE=PostgreSQL",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--springdoc.api-docs.enabled=true",
+                "--springdoc.writer-with-order-by-keys=true",
+                "--arquivamento.habilitado=false",
+                "--perfilamento.habilitado=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework.security=WARN",
+                "--logging.level.com.edutech.api=WARN")) {
+            int porta = ((WebServerApplicationContext) contexto).getWebServer().getPort();
+            var documento = ler(URI.create("http://localhost:" + porta + "/v3/api-docs"));
+            gravar(destino, documento);
+        }
+        System.out.println("OpenAPI gravado em " + destino.resolve(DOCUMENTO).toAbsolutePath());
+    }
+
+    /**
+     * Auxiliares
+     */
+    private static byte[] ler(URI uri) throws IOException, InterruptedException {
+        try (var cliente = HttpClient.newHttpClient()) {
+            var resposta = cliente.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+            if (resposta.statusCode() != 200) {
+                throw new IllegalStateException("GET " + uri + " respondeu " + resposta.statusCode());
+            }
+            return resposta.body();
+        }
+    }
+
+    static void gravar(Path destino, byte[] documento) throws IOException {
+        Files.createDirectories(destino);
+        Files.write(destino.resolve(DOCUMENTO), documento);
+        try (OutputStream gzip = new GzipMaximo(Files.newOutputStream(destino.resolve(DOCUMENTO + ".gz")))) {
+            gzip.write(documento);
+        }
+    }
+
+    private static final class GzipMaximo extends GZIPOutputStream {
+
+        GzipMaximo(OutputStream saida) throws IOException {
+            super(saida);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+}